@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.31
+ */
+package matsu.num.specialfunction;
+
+import java.util.Map;
+
+import matsu.num.specialfunction.common.Instrumentation;
+
+/**
+ * 特殊関数の計算方式 (領域) の選択回数と, 反復計算の反復回数に関する統計.
+ * 
+ * <p>
+ * 計測はシステムプロパティ {@code matsu.num.specialfunction.instrumentation} を
+ * {@code true} とした場合に限り, クラスの初期化時に有効になる. <br>
+ * 無効な場合の計算へのコストは実質的に無い.
+ * </p>
+ * 
+ * <p>
+ * 計測が有効であり, かつ {@code jdk.jfr} モジュールが読める場合,
+ * 次のカスタムイベントが JFR に発行される. <br>
+ * {@code matsu.num.specialfunction.AlgorithmBranch}: 計算方式の選択 (分岐名) <br>
+ * {@code matsu.num.specialfunction.Iteration}: 連分数などの反復計算の反復回数と,
+ * 上限に達せずに収束したかどうか
+ * </p>
+ * 
+ * <p>
+ * 計測の対象は次のとおりである. <br>
+ * 不完全ガンマ関数: 下側/上側の連分数, パラメータをシフトした連分数, Temme の一様漸近展開. <br>
+ * 不完全ベータ関数: 下側/上側の連分数, パラメータをシフトした連分数, 正規近似. <br>
+ * Bessel 関数 (整数次): べき級数, 漸近展開, 後退漸化式, 前進漸化式.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class AlgorithmStatistics {
+
+    private AlgorithmStatistics() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 計測が有効かどうかを返す.
+     * 
+     * @return 有効なら true
+     */
+    public static boolean isEnabled() {
+        return Instrumentation.isEnabled();
+    }
+
+    /**
+     * 現在のカウンタの値を返す.
+     * 
+     * <p>
+     * キーは次の形式である. <br>
+     * {@code branch.<分岐名>}: 計算方式が選ばれた回数 <br>
+     * {@code loop.<反復名>.calls}: 反復計算の実行回数 <br>
+     * {@code loop.<反復名>.iterations}: 反復回数の合計 <br>
+     * {@code loop.<反復名>.nonConverged}: 反復回数の上限に達した回数
+     * </p>
+     * 
+     * <p>
+     * 計測が無効の場合, 全ての値は0である.
+     * </p>
+     * 
+     * @return カウンタの値, 変更不可
+     */
+    public static Map<String, Long> snapshot() {
+        return Instrumentation.snapshot();
+    }
+
+    /**
+     * 全てのカウンタを0にする.
+     */
+    public static void reset() {
+        Instrumentation.reset();
+    }
+}
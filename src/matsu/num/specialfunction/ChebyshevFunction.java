@@ -23,7 +23,8 @@ import matsu.num.specialfunction.chebyshev.ChebyshevFunctionImpl;
  * <i>U</i><sub><i>n</i></sub> (<i>x</i>)
  * は, 非負整数の次数 <i>n</i> をパラメータに持つ 1 変数関数
  * である. <br>
- * 通常, |<i>x</i>| &le; 1 で扱い, このインターフェースでもその定義域を採用する.
+ * 通常は |<i>x</i>| &le; 1 で扱うが, このインターフェースでは多項式としての値を,
+ * すべての実数 <i>x</i> に対して返す.
  * </p>
  * 
  * <p>
@@ -31,13 +32,19 @@ import matsu.num.specialfunction.chebyshev.ChebyshevFunctionImpl;
  * <i>T</i><sub><i>n</i></sub>(cos <i>&theta;</i>)
  * = cos (<i>n&theta;</i>) <br>
  * <i>U</i><sub><i>n</i></sub>(cos <i>&theta;</i>) sin <i>&theta;</i>
- * = sin ((<i>n</i>+1)<i>&theta;</i>)
+ * = sin ((<i>n</i>+1)<i>&theta;</i>) <br>
+ * |<i>x</i>| &gt; 1 においては, <i>x</i> = &plusmn;cosh <i>t</i> として, <br>
+ * <i>T</i><sub><i>n</i></sub>(&plusmn;cosh <i>t</i>)
+ * = (&plusmn;1)<sup><i>n</i></sup> cosh (<i>nt</i>) <br>
+ * <i>U</i><sub><i>n</i></sub>(&plusmn;cosh <i>t</i>) sinh <i>t</i>
+ * = (&plusmn;1)<sup><i>n</i></sup> sinh ((<i>n</i>+1)<i>t</i>)
  * </p>
  * 
  * <p>
  * このインターフェースでは,
- * 0 &le; <i>n</i> &le; 100
- * を扱うことができる.
+ * 0 &le; <i>n</i> &le; 10<sup>6</sup>
+ * を扱うことができる. <br>
+ * 次数が大きい場合は上記の表示により計算されるため, 計算量は次数によらない.
  * </p>
  * 
  * @implSpec
@@ -69,7 +76,7 @@ public interface ChebyshevFunction {
      *                 パラメータの正当性は static メソッドにより検証されるべきである.
      */
     @Deprecated
-    public static final int UPPER_LIMIT_OF_DEGREE_N = 100;
+    public static final int UPPER_LIMIT_OF_DEGREE_N = 1_000_000;
 
     /**
      * このインスタンスが扱う次数 <i>n</i> の値を返す.
@@ -84,7 +91,8 @@ public interface ChebyshevFunction {
      * の値を返す.
      * 
      * <ul>
-     * <li>|<i>x</i>| &gt; 1 &rarr; NaN</li>
+     * <li><i>x</i> が NaN &rarr; NaN</li>
+     * <li>|<i>x</i>| &gt; 1 でオーバーフロー &rarr; &plusmn;&infin;</li>
      * </ul>
      * 
      * @param x 引数 <i>x</i>
@@ -98,7 +106,8 @@ public interface ChebyshevFunction {
      * の値を返す.
      * 
      * <ul>
-     * <li>|<i>x</i>| &gt; 1 &rarr; NaN</li>
+     * <li><i>x</i> が NaN &rarr; NaN</li>
+     * <li>|<i>x</i>| &gt; 1 でオーバーフロー &rarr; &plusmn;&infin;</li>
      * </ul>
      * 
      * @param x 引数 <i>x</i>
@@ -0,0 +1,382 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.30
+ */
+package matsu.num.specialfunction;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import matsu.num.specialfunction.bessel.BesselFunction;
+import matsu.num.specialfunction.bessel.bessel.BesselFunctionFactory;
+import matsu.num.specialfunction.common.CompiledFunction;
+import matsu.num.specialfunction.icbeta.ICBetaFactory;
+import matsu.num.specialfunction.icgamma.ICGammaFactory;
+
+/**
+ * {@code compile} により構築した区分的 Chebyshev 補間の表を,
+ * ファイルに保存し, 再利用するためのスナップショット.
+ * 
+ * <p>
+ * {@link IncompleteGammaFunction#compile(double, double, double)},
+ * {@link IncompleteBetaFunction#compile(double, double, double)},
+ * {@link BesselFunction#compile(double, double, double)}
+ * の戻り値を {@link #write(Path, Collection)} によりファイルに書き出し,
+ * {@link #load(Path)} で読み込む. <br>
+ * 読み込みはファイルのメモリマップ ({@link FileChannel#map}) により行われ,
+ * 読み込み時に作られるのは関数の種類, パラメータ, 区間, 許容誤差をキーとするプリミティブ配列の索引のみである. <br>
+ * 表からのインスタンスの再構築は, {@link #incompleteGamma(double, double, double, double)}
+ * などにより要求されたときに, そのエントリについてのみ行われる.
+ * </p>
+ * 
+ * <p>
+ * ファイルの書式は次のとおりである (ビッグエンディアン). <br>
+ * ヘッダ: マジックナンバー, 版, エントリ数 (int). <br>
+ * ディレクトリ (エントリごとに固定長): 関数の種類 (int), パラメータ2つ, 区間の下端, 上端,
+ * 許容誤差 (double), 表の位置 (long), 表のバイト数 (int). <br>
+ * 以降に各エントリの表が続く.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスはイミュータブルであり, スレッドセーフである.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class CompiledFunctionSnapshot {
+
+    private static final int MAGIC = 0x4D534653;
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 3 * Integer.BYTES;
+    private static final int DIRECTORY_ENTRY_SIZE =
+            Integer.BYTES + 5 * Double.BYTES + Long.BYTES + Integer.BYTES;
+
+    private static final int FAMILY_INCOMPLETE_GAMMA = 1;
+    private static final int FAMILY_INCOMPLETE_BETA = 2;
+    private static final int FAMILY_BESSEL = 3;
+
+    /**
+     * 読み取り専用のマップされたバッファ (絶対位置による読み出しのみ行う).
+     */
+    private final ByteBuffer mapped;
+    private final int entryCount;
+
+    /**
+     * オープンアドレス法によるハッシュ表: エントリ番号 + 1 を格納し, 0は空を表す.
+     */
+    private final int[] slots;
+
+    private CompiledFunctionSnapshot(ByteBuffer mapped, int entryCount) {
+        super();
+        this.mapped = mapped;
+        this.entryCount = entryCount;
+
+        int capacity = Integer.highestOneBit(Math.max(1, entryCount)) << 2;
+        this.slots = new int[capacity];
+        for (int e = 0; e < entryCount; e++) {
+            int base = directoryPosition(e);
+            int slot = hash(
+                    mapped.getInt(base),
+                    mapped.getDouble(base + 4), mapped.getDouble(base + 12),
+                    mapped.getDouble(base + 20), mapped.getDouble(base + 28),
+                    mapped.getDouble(base + 36)) & (capacity - 1);
+            while (this.slots[slot] != 0) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            this.slots[slot] = e + 1;
+        }
+    }
+
+    /**
+     * スナップショットに含まれるエントリの数を返す.
+     * 
+     * @return エントリの数
+     */
+    public int size() {
+        return this.entryCount;
+    }
+
+    /**
+     * 指定したパラメータ, 区間, 許容誤差で構築された不完全ガンマ関数を,
+     * スナップショットから再構築して返す.
+     * 
+     * @param a パラメータ <i>a</i>
+     * @param xMin 区間の下端
+     * @param xMax 区間の上端
+     * @param tolerance 許容誤差
+     * @return 再構築されたインスタンス, 該当するエントリが無い場合は空
+     * @throws IllegalArgumentException エントリの表が破損している場合
+     */
+    public Optional<IncompleteGammaFunction> incompleteGamma(
+            double a, double xMin, double xMax, double tolerance) {
+        int position = this.find(FAMILY_INCOMPLETE_GAMMA, a, 0d, xMin, xMax, tolerance);
+        if (position < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(ICGammaFactory.restoreCompiled(
+                a, xMin, xMax, tolerance, this.payload(position)));
+    }
+
+    /**
+     * 指定したパラメータ, 区間, 許容誤差で構築された不完全ベータ関数を,
+     * スナップショットから再構築して返す.
+     * 
+     * @param a パラメータ <i>a</i>
+     * @param b パラメータ <i>b</i>
+     * @param xMin 区間の下端
+     * @param xMax 区間の上端
+     * @param tolerance 許容誤差
+     * @return 再構築されたインスタンス, 該当するエントリが無い場合は空
+     * @throws IllegalArgumentException エントリの表が破損している場合
+     */
+    public Optional<IncompleteBetaFunction> incompleteBeta(
+            double a, double b, double xMin, double xMax, double tolerance) {
+        int position = this.find(FAMILY_INCOMPLETE_BETA, a, b, xMin, xMax, tolerance);
+        if (position < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(ICBetaFactory.restoreCompiled(
+                a, b, xMin, xMax, tolerance, this.payload(position)));
+    }
+
+    /**
+     * 指定した次数, 区間, 許容誤差で構築された Bessel 関数を,
+     * スナップショットから再構築して返す.
+     * 
+     * @param order 次数 <i>n</i>
+     * @param xMin 区間の下端
+     * @param xMax 区間の上端
+     * @param tolerance 許容誤差
+     * @return 再構築されたインスタンス, 該当するエントリが無い場合は空
+     * @throws IllegalArgumentException エントリの表が破損している場合
+     */
+    public Optional<BesselFunction> bessel(
+            int order, double xMin, double xMax, double tolerance) {
+        int position = this.find(FAMILY_BESSEL, order, 0d, xMin, xMax, tolerance);
+        if (position < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(BesselFunctionFactory.restoreCompiled(
+                order, xMin, xMax, tolerance, this.payload(position)));
+    }
+
+    /**
+     * キーに一致するエントリのディレクトリ位置を返す. <br>
+     * 存在しない場合は -1.
+     */
+    private int find(int family, double p1, double p2, double xMin, double xMax, double tolerance) {
+        final int mask = this.slots.length - 1;
+        int slot = hash(family, p1, p2, xMin, xMax, tolerance) & mask;
+        while (true) {
+            int e = this.slots[slot] - 1;
+            if (e < 0) {
+                return -1;
+            }
+            int base = directoryPosition(e);
+            if (this.mapped.getInt(base) == family
+                    && sameBits(this.mapped.getDouble(base + 4), p1)
+                    && sameBits(this.mapped.getDouble(base + 12), p2)
+                    && sameBits(this.mapped.getDouble(base + 20), xMin)
+                    && sameBits(this.mapped.getDouble(base + 28), xMax)
+                    && sameBits(this.mapped.getDouble(base + 36), tolerance)) {
+                return base;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * ディレクトリ位置から, エントリの表を読み出すバッファを返す.
+     */
+    private ByteBuffer payload(int directoryBase) {
+        long offset = this.mapped.getLong(directoryBase + 44);
+        int length = this.mapped.getInt(directoryBase + 52);
+        return this.mapped.duplicate()
+                .limit((int) offset + length)
+                .position((int) offset);
+    }
+
+    /**
+     * {@code compile} により構築したインスタンスの表をファイルに書き出す. <br>
+     * ファイルが存在する場合は上書きされる.
+     * 
+     * <p>
+     * 同一のキー (関数の種類, パラメータ, 区間, 許容誤差) を持つ要素が複数ある場合,
+     * 読み込み時にはいずれか1つが用いられる.
+     * </p>
+     * 
+     * @param file 書き出し先のファイル
+     * @param compiledFunctions {@code compile} により構築したインスタンス
+     * @throws IOException 書き出しに失敗した場合
+     * @throws IllegalArgumentException {@code compile} により構築したインスタンス以外 (nullを含む) を含む場合,
+     *             書き出すサイズが 2<sup>31</sup> - 1 バイトを超える場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static void write(Path file, Collection<?> compiledFunctions) throws IOException {
+        List<Object> elements = new ArrayList<>(compiledFunctions);
+        final int count = elements.size();
+
+        long totalSize = HEADER_SIZE + (long) DIRECTORY_ENTRY_SIZE * count;
+        for (Object element : elements) {
+            family(element);
+            totalSize += ((CompiledFunction) element).serializedSize();
+        }
+        if (totalSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Snapshot too large: %s bytes".formatted(totalSize));
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) totalSize);
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(count);
+
+        long offset = HEADER_SIZE + (long) DIRECTORY_ENTRY_SIZE * count;
+        for (Object element : elements) {
+            CompiledFunction compiled = (CompiledFunction) element;
+            int family = family(element);
+            buffer.putInt(family);
+            switch (family) {
+                case FAMILY_INCOMPLETE_GAMMA:
+                    buffer.putDouble(((IncompleteGammaFunction) element).a());
+                    buffer.putDouble(0d);
+                    break;
+                case FAMILY_INCOMPLETE_BETA:
+                    buffer.putDouble(((IncompleteBetaFunction) element).a());
+                    buffer.putDouble(((IncompleteBetaFunction) element).b());
+                    break;
+                default:
+                    buffer.putDouble(((BesselFunction) element).order());
+                    buffer.putDouble(0d);
+            }
+            buffer.putDouble(compiled.xMin());
+            buffer.putDouble(compiled.xMax());
+            buffer.putDouble(compiled.tolerance());
+            buffer.putLong(offset);
+            buffer.putInt(compiled.serializedSize());
+            offset += compiled.serializedSize();
+        }
+        for (Object element : elements) {
+            ((CompiledFunction) element).writeTo(buffer);
+        }
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * {@link #write(Path, Collection)} により書き出されたファイルを,
+     * メモリマップにより読み込む.
+     * 
+     * <p>
+     * マップはこのインスタンスが到達不能になるまで保持される.
+     * </p>
+     * 
+     * @param file ファイル
+     * @return スナップショット
+     * @throws IOException 読み込みに失敗した場合, ファイルの書式が不正の場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static CompiledFunctionSnapshot load(Path file) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot too large: " + file);
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        final long size = mapped.capacity();
+        if (size < HEADER_SIZE
+                || mapped.getInt(0) != MAGIC
+                || mapped.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("Not a snapshot: " + file);
+        }
+        int count = mapped.getInt(2 * Integer.BYTES);
+        if (count < 0 || HEADER_SIZE + (long) DIRECTORY_ENTRY_SIZE * count > size) {
+            throw new IOException("Corrupted snapshot: " + file);
+        }
+        for (int e = 0; e < count; e++) {
+            int base = directoryPosition(e);
+            long offset = mapped.getLong(base + 44);
+            int length = mapped.getInt(base + 52);
+            if (offset < 0 || length < 0 || offset + length > size) {
+                throw new IOException("Corrupted snapshot: " + file);
+            }
+        }
+        return new CompiledFunctionSnapshot(mapped, count);
+    }
+
+    /**
+     * 書き出し対象の関数の種類を返す.
+     * 
+     * @throws IllegalArgumentException compile により構築したインスタンスでない場合
+     */
+    private static int family(Object element) {
+        if (!(element instanceof CompiledFunction)) {
+            throw new IllegalArgumentException(
+                    "Not a compiled function: %s".formatted(element));
+        }
+        if (element instanceof IncompleteGammaFunction) {
+            return FAMILY_INCOMPLETE_GAMMA;
+        }
+        if (element instanceof IncompleteBetaFunction) {
+            return FAMILY_INCOMPLETE_BETA;
+        }
+        if (element instanceof BesselFunction) {
+            return FAMILY_BESSEL;
+        }
+        throw new IllegalArgumentException(
+                "Not a compiled function: %s".formatted(element));
+    }
+
+    private static int directoryPosition(int entry) {
+        return HEADER_SIZE + DIRECTORY_ENTRY_SIZE * entry;
+    }
+
+    private static boolean sameBits(double v1, double v2) {
+        return Double.doubleToLongBits(v1) == Double.doubleToLongBits(v2);
+    }
+
+    private static int hash(int family, double p1, double p2, double xMin, double xMax, double tolerance) {
+        int h = family;
+        h = 31 * h + Double.hashCode(p1);
+        h = 31 * h + Double.hashCode(p2);
+        h = 31 * h + Double.hashCode(xMin);
+        h = 31 * h + Double.hashCode(xMax);
+        h = 31 * h + Double.hashCode(tolerance);
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * このインスタンスの文字列表現を提供する.
+     * 
+     * <p>
+     * 概ね, 次のような表現であろう.
+     * ただし, バージョン間の互換性は担保されていない. <br>
+     * {@code CompiledFunctionSnapshot(size = %size)}
+     * </p>
+     */
+    @Override
+    public String toString() {
+        return "CompiledFunctionSnapshot(size = %s)".formatted(this.entryCount);
+    }
+}
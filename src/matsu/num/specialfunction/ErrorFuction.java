@@ -9,8 +9,10 @@
  */
 package matsu.num.specialfunction;
 
+import matsu.num.specialfunction.err.ErfDoubleDoubleCalculation;
 import matsu.num.specialfunction.err.ErrorFunctionCalculation;
 import matsu.num.specialfunction.err.ErrorFunctionImaginaryCalculation;
+import matsu.num.specialfunction.fraction.DoubleDoubleReal;
 
 /**
  * 誤差関数 (Error function) の計算
@@ -47,6 +49,22 @@ import matsu.num.specialfunction.err.ErrorFunctionImaginaryCalculation;
  * </li>
  * </ul>
  *
+ * <p>
+ * 精度よりも速度を優先する用途のために,
+ * 近似多項式の次数を下げた高速版
+ * ({@link #fastErf(double)}, {@link #fastErfc(double)}, {@link #fastErfcx(double)})
+ * も提供している. <br>
+ * 単精度 (float) の引数と戻り値を扱うメソッド
+ * ({@link #erfFloat(float)} など) は, これと共通の近似多項式で計算される.
+ * </p>
+ * 
+ * <p>
+ * 倍精度を超える精度が必要な用途のために,
+ * double-double 精度 (拡張精度) で計算するメソッド
+ * ({@link #erfDoubleDouble(double)}, {@link #erfcDoubleDouble(double)})
+ * も提供している.
+ * </p>
+ * 
  * @author Matsuura Y.
  * @see <a href="https://en.wikipedia.org/wiki/Error_function" target=
  *          "_brank">
@@ -56,8 +74,12 @@ public final class ErrorFuction {
 
     private static final ErrorFunctionCalculation ERR_FUNC =
             ErrorFunctionCalculation.createInstance();
+    private static final ErrorFunctionCalculation FAST_ERR_FUNC =
+            ErrorFunctionCalculation.createFastInstance();
     private static final ErrorFunctionImaginaryCalculation ERFI_CALC =
             ErrorFunctionImaginaryCalculation.createInstance();
+    private static final ErfDoubleDoubleCalculation DD_ERR_FUNC =
+            new ErfDoubleDoubleCalculation();
 
     private ErrorFuction() {
         //インスタンス化不可
@@ -147,4 +169,234 @@ public final class ErrorFuction {
     public static double erfix(double x) {
         return ERFI_CALC.erfix(x);
     }
+
+    /**
+     * 与えられた <i>x</i> に対する
+     * erf(<i>x</i>)
+     * の値を, double-double 精度 (拡張精度) で返す.
+     * 
+     * <p>
+     * 戻り値は長さ2の配列 {<i>hi</i>, <i>lo</i>} であり,
+     * 値は <i>hi</i> + <i>lo</i> (|<i>lo</i>| &le; ulp(<i>hi</i>)/2) で表される. <br>
+     * 相対誤差はおよそ 1E-28 以下である. <br>
+     * 特殊値の扱いは {@link #erf(double)} と同一であり,
+     * 値が NaN になる場合は <i>lo</i> を0とする.
+     * </p>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return erf(<i>x</i>) の {<i>hi</i>, <i>lo</i>}
+     */
+    public static double[] erfDoubleDouble(double x) {
+        if (Double.isNaN(x)) {
+            return new double[] { Double.NaN, 0d };
+        }
+        return toArray(DD_ERR_FUNC.erf(x));
+    }
+
+    /**
+     * 与えられた <i>x</i> に対する相補誤差関数
+     * erfc(<i>x</i>)
+     * の値を, double-double 精度 (拡張精度) で返す.
+     * 
+     * <p>
+     * 戻り値の形式と精度は {@link #erfDoubleDouble(double)} と同一である. <br>
+     * 特殊値の扱いは {@link #erfc(double)} と同一であり,
+     * 値が NaN になる場合は <i>lo</i> を0とする.
+     * </p>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return erfc(<i>x</i>) の {<i>hi</i>, <i>lo</i>}
+     */
+    public static double[] erfcDoubleDouble(double x) {
+        if (Double.isNaN(x)) {
+            return new double[] { Double.NaN, 0d };
+        }
+        return toArray(DD_ERR_FUNC.erfc(x));
+    }
+
+    /**
+     * 与えられた <i>x</i> に対する
+     * erf(<i>x</i>)
+     * の値を, 精度を落として高速に計算する.
+     * 
+     * <p>
+     * 相対誤差は 1E-7 以下である. <br>
+     * 特殊値の扱いは {@link #erf(double)} と同一である.
+     * </p>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return erf(<i>x</i>) の近似値
+     */
+    public static double fastErf(double x) {
+        return FAST_ERR_FUNC.erf(x);
+    }
+
+    /**
+     * 与えられた <i>x</i> に対する相補誤差関数
+     * erfc(<i>x</i>)
+     * の値を, 精度を落として高速に計算する.
+     * 
+     * <p>
+     * 相対誤差は 1E-7 以下である
+     * (ただし, exp(-<i>x</i><sup>2</sup>) の丸め誤差の影響は
+     * {@link #erfc(double)} と同程度に受ける). <br>
+     * 特殊値の扱いは {@link #erfc(double)} と同一である.
+     * </p>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return erfc(<i>x</i>) の近似値
+     */
+    public static double fastErfc(double x) {
+        return FAST_ERR_FUNC.erfc(x);
+    }
+
+    /**
+     * 与えられた <i>x</i> に対するスケーリング相補誤差関数
+     * erfcx(<i>x</i>)
+     * の値を, 精度を落として高速に計算する.
+     * 
+     * <p>
+     * 相対誤差は 1E-7 以下である. <br>
+     * 特殊値の扱いは {@link #erfcx(double)} と同一である.
+     * </p>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return erfcx(<i>x</i>) の近似値
+     */
+    public static double fastErfcx(double x) {
+        return FAST_ERR_FUNC.erfcx(x);
+    }
+
+    /**
+     * 与えられた <i>x</i> に対する
+     * erf(<i>x</i>)
+     * の値を, 単精度 (float) で返す.
+     * 
+     * <p>
+     * 精度はおおよそ単精度である
+     * (近似多項式は {@link #fastErf(double)} と共通である). <br>
+     * 特殊値の扱いは {@link #erf(double)} と同一である.
+     * </p>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return erf(<i>x</i>)
+     */
+    public static float erfFloat(float x) {
+        return (float) FAST_ERR_FUNC.erf(x);
+    }
+
+    /**
+     * 配列で与えた各 <i>x</i> について,
+     * erf(<i>x</i>)
+     * の値を単精度で計算し, 結果を格納する配列に書き込む.
+     * 
+     * <p>
+     * 各要素の値は {@link #erfFloat(float)} と同一である. <br>
+     * 引数の配列と結果を格納する配列に同一のインスタンスを与えてもよい.
+     * </p>
+     * 
+     * @param xs 引数 <i>x</i> の配列
+     * @param results 結果を格納する配列
+     * @throws IllegalArgumentException 配列の長さが等しくない場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static void erfFloat(float[] xs, float[] results) {
+        final int length = xs.length;
+        if (results.length != length) {
+            throw new IllegalArgumentException("length mismatch");
+        }
+        for (int i = 0; i < length; i++) {
+            results[i] = (float) FAST_ERR_FUNC.erf(xs[i]);
+        }
+    }
+
+    /**
+     * 与えられた <i>x</i> に対する
+     * erfc(<i>x</i>)
+     * の値を, 単精度 (float) で返す.
+     * 
+     * <p>
+     * 精度はおおよそ単精度である
+     * (近似多項式は {@link #fastErfc(double)} と共通である). <br>
+     * 特殊値の扱いは {@link #erfc(double)} と同一である.
+     * </p>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return erfc(<i>x</i>)
+     */
+    public static float erfcFloat(float x) {
+        return (float) FAST_ERR_FUNC.erfc(x);
+    }
+
+    /**
+     * 配列で与えた各 <i>x</i> について,
+     * erfc(<i>x</i>)
+     * の値を単精度で計算し, 結果を格納する配列に書き込む.
+     * 
+     * <p>
+     * 各要素の値は {@link #erfcFloat(float)} と同一である. <br>
+     * 引数の配列と結果を格納する配列に同一のインスタンスを与えてもよい.
+     * </p>
+     * 
+     * @param xs 引数 <i>x</i> の配列
+     * @param results 結果を格納する配列
+     * @throws IllegalArgumentException 配列の長さが等しくない場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static void erfcFloat(float[] xs, float[] results) {
+        final int length = xs.length;
+        if (results.length != length) {
+            throw new IllegalArgumentException("length mismatch");
+        }
+        for (int i = 0; i < length; i++) {
+            results[i] = (float) FAST_ERR_FUNC.erfc(xs[i]);
+        }
+    }
+
+    /**
+     * 与えられた <i>x</i> に対する
+     * erfcx(<i>x</i>)
+     * の値を, 単精度 (float) で返す.
+     * 
+     * <p>
+     * 精度はおおよそ単精度である
+     * (近似多項式は {@link #fastErfcx(double)} と共通である). <br>
+     * 特殊値の扱いは {@link #erfcx(double)} と同一である.
+     * </p>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return erfcx(<i>x</i>)
+     */
+    public static float erfcxFloat(float x) {
+        return (float) FAST_ERR_FUNC.erfcx(x);
+    }
+
+    /**
+     * 配列で与えた各 <i>x</i> について,
+     * erfcx(<i>x</i>)
+     * の値を単精度で計算し, 結果を格納する配列に書き込む.
+     * 
+     * <p>
+     * 各要素の値は {@link #erfcxFloat(float)} と同一である. <br>
+     * 引数の配列と結果を格納する配列に同一のインスタンスを与えてもよい.
+     * </p>
+     * 
+     * @param xs 引数 <i>x</i> の配列
+     * @param results 結果を格納する配列
+     * @throws IllegalArgumentException 配列の長さが等しくない場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static void erfcxFloat(float[] xs, float[] results) {
+        final int length = xs.length;
+        if (results.length != length) {
+            throw new IllegalArgumentException("length mismatch");
+        }
+        for (int i = 0; i < length; i++) {
+            results[i] = (float) FAST_ERR_FUNC.erfcx(xs[i]);
+        }
+    }
+
+    private static double[] toArray(DoubleDoubleReal value) {
+        return new double[] { value.high(), value.low() };
+    }
 }
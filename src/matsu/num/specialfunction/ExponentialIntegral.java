@@ -0,0 +1,186 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.3
+ */
+package matsu.num.specialfunction;
+
+import matsu.num.specialfunction.expint.ExponentialIntegralCalculation;
+
+/**
+ * 指数積分 (Exponential integral) の計算
+ * (おおよそ倍精度).
+ * 
+ * <p>
+ * 一般化指数積分 E<sub><i>n</i></sub>(<i>x</i>) は,
+ * 整数 <i>n</i> &ge; 0, <i>x</i> &gt; 0 に対して次式で定義される. <br>
+ * E<sub><i>n</i></sub>(<i>x</i>) =
+ * &int;<sub>1</sub><sup>&infin;</sup>
+ * e<sup>-<i>x</i><i>t</i></sup> / <i>t</i><sup><i>n</i></sup> d<i>t</i> <br>
+ * 特に E<sub>1</sub>(<i>x</i>) = &Gamma;(0, <i>x</i>) であり,
+ * 一般に E<sub><i>n</i></sub>(<i>x</i>) =
+ * <i>x</i><sup><i>n</i>-1</sup> &Gamma;(1 - <i>n</i>, <i>x</i>)
+ * である.
+ * </p>
+ * 
+ * <p>
+ * 指数積分 Ei(<i>x</i>) は, 次式 (<i>x</i> &gt; 0 では Cauchy の主値) で定義される. <br>
+ * Ei(<i>x</i>) =
+ * -&int;<sub>-<i>x</i></sub><sup>&infin;</sup>
+ * e<sup>-<i>t</i></sup> / <i>t</i> d<i>t</i> <br>
+ * <i>x</i> &lt; 0 では Ei(<i>x</i>) = -E<sub>1</sub>(-<i>x</i>) である.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ * @see <a href="https://en.wikipedia.org/wiki/Exponential_integral" target=
+ *          "_brank">
+ *          Wikipedia: Exponential integral</a>
+ */
+public final class ExponentialIntegral {
+
+    private ExponentialIntegral() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 与えられた <i>x</i> に対する
+     * E<sub>1</sub>(<i>x</i>)
+     * の値を返す.
+     * 
+     * <ul>
+     * <li><i>x</i> &lt; 0 &rarr; NaN</li>
+     * <li><i>x</i> = 0 &rarr; &infin;</li>
+     * <li><i>x</i> &asymp; &infin; &rarr; 0</li>
+     * </ul>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return E<sub>1</sub>(<i>x</i>)
+     */
+    public static double e1(double x) {
+        return ExponentialIntegralCalculation.e1(x);
+    }
+
+    /**
+     * 配列で与えた各 <i>x</i> について,
+     * E<sub>1</sub>(<i>x</i>)
+     * の値を計算し, 結果を格納する配列に書き込む.
+     * 
+     * <p>
+     * 各要素の値は {@link #e1(double)} と同一である. <br>
+     * 引数の配列と結果を格納する配列に同一のインスタンスを与えてもよい.
+     * </p>
+     * 
+     * @param xs 引数 <i>x</i> の配列
+     * @param results 結果を格納する配列
+     * @throws IllegalArgumentException 配列の長さが等しくない場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static void e1(double[] xs, double[] results) {
+        final int length = xs.length;
+        if (results.length != length) {
+            throw new IllegalArgumentException("length mismatch");
+        }
+        for (int i = 0; i < length; i++) {
+            results[i] = ExponentialIntegralCalculation.e1(xs[i]);
+        }
+    }
+
+    /**
+     * 与えられた <i>n</i>, <i>x</i> に対する
+     * E<sub><i>n</i></sub>(<i>x</i>)
+     * の値を返す.
+     * 
+     * <ul>
+     * <li><i>x</i> &lt; 0 &rarr; NaN</li>
+     * <li><i>x</i> = 0 &rarr; &infin; (<i>n</i> = 0, 1), 1/(<i>n</i> - 1) (<i>n</i> &ge; 2)</li>
+     * <li><i>x</i> &asymp; &infin; &rarr; 0</li>
+     * </ul>
+     * 
+     * @param n <i>n</i>, 次数
+     * @param x <i>x</i>, 引数
+     * @return E<sub><i>n</i></sub>(<i>x</i>)
+     * @throws IllegalArgumentException <i>n</i> が負の場合
+     */
+    public static double en(int n, double x) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Illegal order: n = %s".formatted(n));
+        }
+        return ExponentialIntegralCalculation.en(n, x);
+    }
+
+    /**
+     * 与えられた <i>x</i> に対する
+     * E<sub>0</sub>(<i>x</i>), E<sub>1</sub>(<i>x</i>), ..., E<sub><i>N</i></sub>(<i>x</i>)
+     * の値を, 次数の順に並べた配列として返す.
+     * 
+     * <p>
+     * 漸化式
+     * <i>n</i>E<sub><i>n</i>+1</sub>(<i>x</i>) =
+     * e<sup>-<i>x</i></sup> - <i>x</i>E<sub><i>n</i></sub>(<i>x</i>)
+     * を, 次数 <i>n</i> &asymp; <i>x</i> の1点で直接計算した値から,
+     * それぞれ安定な向き (<i>n</i> &gt; <i>x</i> では昇順, <i>n</i> &lt; <i>x</i> では降順)
+     * に適用して計算する. <br>
+     * 計算量は <i>N</i> に比例する. <br>
+     * 特殊値の扱いは {@link #en(int, double)} と同一である.
+     * </p>
+     * 
+     * @param maxOrder <i>N</i>, 次数の最大値
+     * @param x <i>x</i>, 引数
+     * @return E<sub><i>n</i></sub>(<i>x</i>) の配列 (長さ <i>N</i> + 1)
+     * @throws IllegalArgumentException <i>N</i> が負の場合
+     */
+    public static double[] enSequence(int maxOrder, double x) {
+        if (maxOrder < 0) {
+            throw new IllegalArgumentException("Illegal order: maxOrder = %s".formatted(maxOrder));
+        }
+        return ExponentialIntegralCalculation.enSequence(maxOrder, x);
+    }
+
+    /**
+     * 与えられた <i>x</i> に対する
+     * Ei(<i>x</i>)
+     * の値を返す.
+     * 
+     * <ul>
+     * <li><i>x</i> = 0 &rarr; -&infin;</li>
+     * <li><i>x</i> &asymp; -&infin; &rarr; 0</li>
+     * <li><i>x</i> &asymp; &infin; &rarr; &infin;</li>
+     * </ul>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return Ei(<i>x</i>)
+     */
+    public static double ei(double x) {
+        return ExponentialIntegralCalculation.ei(x);
+    }
+
+    /**
+     * 配列で与えた各 <i>x</i> について,
+     * Ei(<i>x</i>)
+     * の値を計算し, 結果を格納する配列に書き込む.
+     * 
+     * <p>
+     * 各要素の値は {@link #ei(double)} と同一である. <br>
+     * 引数の配列と結果を格納する配列に同一のインスタンスを与えてもよい.
+     * </p>
+     * 
+     * @param xs 引数 <i>x</i> の配列
+     * @param results 結果を格納する配列
+     * @throws IllegalArgumentException 配列の長さが等しくない場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static void ei(double[] xs, double[] results) {
+        final int length = xs.length;
+        if (results.length != length) {
+            throw new IllegalArgumentException("length mismatch");
+        }
+        for (int i = 0; i < length; i++) {
+            results[i] = ExponentialIntegralCalculation.ei(xs[i]);
+        }
+    }
+}
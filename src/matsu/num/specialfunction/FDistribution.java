@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.5
+ */
+package matsu.num.specialfunction;
+
+import matsu.num.specialfunction.distribution.FDistributionFactory;
+
+/**
+ * <i>F</i> 分布の累積分布関数の計算
+ * (およそ倍精度).
+ * 
+ * <p>
+ * 自由度 (<i>d</i><sub>1</sub>, <i>d</i><sub>2</sub>) の <i>F</i> 分布に従う確率変数 <i>X</i> について,
+ * 累積分布関数は, 正則化不完全ベータ関数により <br>
+ * P(<i>X</i> &le; <i>f</i>) =
+ * <i>I</i>(<i>d</i><sub>1</sub>/2, <i>d</i><sub>2</sub>/2,
+ * <i>d</i><sub>1</sub><i>f</i>/(<i>d</i><sub>1</sub><i>f</i> + <i>d</i><sub>2</sub>)) <br>
+ * と表される.
+ * </p>
+ * 
+ * <p>
+ * <i>d</i><sub>1</sub> = 2 または <i>d</i><sub>2</sub> = 2 では閉じた形により,
+ * それ以外では不完全ベータ関数により計算する. <br>
+ * 累積分布関数と相補累積分布関数は, いずれも相対精度よく求まる.
+ * </p>
+ * 
+ * <p>
+ * サポートされている自由度 <i>d</i><sub>1</sub>, <i>d</i><sub>2</sub> は以下である. <br>
+ * {@code 2E-2 <= d1 <= 2E+14} <br>
+ * {@code 2E-2 <= d2 <= 2E+14}
+ * </p>
+ * 
+ * @implSpec
+ *               このインターフェースは実装を隠ぺいして型を公開するためのものである. <br>
+ *               モジュール外で継承・実装してはいけない.
+ * 
+ * @author Matsuura Y.
+ * @see <a href="https://en.wikipedia.org/wiki/F-distribution"
+ *          target= "_brank">
+ *          Wikipedia: F-distribution</a>
+ */
+public interface FDistribution {
+
+    /**
+     * このインスタンスが扱う分子の自由度 <i>d</i><sub>1</sub> の値を返す.
+     * 
+     * @return 分子の自由度 <i>d</i><sub>1</sub>
+     */
+    public abstract double numeratorDegreesOfFreedom();
+
+    /**
+     * このインスタンスが扱う分母の自由度 <i>d</i><sub>2</sub> の値を返す.
+     * 
+     * @return 分母の自由度 <i>d</i><sub>2</sub>
+     */
+    public abstract double denominatorDegreesOfFreedom();
+
+    /**
+     * 累積分布関数
+     * P(<i>X</i> &le; <i>f</i>)
+     * の値を返す.
+     * 
+     * <ul>
+     * <li><i>f</i> &lt; 0 &rarr; NaN</li>
+     * <li><i>f</i> = +&infin; &rarr; 1</li>
+     * </ul>
+     * 
+     * @param f <i>f</i>, 引数
+     * @return P(<i>X</i> &le; <i>f</i>)
+     */
+    public abstract double cdf(double f);
+
+    /**
+     * 相補累積分布関数 (上側確率, <i>F</i> 検定の <i>p</i> 値)
+     * P(<i>X</i> &gt; <i>f</i>)
+     * の値を返す.
+     * 
+     * <ul>
+     * <li><i>f</i> &lt; 0 &rarr; NaN</li>
+     * <li><i>f</i> = +&infin; &rarr; 0</li>
+     * </ul>
+     * 
+     * @param f <i>f</i>, 引数
+     * @return P(<i>X</i> &gt; <i>f</i>)
+     */
+    public abstract double ccdf(double f);
+
+    /**
+     * 配列で与えた各 <i>f</i> について,
+     * 累積分布関数の値を計算し, 結果を格納する配列に書き込む.
+     * 
+     * <p>
+     * 各要素の値は {@link #cdf(double)} と同一である. <br>
+     * 引数の配列と結果を格納する配列に同一のインスタンスを与えてもよい.
+     * </p>
+     * 
+     * @param fs 引数 <i>f</i> の配列
+     * @param results 結果を格納する配列
+     * @throws IllegalArgumentException 配列の長さが等しくない場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public abstract void cdf(double[] fs, double[] results);
+
+    /**
+     * 配列で与えた各 <i>f</i> について,
+     * 相補累積分布関数の値を計算し, 結果を格納する配列に書き込む.
+     * 
+     * <p>
+     * 各要素の値は {@link #ccdf(double)} と同一である. <br>
+     * 引数の配列と結果を格納する配列に同一のインスタンスを与えてもよい.
+     * </p>
+     * 
+     * @param fs 引数 <i>f</i> の配列
+     * @param results 結果を格納する配列
+     * @throws IllegalArgumentException 配列の長さが等しくない場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public abstract void ccdf(double[] fs, double[] results);
+
+    /**
+     * 指定した自由度がサポートされているかを判定する.
+     * 
+     * @param d1 分子の自由度 <i>d</i><sub>1</sub>
+     * @param d2 分母の自由度 <i>d</i><sub>2</sub>
+     * @return 自由度が適合する場合はtrue
+     */
+    public static boolean acceptsParameter(double d1, double d2) {
+        return IncompleteBetaFunction.acceptsParameter(d1 / 2, d2 / 2);
+    }
+
+    /**
+     * 指定した自由度の <i>F</i> 分布の計算インスタンスを返す.
+     * 
+     * <p>
+     * 自由度の正当性は {@link #acceptsParameter(double, double)} により検証され,
+     * 不適の場合は例外がスローされる. <br>
+     * 同一の自由度に対しては, キャッシュされたインスタンスが返されることがある.
+     * </p>
+     * 
+     * @param d1 分子の自由度 <i>d</i><sub>1</sub>
+     * @param d2 分母の自由度 <i>d</i><sub>2</sub>
+     * @return 自由度 (<i>d</i><sub>1</sub>, <i>d</i><sub>2</sub>) の <i>F</i> 分布の計算インスタンス
+     * @throws IllegalArgumentException 自由度がサポート外の場合
+     */
+    public static FDistribution instanceOf(double d1, double d2) {
+        return FDistributionFactory.instanceOf(d1, d2);
+    }
+}
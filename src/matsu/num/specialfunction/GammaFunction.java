@@ -9,9 +9,13 @@
  */
 package matsu.num.specialfunction;
 
+import matsu.num.specialfunction.fraction.DoubleDoubleReal;
 import matsu.num.specialfunction.gamma.DigammaCalculation;
+import matsu.num.specialfunction.gamma.DigammaFastCalculation;
 import matsu.num.specialfunction.gamma.GammaCalculation;
 import matsu.num.specialfunction.gamma.LGammaCalculation;
+import matsu.num.specialfunction.gamma.LGammaDoubleDoubleCalculation;
+import matsu.num.specialfunction.gamma.LGammaFastCalculation;
 import matsu.num.specialfunction.gamma.TrigammaCalculation;
 
 /**
@@ -27,6 +31,21 @@ import matsu.num.specialfunction.gamma.TrigammaCalculation;
  * を扱う.
  * </p>
  *
+ * <p>
+ * 精度よりも速度を優先する用途のために,
+ * 近似多項式の次数を下げた高速版
+ * ({@link #fastLgamma(double)}, {@link #fastDigamma(double)})
+ * も提供している. <br>
+ * 単精度 (float) の引数と戻り値を扱うメソッド
+ * ({@link #lgammaFloat(float)} など) は, これと共通の近似多項式で計算される.
+ * </p>
+ * 
+ * <p>
+ * 倍精度を超える精度が必要な用途のために,
+ * double-double 精度 (拡張精度) で計算するメソッド
+ * ({@link #lgammaDoubleDouble(double)}) も提供している.
+ * </p>
+ * 
  * @author Matsuura Y.
  * @see <a href="https://en.wikipedia.org/wiki/Gamma_function" target= "_brank">
  *          Wikipedia: Gamma function</a>
@@ -43,6 +62,9 @@ public final class GammaFunction {
     private static final GammaCalculation GAMMA = new GammaCalculation(LGAMMA);
     private static final DigammaCalculation DIGAMMA = new DigammaCalculation();
     private static final TrigammaCalculation TRIGAMMA = new TrigammaCalculation();
+    private static final LGammaFastCalculation FAST_LGAMMA = new LGammaFastCalculation();
+    private static final DigammaFastCalculation FAST_DIGAMMA = new DigammaFastCalculation();
+    private static final LGammaDoubleDoubleCalculation DD_LGAMMA = new LGammaDoubleDoubleCalculation();
 
     /**
      * Euler-Mascheroni 定数.
@@ -87,6 +109,43 @@ public final class GammaFunction {
         return LGAMMA.lgamma1p(x);
     }
 
+    /**
+     * 与えられた <i>x</i> に対する
+     * log<sub>e</sub>&Gamma;(<i>x</i>) の値を,
+     * double-double 精度 (拡張精度) で返す.
+     * 
+     * <p>
+     * 戻り値は長さ2の配列 {<i>hi</i>, <i>lo</i>} であり,
+     * 値は <i>hi</i> + <i>lo</i> (|<i>lo</i>| &le; ulp(<i>hi</i>)/2) で表される. <br>
+     * 相対誤差はおよそ 1E-29 以下であるが,
+     * 零点 (<i>x</i> = 1, 2) の近傍では絶対誤差での評価となる. <br>
+     * 値が特殊値になる場合は, <i>lo</i> を0とする.
+     * </p>
+     * 
+     * <ul>
+     * <li><i>x</i> &lt; 0 &rarr; NaN</li>
+     * <li><i>x</i> = 0 &rarr; +&infin;</li>
+     * <li><i>x</i> &asymp; &infin; &rarr; &infin;</li>
+     * </ul>
+     *
+     * @param x <i>x</i>, 引数
+     * @return log<sub>e</sub>&Gamma;(<i>x</i>) の {<i>hi</i>, <i>lo</i>}
+     */
+    public static double[] lgammaDoubleDouble(double x) {
+        if (!(x >= 0d)) {
+            return new double[] { Double.NaN, 0d };
+        }
+        if (x == 0d || x == Double.POSITIVE_INFINITY) {
+            return new double[] { Double.POSITIVE_INFINITY, 0d };
+        }
+        try {
+            return toArray(DD_LGAMMA.lgamma(x));
+        } catch (ArithmeticException e) {
+            // 結果がdouble-doubleで表現できない (オーバーフローする) 場合
+            return new double[] { Double.POSITIVE_INFINITY, 0d };
+        }
+    }
+
     /**
      * 与えられた <i>x</i> に対する
      * log<sub>e</sub>&Gamma;(<i>x</i>) の Stirling 近似
@@ -251,4 +310,84 @@ public final class GammaFunction {
         return TRIGAMMA.trigamma(x);
     }
 
+    /**
+     * 与えられた <i>x</i> に対する
+     * log<sub>e</sub>&Gamma;(<i>x</i>) の値を, 精度を落として高速に計算する.
+     * 
+     * <p>
+     * 相対誤差は 1E-7 以下である
+     * (log<sub>e</sub>&Gamma;(<i>x</i>) の零点 <i>x</i> = 1, 2 の近傍を含む). <br>
+     * 特殊値の扱いは {@link #lgamma(double)} と同一である.
+     * </p>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return log<sub>e</sub>&Gamma;(<i>x</i>) の近似値
+     */
+    public static double fastLgamma(double x) {
+        return FAST_LGAMMA.lgamma(x);
+    }
+
+    /**
+     * 与えられた <i>x</i> に対するディガンマ関数
+     * <i>&psi;</i>(<i>x</i>)
+     * の値を, 精度を落として高速に計算する.
+     * 
+     * <p>
+     * 誤差は 1E-7 &times; max(1, |<i>&psi;</i>(<i>x</i>)|) 以下である. <br>
+     * 特殊値の扱いは {@link #digamma(double)} と同一である.
+     * </p>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return <i>&psi;</i>(<i>x</i>) の近似値
+     */
+    public static double fastDigamma(double x) {
+        return FAST_DIGAMMA.digamma(x);
+    }
+
+    /**
+     * 与えられた <i>x</i> に対する
+     * log<sub>e</sub>&Gamma;(<i>x</i>)
+     * の値を, 単精度 (float) で返す.
+     * 
+     * <p>
+     * 精度はおおよそ単精度である
+     * (近似多項式は {@link #fastLgamma(double)} と共通である). <br>
+     * 特殊値の扱いは {@link #lgamma(double)} と同一である.
+     * </p>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return log<sub>e</sub>&Gamma;(<i>x</i>)
+     */
+    public static float lgammaFloat(float x) {
+        return (float) FAST_LGAMMA.lgamma(x);
+    }
+
+    /**
+     * 配列で与えた各 <i>x</i> について,
+     * log<sub>e</sub>&Gamma;(<i>x</i>)
+     * の値を単精度で計算し, 結果を格納する配列に書き込む.
+     * 
+     * <p>
+     * 各要素の値は {@link #lgammaFloat(float)} と同一である. <br>
+     * 引数の配列と結果を格納する配列に同一のインスタンスを与えてもよい.
+     * </p>
+     * 
+     * @param xs 引数 <i>x</i> の配列
+     * @param results 結果を格納する配列
+     * @throws IllegalArgumentException 配列の長さが等しくない場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static void lgammaFloat(float[] xs, float[] results) {
+        final int length = xs.length;
+        if (results.length != length) {
+            throw new IllegalArgumentException("length mismatch");
+        }
+        for (int i = 0; i < length; i++) {
+            results[i] = (float) FAST_LGAMMA.lgamma(xs[i]);
+        }
+    }
+
+    private static double[] toArray(DoubleDoubleReal value) {
+        return new double[] { value.high(), value.low() };
+    }
 }
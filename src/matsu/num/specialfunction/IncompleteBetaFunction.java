@@ -5,10 +5,12 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.7.5
+ * 2025.7.29
  */
 package matsu.num.specialfunction;
 
+import java.util.stream.DoubleStream;
+
 import matsu.num.specialfunction.icbeta.ICBetaFactory;
 
 /**
@@ -158,6 +160,151 @@ public interface IncompleteBetaFunction {
      */
     public abstract double ribetaOdds(double oddsX);
 
+    /**
+     * 昇順に並んだ <i>x</i> の配列の各要素について,
+     * 正則化不完全ベータ関数
+     * <i>I</i>(<i>a</i>, <i>b</i>, <i>x</i>)
+     * の値を順に計算する.
+     * 
+     * <p>
+     * 隣り合う点の間で状態を引き継ぎ, 前の点からの Taylor 展開により値を更新する. <br>
+     * <i>I</i> と 1 - <i>I</i> のうち計算する側 (小さい方) は,
+     * 連分数などによる直接計算を行う点 (基準点) においてのみ選択される. <br>
+     * 点の間隔が十分に小さい場合
+     * (目安として, 間隔が min(<i>x</i>, 1 - <i>x</i>)/4 以下),
+     * 多くの点で直接計算が省略される. <br>
+     * 精度は, 各点で直接計算した場合と同程度である.
+     * </p>
+     * 
+     * <p>
+     * 列が昇順でない箇所では直接計算を行う. <br>
+     * したがって, 昇順でない列に対しても正しい値が返るが, 高速化の効果は得られない.
+     * </p>
+     * 
+     * @param x <i>x</i> の配列, 昇順であることが推奨される
+     * @return <i>I</i>(<i>a</i>, <i>b</i>, <i>x</i>) の配列
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public abstract double[] ribetaAlongAscending(double[] x);
+
+    /**
+     * 昇順に並んだ <i>x</i> のストリームの各要素について,
+     * 正則化不完全ベータ関数
+     * <i>I</i>(<i>a</i>, <i>b</i>, <i>x</i>)
+     * の値を順に計算する.
+     * 
+     * <p>
+     * 計算方式と精度は {@link #ribetaAlongAscending(double[])} と同様である. <br>
+     * 返されるストリームは逐次ストリームであり, 要素は入力の順に, 状態を引き継ぎながら計算される. <br>
+     * 呼び出し側が並列ストリームに変換しても要素は分割されず, 1つのスレッドで入力の順に計算される.
+     * </p>
+     * 
+     * @param x <i>x</i> のストリーム, 昇順であることが推奨される
+     * @return <i>I</i>(<i>a</i>, <i>b</i>, <i>x</i>) のストリーム
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public abstract DoubleStream ribetaAlongAscending(DoubleStream x);
+
+    /**
+     * パラメータ <i>a</i> を整数だけシフトした正則化不完全ベータ関数
+     * <i>I</i>(<i>a</i> + <i>j</i>, <i>b</i>, <i>x</i>)
+     * (<i>j</i> = 0, 1, ..., <i>J</i>)
+     * の値を, <i>j</i> の順に並べた配列として返す.
+     * 
+     * <p>
+     * 隣接関係式 <br>
+     * <i>I</i>(<i>a</i> + <i>j</i>, <i>b</i>, <i>x</i>) =
+     * <i>I</i>(<i>a</i> + <i>j</i> + 1, <i>b</i>, <i>x</i>) +
+     * <i>x</i><sup><i>a</i>+<i>j</i></sup> (1 - <i>x</i>)<sup><i>b</i></sup> /
+     * ((<i>a</i> + <i>j</i>) B(<i>a</i> + <i>j</i>, <i>b</i>))
+     * <br>
+     * を, 桁落ちの生じない向き (<i>j</i> の降順) に適用して計算する. <br>
+     * 連分数などによる直接計算は <i>j</i> = <i>J</i> の1点のみで行われ,
+     * 計算量は <i>J</i> に比例する. <br>
+     * 漸化式による丸め誤差は <i>J</i> に比例して蓄積するが,
+     * <i>J</i> が10<sup>4</sup>程度までであれば, 精度は各点で直接計算した場合と同程度である.
+     * </p>
+     * 
+     * <p>
+     * 1 - <i>I</i>(<i>a</i> + <i>j</i>, <i>b</i>, <i>x</i>) =
+     * <i>I</i>(<i>b</i>, <i>a</i> + <i>j</i>, 1 - <i>x</i>)
+     * が必要な場合は, パラメータを反転したインスタンスの
+     * {@link #ribetaOverShiftedB(double, int)} を用いるとよい. <br>
+     * <i>x</i> が不正な値 (範囲外, NaN) の場合は, すべての要素が NaN となる.
+     * </p>
+     * 
+     * @param x <i>x</i>, 引数
+     * @param maxShift <i>J</i>, シフト量の最大値
+     * @return <i>I</i>(<i>a</i> + <i>j</i>, <i>b</i>, <i>x</i>) の配列 (長さ <i>J</i> + 1)
+     * @throws IllegalArgumentException <i>J</i> が負の場合,
+     *             (<i>a</i> + <i>J</i>, <i>b</i>) がサポート外の場合
+     */
+    public abstract double[] ribetaOverShiftedA(double x, int maxShift);
+
+    /**
+     * パラメータ <i>b</i> を整数だけシフトした正則化不完全ベータ関数
+     * <i>I</i>(<i>a</i>, <i>b</i> + <i>k</i>, <i>x</i>)
+     * (<i>k</i> = 0, 1, ..., <i>K</i>)
+     * の値を, <i>k</i> の順に並べた配列として返す.
+     * 
+     * <p>
+     * 隣接関係式 <br>
+     * <i>I</i>(<i>a</i>, <i>b</i> + <i>k</i> + 1, <i>x</i>) =
+     * <i>I</i>(<i>a</i>, <i>b</i> + <i>k</i>, <i>x</i>) +
+     * <i>x</i><sup><i>a</i></sup> (1 - <i>x</i>)<sup><i>b</i>+<i>k</i></sup> /
+     * ((<i>b</i> + <i>k</i>) B(<i>a</i>, <i>b</i> + <i>k</i>))
+     * <br>
+     * を, 桁落ちの生じない向き (<i>k</i> の昇順) に適用して計算する. <br>
+     * 直接計算は <i>k</i> = 0 の1点のみで行われる. <br>
+     * 精度については {@link #ribetaOverShiftedA(double, int)} と同様である.
+     * </p>
+     * 
+     * <p>
+     * <i>x</i> が不正な値 (範囲外, NaN) の場合は, すべての要素が NaN となる.
+     * </p>
+     * 
+     * @param x <i>x</i>, 引数
+     * @param maxShift <i>K</i>, シフト量の最大値
+     * @return <i>I</i>(<i>a</i>, <i>b</i> + <i>k</i>, <i>x</i>) の配列 (長さ <i>K</i> + 1)
+     * @throws IllegalArgumentException <i>K</i> が負の場合,
+     *             (<i>a</i>, <i>b</i> + <i>K</i>) がサポート外の場合
+     */
+    public abstract double[] ribetaOverShiftedB(double x, int maxShift);
+
+    /**
+     * 指定した区間において, 区分的 Chebyshev 補間により計算を行うインスタンスを返す.
+     * 
+     * <p>
+     * 返されるインスタンスは, 区間
+     * [<i>x</i><sub>min</sub>, <i>x</i><sub>max</sub>] 内において
+     * {@link #ribeta(double)}, {@link #ribetaR(double)} の値を,
+     * 区間を適応的に2分割した各小区間上の補間多項式 (12次) により計算する. <br>
+     * 各補間多項式は, 小区間上の (補間点よりも細かい) 検査点において,
+     * このインスタンスによる値 <i>f</i>(<i>x</i>) との差が
+     * tolerance &times; |<i>f</i>(<i>x</i>)|
+     * 以内であること, すなわち相対誤差が許容誤差以内であることが確かめられている. <br>
+     * 許容誤差を満たす補間が構築できない小区間 (特異点の近傍, <i>f</i> の零点の近傍など),
+     * および区間外では,
+     * このインスタンスと同一の計算を行う. <br>
+     * {@link #ribetaOdds(double)} は常にこのインスタンスと同一の計算を行う.
+     * </p>
+     * 
+     * <p>
+     * 同一のパラメータで多数の <i>x</i> について計算する場合に有効である. <br>
+     * 構築時には, このインスタンスによる計算を少なくとも数十回,
+     * 多い場合は数十万回行う.
+     * </p>
+     * 
+     * @param xMin <i>x</i><sub>min</sub>, 区間の下端
+     * @param xMax <i>x</i><sub>max</sub>, 区間の上端
+     * @param tolerance 許容誤差, 正の有限の値
+     * @return 区間内で区分的 Chebyshev 補間により計算を行う,
+     *             同一のパラメータ (<i>a</i>, <i>b</i>) の不完全ベータ関数計算インスタンス
+     * @throws IllegalArgumentException 0 &le; <i>x</i><sub>min</sub> &lt; <i>x</i><sub>max</sub> &le; 1 でない場合,
+     *             許容誤差が不正の場合
+     */
+    public abstract IncompleteBetaFunction compile(double xMin, double xMax, double tolerance);
+
     /**
      * 指定したパラメータ (<i>a</i>, <i>b</i>) がサポートされているかを判定する.
      * 
@@ -5,10 +5,12 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.7.24
+ * 2025.7.29
  */
 package matsu.num.specialfunction;
 
+import java.util.stream.DoubleStream;
+
 import matsu.num.specialfunction.icgamma.ICGammaFactory;
 
 /**
@@ -144,6 +146,178 @@ public interface IncompleteGammaFunction {
      */
     public abstract double rigammaOdds(double x);
 
+    /**
+     * 昇順に並んだ <i>x</i> の配列の各要素について,
+     * 第1種正則化不完全ガンマ関数
+     * <i>P</i>(<i>a</i>, <i>x</i>)
+     * の値を順に計算する.
+     * 
+     * <p>
+     * 隣り合う点の間で状態を引き継ぎ, 前の点からの Taylor 展開により値を更新する. <br>
+     * <i>P</i> と <i>Q</i> のうち計算する側 (小さい方) は,
+     * 連分数などによる直接計算を行う点 (基準点) においてのみ選択される. <br>
+     * 点の間隔が十分に小さい場合 (目安として, 間隔が <i>x</i>/4 以下かつ 1 以下),
+     * 多くの点で直接計算が省略される. <br>
+     * 精度は, 各点で直接計算した場合と同程度である.
+     * </p>
+     * 
+     * <p>
+     * 列が昇順でない箇所では直接計算を行う. <br>
+     * したがって, 昇順でない列に対しても正しい値が返るが, 高速化の効果は得られない.
+     * </p>
+     * 
+     * @param x <i>x</i> の配列, 昇順であることが推奨される
+     * @return <i>P</i>(<i>a</i>, <i>x</i>) の配列
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public abstract double[] rigammaPAlongAscending(double[] x);
+
+    /**
+     * 昇順に並んだ <i>x</i> の配列の各要素について,
+     * 第2種正則化不完全ガンマ関数
+     * <i>Q</i>(<i>a</i>, <i>x</i>)
+     * の値を順に計算する.
+     * 
+     * <p>
+     * 計算方式と精度は {@link #rigammaPAlongAscending(double[])} と同様である.
+     * </p>
+     * 
+     * @param x <i>x</i> の配列, 昇順であることが推奨される
+     * @return <i>Q</i>(<i>a</i>, <i>x</i>) の配列
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public abstract double[] rigammaQAlongAscending(double[] x);
+
+    /**
+     * 昇順に並んだ <i>x</i> のストリームの各要素について,
+     * 第1種正則化不完全ガンマ関数
+     * <i>P</i>(<i>a</i>, <i>x</i>)
+     * の値を順に計算する.
+     * 
+     * <p>
+     * 計算方式と精度は {@link #rigammaPAlongAscending(double[])} と同様である. <br>
+     * 返されるストリームは逐次ストリームであり, 要素は入力の順に, 状態を引き継ぎながら計算される. <br>
+     * 呼び出し側が並列ストリームに変換しても要素は分割されず, 1つのスレッドで入力の順に計算される.
+     * </p>
+     * 
+     * @param x <i>x</i> のストリーム, 昇順であることが推奨される
+     * @return <i>P</i>(<i>a</i>, <i>x</i>) のストリーム
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public abstract DoubleStream rigammaPAlongAscending(DoubleStream x);
+
+    /**
+     * 昇順に並んだ <i>x</i> のストリームの各要素について,
+     * 第2種正則化不完全ガンマ関数
+     * <i>Q</i>(<i>a</i>, <i>x</i>)
+     * の値を順に計算する.
+     * 
+     * <p>
+     * 計算方式と精度は {@link #rigammaPAlongAscending(double[])} と同様である. <br>
+     * 返されるストリームは逐次ストリームであり, 要素は入力の順に, 状態を引き継ぎながら計算される. <br>
+     * 呼び出し側が並列ストリームに変換しても要素は分割されず, 1つのスレッドで入力の順に計算される.
+     * </p>
+     * 
+     * @param x <i>x</i> のストリーム, 昇順であることが推奨される
+     * @return <i>Q</i>(<i>a</i>, <i>x</i>) のストリーム
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public abstract DoubleStream rigammaQAlongAscending(DoubleStream x);
+
+    /**
+     * パラメータを整数だけシフトした第1種正則化不完全ガンマ関数
+     * <i>P</i>(<i>a</i> + <i>k</i>, <i>x</i>)
+     * (<i>k</i> = 0, 1, ..., <i>K</i>)
+     * の値を, <i>k</i> の順に並べた配列として返す.
+     * 
+     * <p>
+     * 漸化式 <br>
+     * <i>P</i>(<i>a</i> + <i>k</i>, <i>x</i>) =
+     * <i>P</i>(<i>a</i> + <i>k</i> + 1, <i>x</i>) +
+     * <i>x</i><sup><i>a</i>+<i>k</i></sup> e<sup>-<i>x</i></sup> / &Gamma;(<i>a</i> + <i>k</i> + 1)
+     * <br>
+     * を, 桁落ちの生じない向き (<i>k</i> の降順) に適用して計算する. <br>
+     * 連分数などによる直接計算は <i>k</i> = <i>K</i> の1点のみで行われ,
+     * 計算量は <i>K</i> に比例する. <br>
+     * 漸化式による丸め誤差は <i>K</i> に比例して蓄積するが,
+     * <i>K</i> が10<sup>4</sup>程度までであれば, 精度は各点で直接計算した場合と同程度である.
+     * </p>
+     * 
+     * <p>
+     * <i>x</i> が不正な値 (負, NaN) の場合は, すべての要素が NaN となる.
+     * </p>
+     * 
+     * @param x <i>x</i>, 引数
+     * @param maxShift <i>K</i>, シフト量の最大値
+     * @return <i>P</i>(<i>a</i> + <i>k</i>, <i>x</i>) の配列 (長さ <i>K</i> + 1)
+     * @throws IllegalArgumentException <i>K</i> が負の場合,
+     *             <i>a</i> + <i>K</i> がサポート外の場合
+     */
+    public abstract double[] rigammaPOverShiftedParameters(double x, int maxShift);
+
+    /**
+     * パラメータを整数だけシフトした第2種正則化不完全ガンマ関数
+     * <i>Q</i>(<i>a</i> + <i>k</i>, <i>x</i>)
+     * (<i>k</i> = 0, 1, ..., <i>K</i>)
+     * の値を, <i>k</i> の順に並べた配列として返す.
+     * 
+     * <p>
+     * 漸化式 <br>
+     * <i>Q</i>(<i>a</i> + <i>k</i> + 1, <i>x</i>) =
+     * <i>Q</i>(<i>a</i> + <i>k</i>, <i>x</i>) +
+     * <i>x</i><sup><i>a</i>+<i>k</i></sup> e<sup>-<i>x</i></sup> / &Gamma;(<i>a</i> + <i>k</i> + 1)
+     * <br>
+     * を, 桁落ちの生じない向き (<i>k</i> の昇順) に適用して計算する. <br>
+     * 直接計算は <i>k</i> = 0 の1点のみで行われる. <br>
+     * 精度については {@link #rigammaPOverShiftedParameters(double, int)} と同様である.
+     * </p>
+     * 
+     * <p>
+     * <i>x</i> が不正な値 (負, NaN) の場合は, すべての要素が NaN となる.
+     * </p>
+     * 
+     * @param x <i>x</i>, 引数
+     * @param maxShift <i>K</i>, シフト量の最大値
+     * @return <i>Q</i>(<i>a</i> + <i>k</i>, <i>x</i>) の配列 (長さ <i>K</i> + 1)
+     * @throws IllegalArgumentException <i>K</i> が負の場合,
+     *             <i>a</i> + <i>K</i> がサポート外の場合
+     */
+    public abstract double[] rigammaQOverShiftedParameters(double x, int maxShift);
+
+    /**
+     * 指定した区間において, 区分的 Chebyshev 補間により計算を行うインスタンスを返す.
+     * 
+     * <p>
+     * 返されるインスタンスは, 区間
+     * [<i>x</i><sub>min</sub>, <i>x</i><sub>max</sub>] 内において
+     * {@link #rigammaP(double)}, {@link #rigammaQ(double)} の値を,
+     * 区間を適応的に2分割した各小区間上の補間多項式 (12次) により計算する. <br>
+     * 各補間多項式は, 小区間上の (補間点よりも細かい) 検査点において,
+     * このインスタンスによる値 <i>f</i>(<i>x</i>) との差が
+     * tolerance &times; |<i>f</i>(<i>x</i>)|
+     * 以内であること, すなわち相対誤差が許容誤差以内であることが確かめられている. <br>
+     * 許容誤差を満たす補間が構築できない小区間 (特異点の近傍, <i>f</i> の零点の近傍など),
+     * および区間外では,
+     * このインスタンスと同一の計算を行う. <br>
+     * {@link #rigammaOdds(double)} は常にこのインスタンスと同一の計算を行う.
+     * </p>
+     * 
+     * <p>
+     * 同一のパラメータで多数の <i>x</i> について計算する場合に有効である. <br>
+     * 構築時には, このインスタンスによる計算を少なくとも数十回,
+     * 多い場合は数十万回行う.
+     * </p>
+     * 
+     * @param xMin <i>x</i><sub>min</sub>, 区間の下端
+     * @param xMax <i>x</i><sub>max</sub>, 区間の上端
+     * @param tolerance 許容誤差, 正の有限の値
+     * @return 区間内で区分的 Chebyshev 補間により計算を行う,
+     *             同一のパラメータ <i>a</i> の不完全ガンマ関数計算インスタンス
+     * @throws IllegalArgumentException 0 &le; <i>x</i><sub>min</sub> &lt; <i>x</i><sub>max</sub> &lt; &infin; でない場合,
+     *             許容誤差が不正の場合
+     */
+    public abstract IncompleteGammaFunction compile(double xMin, double xMax, double tolerance);
+
     /**
      * 指定したパラメータ <i>a</i> がサポートされているかを判定する.
      * 
@@ -39,9 +39,32 @@ import matsu.num.specialfunction.legendre.LegendreFunctionImpl;
  * </p>
  * 
  * <p>
+ * 正規化された Legendre 陪関数
+ * <i>P&#772;</i><sub><i>&ell;</i></sub><sup><i>m</i></sup> (<i>x</i>)
+ * は次の式により定義される. <br>
+ * <i>P&#772;</i><sub><i>&ell;</i></sub><sup><i>m</i></sup> (<i>x</i>)
+ * = [(2<i>&ell;</i> + 1)/2 &middot;
+ * (<i>&ell;</i> - <i>m</i>)! / (<i>&ell;</i> + <i>m</i>)!]<sup>1/2</sup>
+ * <i>P</i><sub><i>&ell;</i></sub><sup><i>m</i></sup> (<i>x</i>) <br>
+ * これは, &int;<sub>-1</sub><sup>1</sup>
+ * [<i>P&#772;</i><sub><i>&ell;</i></sub><sup><i>m</i></sup> (<i>x</i>)]<sup>2</sup>
+ * d<i>x</i> = 1 を満たす. <br>
+ * 球面調和関数は
+ * <i>Y</i><sub><i>&ell;</i></sub><sup><i>m</i></sup> (&theta;, &phi;)
+ * = (2&pi;)<sup>-1/2</sup>
+ * <i>P&#772;</i><sub><i>&ell;</i></sub><sup><i>m</i></sup> (cos &theta;)
+ * e<sup><i>im</i>&phi;</sup>
+ * と表される. <br>
+ * 正規化しない関数値は <i>&ell;</i>, <i>m</i> が大きいとオーバーフローするが,
+ * 正規化された関数値はオーバーフローしない.
+ * </p>
+ * 
+ * <p>
  * このインターフェースでは,
- * 0 &le; <i>&ell;</i> &le; 100
- * を扱うことができる.
+ * 0 &le; <i>&ell;</i> &le; 10<sup>4</sup>
+ * を扱うことができる. <br>
+ * 計算量は, <i>m</i> = 0 (Legendre 多項式) では漸近展開により次数によらず,
+ * それ以外では <i>O</i>(<i>&ell;</i>) である.
  * </p>
  * 
  * @implSpec
@@ -79,7 +102,7 @@ public interface LegendreFunction {
      *                 パラメータの正当性は static メソッドにより検証されるべきである.
      */
     @Deprecated
-    public static final int UPPER_LIMIT_OF_DEGREE_L = 100;
+    public static final int UPPER_LIMIT_OF_DEGREE_L = 10_000;
 
     /**
      * このインスタンスが扱う次数 <i>&ell;</i> の値を返す.
@@ -102,6 +125,7 @@ public interface LegendreFunction {
      * 
      * <ul>
      * <li>|<i>x</i>| &gt; 1 &rarr; NaN</li>
+     * <li>オーバーフロー &rarr; &plusmn;&infin;</li>
      * </ul>
      * 
      * @param x 引数 <i>x</i>
@@ -109,6 +133,20 @@ public interface LegendreFunction {
      */
     public abstract double legendreP(double x);
 
+    /**
+     * 正規化された Legendre 関数
+     * <i>P&#772;</i><sub><i>&ell;</i></sub><sup><i>m</i></sup> (<i>x</i>)
+     * の値を返す.
+     * 
+     * <ul>
+     * <li>|<i>x</i>| &gt; 1 &rarr; NaN</li>
+     * </ul>
+     * 
+     * @param x 引数 <i>x</i>
+     * @return <i>P&#772;</i><sub><i>&ell;</i></sub><sup><i>m</i></sup> (<i>x</i>)
+     */
+    public abstract double normalizedLegendreP(double x);
+
     /**
      * 指定したパラメータ (次数, 階数) がサポートされているかを判定する.
      * 
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.6
+ */
+package matsu.num.specialfunction;
+
+import matsu.num.specialfunction.distribution.NoncentralBetaFactory;
+
+/**
+ * 非心ベータ分布の累積分布関数の計算
+ * (およそ倍精度).
+ * 
+ * <p>
+ * パラメータ (<i>a</i>, <i>b</i>), 非心度 &lambda; の非心ベータ分布
+ * (<i>X</i> = <i>U</i>/(<i>U</i> + <i>V</i>),
+ * <i>U</i> は自由度 2<i>a</i>, 非心度 &lambda; の非心カイ二乗分布,
+ * <i>V</i> は自由度 2<i>b</i> のカイ二乗分布に従う)
+ * について, 累積分布関数は, 正則化不完全ベータ関数の Poisson 混合 <br>
+ * P(<i>X</i> &le; <i>x</i>) =
+ * &Sigma;<sub><i>j</i> &ge; 0</sub>
+ * e<sup>-&lambda;/2</sup> (&lambda;/2)<sup><i>j</i></sup> / <i>j</i>! &middot;
+ * <i>I</i>(<i>a</i> + <i>j</i>, <i>b</i>, <i>x</i>) <br>
+ * と表される.
+ * </p>
+ * 
+ * <p>
+ * 計算方法は {@link NoncentralChiSquaredDistribution} と同様である. <br>
+ * 累積分布関数と相補累積分布関数は, いずれも相対精度よく求まる.
+ * </p>
+ * 
+ * <p>
+ * サポートされているパラメータは以下である. <br>
+ * {@code 1E-2 <= a <= 5E+13} <br>
+ * {@code 1E-2 <= b <= 1E+14} <br>
+ * {@code 0 <= λ <= 1E+6}
+ * </p>
+ * 
+ * @implSpec
+ *               このインターフェースは実装を隠ぺいして型を公開するためのものである. <br>
+ *               モジュール外で継承・実装してはいけない.
+ * 
+ * @author Matsuura Y.
+ * @see <a href="https://en.wikipedia.org/wiki/Noncentral_beta_distribution"
+ *          target= "_brank">
+ *          Wikipedia: Noncentral beta distribution</a>
+ */
+public interface NoncentralBetaDistribution {
+
+    /**
+     * このインスタンスが扱うパラメータ <i>a</i> の値を返す.
+     * 
+     * @return パラメータ <i>a</i>
+     */
+    public abstract double a();
+
+    /**
+     * このインスタンスが扱うパラメータ <i>b</i> の値を返す.
+     * 
+     * @return パラメータ <i>b</i>
+     */
+    public abstract double b();
+
+    /**
+     * このインスタンスが扱う非心度 &lambda; の値を返す.
+     * 
+     * @return 非心度 &lambda;
+     */
+    public abstract double noncentrality();
+
+    /**
+     * 累積分布関数
+     * P(<i>X</i> &le; <i>x</i>)
+     * の値を返す.
+     * 
+     * <ul>
+     * <li><i>x</i> &lt; 0 または <i>x</i> &gt; 1 &rarr; NaN</li>
+     * </ul>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return P(<i>X</i> &le; <i>x</i>)
+     */
+    public abstract double cdf(double x);
+
+    /**
+     * 相補累積分布関数 (上側確率)
+     * P(<i>X</i> &gt; <i>x</i>)
+     * の値を返す.
+     * 
+     * <ul>
+     * <li><i>x</i> &lt; 0 または <i>x</i> &gt; 1 &rarr; NaN</li>
+     * </ul>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return P(<i>X</i> &gt; <i>x</i>)
+     */
+    public abstract double ccdf(double x);
+
+    /**
+     * 指定したパラメータがサポートされているかを判定する.
+     * 
+     * @param a パラメータ <i>a</i>
+     * @param b パラメータ <i>b</i>
+     * @param lambda 非心度 &lambda;
+     * @return パラメータが適合する場合はtrue
+     */
+    public static boolean acceptsParameter(double a, double b, double lambda) {
+        return a >= 1E-2 && a <= 5E13
+                && b >= 1E-2 && b <= 1E14
+                && lambda >= 0 && lambda <= 1E6;
+    }
+
+    /**
+     * 指定したパラメータの非心ベータ分布の計算インスタンスを返す.
+     * 
+     * <p>
+     * パラメータの正当性は {@link #acceptsParameter(double, double, double)} により検証され,
+     * 不適の場合は例外がスローされる.
+     * </p>
+     * 
+     * @param a パラメータ <i>a</i>
+     * @param b パラメータ <i>b</i>
+     * @param lambda 非心度 &lambda;
+     * @return 非心ベータ分布の計算インスタンス
+     * @throws IllegalArgumentException パラメータがサポート外の場合
+     */
+    public static NoncentralBetaDistribution instanceOf(double a, double b, double lambda) {
+        return NoncentralBetaFactory.instanceOf(a, b, lambda);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.6
+ */
+package matsu.num.specialfunction;
+
+import matsu.num.specialfunction.distribution.NoncentralChiSquaredFactory;
+
+/**
+ * 非心カイ二乗分布の累積分布関数の計算
+ * (およそ倍精度).
+ * 
+ * <p>
+ * 自由度 <i>k</i>, 非心度 &lambda; の非心カイ二乗分布に従う確率変数 <i>X</i> について,
+ * 累積分布関数は, 正則化不完全ガンマ関数の Poisson 混合 <br>
+ * P(<i>X</i> &le; <i>x</i>) =
+ * &Sigma;<sub><i>j</i> &ge; 0</sub>
+ * e<sup>-&lambda;/2</sup> (&lambda;/2)<sup><i>j</i></sup> / <i>j</i>! &middot;
+ * <i>P</i>(<i>k</i>/2 + <i>j</i>, <i>x</i>/2) <br>
+ * と表される.
+ * </p>
+ * 
+ * <p>
+ * 和は Poisson 分布の最頻値を中心とする窓に限って行い,
+ * 窓の外側の寄与は相対的に無視できるように打ち切る. <br>
+ * <i>P</i>, <i>Q</i> の各項は, パラメータのシフトに関する隣接関係式により求め,
+ * 不完全ガンマ関数の直接計算は (結果が極端に小さい場合を除き) 1回のみである. <br>
+ * 累積分布関数と相補累積分布関数は, いずれも相対精度よく求まる.
+ * </p>
+ * 
+ * <p>
+ * サポートされているパラメータは以下である. <br>
+ * {@code 2E-2 <= k <= 1E+14} <br>
+ * {@code 0 <= λ <= 1E+6}
+ * </p>
+ * 
+ * @implSpec
+ *               このインターフェースは実装を隠ぺいして型を公開するためのものである. <br>
+ *               モジュール外で継承・実装してはいけない.
+ * 
+ * @author Matsuura Y.
+ * @see <a href="https://en.wikipedia.org/wiki/Noncentral_chi-squared_distribution"
+ *          target= "_brank">
+ *          Wikipedia: Noncentral chi-squared distribution</a>
+ */
+public interface NoncentralChiSquaredDistribution {
+
+    /**
+     * このインスタンスが扱う自由度 <i>k</i> の値を返す.
+     * 
+     * @return 自由度 <i>k</i>
+     */
+    public abstract double degreesOfFreedom();
+
+    /**
+     * このインスタンスが扱う非心度 &lambda; の値を返す.
+     * 
+     * @return 非心度 &lambda;
+     */
+    public abstract double noncentrality();
+
+    /**
+     * 累積分布関数
+     * P(<i>X</i> &le; <i>x</i>)
+     * の値を返す.
+     * 
+     * <ul>
+     * <li><i>x</i> &lt; 0 &rarr; NaN</li>
+     * <li><i>x</i> = +&infin; &rarr; 1</li>
+     * </ul>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return P(<i>X</i> &le; <i>x</i>)
+     */
+    public abstract double cdf(double x);
+
+    /**
+     * 相補累積分布関数 (上側確率)
+     * P(<i>X</i> &gt; <i>x</i>)
+     * の値を返す.
+     * 
+     * <ul>
+     * <li><i>x</i> &lt; 0 &rarr; NaN</li>
+     * <li><i>x</i> = +&infin; &rarr; 0</li>
+     * </ul>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return P(<i>X</i> &gt; <i>x</i>)
+     */
+    public abstract double ccdf(double x);
+
+    /**
+     * 指定したパラメータがサポートされているかを判定する.
+     * 
+     * @param k 自由度 <i>k</i>
+     * @param lambda 非心度 &lambda;
+     * @return パラメータが適合する場合はtrue
+     */
+    public static boolean acceptsParameter(double k, double lambda) {
+        return k >= 2E-2 && k <= 1E14
+                && lambda >= 0 && lambda <= 1E6;
+    }
+
+    /**
+     * 指定したパラメータの非心カイ二乗分布の計算インスタンスを返す.
+     * 
+     * <p>
+     * パラメータの正当性は {@link #acceptsParameter(double, double)} により検証され,
+     * 不適の場合は例外がスローされる.
+     * </p>
+     * 
+     * @param k 自由度 <i>k</i>
+     * @param lambda 非心度 &lambda;
+     * @return 非心カイ二乗分布の計算インスタンス
+     * @throws IllegalArgumentException パラメータがサポート外の場合
+     */
+    public static NoncentralChiSquaredDistribution instanceOf(double k, double lambda) {
+        return NoncentralChiSquaredFactory.instanceOf(k, lambda);
+    }
+}
@@ -10,6 +10,8 @@
  */
 package matsu.num.specialfunction;
 
+import matsu.num.specialfunction.fraction.DoubleDoubleReal;
+import matsu.num.specialfunction.zeta.EMTypeRiemannZetaDoubleDoubleCalculation;
 import matsu.num.specialfunction.zeta.EMTypeRiemannZetaFunctionCalculation;
 
 /**
@@ -24,6 +26,13 @@ import matsu.num.specialfunction.zeta.EMTypeRiemannZetaFunctionCalculation;
  * を扱う.
  * </p>
  * 
+ * <p>
+ * 倍精度を超える精度が必要な用途のために,
+ * double-double 精度 (拡張精度) で計算するメソッド
+ * ({@link #zetaDoubleDouble(double)}, {@link #zetam1DoubleDouble(double)})
+ * も提供している.
+ * </p>
+ * 
  * @author Matsuura Y.
  * @see <a href="https://en.wikipedia.org/wiki/Riemann_zeta_function" target=
  *          "_brank">
@@ -32,6 +41,8 @@ import matsu.num.specialfunction.zeta.EMTypeRiemannZetaFunctionCalculation;
 public final class RiemannZetaFunction {
 
     private static final EMTypeRiemannZetaFunctionCalculation ZETA = new EMTypeRiemannZetaFunctionCalculation();
+    private static final EMTypeRiemannZetaDoubleDoubleCalculation DD_ZETA =
+            new EMTypeRiemannZetaDoubleDoubleCalculation();
 
     private RiemannZetaFunction() {
         // インスタンス化不可
@@ -73,4 +84,76 @@ public final class RiemannZetaFunction {
     public static double zetam1(double s) {
         return ZETA.zetam1(s);
     }
+
+    /**
+     * 与えられた <i>s</i> に対する
+     * <i>&zeta;</i>(<i>s</i>)
+     * の値を, double-double 精度 (拡張精度) で返す.
+     * 
+     * <p>
+     * 戻り値は長さ2の配列 {<i>hi</i>, <i>lo</i>} であり,
+     * 値は <i>hi</i> + <i>lo</i> (|<i>lo</i>| &le; ulp(<i>hi</i>)/2) で表される. <br>
+     * 相対誤差はおよそ 1E-29 以下である. <br>
+     * 値が特殊値になる場合は, <i>lo</i> を0とする.
+     * </p>
+     * 
+     * <ul>
+     * <li><i>s</i> &lt; 1 &rarr; NaN</li>
+     * <li><i>s</i> = 1 &rarr; +&infin;</li>
+     * <li><i>s</i> = &infin; &rarr; 1</li>
+     * </ul>
+     *
+     * @param s <i>s</i>, 引数
+     * @return <i>&zeta;</i>(<i>s</i>) の {<i>hi</i>, <i>lo</i>}
+     */
+    public static double[] zetaDoubleDouble(double s) {
+        if (s == Double.POSITIVE_INFINITY) {
+            return new double[] { 1d, 0d };
+        }
+        double[] special = specialValueOrNull(s);
+        return special != null ? special : toArray(DD_ZETA.zeta(s));
+    }
+
+    /**
+     * 与えられた <i>s</i> に対する
+     * (<i>&zeta;</i>(<i>s</i>) - 1)
+     * の値を, double-double 精度 (拡張精度) で返す.
+     * 
+     * <p>
+     * 戻り値の形式と精度は {@link #zetaDoubleDouble(double)} と同一である.
+     * </p>
+     * 
+     * <ul>
+     * <li><i>s</i> &lt; 1 &rarr; NaN</li>
+     * <li><i>s</i> = 1 &rarr; +&infin;</li>
+     * <li><i>s</i> = &infin; &rarr; 0</li>
+     * </ul>
+     *
+     * @param s <i>s</i>, 引数
+     * @return <i>&zeta;</i>(<i>s</i>) - 1 の {<i>hi</i>, <i>lo</i>}
+     */
+    public static double[] zetam1DoubleDouble(double s) {
+        if (s == Double.POSITIVE_INFINITY) {
+            return new double[] { 0d, 0d };
+        }
+        double[] special = specialValueOrNull(s);
+        return special != null ? special : toArray(DD_ZETA.zetam1(s));
+    }
+
+    /**
+     * s &le; 1 または NaN の場合の値を返し, そうでない場合は null を返す.
+     */
+    private static double[] specialValueOrNull(double s) {
+        if (!(s >= 1d)) {
+            return new double[] { Double.NaN, 0d };
+        }
+        if (s == 1d) {
+            return new double[] { Double.POSITIVE_INFINITY, 0d };
+        }
+        return null;
+    }
+
+    private static double[] toArray(DoubleDoubleReal value) {
+        return new double[] { value.high(), value.low() };
+    }
 }
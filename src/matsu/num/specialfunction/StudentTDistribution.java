@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.5
+ */
+package matsu.num.specialfunction;
+
+import matsu.num.specialfunction.distribution.StudentTFactory;
+
+/**
+ * Student の <i>t</i> 分布の累積分布関数の計算
+ * (およそ倍精度).
+ * 
+ * <p>
+ * 自由度 &nu; の <i>t</i> 分布に従う確率変数 <i>T</i> について,
+ * 両側確率 P(|<i>T</i>| &ge; |<i>t</i>|) は, 正則化不完全ベータ関数により <br>
+ * P(|<i>T</i>| &ge; |<i>t</i>|) =
+ * <i>I</i>(&nu;/2, 1/2, &nu;/(&nu; + <i>t</i><sup>2</sup>)) <br>
+ * と表される.
+ * </p>
+ * 
+ * <p>
+ * 計算は自由度に応じて次のように切り替えられる. <br>
+ * &nu; = 1, 2 では閉じた形 (逆正接, 平方根) により,
+ * 3 &le; &nu; &le; 30 の整数では, 中心付近において三角関数の有限和により,
+ * &nu; &ge; 300 では Hill の正規化変換 (1/&nu; に関する漸近展開) により計算する. <br>
+ * 裾 (<i>t</i><sup>2</sup> が &nu; と同程度以上) では級数を用い,
+ * それ以外では不完全ベータ関数により計算する. <br>
+ * いずれも小さい側の確率 (裾の確率) が相対精度よく求まる.
+ * </p>
+ * 
+ * <p>
+ * サポートされている自由度 &nu; は以下である. <br>
+ * {@code 2E-2 <= ν <= 2E+14}
+ * </p>
+ * 
+ * @implSpec
+ *               このインターフェースは実装を隠ぺいして型を公開するためのものである. <br>
+ *               モジュール外で継承・実装してはいけない.
+ * 
+ * @author Matsuura Y.
+ * @see <a href="https://en.wikipedia.org/wiki/Student%27s_t-distribution"
+ *          target= "_brank">
+ *          Wikipedia: Student's t-distribution</a>
+ */
+public interface StudentTDistribution {
+
+    /**
+     * このインスタンスが扱う自由度 &nu; の値を返す.
+     * 
+     * @return 自由度 &nu;
+     */
+    public abstract double degreesOfFreedom();
+
+    /**
+     * 累積分布関数
+     * P(<i>T</i> &le; <i>t</i>)
+     * の値を返す.
+     * 
+     * <ul>
+     * <li><i>t</i> = -&infin; &rarr; 0</li>
+     * <li><i>t</i> = +&infin; &rarr; 1</li>
+     * </ul>
+     * 
+     * @param t <i>t</i>, 引数
+     * @return P(<i>T</i> &le; <i>t</i>)
+     */
+    public abstract double cdf(double t);
+
+    /**
+     * 相補累積分布関数 (上側確率)
+     * P(<i>T</i> &gt; <i>t</i>)
+     * の値を返す.
+     * 
+     * <ul>
+     * <li><i>t</i> = -&infin; &rarr; 1</li>
+     * <li><i>t</i> = +&infin; &rarr; 0</li>
+     * </ul>
+     * 
+     * @param t <i>t</i>, 引数
+     * @return P(<i>T</i> &gt; <i>t</i>)
+     */
+    public abstract double ccdf(double t);
+
+    /**
+     * 両側確率 (両側検定の <i>p</i> 値)
+     * P(|<i>T</i>| &ge; |<i>t</i>|)
+     * の値を返す.
+     * 
+     * <ul>
+     * <li><i>t</i> = 0 &rarr; 1</li>
+     * <li><i>t</i> = &plusmn;&infin; &rarr; 0</li>
+     * </ul>
+     * 
+     * @param t <i>t</i>, 引数
+     * @return P(|<i>T</i>| &ge; |<i>t</i>|)
+     */
+    public abstract double twoSidedPValue(double t);
+
+    /**
+     * 配列で与えた各 <i>t</i> について,
+     * 累積分布関数の値を計算し, 結果を格納する配列に書き込む.
+     * 
+     * <p>
+     * 各要素の値は {@link #cdf(double)} と同一である. <br>
+     * 引数の配列と結果を格納する配列に同一のインスタンスを与えてもよい.
+     * </p>
+     * 
+     * @param ts 引数 <i>t</i> の配列
+     * @param results 結果を格納する配列
+     * @throws IllegalArgumentException 配列の長さが等しくない場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public abstract void cdf(double[] ts, double[] results);
+
+    /**
+     * 配列で与えた各 <i>t</i> について,
+     * 相補累積分布関数の値を計算し, 結果を格納する配列に書き込む.
+     * 
+     * <p>
+     * 各要素の値は {@link #ccdf(double)} と同一である. <br>
+     * 引数の配列と結果を格納する配列に同一のインスタンスを与えてもよい.
+     * </p>
+     * 
+     * @param ts 引数 <i>t</i> の配列
+     * @param results 結果を格納する配列
+     * @throws IllegalArgumentException 配列の長さが等しくない場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public abstract void ccdf(double[] ts, double[] results);
+
+    /**
+     * 配列で与えた各 <i>t</i> について,
+     * 両側確率の値を計算し, 結果を格納する配列に書き込む.
+     * 
+     * <p>
+     * 各要素の値は {@link #twoSidedPValue(double)} と同一である. <br>
+     * 引数の配列と結果を格納する配列に同一のインスタンスを与えてもよい.
+     * </p>
+     * 
+     * @param ts 引数 <i>t</i> の配列
+     * @param results 結果を格納する配列
+     * @throws IllegalArgumentException 配列の長さが等しくない場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public abstract void twoSidedPValue(double[] ts, double[] results);
+
+    /**
+     * 指定した自由度がサポートされているかを判定する.
+     * 
+     * @param nu 自由度 &nu;
+     * @return 自由度が適合する場合はtrue
+     */
+    public static boolean acceptsParameter(double nu) {
+        return IncompleteBetaFunction.acceptsParameter(nu / 2, 0.5);
+    }
+
+    /**
+     * 指定した自由度の <i>t</i> 分布の計算インスタンスを返す.
+     * 
+     * <p>
+     * 自由度の正当性は {@link #acceptsParameter(double)} により検証され,
+     * 不適の場合は例外がスローされる. <br>
+     * 同一の自由度に対しては, キャッシュされたインスタンスが返されることがある.
+     * </p>
+     * 
+     * @param nu 自由度 &nu;
+     * @return 自由度 &nu; の <i>t</i> 分布の計算インスタンス
+     * @throws IllegalArgumentException 自由度がサポート外の場合
+     */
+    public static StudentTDistribution instanceOf(double nu) {
+        return StudentTFactory.instanceOf(nu);
+    }
+}
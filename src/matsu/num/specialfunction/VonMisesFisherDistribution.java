@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.7
+ */
+package matsu.num.specialfunction;
+
+import matsu.num.specialfunction.distribution.VonMisesFisherFactory;
+
+/**
+ * von Mises&ndash;Fisher 分布の平均合成ベクトル長と正規化定数の計算
+ * (およそ倍精度).
+ * 
+ * <p>
+ * <i>p</i> 次元単位球面上の, 集中度 &kappa; の von Mises&ndash;Fisher 分布の密度は <br>
+ * <i>C<sub>p</sub></i>(&kappa;) exp(&kappa; <b>&mu;</b><sup>T</sup><b>x</b>),
+ * <i>C<sub>p</sub></i>(&kappa;) =
+ * &kappa;<sup>&nu;</sup> /
+ * ((2&pi;)<sup><i>p</i>/2</sup> <i>I</i><sub>&nu;</sub>(&kappa;)),
+ * &nu; = <i>p</i>/2 - 1 <br>
+ * で与えられる. <br>
+ * 最尤推定では, 平均合成ベクトル長 <br>
+ * <i>A<sub>p</sub></i>(&kappa;) =
+ * <i>I</i><sub><i>p</i>/2</sub>(&kappa;) / <i>I</i><sub><i>p</i>/2-1</sub>(&kappa;) <br>
+ * が必要になる.
+ * </p>
+ * 
+ * <p>
+ * <i>A<sub>p</sub></i>(&kappa;) は, 変形 Bessel 関数の値を経由せずに連分数により直接計算する. <br>
+ * log <i>C<sub>p</sub></i>(&kappa;) は, スケーリングした変形 Bessel 関数
+ * (<i>p</i> が偶数では {@link matsu.num.specialfunction.bessel.ModifiedBesselFunction},
+ * 奇数では {@link matsu.num.specialfunction.bessel.ModifiedSphericalBesselFunction})
+ * の対数により計算する. <br>
+ * いずれも, &kappa; が大きくてもオーバーフローしない.
+ * </p>
+ * 
+ * <p>
+ * サポートされている次元 <i>p</i> は以下である. <br>
+ * {@code 2 <= p <= 202}
+ * </p>
+ * 
+ * @implSpec
+ *               このインターフェースは実装を隠ぺいして型を公開するためのものである. <br>
+ *               モジュール外で継承・実装してはいけない.
+ * 
+ * @author Matsuura Y.
+ * @see <a href="https://en.wikipedia.org/wiki/Von_Mises%E2%80%93Fisher_distribution"
+ *          target= "_brank">
+ *          Wikipedia: von Mises-Fisher distribution</a>
+ */
+public interface VonMisesFisherDistribution {
+
+    /**
+     * このインスタンスが扱う次元 <i>p</i> の値を返す.
+     * 
+     * @return 次元 <i>p</i>
+     */
+    public abstract int dimension();
+
+    /**
+     * 平均合成ベクトル長
+     * <i>A<sub>p</sub></i>(&kappa;) =
+     * <i>I</i><sub><i>p</i>/2</sub>(&kappa;) / <i>I</i><sub><i>p</i>/2-1</sub>(&kappa;)
+     * の値を返す.
+     * 
+     * <ul>
+     * <li>&kappa; &lt; 0 &rarr; NaN</li>
+     * <li>&kappa; = 0 &rarr; 0</li>
+     * <li>&kappa; = +&infin; &rarr; 1</li>
+     * </ul>
+     * 
+     * @param kappa &kappa;, 集中度
+     * @return <i>A<sub>p</sub></i>(&kappa;)
+     */
+    public abstract double meanResultantLength(double kappa);
+
+    /**
+     * 正規化定数の対数
+     * log <i>C<sub>p</sub></i>(&kappa;)
+     * の値を返す.
+     * 
+     * <ul>
+     * <li>&kappa; &lt; 0 &rarr; NaN</li>
+     * <li>&kappa; = 0 &rarr; -log(単位球面の面積)</li>
+     * <li>&kappa; = +&infin; &rarr; -&infin;</li>
+     * </ul>
+     * 
+     * @param kappa &kappa;, 集中度
+     * @return log <i>C<sub>p</sub></i>(&kappa;)
+     */
+    public abstract double logNormalizingConstant(double kappa);
+
+    /**
+     * 配列で与えた各 &kappa; について,
+     * 平均合成ベクトル長の値を計算し, 結果を格納する配列に書き込む.
+     * 
+     * <p>
+     * 各要素の値は {@link #meanResultantLength(double)} と同一である. <br>
+     * 引数の配列と結果を格納する配列に同一のインスタンスを与えてもよい.
+     * </p>
+     * 
+     * @param kappas 引数 &kappa; の配列
+     * @param results 結果を格納する配列
+     * @throws IllegalArgumentException 配列の長さが等しくない場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public abstract void meanResultantLength(double[] kappas, double[] results);
+
+    /**
+     * 指定した次元がサポートされているかを判定する.
+     * 
+     * @param p 次元 <i>p</i>
+     * @return 次元が適合する場合はtrue
+     */
+    public static boolean acceptsParameter(int p) {
+        return 2 <= p && p <= 202;
+    }
+
+    /**
+     * 指定した次元の von Mises&ndash;Fisher 分布の計算インスタンスを返す.
+     * 
+     * <p>
+     * 次元の正当性は {@link #acceptsParameter(int)} により検証され,
+     * 不適の場合は例外がスローされる.
+     * </p>
+     * 
+     * @param p 次元 <i>p</i>
+     * @return 次元 <i>p</i> の von Mises&ndash;Fisher 分布の計算インスタンス
+     * @throws IllegalArgumentException 次元がサポート外の場合
+     */
+    public static VonMisesFisherDistribution instanceOf(int p) {
+        return VonMisesFisherFactory.instanceOf(p);
+    }
+}
@@ -5,11 +5,12 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.7.5
+ * 2025.7.29
  */
 package matsu.num.specialfunction.bessel;
 
 import matsu.num.specialfunction.bessel.bessel.BesselFunctionFactory;
+import matsu.num.specialfunction.bessel.bessel.BesselNeumannSeries;
 
 /**
  * Bessel 関数
@@ -92,6 +93,142 @@ public interface BesselFunction {
      */
     public abstract double besselY(double x);
 
+    /**
+     * 第1種 Bessel 関数 <i>J<sub>n</sub></i>(<i>x</i>) の値を,
+     * 単精度 (float) で返す.
+     * 
+     * <p>
+     * 精度はおおよそ単精度である. <br>
+     * 0次と1次では単精度向けに次数を下げた近似多項式で計算し,
+     * それ以外の次数では {@link #besselJ(double)} の値を単精度に丸める.
+     * </p>
+     * 
+     * <ul>
+     * <li><i>x</i> &lt; 0 &rarr; NaN
+     * </li>
+     * <li><i>x</i> &asymp; +&infin; &rarr; 0</li>
+     * </ul>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return <i>J</i><sub><i>n</i></sub>(<i>x</i>)
+     */
+    public abstract float besselJFloat(float x);
+
+    /**
+     * 配列で与えた各 <i>x</i> について,
+     * 第1種 Bessel 関数 <i>J<sub>n</sub></i>(<i>x</i>) の値を単精度で計算し,
+     * 結果を格納する配列に書き込む.
+     * 
+     * <p>
+     * 各要素の値は {@link #besselJFloat(float)} と同一である. <br>
+     * 引数の配列と結果を格納する配列に同一のインスタンスを与えてもよい.
+     * </p>
+     * 
+     * @param xs 引数 <i>x</i> の配列
+     * @param results 結果を格納する配列
+     * @throws IllegalArgumentException 配列の長さが等しくない場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public abstract void besselJFloat(float[] xs, float[] results);
+
+    /**
+     * 第1種 Bessel 関数 <i>J<sub>n</sub></i>(<i>x</i>) の第 <i>k</i> 正零点
+     * <i>j</i><sub><i>n</i>,<i>k</i></sub> の値を返す.
+     * 
+     * <p>
+     * 零点は McMahon の漸近展開などを初期値とした Newton 法により, 小さい方から順に計算される. <br>
+     * 計算した零点は次数ごとにキャッシュされ (スレッドセーフ),
+     * 既に計算された零点の取得は配列の参照のみで行われる. <br>
+     * サポートされている <i>k</i> は {@code 1 <= k <= 10000} である.
+     * </p>
+     * 
+     * @param k <i>k</i>, 零点の番号
+     * @return <i>j</i><sub><i>n</i>,<i>k</i></sub>
+     * @throws IllegalArgumentException <i>k</i> がサポート外の場合
+     */
+    public abstract double besselJZero(int k);
+
+    /**
+     * 第2種 Bessel 関数 <i>Y<sub>n</sub></i>(<i>x</i>) の第 <i>k</i> 正零点
+     * <i>y</i><sub><i>n</i>,<i>k</i></sub> の値を返す.
+     * 
+     * <p>
+     * 計算方法とキャッシュの扱い, サポートされている <i>k</i> は
+     * {@link #besselJZero(int)} と同様である.
+     * </p>
+     * 
+     * @param k <i>k</i>, 零点の番号
+     * @return <i>y</i><sub><i>n</i>,<i>k</i></sub>
+     * @throws IllegalArgumentException <i>k</i> がサポート外の場合
+     */
+    public abstract double besselYZero(int k);
+
+    /**
+     * 第1種 Bessel 関数 <i>J<sub>n</sub></i>(<i>x</i>) の第1から第 <i>K</i> 正零点
+     * <i>j</i><sub><i>n</i>,1</sub>, ..., <i>j</i><sub><i>n</i>,<i>K</i></sub>
+     * を, 昇順に並べた配列として返す.
+     * 
+     * <p>
+     * 各要素の値は {@link #besselJZero(int)} と同一である. <br>
+     * サポートされている <i>K</i> は {@code 0 <= K <= 10000} である.
+     * </p>
+     * 
+     * @param count <i>K</i>, 零点の個数
+     * @return 零点の配列 (長さ <i>K</i>)
+     * @throws IllegalArgumentException <i>K</i> がサポート外の場合
+     */
+    public abstract double[] besselJZeros(int count);
+
+    /**
+     * 第2種 Bessel 関数 <i>Y<sub>n</sub></i>(<i>x</i>) の第1から第 <i>K</i> 正零点
+     * <i>y</i><sub><i>n</i>,1</sub>, ..., <i>y</i><sub><i>n</i>,<i>K</i></sub>
+     * を, 昇順に並べた配列として返す.
+     * 
+     * <p>
+     * 各要素の値は {@link #besselYZero(int)} と同一である. <br>
+     * サポートされている <i>K</i> は {@code 0 <= K <= 10000} である.
+     * </p>
+     * 
+     * @param count <i>K</i>, 零点の個数
+     * @return 零点の配列 (長さ <i>K</i>)
+     * @throws IllegalArgumentException <i>K</i> がサポート外の場合
+     */
+    public abstract double[] besselYZeros(int count);
+
+    /**
+     * 指定した区間において, 区分的 Chebyshev 補間により計算を行うインスタンスを返す.
+     * 
+     * <p>
+     * 返されるインスタンスは, 区間
+     * [<i>x</i><sub>min</sub>, <i>x</i><sub>max</sub>] 内において
+     * {@link #besselJ(double)}, {@link #besselY(double)} の値を,
+     * 区間を適応的に2分割した各小区間上の補間多項式 (12次) により計算する. <br>
+     * 各補間多項式は, 小区間上の (補間点よりも細かい) 検査点において,
+     * このインスタンスによる値 <i>f</i>(<i>x</i>) との差が
+     * tolerance &times; |<i>f</i>(<i>x</i>)|
+     * 以内であること, すなわち相対誤差が許容誤差以内であることが確かめられている. <br>
+     * 許容誤差を満たす補間が構築できない小区間 (特異点の近傍, <i>f</i> の零点の近傍など),
+     * および区間外では,
+     * このインスタンスと同一の計算を行う. <br>
+     * 単精度版 ({@link #besselJFloat(float)} など) は常にこのインスタンスと同一の計算を行う.
+     * </p>
+     * 
+     * <p>
+     * 同一のパラメータで多数の <i>x</i> について計算する場合に有効である. <br>
+     * 構築時には, このインスタンスによる計算を少なくとも数十回,
+     * 多い場合は数十万回行う.
+     * </p>
+     * 
+     * @param xMin <i>x</i><sub>min</sub>, 区間の下端
+     * @param xMax <i>x</i><sub>max</sub>, 区間の上端
+     * @param tolerance 許容誤差, 正の有限の値
+     * @return 区間内で区分的 Chebyshev 補間により計算を行う,
+     *             同一の次数の Bessel 関数計算インスタンス
+     * @throws IllegalArgumentException 0 &le; <i>x</i><sub>min</sub> &lt; <i>x</i><sub>max</sub> &lt; &infin; でない場合,
+     *             許容誤差が不正の場合
+     */
+    public abstract BesselFunction compile(double xMin, double xMax, double tolerance);
+
     /**
      * 指定したパラメータ (次数) がサポートされているかを判定する.
      * 
@@ -118,4 +255,60 @@ public interface BesselFunction {
     public static BesselFunction instanceOf(int order) {
         return BesselFunctionFactory.instanceOf(order);
     }
+
+    /**
+     * 第1種 Bessel 関数による Neumann 級数
+     * &Sigma;<sub><i>n</i>=0</sub><sup><i>N</i>-1</sup>
+     * <i>c<sub>n</sub></i> <i>J<sub>n</sub></i>(<i>x</i>)
+     * の値を返す.
+     * 
+     * <p>
+     * 次数ごとの計算インスタンスを経由せず, 1回の漸化式 (<i>x</i> が小さい場合は Miller の後退漸化式)
+     * により各次数の値を求めながら和を累積するため, 計算量は <i>N</i> に比例する. <br>
+     * 次数 <i>N</i> - 1 は {@link #acceptsParameter(int)} の範囲を超えてもよい. <br>
+     * 結果の誤差は, 和の各項の絶対値の和に対する相対誤差として評価されるべきである.
+     * </p>
+     * 
+     * <ul>
+     * <li><i>N</i> = 0 &rarr; 0</li>
+     * <li><i>x</i> &lt; 0 &rarr; NaN</li>
+     * <li><i>x</i> &asymp; +&infin; &rarr; 0</li>
+     * </ul>
+     * 
+     * @param coefficients 係数 <i>c<sub>n</sub></i> の配列 (長さ <i>N</i>)
+     * @param x <i>x</i>, 引数
+     * @return 級数の値
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static double neumannSeries(double[] coefficients, double x) {
+        return BesselNeumannSeries.sum(coefficients, x);
+    }
+
+    /**
+     * 配列で与えた各 <i>x</i> について,
+     * Neumann 級数
+     * &Sigma;<sub><i>n</i>=0</sub><sup><i>N</i>-1</sup>
+     * <i>c<sub>n</sub></i> <i>J<sub>n</sub></i>(<i>x</i>)
+     * の値を計算し, 結果を格納する配列に書き込む.
+     * 
+     * <p>
+     * 各要素の値は {@link #neumannSeries(double[], double)} と同一である. <br>
+     * 引数の配列と結果を格納する配列に同一のインスタンスを与えてもよい.
+     * </p>
+     * 
+     * @param coefficients 係数 <i>c<sub>n</sub></i> の配列 (長さ <i>N</i>)
+     * @param xs 引数 <i>x</i> の配列
+     * @param results 結果を格納する配列
+     * @throws IllegalArgumentException 引数と結果の配列の長さが等しくない場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static void neumannSeries(double[] coefficients, double[] xs, double[] results) {
+        final int length = xs.length;
+        if (results.length != length) {
+            throw new IllegalArgumentException("length mismatch");
+        }
+        for (int i = 0; i < length; i++) {
+            results[i] = BesselNeumannSeries.sum(coefficients, xs[i]);
+        }
+    }
 }
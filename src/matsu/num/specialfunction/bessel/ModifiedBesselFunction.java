@@ -90,6 +90,44 @@ public interface ModifiedBesselFunction {
      */
     public abstract double besselI(double x);
 
+    /**
+     * 第1種変形 Bessel 関数 <i>I<sub>n</sub></i>(<i>x</i>) の値を,
+     * 単精度 (float) で返す.
+     * 
+     * <p>
+     * 精度はおおよそ単精度である. <br>
+     * 0次と1次では単精度向けに次数を下げた近似多項式で計算し,
+     * それ以外の次数では {@link #besselI(double)} の値を単精度に丸める.
+     * </p>
+     * 
+     * <ul>
+     * <li><i>x</i> &lt; 0 &rarr; NaN
+     * </li>
+     * <li><i>x</i> &asymp; +&infin; &rarr; +&infin;</li>
+     * </ul>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return <i>I</i><sub><i>n</i></sub>(<i>x</i>)
+     */
+    public abstract float besselIFloat(float x);
+
+    /**
+     * 配列で与えた各 <i>x</i> について,
+     * 第1種変形 Bessel 関数 <i>I<sub>n</sub></i>(<i>x</i>) の値を単精度で計算し,
+     * 結果を格納する配列に書き込む.
+     * 
+     * <p>
+     * 各要素の値は {@link #besselIFloat(float)} と同一である. <br>
+     * 引数の配列と結果を格納する配列に同一のインスタンスを与えてもよい.
+     * </p>
+     * 
+     * @param xs 引数 <i>x</i> の配列
+     * @param results 結果を格納する配列
+     * @throws IllegalArgumentException 配列の長さが等しくない場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public abstract void besselIFloat(float[] xs, float[] results);
+
     /**
      * 第2種変形 Bessel 関数 <i>K<sub>n</sub></i>(<i>x</i>) の値を返す.
      *
@@ -138,6 +176,75 @@ public interface ModifiedBesselFunction {
      */
     public abstract double besselKc(double x);
 
+    /**
+     * 第1種変形 Bessel 関数の対数
+     * log <i>I<sub>n</sub></i>(<i>x</i>)
+     * の値を返す.
+     * 
+     * <p>
+     * <i>I<sub>n</sub></i>(<i>x</i>) の値を経由せずに計算するため,
+     * <i>I<sub>n</sub></i>(<i>x</i>) がオーバーフローまたはアンダーフローする
+     * <i>x</i> (大きな <i>x</i>, 大きな次数での小さな <i>x</i>) でも有限の値が得られる.
+     * </p>
+     *
+     * <ul>
+     * <li><i>x</i> &lt; 0 &rarr; NaN
+     * </li>
+     * <li><i>x</i> = 0 &rarr; 0 (<i>n</i> = 0), -&infin; (<i>n</i> &ge; 1)</li>
+     * <li><i>x</i> = +&infin; &rarr; +&infin;</li>
+     * </ul>
+     *
+     * @param x <i>x</i>, 引数
+     * @return log <i>I</i><sub><i>n</i></sub>(<i>x</i>)
+     */
+    public abstract double logBesselI(double x);
+
+    /**
+     * 第2種変形 Bessel 関数の対数
+     * log <i>K<sub>n</sub></i>(<i>x</i>)
+     * の値を返す.
+     * 
+     * <p>
+     * <i>K<sub>n</sub></i>(<i>x</i>) の値を経由せずに計算するため,
+     * <i>K<sub>n</sub></i>(<i>x</i>) がオーバーフローまたはアンダーフローする
+     * <i>x</i> (大きな次数での小さな <i>x</i>, 大きな <i>x</i>) でも有限の値が得られる.
+     * </p>
+     *
+     * <ul>
+     * <li><i>x</i> &lt; 0 &rarr; NaN
+     * </li>
+     * <li><i>x</i> = 0 &rarr; +&infin;</li>
+     * <li><i>x</i> = +&infin; &rarr; -&infin;</li>
+     * </ul>
+     *
+     * @param x <i>x</i>, 引数
+     * @return log <i>K</i><sub><i>n</i></sub>(<i>x</i>)
+     */
+    public abstract double logBesselK(double x);
+
+    /**
+     * 第1種変形 Bessel 関数の比
+     * <i>I</i><sub><i>n</i>+1</sub>(<i>x</i>) / <i>I<sub>n</sub></i>(<i>x</i>)
+     * の値を返す.
+     * 
+     * <p>
+     * 比は連分数により直接計算され,
+     * <i>I<sub>n</sub></i>(<i>x</i>) の値がオーバーフローする <i>x</i> でも求まる. <br>
+     * <i>n</i> = 100 の場合でも, 次数 101 の関数は必要としない.
+     * </p>
+     *
+     * <ul>
+     * <li><i>x</i> &lt; 0 &rarr; NaN
+     * </li>
+     * <li><i>x</i> = 0 &rarr; 0</li>
+     * <li><i>x</i> &asymp; +&infin; &rarr; 1</li>
+     * </ul>
+     *
+     * @param x <i>x</i>, 引数
+     * @return <i>I</i><sub><i>n</i>+1</sub>(<i>x</i>) / <i>I<sub>n</sub></i>(<i>x</i>)
+     */
+    public abstract double besselIRatio(double x);
+
     /**
      * 指定したパラメータ (次数) がサポートされているかを判定する.
      * 
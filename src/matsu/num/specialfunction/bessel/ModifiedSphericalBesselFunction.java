@@ -122,6 +122,75 @@ public interface ModifiedSphericalBesselFunction {
      */
     public abstract double sbesselIc(double x);
 
+    /**
+     * 第1種変形球 Bessel 関数の対数
+     * log <i>i<sub>n</sub></i>(<i>x</i>)
+     * の値を返す.
+     * 
+     * <p>
+     * <i>i<sub>n</sub></i>(<i>x</i>) の値を経由せずに計算するため,
+     * <i>i<sub>n</sub></i>(<i>x</i>) がオーバーフローまたはアンダーフローする
+     * <i>x</i> (大きな <i>x</i>, 大きな次数での小さな <i>x</i>) でも有限の値が得られる.
+     * </p>
+     *
+     * <ul>
+     * <li><i>x</i> &lt; 0 &rarr; NaN
+     * </li>
+     * <li><i>x</i> = 0 &rarr; 0 (<i>n</i> = 0), -&infin; (<i>n</i> &ge; 1)</li>
+     * <li><i>x</i> = +&infin; &rarr; +&infin;</li>
+     * </ul>
+     *
+     * @param x <i>x</i>, 引数
+     * @return log <i>i</i><sub><i>n</i></sub>(<i>x</i>)
+     */
+    public abstract double logSbesselI(double x);
+
+    /**
+     * 第2種変形球 Bessel 関数の対数
+     * log <i>k<sub>n</sub></i>(<i>x</i>)
+     * の値を返す.
+     * 
+     * <p>
+     * <i>k<sub>n</sub></i>(<i>x</i>) の値を経由せずに計算するため,
+     * <i>k<sub>n</sub></i>(<i>x</i>) がオーバーフローまたはアンダーフローする
+     * <i>x</i> (大きな次数での小さな <i>x</i>, 大きな <i>x</i>) でも有限の値が得られる.
+     * </p>
+     *
+     * <ul>
+     * <li><i>x</i> &lt; 0 &rarr; NaN
+     * </li>
+     * <li><i>x</i> = 0 &rarr; +&infin;</li>
+     * <li><i>x</i> = +&infin; &rarr; -&infin;</li>
+     * </ul>
+     *
+     * @param x <i>x</i>, 引数
+     * @return log <i>k</i><sub><i>n</i></sub>(<i>x</i>)
+     */
+    public abstract double logSbesselK(double x);
+
+    /**
+     * 第1種変形球 Bessel 関数の比
+     * <i>i</i><sub><i>n</i>+1</sub>(<i>x</i>) / <i>i<sub>n</sub></i>(<i>x</i>)
+     * の値を返す.
+     * 
+     * <p>
+     * 比は連分数により直接計算され,
+     * <i>i<sub>n</sub></i>(<i>x</i>) の値がオーバーフローする <i>x</i> でも求まる. <br>
+     * <i>n</i> = 100 の場合でも, 次数 101 の関数は必要としない.
+     * </p>
+     *
+     * <ul>
+     * <li><i>x</i> &lt; 0 &rarr; NaN
+     * </li>
+     * <li><i>x</i> = 0 &rarr; 0</li>
+     * <li><i>x</i> &asymp; +&infin; &rarr; 1</li>
+     * </ul>
+     *
+     * @param x <i>x</i>, 引数
+     * @return <i>i</i><sub><i>n</i>+1</sub>(<i>x</i>) / <i>i<sub>n</sub></i>(<i>x</i>)
+     */
+    public abstract double sbesselIRatio(double x);
+
     /**
      * スケーリングした第2種変形球 Bessel 関数
      * <i>k<sub>n</sub></i>(<i>x</i>) exp(<i>x</i>)
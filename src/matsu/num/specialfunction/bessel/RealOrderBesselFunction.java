@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.9
+ */
+package matsu.num.specialfunction.bessel;
+
+import matsu.num.specialfunction.bessel.bessel.RealOrderBesselFunctionFactory;
+
+/**
+ * 実数次 (非整数次を含む) の Bessel 関数
+ * (<i>J</i><sub>&nu;</sub>(<i>x</i>), <i>Y</i><sub>&nu;</sub>(<i>x</i>))
+ * の計算
+ * (おおよそ倍精度). <br>
+ * 0 &le; <i>x</i>
+ * を扱う.
+ * 
+ * <p>
+ * 次数 &nu; を固定して多数の <i>x</i> について評価する用途を想定している. <br>
+ * 次数のみに依存する量 (ガンマ関数に由来する係数や漸近展開の位相など) はインスタンスの生成時に計算される.
+ * </p>
+ * 
+ * <p>
+ * サポートされている次数は
+ * 0 &le; &nu; &le; 100
+ * である.
+ * </p>
+ * 
+ * @implSpec
+ *               このインターフェースは実装を隠ぺいして型を公開するためのものである. <br>
+ *               モジュール外で継承・実装してはいけない.
+ * 
+ * @author Matsuura Y.
+ * @see <a href="https://en.wikipedia.org/wiki/Bessel_function" target=
+ *          "_brank">
+ *          Wikipedia: Bessel function</a>
+ */
+public interface RealOrderBesselFunction {
+
+    /**
+     * このインスタンスの扱う Bessel 関数の次数 (&nu;) を返す.
+     * 
+     * @return 次数 &nu;
+     */
+    public abstract double order();
+
+    /**
+     * 第1種 Bessel 関数 <i>J</i><sub>&nu;</sub>(<i>x</i>) の値を返す.
+     * 
+     * <ul>
+     * <li><i>x</i> &lt; 0 &rarr; NaN
+     * </li>
+     * <li><i>x</i> = 0 &rarr; 1 (&nu; = 0), 0 (&nu; &gt; 0)</li>
+     * <li><i>x</i> &asymp; +&infin; &rarr; 0</li>
+     * </ul>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return <i>J</i><sub>&nu;</sub>(<i>x</i>)
+     */
+    public abstract double besselJ(double x);
+
+    /**
+     * 第2種 Bessel 関数 <i>Y</i><sub>&nu;</sub>(<i>x</i>) の値を返す.
+     * 
+     * <ul>
+     * <li><i>x</i> &lt; 0 &rarr; NaN
+     * </li>
+     * <li><i>x</i> &asymp; 0 &rarr; -&infin;</li>
+     * <li><i>x</i> &asymp; +&infin; &rarr; 0</li>
+     * </ul>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return <i>Y</i><sub>&nu;</sub>(<i>x</i>)
+     */
+    public abstract double besselY(double x);
+
+    /**
+     * 指定したパラメータ (次数) がサポートされているかを判定する.
+     * 
+     * @param order 次数 &nu;
+     * @return パラメータが適合する場合はtrue
+     */
+    public static boolean acceptsParameter(double order) {
+        return 0d <= order && order <= 100d;
+    }
+
+    /**
+     * 指定した次数の実数次 Bessel 関数計算インスタンスを返す.
+     * 
+     * <p>
+     * パラメータの正当性は {@link #acceptsParameter(double)} により検証され,
+     * 不適の場合は例外がスローされる.
+     * </p>
+     * 
+     * @param order &nu;, 次数
+     * @return &nu; 次の Bessel 関数を計算するインスタンス
+     * @throws IllegalArgumentException 次数がサポート外の場合
+     */
+    public static RealOrderBesselFunction instanceOf(double order) {
+        return RealOrderBesselFunctionFactory.instanceOf(order);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.9
+ */
+package matsu.num.specialfunction.bessel;
+
+import matsu.num.specialfunction.bessel.modbessel.RealOrderModifiedBesselFunctionFactory;
+
+/**
+ * 実数次 (非整数次を含む) の変形 Bessel 関数
+ * (<i>I</i><sub>&nu;</sub>(<i>x</i>), <i>K</i><sub>&nu;</sub>(<i>x</i>))
+ * の計算
+ * (おおよそ倍精度). <br>
+ * 0 &le; <i>x</i>
+ * を扱う.
+ * 
+ * <p>
+ * Mat&eacute;rn 共分散関数のように, 次数 &nu; を固定して多数の <i>x</i> について評価する用途を想定している. <br>
+ * 次数のみに依存する量 (ガンマ関数に由来する係数など) はインスタンスの生成時に計算される.
+ * </p>
+ * 
+ * <p>
+ * {@link ModifiedBesselFunction} と同様に, スケーリングした変形 Bessel 関数
+ * <i>I</i><sub>&nu;</sub>(<i>x</i>) exp(-<i>x</i>) と
+ * <i>K</i><sub>&nu;</sub>(<i>x</i>) exp(<i>x</i>)
+ * を算出する機能を提供する.
+ * </p>
+ * 
+ * <p>
+ * サポートされている次数は
+ * 0 &le; &nu; &le; 100
+ * である.
+ * </p>
+ * 
+ * @implSpec
+ *               このインターフェースは実装を隠ぺいして型を公開するためのものである. <br>
+ *               モジュール外で継承・実装してはいけない.
+ * 
+ * @author Matsuura Y.
+ * @see <a href=
+ *          "https://en.wikipedia.org/wiki/Bessel_function#Modified_Bessel_functions"
+ *          target= "_brank">
+ *          Wikipedia: Bessel function#Modified Bessel functions</a>
+ */
+public interface RealOrderModifiedBesselFunction {
+
+    /**
+     * このインスタンスの扱う変形 Bessel 関数の次数 (&nu;) を返す.
+     * 
+     * @return 次数 &nu;
+     */
+    public abstract double order();
+
+    /**
+     * 第1種変形 Bessel 関数 <i>I</i><sub>&nu;</sub>(<i>x</i>) の値を返す.
+     * 
+     * <ul>
+     * <li><i>x</i> &lt; 0 &rarr; NaN
+     * </li>
+     * <li><i>x</i> = 0 &rarr; 1 (&nu; = 0), 0 (&nu; &gt; 0)</li>
+     * <li><i>x</i> &asymp; +&infin; &rarr; +&infin;</li>
+     * </ul>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return <i>I</i><sub>&nu;</sub>(<i>x</i>)
+     */
+    public abstract double besselI(double x);
+
+    /**
+     * 第2種変形 Bessel 関数 <i>K</i><sub>&nu;</sub>(<i>x</i>) の値を返す.
+     * 
+     * <ul>
+     * <li><i>x</i> &lt; 0 &rarr; NaN
+     * </li>
+     * <li><i>x</i> &asymp; 0 &rarr; +&infin;</li>
+     * <li><i>x</i> &asymp; +&infin; &rarr; 0</li>
+     * </ul>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return <i>K</i><sub>&nu;</sub>(<i>x</i>)
+     */
+    public abstract double besselK(double x);
+
+    /**
+     * スケーリングした第1種変形 Bessel 関数
+     * <i>I</i><sub>&nu;</sub>(<i>x</i>) exp(-<i>x</i>)
+     * の値を返す.
+     * 
+     * <ul>
+     * <li><i>x</i> &lt; 0 &rarr; NaN
+     * </li>
+     * <li><i>x</i> &asymp; +&infin; &rarr; 0</li>
+     * </ul>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return <i>I</i><sub>&nu;</sub>(<i>x</i>) exp(-<i>x</i>)
+     */
+    public abstract double besselIc(double x);
+
+    /**
+     * スケーリングした第2種変形 Bessel 関数
+     * <i>K</i><sub>&nu;</sub>(<i>x</i>) exp(<i>x</i>)
+     * の値を返す.
+     * 
+     * <ul>
+     * <li><i>x</i> &lt; 0 &rarr; NaN
+     * </li>
+     * <li><i>x</i> &asymp; 0 &rarr; +&infin;</li>
+     * <li><i>x</i> &asymp; +&infin; &rarr; 0</li>
+     * </ul>
+     * 
+     * @param x <i>x</i>, 引数
+     * @return <i>K</i><sub>&nu;</sub>(<i>x</i>) exp(<i>x</i>)
+     */
+    public abstract double besselKc(double x);
+
+    /**
+     * 指定したパラメータ (次数) がサポートされているかを判定する.
+     * 
+     * @param order 次数 &nu;
+     * @return パラメータが適合する場合はtrue
+     */
+    public static boolean acceptsParameter(double order) {
+        return 0d <= order && order <= 100d;
+    }
+
+    /**
+     * 指定した次数の実数次変形 Bessel 関数計算インスタンスを返す.
+     * 
+     * <p>
+     * パラメータの正当性は {@link #acceptsParameter(double)} により検証され,
+     * 不適の場合は例外がスローされる.
+     * </p>
+     * 
+     * @param order &nu;, 次数
+     * @return &nu; 次の変形 Bessel 関数を計算するインスタンス
+     * @throws IllegalArgumentException 次数がサポート外の場合
+     */
+    public static RealOrderModifiedBesselFunction instanceOf(double order) {
+        return RealOrderModifiedBesselFunctionFactory.instanceOf(order);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.7
+ */
+package matsu.num.specialfunction.bessel.basecomponent;
+
+import matsu.num.specialfunction.common.Instrumentation;
+import matsu.num.specialfunction.common.IterativeLoop;
+
+/**
+ * 第1種変形 Bessel 関数の比
+ * <i>I</i><sub>&nu;+1</sub>(<i>x</i>) / <i>I</i><sub>&nu;</sub>(<i>x</i>)
+ * を連分数により直接計算する.
+ * 
+ * <p>
+ * 比は <i>I</i><sub>&nu;</sub> の値を経由しないため,
+ * <i>x</i> が大きくてもオーバーフローしない. <br>
+ * <i>x</i> が次数に比べて小さい場合は Gauss の連分数 <br>
+ * <i>x</i> / (2(&nu; + 1) + <i>x</i><sup>2</sup> /
+ * (2(&nu; + 2) + <i>x</i><sup>2</sup> / (2(&nu; + 3) + ...))) <br>
+ * を, それ以外は Perron の連分数 (<i>v</i> = &nu; + 1) <br>
+ * <i>x</i> / (2<i>v</i> + <i>x</i> - (2<i>v</i> + 1)<i>x</i> /
+ * (2<i>v</i> + 1 + 2<i>x</i> - (2<i>v</i> + 3)<i>x</i> /
+ * (2<i>v</i> + 2 + 2<i>x</i> - ...))) <br>
+ * を用いる. <br>
+ * Gauss の連分数は <i>x</i> が大きいと収束に <i>O</i>(<i>x</i>) 項を要するが,
+ * Perron の連分数は <i>x</i> によらず数十項以内で収束する.
+ * </p>
+ * 
+ * <p>
+ * Gauss の連分数は (各項が正であり桁落ちが生じないため) 前方からの漸化式により収束判定を伴って評価し,
+ * Perron の連分数は打ち切り項数を事前に定めて末尾から評価する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class ModifiedBesselRatio {
+
+    /*
+     * x^2 < GAUSS_THRESHOLD * (nu + 1) の場合に Gauss の連分数を用いる.
+     * 反復回数がおおよそ同程度になる境界である.
+     */
+    private static final double GAUSS_THRESHOLD = 100;
+
+    /*
+     * Perron の連分数の打ち切り項数は, r = x/(nu + 1) として
+     * PERRON_MIN_TERMS + PERRON_TERMS_R / (r + 4) + PERRON_TERMS_TIMES_X / x とする.
+     * x^2 >= GAUSS_THRESHOLD * (nu + 1) の範囲において,
+     * 相対的な打ち切り誤差が 2E-17 未満となる項数は,
+     * r が 1 程度で最大 (22 程度) となり, r が大きくなるにつれて減少する.
+     * ただし nu が小さい場合は x = 15 付近で 50 程度を要する.
+     * これらを 1 項以上の余裕を持って上から抑える.
+     */
+    private static final int PERRON_MIN_TERMS = 8;
+    private static final double PERRON_TERMS_R = 80;
+    private static final double PERRON_TERMS_TIMES_X = 600;
+
+    private static final int MIN_ROOP = 4;
+    private static final int MAX_ROOP = 2000;
+    private static final int CHECK_INTERVAL = 2;
+
+    private static final double EPSILON_R = 1E-16;
+
+    private static final double MIN_LIMIT_ABS_B = 1E-200;
+    private static final double MAX_LIMIT_ABS_B = 1E+200;
+
+    private ModifiedBesselRatio() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 比
+     * <i>I</i><sub>&nu;+1</sub>(<i>x</i>) / <i>I</i><sub>&nu;</sub>(<i>x</i>)
+     * を返す.
+     * 
+     * <ul>
+     * <li><i>x</i> = 0 &rarr; 0</li>
+     * <li><i>x</i> = +&infin; &rarr; 1</li>
+     * <li><i>x</i> &lt; 0 または NaN &rarr; NaN</li>
+     * </ul>
+     * 
+     * @param nu &nu;, 0以上の有限値 (検証されない)
+     * @param x <i>x</i>
+     * @return <i>I</i><sub>&nu;+1</sub>(<i>x</i>) / <i>I</i><sub>&nu;</sub>(<i>x</i>)
+     */
+    public static double ratio(double nu, double x) {
+        if (!(x > 0)) {
+            return x == 0 ? 0d : Double.NaN;
+        }
+        if (x == Double.POSITIVE_INFINITY) {
+            return 1d;
+        }
+        return x * x < GAUSS_THRESHOLD * (nu + 1)
+                ? gauss(nu, x)
+                : perron(nu, x);
+    }
+
+    /**
+     * Gauss の連分数を評価する.
+     */
+    private static double gauss(double nu, double x) {
+        final double xx = x * x;
+        final double twoNu = 2 * nu;
+
+        // 第0近似分数と第1近似分数: 0/1, x/(2(nu + 1))
+        double a0 = 0;
+        double b0 = 1;
+        double a1 = x;
+        double b1 = twoNu + 2;
+        int n = 1;
+        while (n < MAX_ROOP) {
+            for (int i = 0; i < CHECK_INTERVAL; i++) {
+                double absB = Math.abs(b1);
+                if (absB > MAX_LIMIT_ABS_B) {
+                    a0 *= MIN_LIMIT_ABS_B;
+                    a1 *= MIN_LIMIT_ABS_B;
+                    b0 *= MIN_LIMIT_ABS_B;
+                    b1 *= MIN_LIMIT_ABS_B;
+                }
+
+                n++;
+                double b = twoNu + 2 * n;
+                double a2 = b * a1 + xx * a0;
+                double b2 = b * b1 + xx * b0;
+                a0 = a1;
+                b0 = b1;
+                a1 = a2;
+                b1 = b2;
+            }
+            if (n < MIN_ROOP) {
+                continue;
+            }
+            double f0 = a0 / b0;
+            double f1 = a1 / b1;
+            if (Math.abs(f1 - f0) <= Math.abs(f1) * EPSILON_R) {
+                Instrumentation.iterations(IterativeLoop.BESSEL_I_RATIO, n, true);
+                return f1;
+            }
+        }
+        Instrumentation.iterations(IterativeLoop.BESSEL_I_RATIO, n, false);
+        return a1 / b1;
+    }
+
+    /**
+     * Perron の連分数を評価する.
+     * 
+     * <p>
+     * 部分分子が負であるため, 前方からの漸化式では桁落ちにより
+     * 相対誤差が 3E-15 程度まで蓄積する. <br>
+     * そこで, 打ち切り項数を事前に定めて末尾から評価する. <br>
+     * 値は, 各段の部分分数を分子・分母の組で保持して除算を避け,
+     * 全体を 1/<i>x</i> でスケーリングする
+     * (<i>x</i> が極端に大きくてもオーバーフローしない).
+     * </p>
+     */
+    private static double perron(double nu, double x) {
+        final double invX = 1 / x;
+        final double nuPlus1 = nu + 1;
+        final double twoV = 2 * nuPlus1;
+        final int terms = PERRON_MIN_TERMS
+                + (int) Math.ceil(PERRON_TERMS_R * nuPlus1 / (x + 4 * nuPlus1))
+                + (int) Math.ceil(PERRON_TERMS_TIMES_X * invX);
+        Instrumentation.iterations(IterativeLoop.BESSEL_I_RATIO, terms, true);
+
+        // 末尾からの部分分数 u = num/den (u = t/x)
+        double num = 0;
+        double den = 1;
+        for (int k = terms; k >= 1; k--) {
+            if (Math.abs(den) > MAX_LIMIT_ABS_B) {
+                num *= MIN_LIMIT_ABS_B;
+                den *= MIN_LIMIT_ABS_B;
+            }
+            double p = -(twoV + (2 * k - 1)) * invX;
+            double q = (twoV + k) * invX + 2;
+            double nextDen = q * den + num;
+            num = p * den;
+            den = nextDen;
+        }
+        return den / ((twoV * invX + 1) * den + num);
+    }
+}
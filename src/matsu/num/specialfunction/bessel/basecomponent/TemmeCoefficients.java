@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.9
+ */
+package matsu.num.specialfunction.bessel.basecomponent;
+
+import matsu.num.specialfunction.common.Trigonometry;
+
+/**
+ * 実数次の Bessel 関数の計算 (Temme の方法) で用いる,
+ * 次数の小数部分 &mu; (|&mu;| &le; 1/2) のみに依存する係数を扱う.
+ * 
+ * <p>
+ * 扱う係数は次である. <br>
+ * &Gamma;<sub>1</sub>(&mu;) =
+ * (1/&Gamma;(1 - &mu;) - 1/&Gamma;(1 + &mu;)) / (2&mu;), <br>
+ * &Gamma;<sub>2</sub>(&mu;) =
+ * (1/&Gamma;(1 - &mu;) + 1/&Gamma;(1 + &mu;)) / 2, <br>
+ * 1/&Gamma;(1 + &mu;), 1/&Gamma;(1 - &mu;),
+ * &pi;&mu; / sin(&pi;&mu;). <br>
+ * &Gamma;<sub>1</sub>, &Gamma;<sub>2</sub> は,
+ * 1/&Gamma;(1 + <i>z</i>) のべき級数 (Abramowitz&ndash;Stegun 6.1.34)
+ * の奇数次・偶数次の部分から直接計算するため, &mu; &rarr; 0 でも桁落ちしない.
+ * </p>
+ * 
+ * <p>
+ * このクラスのインスタンスはイミュータブルである.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class TemmeCoefficients {
+
+    /**
+     * 1/&Gamma;(1 + <i>z</i>) = &Sigma; <i>c<sub>k</sub></i> <i>z<sup>k</sup></i>
+     * の係数 <i>c<sub>k</sub></i>.
+     * |<i>z</i>| &le; 1/2 で倍精度を得るのに十分な項数である (偶奇の対で扱うため, 長さは偶数).
+     */
+    private static final double[] COEFF_INV_GAMMA = {
+            1d,
+            0.5772156649015329,
+            -0.6558780715202538,
+            -0.0420026350340952,
+            0.1665386113822915,
+            -0.0421977345555443,
+            -0.0096219715278770,
+            0.0072189432466630,
+            -0.0011651675918591,
+            -0.0002152416741149,
+            0.0001280502823882,
+            -0.0000201348547807,
+            -0.0000012504934821,
+            0.0000011330272320,
+            -0.0000002056338417,
+            0.0000000061160950,
+            0.0000000050020075,
+            -0.0000000011812746,
+            0.0000000001043427,
+            0.0000000000077823,
+            -0.0000000000036968,
+            0.0000000000005100,
+            -0.0000000000000206,
+            -0.0000000000000054,
+            0.0000000000000014,
+            0.0000000000000001
+    };
+
+    private final double mu;
+    private final double gamma1;
+    private final double gamma2;
+    private final double invGammaOnePlusMu;
+    private final double invGammaOneMinusMu;
+    private final double piMuOverSinPiMu;
+
+    /**
+     * 与えた &mu; に対する係数を計算する.
+     * 
+     * @param mu &mu;
+     * @throws IllegalArgumentException |&mu;| &le; 1/2 でない場合
+     */
+    public TemmeCoefficients(double mu) {
+        super();
+        if (!(Math.abs(mu) <= 0.5)) {
+            throw new IllegalArgumentException("Illegal parameter: mu = %s".formatted(mu));
+        }
+        this.mu = mu;
+
+        final double mu2 = mu * mu;
+        double even = 0;
+        double odd = 0;
+        for (int k = COEFF_INV_GAMMA.length - 2; k >= 0; k -= 2) {
+            even = even * mu2 + COEFF_INV_GAMMA[k];
+            odd = odd * mu2 + COEFF_INV_GAMMA[k + 1];
+        }
+        this.gamma1 = -odd;
+        this.gamma2 = even;
+        this.invGammaOnePlusMu = even + mu * odd;
+        this.invGammaOneMinusMu = even - mu * odd;
+
+        final double piMu = Math.PI * mu;
+        this.piMuOverSinPiMu = mu == 0 ? 1d : piMu / Trigonometry.sin(piMu);
+    }
+
+    /**
+     * &mu; を返す.
+     * 
+     * @return &mu;
+     */
+    public double mu() {
+        return this.mu;
+    }
+
+    /**
+     * &Gamma;<sub>1</sub>(&mu;) =
+     * (1/&Gamma;(1 - &mu;) - 1/&Gamma;(1 + &mu;)) / (2&mu;)
+     * を返す.
+     * 
+     * @return &Gamma;<sub>1</sub>(&mu;)
+     */
+    public double gamma1() {
+        return this.gamma1;
+    }
+
+    /**
+     * &Gamma;<sub>2</sub>(&mu;) =
+     * (1/&Gamma;(1 - &mu;) + 1/&Gamma;(1 + &mu;)) / 2
+     * を返す.
+     * 
+     * @return &Gamma;<sub>2</sub>(&mu;)
+     */
+    public double gamma2() {
+        return this.gamma2;
+    }
+
+    /**
+     * 1/&Gamma;(1 + &mu;) を返す.
+     * 
+     * @return 1/&Gamma;(1 + &mu;)
+     */
+    public double invGammaOnePlusMu() {
+        return this.invGammaOnePlusMu;
+    }
+
+    /**
+     * 1/&Gamma;(1 - &mu;) を返す.
+     * 
+     * @return 1/&Gamma;(1 - &mu;)
+     */
+    public double invGammaOneMinusMu() {
+        return this.invGammaOneMinusMu;
+    }
+
+    /**
+     * &pi;&mu; / sin(&pi;&mu;) を返す (&mu; = 0 では 1).
+     * 
+     * @return &pi;&mu; / sin(&pi;&mu;)
+     */
+    public double piMuOverSinPiMu() {
+        return this.piMuOverSinPiMu;
+    }
+
+    /**
+     * 1/&Gamma;(1 + &mu; + <i>n</i>) を返す.
+     * 
+     * <p>
+     * 1/&Gamma;(1 + &mu;) から漸化式により計算するため,
+     * 計算量は <i>O</i>(<i>n</i>) である.
+     * </p>
+     * 
+     * @param n <i>n</i>, 0以上
+     * @return 1/&Gamma;(1 + &mu; + <i>n</i>)
+     */
+    public double invGammaOnePlusMuPlus(int n) {
+        double value = this.invGammaOnePlusMu;
+        for (int k = 1; k <= n; k++) {
+            value /= this.mu + k;
+        }
+        return value;
+    }
+}
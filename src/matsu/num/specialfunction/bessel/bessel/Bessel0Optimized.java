@@ -10,7 +10,10 @@
 package matsu.num.specialfunction.bessel.bessel;
 
 import matsu.num.specialfunction.GammaFunction;
+import matsu.num.specialfunction.common.AlgorithmBranch;
 import matsu.num.specialfunction.common.Exponentiation;
+import matsu.num.specialfunction.common.Instrumentation;
+import matsu.num.specialfunction.common.SinCos;
 import matsu.num.specialfunction.common.Trigonometry;
 
 /**
@@ -46,9 +49,11 @@ final class Bessel0Optimized extends Bessel0th {
         }
 
         if (x < BOUNDARY_X_SELECTING_POWER_OR_ASYMPTOTIC) {
+            Instrumentation.branch(AlgorithmBranch.BESSEL_POWER_SERIES);
             return bJ_byPower(x);
         }
 
+        Instrumentation.branch(AlgorithmBranch.BESSEL_ASYMPTOTIC);
         return bJ_byAsymptotic(x);
     }
 
@@ -88,8 +93,9 @@ final class Bessel0Optimized extends Bessel0th {
 
         double t = 0.125 / x;
 
-        double cos = Trigonometry.cos(x - Math.PI / 4);
-        double sin = Trigonometry.sin(x - Math.PI / 4);
+        SinCos sincos = Trigonometry.sincos(x - Math.PI / 4);
+        double cos = sincos.cos();
+        double sin = sincos.sin();
 
         if (!(Double.isFinite(sin) && Double.isFinite(cos))) {
             return 0d;
@@ -106,9 +112,11 @@ final class Bessel0Optimized extends Bessel0th {
         }
 
         if (x < BOUNDARY_X_SELECTING_POWER_OR_ASYMPTOTIC) {
+            Instrumentation.branch(AlgorithmBranch.BESSEL_POWER_SERIES);
             return bY_byPower(x);
         }
 
+        Instrumentation.branch(AlgorithmBranch.BESSEL_ASYMPTOTIC);
         return bY_byAsymptotic(x);
     }
 
@@ -161,8 +169,9 @@ final class Bessel0Optimized extends Bessel0th {
 
         double t = 0.125 / x;
 
-        double cos = Trigonometry.cos(x - Math.PI / 4);
-        double sin = Trigonometry.sin(x - Math.PI / 4);
+        SinCos sincos = Trigonometry.sincos(x - Math.PI / 4);
+        double cos = sincos.cos();
+        double sin = sincos.sin();
 
         if (!(Double.isFinite(sin) && Double.isFinite(cos))) {
             return 0d;
@@ -450,4 +459,257 @@ final class Bessel0Optimized extends Bessel0th {
 
         return v0 + t4 * (v4 + t4 * v8);
     }
+
+    @Override
+    public float besselJFloat(float x) {
+        if (!(x >= 0)) {
+            return Float.NaN;
+        }
+
+        if (x < BOUNDARY_X_SELECTING_POWER_OR_ASYMPTOTIC) {
+            return (float) bJ_byPower_forFloat(x);
+        }
+
+        return (float) bJ_byAsymptotic_forFloat(x);
+    }
+
+    /**
+     * べき級数のminimax近似による J(x) (単精度向け)
+     */
+    private static double bJ_byPower_forFloat(double x) {
+        final double halfX = x / 2d;
+        final double u = halfX * halfX;
+
+        final double C0 = 0.99999999911410857691413046045951;
+        final double C1 = -0.99999993619746946532569617738129;
+        final double C2 = 0.24999925453020224877225213918186;
+        final double C3 = -0.027774587314406667334940603371649;
+        final double C4 = 0.0017299218477974969995300361590828;
+        final double C5 = -0.000063873706832064863233799001881888;
+
+        final double u2 = u * u;
+
+        final double v0 = C0 + u * C1 + u2 * (C2 + u * C3);
+        final double v4 = C4 + u * C5;
+
+        final double u4 = u2 * u2;
+        return v0 + u4 * v4;
+    }
+
+    /**
+     * 漸近級数のminimax近似による J(x) (単精度向け)
+     */
+    private static double bJ_byAsymptotic_forFloat(double x) {
+
+        double t = 0.125 / x;
+
+        SinCos sincos = Trigonometry.sincos(x - Math.PI / 4);
+        double cos = sincos.cos();
+        double sin = sincos.sin();
+
+        if (!(Double.isFinite(sin) && Double.isFinite(cos))) {
+            return 0d;
+        }
+        return Exponentiation.sqrt((2 / Math.PI) / x)
+                * (p0_asymptoticTerm_forFloat(t) * cos
+                        + q0_asymptoticTerm_forFloat(t) * sin);
+    }
+
+    /**
+     * {@literal 0 <= t <= 1/16}について,
+     * p0(1/8t)を単精度向けの精度で計算する.
+     */
+    private static double p0_asymptoticTerm_forFloat(double t) {
+        assert t <= 1d / 16;
+
+        switch ((int) (t * 64)) {
+            case 0:
+                return p0_asymptoticTerm_0_to_1_over64_forFloat(t);
+            case 1:
+                return p0_asymptoticTerm_1_to_2_over64_forFloat(t);
+            case 2:
+                return p0_asymptoticTerm_2_to_3_over64_forFloat(t);
+            default:
+                return p0_asymptoticTerm_3_to_4_over64_forFloat(t);
+        }
+    }
+
+    private static double p0_asymptoticTerm_0_to_1_over64_forFloat(double t) {
+        assert t >= 0;
+        assert t <= 1d / 64;
+
+        final double u = t * t;
+
+        final double C0 = 0.99999999820077603312415613724833;
+        final double C1 = -4.4997624675512420431456003394789;
+        final double C2 = 454.31941842693186526204179105340;
+        final double C3 = -113529.64255800739412163076113775;
+
+        final double u2 = u * u;
+
+        final double v0 = C0 + u * C1 + u2 * (C2 + u * C3);
+        return v0;
+    }
+
+    private static double p0_asymptoticTerm_1_to_2_over64_forFloat(double t) {
+        assert t >= 1d / 64;
+        assert t <= 2d / 64;
+
+        final double s = t - 0.0234375;
+
+        final double C0 = 0.99764784394854311155853565651341;
+        final double C1 = -0.19175134478420723339283858850187;
+        final double C2 = -3.4119363699554499538199178474299;
+        final double C3 = 22.770293417836114542281369744763;
+        final double C4 = 13.854812134474615451555529371246;
+
+        final double s2 = s * s;
+
+        final double v0 = C0 + s * C1 + s2 * (C2 + s * C3);
+        final double v4 = C4;
+
+        final double s4 = s2 * s2;
+        return v0 + s4 * v4;
+    }
+
+    private static double p0_asymptoticTerm_2_to_3_over64_forFloat(double t) {
+        assert t >= 2d / 64;
+        assert t <= 3d / 64;
+
+        final double s = t - 0.0390625;
+
+        final double C0 = 0.99390510287149125279171357760788;
+        final double C1 = -0.28195398051702683466023457602426;
+        final double C2 = -2.3866614632253502966369535516570;
+        final double C3 = 19.823517058637137476460720661423;
+        final double C4 = -81.205607216443279002543913274199;
+
+        final double s2 = s * s;
+
+        final double v0 = C0 + s * C1 + s2 * (C2 + s * C3);
+        final double v4 = C4;
+
+        final double s4 = s2 * s2;
+        return v0 + s4 * v4;
+    }
+
+    private static double p0_asymptoticTerm_3_to_4_over64_forFloat(double t) {
+        assert t >= 3d / 64;
+        assert t <= 4d / 64;
+
+        final double s = t - 0.0546875;
+
+        final double C0 = 0.98898756434904100398597392995725;
+        final double C1 = -0.34329191391780471624693382113897;
+        final double C2 = -1.5802420728835574524666251582645;
+        final double C3 = 14.616929974315482057663497979669;
+        final double C4 = -79.199653460159945704519365198605;
+
+        final double s2 = s * s;
+
+        final double v0 = C0 + s * C1 + s2 * (C2 + s * C3);
+        final double v4 = C4;
+
+        final double s4 = s2 * s2;
+        return v0 + s4 * v4;
+    }
+
+    /**
+     * {@literal 0 <= t <= 1/16}について,
+     * q0(1/8t)を単精度向けの精度で計算する.
+     */
+    private static double q0_asymptoticTerm_forFloat(double t) {
+        assert t <= 1d / 16;
+
+        switch ((int) (t * 64)) {
+            case 0:
+                return q0_asymptoticTerm_0_to_1_over64_forFloat(t);
+            case 1:
+                return q0_asymptoticTerm_1_to_2_over64_forFloat(t);
+            case 2:
+                return q0_asymptoticTerm_2_to_3_over64_forFloat(t);
+            default:
+                return q0_asymptoticTerm_3_to_4_over64_forFloat(t);
+        }
+    }
+
+    private static double q0_asymptoticTerm_0_to_1_over64_forFloat(double t) {
+        assert t >= 0;
+        assert t <= 1d / 64;
+
+        final double u = t * t;
+
+        final double C0 = 0.99999994760413327163247496427596;
+        final double C1 = -37.493071129943902935197510824295;
+        final double C2 = 7293.0964408575287659106531378687;
+        final double C3 = -2523459.1826710236175010079784591;
+
+        final double u2 = u * u;
+
+        final double v0 = C0 + u * C1 + u2 * (C2 + u * C3);
+        return t * (v0);
+    }
+
+    private static double q0_asymptoticTerm_1_to_2_over64_forFloat(double t) {
+        assert t >= 1d / 64;
+        assert t <= 2d / 64;
+
+        final double s = t - 0.0234375;
+
+        final double C0 = 0.022997436167564753312086978098705;
+        final double C1 = 0.94670215134401191700140188798235;
+        final double C2 = -1.9909679326588754878261620872933;
+        final double C3 = -15.544706638899606619966275401432;
+        final double C4 = 260.91195762315080011393102478836;
+
+        final double s2 = s * s;
+
+        final double v0 = C0 + s * C1 + s2 * (C2 + s * C3);
+        final double v4 = C4;
+
+        final double s4 = s2 * s2;
+        return v0 + s4 * v4;
+    }
+
+    private static double q0_asymptoticTerm_2_to_3_over64_forFloat(double t) {
+        assert t >= 2d / 64;
+        assert t <= 3d / 64;
+
+        final double s = t - 0.0390625;
+
+        final double C0 = 0.037258699422863729433519353051452;
+        final double C1 = 0.87666208532318171990971041833440;
+        final double C2 = -2.3970514463352750371948288267215;
+        final double C3 = -3.3911799667733422180278614893479;
+        final double C4 = 132.10686954586136517599068924031;
+
+        final double s2 = s * s;
+
+        final double v0 = C0 + s * C1 + s2 * (C2 + s * C3);
+        final double v4 = C4;
+
+        final double s4 = s2 * s2;
+        return v0 + s4 * v4;
+    }
+
+    private static double q0_asymptoticTerm_3_to_4_over64_forFloat(double t) {
+        assert t >= 3d / 64;
+        assert t <= 4d / 64;
+
+        final double s = t - 0.0546875;
+
+        final double C0 = 0.050365445785860753213913909576149;
+        final double C1 = 0.80098977970562060497643196217000;
+        final double C2 = -2.4035421139408186139689613347427;
+        final double C3 = 2.1460044737308247664020331585948;
+        final double C4 = 53.600442162918817551451858520636;
+
+        final double s2 = s * s;
+
+        final double v0 = C0 + s * C1 + s2 * (C2 + s * C3);
+        final double v4 = C4;
+
+        final double s4 = s2 * s2;
+        return v0 + s4 * v4;
+    }
 }
@@ -10,7 +10,10 @@
 package matsu.num.specialfunction.bessel.bessel;
 
 import matsu.num.specialfunction.GammaFunction;
+import matsu.num.specialfunction.common.AlgorithmBranch;
 import matsu.num.specialfunction.common.Exponentiation;
+import matsu.num.specialfunction.common.Instrumentation;
+import matsu.num.specialfunction.common.SinCos;
 import matsu.num.specialfunction.common.Trigonometry;
 
 /**
@@ -46,9 +49,11 @@ final class Bessel1Optimized extends Bessel1st {
         }
 
         if (x < BOUNDARY_X_SELECTING_POWER_OR_ASYMPTOTIC) {
+            Instrumentation.branch(AlgorithmBranch.BESSEL_POWER_SERIES);
             return bJ_byPower(x);
         }
 
+        Instrumentation.branch(AlgorithmBranch.BESSEL_ASYMPTOTIC);
         return bJ_byAsymptotic(x);
     }
 
@@ -88,8 +93,9 @@ final class Bessel1Optimized extends Bessel1st {
 
         double t = 0.125 / x;
 
-        double cos = Trigonometry.cos(x - 3 * Math.PI / 4);
-        double sin = Trigonometry.sin(x - 3 * Math.PI / 4);
+        SinCos sincos = Trigonometry.sincos(x - 3 * Math.PI / 4);
+        double cos = sincos.cos();
+        double sin = sincos.sin();
 
         if (!(Double.isFinite(sin) && Double.isFinite(cos))) {
             return 0d;
@@ -106,9 +112,11 @@ final class Bessel1Optimized extends Bessel1st {
         }
 
         if (x < BOUNDARY_X_SELECTING_POWER_OR_ASYMPTOTIC) {
+            Instrumentation.branch(AlgorithmBranch.BESSEL_POWER_SERIES);
             return bY_byPower(x);
         }
 
+        Instrumentation.branch(AlgorithmBranch.BESSEL_ASYMPTOTIC);
         return bY_byAsymptotic(x);
     }
 
@@ -162,8 +170,9 @@ final class Bessel1Optimized extends Bessel1st {
 
         double t = 0.125 / x;
 
-        double cos = Trigonometry.cos(x - 3 * Math.PI / 4);
-        double sin = Trigonometry.sin(x - 3 * Math.PI / 4);
+        SinCos sincos = Trigonometry.sincos(x - 3 * Math.PI / 4);
+        double cos = sincos.cos();
+        double sin = sincos.sin();
 
         if (!(Double.isFinite(sin) && Double.isFinite(cos))) {
             return 0d;
@@ -449,4 +458,257 @@ final class Bessel1Optimized extends Bessel1st {
 
         return v0 + t4 * (v4 + t4 * v8);
     }
+
+    @Override
+    public float besselJFloat(float x) {
+        if (!(x >= 0)) {
+            return Float.NaN;
+        }
+
+        if (x < BOUNDARY_X_SELECTING_POWER_OR_ASYMPTOTIC) {
+            return (float) bJ_byPower_forFloat(x);
+        }
+
+        return (float) bJ_byAsymptotic_forFloat(x);
+    }
+
+    /**
+     * べき級数のminimax近似による J(x) (単精度向け)
+     */
+    private static double bJ_byPower_forFloat(double x) {
+        final double halfX = x / 2d;
+        final double u = halfX * halfX;
+
+        final double C0 = 0.99999999987246656270671636258056;
+        final double C1 = -0.49999999081528889476704995016111;
+        final double C2 = 0.083333226039291675950457139664227;
+        final double C3 = -0.0069439854263914407189918041570289;
+        final double C4 = 0.00034633242395456422328406013642789;
+        final double C5 = -0.000010774462419659873839618056195855;
+
+        final double u2 = u * u;
+
+        final double v0 = C0 + u * C1 + u2 * (C2 + u * C3);
+        final double v4 = C4 + u * C5;
+
+        final double u4 = u2 * u2;
+        return (v0 + u4 * v4) * halfX;
+    }
+
+    /**
+     * 漸近級数のminimax近似による J(x) (単精度向け)
+     */
+    private static double bJ_byAsymptotic_forFloat(double x) {
+
+        double t = 0.125 / x;
+
+        SinCos sincos = Trigonometry.sincos(x - 3 * Math.PI / 4);
+        double cos = sincos.cos();
+        double sin = sincos.sin();
+
+        if (!(Double.isFinite(sin) && Double.isFinite(cos))) {
+            return 0d;
+        }
+        return Exponentiation.sqrt((2 / Math.PI) / x)
+                * (p1_asymptoticTerm_forFloat(t) * cos
+                        + q1_asymptoticTerm_forFloat(t) * sin);
+    }
+
+    /**
+     * {@literal 0 <= t <= 1/16}について,
+     * p1(1/8t)を単精度向けの精度で計算する.
+     */
+    private static double p1_asymptoticTerm_forFloat(double t) {
+        assert t <= 1d / 16;
+
+        switch ((int) (t * 64)) {
+            case 0:
+                return p1_asymptoticTerm_0_to_1_over64_forFloat(t);
+            case 1:
+                return p1_asymptoticTerm_1_to_2_over64_forFloat(t);
+            case 2:
+                return p1_asymptoticTerm_2_to_3_over64_forFloat(t);
+            default:
+                return p1_asymptoticTerm_3_to_4_over64_forFloat(t);
+        }
+    }
+
+    private static double p1_asymptoticTerm_0_to_1_over64_forFloat(double t) {
+        assert t >= 0;
+        assert t <= 1d / 64;
+
+        final double u = t * t;
+
+        final double C0 = 1.0000000020606849687013722611278;
+        final double C1 = 7.4997279991610462572270516239512;
+        final double C2 = -584.84135027361178872025163308905;
+        final double C3 = 135653.72106553778592544390961978;
+
+        final double u2 = u * u;
+
+        final double v0 = C0 + u * C1 + u2 * (C2 + u * C3);
+        return v0;
+    }
+
+    private static double p1_asymptoticTerm_1_to_2_over64_forFloat(double t) {
+        assert t >= 1d / 64;
+        assert t <= 2d / 64;
+
+        final double s = t - 0.0234375;
+
+        final double C0 = 1.0039641574120563571881348252646;
+        final double C1 = 0.32649845046377255846933861751351;
+        final double C2 = 6.0653908454005880369865247465680;
+        final double C3 = -30.792510593201806313508308636023;
+        final double C4 = -43.821477016969313979507562911579;
+
+        final double s2 = s * s;
+
+        final double v0 = C0 + s * C1 + s2 * (C2 + s * C3);
+        final double v4 = C4;
+
+        final double s4 = s2 * s2;
+        return v0 + s4 * v4;
+    }
+
+    private static double p1_asymptoticTerm_2_to_3_over64_forFloat(double t) {
+        assert t >= 2d / 64;
+        assert t <= 3d / 64;
+
+        final double s = t - 0.0390625;
+
+        final double C0 = 1.0104281965856682923288190067979;
+        final double C1 = 0.49344927645439578960395239977677;
+        final double C2 = 4.6421094979636601708786854242010;
+        final double C3 = -28.307274291959878666888655415045;
+        final double C4 = 89.960690155510065258333096015079;
+
+        final double s2 = s * s;
+
+        final double v0 = C0 + s * C1 + s2 * (C2 + s * C3);
+        final double v4 = C4;
+
+        final double s4 = s2 * s2;
+        return v0 + s4 * v4;
+    }
+
+    private static double p1_asymptoticTerm_3_to_4_over64_forFloat(double t) {
+        assert t >= 3d / 64;
+        assert t <= 4d / 64;
+
+        final double s = t - 0.0546875;
+
+        final double C0 = 1.0191692928719935373749194695847;
+        final double C1 = 0.61923909510758720367102869138361;
+        final double C2 = 3.4574371045563491288187093380066;
+        final double C3 = -22.144575451414062701714040111708;
+        final double C4 = 98.427088501195771511763613017738;
+
+        final double s2 = s * s;
+
+        final double v0 = C0 + s * C1 + s2 * (C2 + s * C3);
+        final double v4 = C4;
+
+        final double s4 = s2 * s2;
+        return v0 + s4 * v4;
+    }
+
+    /**
+     * {@literal 0 <= t <= 1/16}について,
+     * q1(1/8t)を単精度向けの精度で計算する.
+     */
+    private static double q1_asymptoticTerm_forFloat(double t) {
+        assert t <= 1d / 16;
+
+        switch ((int) (t * 64)) {
+            case 0:
+                return q1_asymptoticTerm_0_to_1_over64_forFloat(t);
+            case 1:
+                return q1_asymptoticTerm_1_to_2_over64_forFloat(t);
+            case 2:
+                return q1_asymptoticTerm_2_to_3_over64_forFloat(t);
+            default:
+                return q1_asymptoticTerm_3_to_4_over64_forFloat(t);
+        }
+    }
+
+    private static double q1_asymptoticTerm_0_to_1_over64_forFloat(double t) {
+        assert t >= 0;
+        assert t <= 1d / 64;
+
+        final double u = t * t;
+
+        final double C0 = -2.9999999408376260598238478944460;
+        final double C1 = 52.492177747683290903887018380699;
+        final double C2 = -8927.8241036458846719205639717686;
+        final double C3 = 2943231.5092684552125607166300345;
+
+        final double u2 = u * u;
+
+        final double v0 = C0 + u * C1 + u2 * (C2 + u * C3);
+        return t * (v0);
+    }
+
+    private static double q1_asymptoticTerm_1_to_2_over64_forFloat(double t) {
+        assert t >= 1d / 64;
+        assert t <= 2d / 64;
+
+        final double s = t - 0.0234375;
+
+        final double C0 = -0.069689378941038632175875022767286;
+        final double C1 = -2.9240210922146904247778321600533;
+        final double C2 = 2.8860890300352483608887204141074;
+        final double C3 = 24.779299058203905673047461357765;
+        final double C4 = -341.87455170631758713282317567659;
+
+        final double s2 = s * s;
+
+        final double v0 = C0 + s * C1 + s2 * (C2 + s * C3);
+        final double v4 = C4;
+
+        final double s4 = s2 * s2;
+        return v0 + s4 * v4;
+    }
+
+    private static double q1_asymptoticTerm_2_to_3_over64_forFloat(double t) {
+        assert t >= 2d / 64;
+        assert t <= 3d / 64;
+
+        final double s = t - 0.0390625;
+
+        final double C0 = -0.11459714745474965102989273191270;
+        final double C1 = -2.8204173218216407526915850657550;
+        final double C2 = 3.6158290003147802485244447167414;
+        final double C3 = 8.2715948526874241090416952352626;
+        final double C4 = -188.79683962408953893221004498032;
+
+        final double s2 = s * s;
+
+        final double v0 = C0 + s * C1 + s2 * (C2 + s * C3);
+        final double v4 = C4;
+
+        final double s4 = s2 * s2;
+        return v0 + s4 * v4;
+    }
+
+    private static double q1_asymptoticTerm_3_to_4_over64_forFloat(double t) {
+        assert t >= 3d / 64;
+        assert t <= 4d / 64;
+
+        final double s = t - 0.0546875;
+
+        final double C0 = -0.15776206271639478528889810604596;
+        final double C1 = -2.7038701341403368957221834530439;
+        final double C2 = 3.7790959769432609646486536402753;
+        final double C3 = -0.054231854165327869194105555741097;
+        final double C4 = -87.437517353279747213800061401030;
+
+        final double s2 = s * s;
+
+        final double v0 = C0 + s * C1 + s2 * (C2 + s * C3);
+        final double v4 = C4;
+
+        final double s4 = s2 * s2;
+        return v0 + s4 * v4;
+    }
 }
@@ -5,12 +5,14 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.7.5
+ * 2025.7.30
  */
 package matsu.num.specialfunction.bessel.bessel;
 
 import static matsu.num.specialfunction.bessel.BesselFunction.*;
 
+import java.nio.ByteBuffer;
+
 import matsu.num.specialfunction.bessel.BesselFunction;
 
 /**
@@ -55,4 +57,25 @@ public final class BesselFunctionFactory {
                 return new BesselOver2(order, BESSEL_0, BESSEL_1);
         }
     }
+
+    /**
+     * {@link BesselFunction#compile(double, double, double)} により構築され,
+     * 表として書き出されたインスタンスを, 表を読み込んで再構築する.
+     *
+     * <p>
+     * 表はバッファの現在位置から読み込まれ, 位置が進められる.
+     * </p>
+     *
+     * @param order n, 次数
+     * @param xMin 区間の下端
+     * @param xMax 区間の上端
+     * @param tolerance 構築時の許容誤差
+     * @param src 読み込み元
+     * @return 再構築されたインスタンス
+     * @throws IllegalArgumentException パラメータが範囲外の場合, バイト列が不正の場合
+     */
+    public static BesselFunction restoreCompiled(
+            int order, double xMin, double xMax, double tolerance, ByteBuffer src) {
+        return new CompiledBessel(instanceOf(order), xMin, xMax, tolerance, src);
+    }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.8
+ */
+package matsu.num.specialfunction.bessel.bessel;
+
+import matsu.num.specialfunction.bessel.BesselFunction;
+import matsu.num.specialfunction.common.AlgorithmBranch;
+import matsu.num.specialfunction.common.Exponentiation;
+import matsu.num.specialfunction.common.Instrumentation;
+
+/**
+ * 第1種 Bessel 関数による Neumann 級数
+ * &Sigma;<sub><i>n</i>=0</sub><sup><i>N</i>-1</sup>
+ * <i>c<sub>n</sub></i> <i>J<sub>n</sub></i>(<i>x</i>)
+ * を, 次数ごとの関数値の計算を経由せずに, 1回の漸化式により計算する.
+ * 
+ * <p>
+ * <i>x</i> が最高次数 <i>N</i> - 1 以上の場合は,
+ * <i>J</i><sub>0</sub>(<i>x</i>), <i>J</i><sub>1</sub>(<i>x</i>)
+ * から前進漸化式 (この範囲で安定) により各次数の値を求め, 重み付き和を累積する. <br>
+ * それ以外は Miller の後退漸化式により, 十分大きな次数から任意の初期値で後退しながら重み付き和を累積し,
+ * 最後に恒等式 <br>
+ * <i>J</i><sub>0</sub>(<i>x</i>) + 2 &Sigma;<sub><i>k</i>&ge;1</sub>
+ * <i>J</i><sub>2<i>k</i></sub>(<i>x</i>) = 1 <br>
+ * により1度だけ規格化する. <br>
+ * ただし, <i>x</i> が十分小さい場合は, 後退漸化式の各ステップで値が 2/<i>x</i> 倍程度に増大してオーバーフローするため,
+ * べき級数の主要項
+ * <i>J<sub>n</sub></i>(<i>x</i>) &asymp; (<i>x</i>/2)<sup><i>n</i></sup>/<i>n</i>!
+ * (相対誤差は <i>x</i><sup>2</sup>/4 程度) により和を計算する. <br>
+ * いずれも計算量は <i>O</i>(<i>N</i>) である.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class BesselNeumannSeries {
+
+    private static final BesselFunction BESSEL_0 = BesselFunctionFactory.instanceOf(0);
+    private static final BesselFunction BESSEL_1 = BesselFunctionFactory.instanceOf(1);
+
+    /**
+     * 後退漸化式の初期値.
+     */
+    private static final double INIT = 1E-200;
+
+    /**
+     * 後退漸化式において値を縮小する閾値.
+     */
+    private static final double RESCALING_THRESHOLD = 1E200;
+
+    /**
+     * べき級数の主要項により計算する引数の閾値.
+     * 主要項の相対誤差 x^2/4 が倍精度の丸め誤差を下回る.
+     */
+    private static final double SMALL_X_THRESHOLD = 1E-8;
+
+    private BesselNeumannSeries() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * Neumann 級数
+     * &Sigma;<sub><i>n</i>=0</sub><sup><i>N</i>-1</sup>
+     * <i>c<sub>n</sub></i> <i>J<sub>n</sub></i>(<i>x</i>)
+     * の値を返す.
+     * 
+     * <ul>
+     * <li><i>N</i> = 0 &rarr; 0</li>
+     * <li><i>x</i> &lt; 0 または NaN &rarr; NaN</li>
+     * <li><i>x</i> = +&infin; &rarr; 0</li>
+     * </ul>
+     * 
+     * @param coefficients 係数 <i>c<sub>n</sub></i> の配列 (長さ <i>N</i>)
+     * @param x <i>x</i>, 引数
+     * @return 級数の値
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static double sum(double[] coefficients, double x) {
+        final int length = coefficients.length;
+        if (!(x >= 0)) {
+            return Double.NaN;
+        }
+        if (length == 0 || x == Double.POSITIVE_INFINITY) {
+            return 0d;
+        }
+        if (x == 0) {
+            return coefficients[0];
+        }
+
+        if (x < SMALL_X_THRESHOLD) {
+            Instrumentation.branch(AlgorithmBranch.BESSEL_POWER_SERIES);
+            return sumByLeadingTerm(coefficients, x);
+        }
+
+        if (x >= length - 1) {
+            Instrumentation.branch(AlgorithmBranch.BESSEL_FORWARD_RECURSION);
+            return sumByForwardRecursion(coefficients, x);
+        }
+
+        Instrumentation.branch(AlgorithmBranch.BESSEL_BACK_RECURSION);
+        return sumByBackRecursion(coefficients, x);
+    }
+
+    /**
+     * 小さな x について, べき級数の主要項により和を計算する.
+     */
+    private static double sumByLeadingTerm(double[] coefficients, double x) {
+        final int length = coefficients.length;
+        final double halfX = 0.5 * x;
+
+        double value = coefficients[0];
+        double term = 1;
+        for (int j = 1; j < length; j++) {
+            term *= halfX / j;
+            if (term == 0) {
+                break;
+            }
+            value += coefficients[j] * term;
+        }
+        return value;
+    }
+
+    /**
+     * 前進漸化式により和を計算する.
+     */
+    private static double sumByForwardRecursion(double[] coefficients, double x) {
+        final int length = coefficients.length;
+        final double doubleInvX = 2 / x;
+
+        double j_nu_minus_1 = BESSEL_0.besselJ(x);
+        double value = coefficients[0] * j_nu_minus_1;
+        if (length == 1) {
+            return value;
+        }
+
+        double j_nu = BESSEL_1.besselJ(x);
+        value += coefficients[1] * j_nu;
+        for (int j = 1; j < length - 1; j++) {
+            double j_nu_plus_1 = j_nu * j * doubleInvX - j_nu_minus_1;
+            j_nu_minus_1 = j_nu;
+            j_nu = j_nu_plus_1;
+            value += coefficients[j + 1] * j_nu;
+        }
+        return value;
+    }
+
+    /**
+     * Miller の後退漸化式により和を計算する.
+     */
+    private static double sumByBackRecursion(double[] coefficients, double x) {
+        final int length = coefficients.length;
+        final double doubleInvX = 2 / x;
+        final int upperN = calcUpperN_byBackRecursion(length - 1);
+
+        double j_nu_plus_1 = 0;
+        double j_nu = INIT;
+        // 重み付き和と, 規格化のための和 (J_0 を除く)
+        double value = 0;
+        double normalization = 0;
+        for (int j = upperN; j > 0; j--) {
+            if (j < length) {
+                value += coefficients[j] * j_nu;
+            }
+            if ((j & 1) == 0) {
+                normalization += 2 * j_nu;
+            }
+
+            double j_nu_minus_1 = j_nu * j * doubleInvX - j_nu_plus_1;
+            j_nu_plus_1 = j_nu;
+            j_nu = j_nu_minus_1;
+
+            if (Math.abs(j_nu) >= RESCALING_THRESHOLD) {
+                j_nu_plus_1 *= INIT;
+                j_nu *= INIT;
+                value *= INIT;
+                normalization *= INIT;
+            }
+        }
+        value += coefficients[0] * j_nu;
+        normalization += j_nu;
+
+        return value / normalization;
+    }
+
+    /**
+     * 後退漸化式を開始する偶数の次数を返す. <br>
+     * 最高次数 m を超える部分について, 倍精度で打ち切り誤差が無視できるように
+     * m + sqrt(40 m) + 16 程度を用いる ({@literal x < m} を前提とする).
+     */
+    private static int calcUpperN_byBackRecursion(int maxOrder) {
+        int n = maxOrder + 16 + (int) Exponentiation.sqrt(40d * maxOrder);
+        return n + (n & 1);
+    }
+}
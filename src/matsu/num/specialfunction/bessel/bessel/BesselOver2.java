@@ -10,7 +10,9 @@
 package matsu.num.specialfunction.bessel.bessel;
 
 import matsu.num.specialfunction.bessel.basecomponent.InverseFactorialSupplier;
+import matsu.num.specialfunction.common.AlgorithmBranch;
 import matsu.num.specialfunction.common.Exponentiation;
+import matsu.num.specialfunction.common.Instrumentation;
 
 /**
  * 高次のBessel関数で, besselJの実装を加え完成したクラス.
@@ -72,13 +74,16 @@ final class BesselOver2 extends BesselHigherImplY {
         }
 
         if (x < BOUNDARY_X_SELECTING_POWER_OR_BACK_RECURSION) {
+            Instrumentation.branch(AlgorithmBranch.BESSEL_POWER_SERIES);
             return this.bJ_byPower(x);
         }
 
         if (x < this.boundaryX_selectingBackOrForwardRecursion) {
+            Instrumentation.branch(AlgorithmBranch.BESSEL_BACK_RECURSION);
             return this.bJ_byBackRecursion(x);
         }
 
+        Instrumentation.branch(AlgorithmBranch.BESSEL_FORWARD_RECURSION);
         return this.bJ_byForwardRecursion(x);
     }
 
@@ -0,0 +1,396 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.8
+ */
+package matsu.num.specialfunction.bessel.bessel;
+
+import java.util.Arrays;
+import java.util.function.DoubleUnaryOperator;
+
+import matsu.num.specialfunction.bessel.BesselFunction;
+import matsu.num.specialfunction.common.Exponentiation;
+
+/**
+ * Bessel 関数の正の零点
+ * <i>j</i><sub><i>n</i>,<i>k</i></sub>, <i>y</i><sub><i>n</i>,<i>k</i></sub>
+ * を計算し, 次数ごとにキャッシュする.
+ * 
+ * <p>
+ * 零点は小さい方から順に求め, 求めた零点は配列として保持して必要に応じて延長する. <br>
+ * 配列の延長は排他的に行い, 読み出しは volatile な配列参照を介して同期なしに行う
+ * (延長時は新しい配列を生成して置き換える).
+ * </p>
+ * 
+ * <p>
+ * 各零点は, 区間縮小を伴う Newton 法により求める. <br>
+ * 導関数は
+ * <i>C</i>'<sub><i>n</i></sub>(<i>x</i>) =
+ * <i>C</i><sub><i>n</i>-1</sub>(<i>x</i>) - (<i>n</i>/<i>x</i>) <i>C</i><sub><i>n</i></sub>(<i>x</i>)
+ * (<i>n</i> = 0 では -<i>C</i><sub>1</sub>(<i>x</i>))
+ * により計算する (<i>C</i> は <i>J</i> または <i>Y</i>). <br>
+ * 零点を含む区間は, 隣接する零点の間隔に関する性質 (Sturm の比較定理による) から定める:
+ * <i>n</i> &ge; 1 では間隔は &pi; より大きく単調減少し,
+ * <i>n</i> = 0 では &pi; より小さく単調増加する. <br>
+ * 第1零点の初期値は, <i>n</i> &ge; 1 では Airy 関数の零点による漸近形 <br>
+ * <i>n</i> + |<i>a</i>| (<i>n</i>/2)<sup>1/3</sup>
+ * + (3/20) <i>a</i><sup>2</sup> (<i>n</i>/2)<sup>-1/3</sup> <br>
+ * (<i>a</i> は Ai または Bi の第1零点),
+ * <i>n</i> = 0 では McMahon の漸近展開により与え,
+ * 第2零点以降の Newton 法の初期値には McMahon の漸近展開
+ * (区間外の場合は区間の中点) を用いる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class BesselZeros {
+
+    /**
+     * 求めることができる零点の番号の上限.
+     */
+    static final int MAX_INDEX = 10000;
+
+    /**
+     * Ai(x) の第1零点の絶対値.
+     */
+    private static final double AIRY_AI_FIRST_ZERO = 2.338107410459767;
+
+    /**
+     * Bi(x) の第1零点の絶対値.
+     */
+    private static final double AIRY_BI_FIRST_ZERO = 1.173713222709128;
+
+    /**
+     * 第1零点を含む区間を探索する刻み.
+     */
+    private static final double SEARCH_STEP = 0.5;
+
+    /**
+     * Newton 法の収束判定に用いる, 修正量の相対値の閾値.
+     */
+    private static final double NEWTON_CONVERGENCE = 1E-11;
+
+    private static final int MAX_ITERATION = 100;
+
+    /**
+     * 次数の上限を表す定数.
+     */
+    @SuppressWarnings("deprecation")
+    private static final int UPPER_LIMIT_OF_ORDER = BesselFunction.UPPER_LIMIT_OF_ORDER;
+
+    private static final BesselZeros[] CACHE;
+
+    static {
+        CACHE = new BesselZeros[UPPER_LIMIT_OF_ORDER + 1];
+        for (int n = 0; n < CACHE.length; n++) {
+            CACHE[n] = new BesselZeros(n);
+        }
+    }
+
+    private final int order;
+
+    private final ZeroSequence zerosJ;
+    private final ZeroSequence zerosY;
+
+    private BesselZeros(int order) {
+        super();
+        this.order = order;
+
+        BesselFunction bessel = BesselFunctionFactory.instanceOf(order);
+        if (order == 0) {
+            BesselFunction bessel1 = BesselFunctionFactory.instanceOf(1);
+            this.zerosJ = new ZeroSequence(
+                    bessel::besselJ, x -> -bessel1.besselJ(x), 1, 0.25);
+            this.zerosY = new ZeroSequence(
+                    bessel::besselY, x -> -bessel1.besselY(x), -1, 0.75);
+        } else {
+            BesselFunction besselM1 = BesselFunctionFactory.instanceOf(order - 1);
+            final double n = order;
+            this.zerosJ = new ZeroSequence(
+                    bessel::besselJ, x -> besselM1.besselJ(x) - n / x * bessel.besselJ(x), 1, 0.25);
+            this.zerosY = new ZeroSequence(
+                    bessel::besselY, x -> besselM1.besselY(x) - n / x * bessel.besselY(x), -1, 0.75);
+        }
+    }
+
+    /**
+     * 指定した次数の零点のキャッシュを返す.
+     * 
+     * @param order 次数 (サポートされている範囲であること, 検証されない)
+     * @return 零点のキャッシュ
+     */
+    static BesselZeros of(int order) {
+        return CACHE[order];
+    }
+
+    /**
+     * <i>J<sub>n</sub></i> の第 <i>k</i> 零点を返す.
+     * 
+     * @param k <i>k</i>
+     * @return <i>j</i><sub><i>n</i>,<i>k</i></sub>
+     * @throws IllegalArgumentException <i>k</i> が範囲外の場合
+     */
+    double zeroJ(int k) {
+        validateIndex(k);
+        return this.zerosJ.get(k);
+    }
+
+    /**
+     * <i>Y<sub>n</sub></i> の第 <i>k</i> 零点を返す.
+     * 
+     * @param k <i>k</i>
+     * @return <i>y</i><sub><i>n</i>,<i>k</i></sub>
+     * @throws IllegalArgumentException <i>k</i> が範囲外の場合
+     */
+    double zeroY(int k) {
+        validateIndex(k);
+        return this.zerosY.get(k);
+    }
+
+    /**
+     * <i>J<sub>n</sub></i> の第1から第 <i>K</i> 零点を返す.
+     * 
+     * @param count <i>K</i>
+     * @return 零点の配列 (長さ <i>K</i>)
+     * @throws IllegalArgumentException <i>K</i> が範囲外の場合
+     */
+    double[] zerosJ(int count) {
+        validateCount(count);
+        return this.zerosJ.first(count);
+    }
+
+    /**
+     * <i>Y<sub>n</sub></i> の第1から第 <i>K</i> 零点を返す.
+     * 
+     * @param count <i>K</i>
+     * @return 零点の配列 (長さ <i>K</i>)
+     * @throws IllegalArgumentException <i>K</i> が範囲外の場合
+     */
+    double[] zerosY(int count) {
+        validateCount(count);
+        return this.zerosY.first(count);
+    }
+
+    private static void validateIndex(int k) {
+        if (!(1 <= k && k <= MAX_INDEX)) {
+            throw new IllegalArgumentException("Illegal parameter: k = %s".formatted(k));
+        }
+    }
+
+    private static void validateCount(int count) {
+        if (!(0 <= count && count <= MAX_INDEX)) {
+            throw new IllegalArgumentException("Illegal parameter: count = %s".formatted(count));
+        }
+    }
+
+    /**
+     * 1つの関数 (<i>J<sub>n</sub></i> または <i>Y<sub>n</sub></i>) の零点の列.
+     */
+    private final class ZeroSequence {
+
+        private final DoubleUnaryOperator function;
+        private final DoubleUnaryOperator derivative;
+
+        /**
+         * 第1零点より手前における関数の符号.
+         */
+        private final int signBeforeFirstZero;
+
+        /**
+         * McMahon の漸近展開における位相のずれ
+         * (&beta; = (<i>k</i> + <i>n</i>/2 - phase)&pi;).
+         */
+        private final double phase;
+
+        /**
+         * zeros[k - 1] = 第k零点. <br>
+         * 延長時には新しい配列に置き換えられる.
+         */
+        private volatile double[] zeros = new double[0];
+
+        ZeroSequence(
+                DoubleUnaryOperator function, DoubleUnaryOperator derivative,
+                int signBeforeFirstZero, double phase) {
+            super();
+            this.function = function;
+            this.derivative = derivative;
+            this.signBeforeFirstZero = signBeforeFirstZero;
+            this.phase = phase;
+        }
+
+        double get(int k) {
+            double[] zeros = this.zeros;
+            if (k <= zeros.length) {
+                return zeros[k - 1];
+            }
+            return this.extend(k)[k - 1];
+        }
+
+        double[] first(int count) {
+            double[] zeros = this.zeros;
+            if (count > zeros.length) {
+                zeros = this.extend(count);
+            }
+            return Arrays.copyOf(zeros, count);
+        }
+
+        /**
+         * 少なくとも count 個の零点を持つように延長し, 延長後の配列を返す.
+         */
+        private synchronized double[] extend(int count) {
+            double[] zeros = this.zeros;
+            if (count <= zeros.length) {
+                return zeros;
+            }
+
+            // 配列の長さは倍々に延長する
+            int newLength = Math.min(MAX_INDEX, Math.max(count, 2 * zeros.length));
+            double[] newZeros = Arrays.copyOf(zeros, newLength);
+            for (int k = zeros.length + 1; k <= newLength; k++) {
+                newZeros[k - 1] = this.computeZero(k, newZeros);
+            }
+            this.zeros = newZeros;
+            return newZeros;
+        }
+
+        /**
+         * 第k零点を計算する. <br>
+         * 第k-1零点以前は計算済みである.
+         */
+        private double computeZero(int k, double[] zeros) {
+            if (k == 1) {
+                double[] bracket = this.bracketFirstZero();
+                double lo = bracket[0];
+                return this.newton(lo, this.function.applyAsDouble(lo), bracket[1], lo);
+            }
+
+            double previous = zeros[k - 2];
+            double lo;
+            double hi;
+            if (order == 0) {
+                // 間隔は pi より小さく単調増加する
+                lo = previous + (k == 2 ? 1 : previous - zeros[k - 3]);
+                hi = previous + Math.PI;
+            } else {
+                // 間隔は pi より大きく単調減少する
+                lo = previous + Math.PI;
+                hi = previous + (k == 2 ? 2 * Math.PI : previous - zeros[k - 3]);
+            }
+            double fLo = this.function.applyAsDouble(lo);
+            if (!(fLo * this.function.applyAsDouble(hi) < 0)) {
+                // 第2零点で間隔が 2pi を超える場合や, 丸め誤差により区間の端で符号が定まらない場合は,
+                // 探索により区間を定める
+                double[] bracket = this.bracketBySearch(previous + (order == 0 ? 1 : Math.PI));
+                lo = bracket[0];
+                hi = bracket[1];
+                fLo = this.function.applyAsDouble(lo);
+            }
+            return this.newton(lo, fLo, hi, this.mcMahon(k));
+        }
+
+        /**
+         * 第1零点を含む区間を返す.
+         */
+        private double[] bracketFirstZero() {
+            double guess;
+            if (order == 0) {
+                guess = this.mcMahon(1);
+            } else {
+                double a = this.signBeforeFirstZero > 0 ? AIRY_AI_FIRST_ZERO : AIRY_BI_FIRST_ZERO;
+                double c = Exponentiation.cbrt(0.5 * order);
+                guess = order + a * c + 0.15 * a * a / c;
+            }
+
+            final int sign = this.signBeforeFirstZero;
+            double x = guess;
+            if (sign * this.function.applyAsDouble(x) > 0) {
+                // 第1零点の手前である
+                while (true) {
+                    double next = x + SEARCH_STEP;
+                    if (!(sign * this.function.applyAsDouble(next) > 0)) {
+                        return new double[] { x, next };
+                    }
+                    x = next;
+                }
+            }
+            while (true) {
+                double next = Math.max(0.5 * x, x - SEARCH_STEP);
+                if (sign * this.function.applyAsDouble(next) > 0) {
+                    return new double[] { next, x };
+                }
+                x = next;
+            }
+        }
+
+        /**
+         * 直前の零点と次の零点の間の点 start から右へ探索し,
+         * 次の零点を含む区間を返す.
+         */
+        private double[] bracketBySearch(double start) {
+            final double signStart = Math.signum(this.function.applyAsDouble(start));
+            double x = start;
+            while (true) {
+                double next = x + SEARCH_STEP;
+                if (!(signStart * this.function.applyAsDouble(next) > 0)) {
+                    return new double[] { x, next };
+                }
+                x = next;
+            }
+        }
+
+        /**
+         * McMahon の漸近展開による第k零点の近似値を返す.
+         */
+        private double mcMahon(int k) {
+            double beta = (k + 0.5 * order - this.phase) * Math.PI;
+            double mu = 4d * order * order;
+            double invEightBeta = 1 / (8 * beta);
+            double invEightBeta2 = invEightBeta * invEightBeta;
+            double c1 = mu - 1;
+            double c3 = (4d / 3) * (mu - 1) * (7 * mu - 31);
+            double c5 = (32d / 15) * (mu - 1) * (83 * mu * mu - 982 * mu + 3779);
+            return beta - invEightBeta * (c1 + invEightBeta2 * (c3 + invEightBeta2 * c5));
+        }
+
+        /**
+         * 区間 [lo, hi] 内の唯一の零点を, 区間縮小を伴う Newton 法により求める.
+         */
+        private double newton(double lo, double fLo, double hi, double guess) {
+            final DoubleUnaryOperator function = this.function;
+            final boolean positiveLo = fLo > 0;
+            double x = lo < guess && guess < hi ? guess : 0.5 * (lo + hi);
+            for (int i = 0; i < MAX_ITERATION; i++) {
+                double f = function.applyAsDouble(x);
+                if (f == 0) {
+                    return x;
+                }
+                if ((f > 0) == positiveLo) {
+                    lo = x;
+                } else {
+                    hi = x;
+                }
+
+                double dx = f / this.derivative.applyAsDouble(x);
+                double next = x - dx;
+                if (lo <= next && next <= hi) {
+                    // 2次収束するため, 修正量が十分小さければこのステップで収束している
+                    if (Math.abs(dx) <= NEWTON_CONVERGENCE * x) {
+                        return next;
+                    }
+                }
+                if (!(lo < next && next < hi)) {
+                    next = 0.5 * (lo + hi);
+                    if (hi - lo <= 4 * Math.ulp(hi)) {
+                        return next;
+                    }
+                }
+                x = next;
+            }
+            return x;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.30
+ */
+package matsu.num.specialfunction.bessel.bessel;
+
+import java.nio.ByteBuffer;
+
+import matsu.num.specialfunction.bessel.BesselFunction;
+import matsu.num.specialfunction.common.CompiledFunction;
+import matsu.num.specialfunction.common.PiecewiseChebyshevApproximation;
+
+/**
+ * 指定した区間において,
+ * Bessel 関数を区分的 Chebyshev 補間で計算する Bessel 関数.
+ * 
+ * <p>
+ * 区間外, および補間が採用されなかった小区間では, 元のインスタンスにより計算する. <br>
+ * 単精度版は常に元のインスタンスにより計算する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class CompiledBessel implements BesselFunction, CompiledFunction {
+
+    private final BesselFunction original;
+    private final double xMin;
+    private final double xMax;
+    private final double tolerance;
+
+    private final PiecewiseChebyshevApproximation approxJ;
+    private final PiecewiseChebyshevApproximation approxY;
+
+    /**
+     * 区分的 Chebyshev 補間を構築する.
+     * 
+     * <p>
+     * 引数のバリデーションは行われていない.
+     * </p>
+     * 
+     * @param original 元のインスタンス
+     * @param xMin 区間の下端
+     * @param xMax 区間の上端
+     * @param tolerance 許容誤差
+     */
+    CompiledBessel(BesselFunction original, double xMin, double xMax, double tolerance) {
+        super();
+        this.original = original;
+        this.xMin = xMin;
+        this.xMax = xMax;
+        this.tolerance = tolerance;
+        this.approxJ = PiecewiseChebyshevApproximation.of(original::besselJ, xMin, xMax, tolerance);
+        this.approxY = PiecewiseChebyshevApproximation.of(original::besselY, xMin, xMax, tolerance);
+    }
+
+    /**
+     * {@link #writeTo(ByteBuffer)} により書き出された表を読み込んで構築する.
+     *
+     * @param original 元のインスタンス
+     * @param xMin 区間の下端
+     * @param xMax 区間の上端
+     * @param tolerance 許容誤差
+     * @param src 読み込み元
+     * @throws IllegalArgumentException バイト列が不正の場合
+     */
+    CompiledBessel(BesselFunction original, double xMin, double xMax, double tolerance, ByteBuffer src) {
+        super();
+        this.original = original;
+        this.xMin = xMin;
+        this.xMax = xMax;
+        this.tolerance = tolerance;
+        this.approxJ = PiecewiseChebyshevApproximation.readFrom(src, original::besselJ);
+        this.approxY = PiecewiseChebyshevApproximation.readFrom(src, original::besselY);
+    }
+
+    @Override
+    public int order() {
+        return this.original.order();
+    }
+
+    @Override
+    public double besselJ(double x) {
+        return this.approxJ.value(x);
+    }
+
+    @Override
+    public double besselY(double x) {
+        return this.approxY.value(x);
+    }
+
+    @Override
+    public float besselJFloat(float x) {
+        return this.original.besselJFloat(x);
+    }
+
+    @Override
+    public void besselJFloat(float[] xs, float[] results) {
+        this.original.besselJFloat(xs, results);
+    }
+
+    @Override
+    public double besselJZero(int k) {
+        return this.original.besselJZero(k);
+    }
+
+    @Override
+    public double besselYZero(int k) {
+        return this.original.besselYZero(k);
+    }
+
+    @Override
+    public double[] besselJZeros(int count) {
+        return this.original.besselJZeros(count);
+    }
+
+    @Override
+    public double[] besselYZeros(int count) {
+        return this.original.besselYZeros(count);
+    }
+
+    @Override
+    public BesselFunction compile(double xMin, double xMax, double tolerance) {
+        return this.original.compile(xMin, xMax, tolerance);
+    }
+
+    @Override
+    public double xMin() {
+        return this.xMin;
+    }
+
+    @Override
+    public double xMax() {
+        return this.xMax;
+    }
+
+    @Override
+    public double tolerance() {
+        return this.tolerance;
+    }
+
+    @Override
+    public int serializedSize() {
+        return this.approxJ.serializedSize() + this.approxY.serializedSize();
+    }
+
+    @Override
+    public void writeTo(ByteBuffer dst) {
+        this.approxJ.writeTo(dst);
+        this.approxY.writeTo(dst);
+    }
+
+    /**
+     * このインスタンスの文字列表現を提供する.
+     * 
+     * <p>
+     * 概ね, 次のような表現であろう.
+     * ただし, バージョン間の互換性は担保されていない. <br>
+     * {@code BesselFunction(order = %order, compiled in [%xMin, %xMax])}
+     * </p>
+     */
+    @Override
+    public String toString() {
+        return "BesselFunction(order = %s, compiled in [%s, %s])"
+                .formatted(this.order(), this.xMin, this.xMax);
+    }
+}
@@ -0,0 +1,506 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.9
+ */
+package matsu.num.specialfunction.bessel.bessel;
+
+import matsu.num.specialfunction.bessel.RealOrderBesselFunction;
+import matsu.num.specialfunction.bessel.basecomponent.TemmeCoefficients;
+import matsu.num.specialfunction.common.AlgorithmBranch;
+import matsu.num.specialfunction.common.Exponentiation;
+import matsu.num.specialfunction.common.Instrumentation;
+import matsu.num.specialfunction.common.IterativeLoop;
+import matsu.num.specialfunction.common.SinCos;
+import matsu.num.specialfunction.common.Trigonometry;
+
+/**
+ * 実数次の Bessel 関数の実装.
+ * 
+ * <p>
+ * 次数を &nu; = &mu; + <i>n</i>
+ * (<i>n</i> は整数, -1/2 &le; &mu; &lt; 1/2) と分解し,
+ * <i>x</i> の領域により次のように計算する.
+ * </p>
+ * 
+ * <ul>
+ * <li>{@literal x < 2}:
+ * <i>J</i><sub>&nu;</sub> はべき級数 (この範囲に零点はなく, 桁落ちは1桁未満),
+ * <i>Y</i><sub>&nu;</sub> は Temme の級数による
+ * <i>Y</i><sub>&mu;</sub>, <i>Y</i><sub>&mu;+1</sub>
+ * と前進漸化式 (安定) による.</li>
+ * <li>{@literal x >= max(20, nu)}:
+ * Hankel の漸近展開による次数 &mu;, &mu; + 1 の値と前進漸化式による
+ * ({@literal x >= nu} では <i>J</i> の前進漸化式も安定).</li>
+ * <li>それ以外: 対数微分 <i>J</i>'<sub>&nu;</sub>/<i>J</i><sub>&nu;</sub> の連分数,
+ * 後退漸化式, Steed の方法による複素連分数と Wronskian による.
+ * ({@literal x < nu} であるか {@literal x < 20} であるため, 連分数の項数は抑えられる.)</li>
+ * </ul>
+ * 
+ * <p>
+ * 次数のみに依存する係数 ({@link TemmeCoefficients}, 1/&Gamma;(&nu; + 1),
+ * 漸近展開の位相 (&mu;/2 + 1/4)&pi; の三角関数)
+ * はコンストラクタで計算する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class RealOrderBessel implements RealOrderBesselFunction {
+
+    /**
+     * アルゴリズムを切り替えるxの閾値. <br>
+     * 下側はべき級数 (Temme の級数), 上側は連分数.
+     */
+    private static final double BOUNDARY_X_SELECTING_SERIES_OR_CONTINUED_FRACTION = 2d;
+
+    /**
+     * 漸近展開を用いるxの下限 (次数によらない部分). <br>
+     * 次数 &mu;, &mu; + 1 ({@literal <= 3/2}) の漸近展開の項が
+     * 倍精度の丸め誤差未満になるまで単調に減少する.
+     */
+    private static final double LOWER_LIMIT_X_OF_ASYMPTOTIC = 20d;
+
+    /**
+     * {@literal x < 2} のべき級数の項数の上限.
+     */
+    private static final int K_MAX_BY_POWER = 20;
+
+    /**
+     * 漸近展開の項数の上限.
+     */
+    private static final int K_MAX_BY_ASYMPTOTIC = 60;
+
+    private static final int MAX_ITERATION_TEMME = 100;
+    private static final int MAX_ITERATION_CONTINUED_FRACTION = 10000;
+    private static final double EPSILON = 1E-16;
+
+    /**
+     * Lentz の方法における0の代替値.
+     */
+    private static final double FPMIN = 1E-290;
+
+    /**
+     * 後退漸化式において値を縮小する閾値と, その縮小率.
+     */
+    private static final double RESCALING_THRESHOLD = 1E200;
+    private static final double RESCALING_FACTOR = 1E-200;
+
+    private final double nu;
+
+    /**
+     * 漸化式の段数 <i>n</i> = &nu; - &mu;.
+     */
+    private final int shift;
+
+    private final TemmeCoefficients temme;
+    private final double invGammaNuPlus1;
+
+    /**
+     * Temme の級数 (Y) における係数 2 sin<sup>2</sup>(&pi;&mu;/2) / &mu;.
+     */
+    private final double temmeCoeffR;
+
+    /**
+     * 漸近展開の位相 (&mu;/2 + 1/4)&pi; の cos, sin.
+     */
+    private final double cosPhase;
+    private final double sinPhase;
+
+    /**
+     * 与えた次数の Bessel 関数を生成する.
+     * 
+     * @param nu 次数, 適合していなければならない
+     */
+    RealOrderBessel(double nu) {
+        super();
+        this.nu = nu;
+        this.shift = (int) (nu + 0.5);
+        this.temme = new TemmeCoefficients(nu - this.shift);
+        this.invGammaNuPlus1 = this.temme.invGammaOnePlusMuPlus(this.shift);
+
+        final double mu = this.temme.mu();
+        final double sinHalfPiMu = Trigonometry.sin(Math.PI * mu / 2);
+        this.temmeCoeffR = mu == 0d ? 0d : 2 * sinHalfPiMu * sinHalfPiMu / mu;
+
+        SinCos phase = Trigonometry.sincos((mu / 2 + 0.25) * Math.PI);
+        this.cosPhase = phase.cos();
+        this.sinPhase = phase.sin();
+    }
+
+    @Override
+    public double order() {
+        return this.nu;
+    }
+
+    @Override
+    public double besselJ(double x) {
+        if (!(x >= 0)) {
+            return Double.NaN;
+        }
+        if (x < BOUNDARY_X_SELECTING_SERIES_OR_CONTINUED_FRACTION) {
+            Instrumentation.branch(AlgorithmBranch.BESSEL_POWER_SERIES);
+            return this.bJ_byPower(x);
+        }
+        if (x == Double.POSITIVE_INFINITY) {
+            return 0d;
+        }
+        if (this.useAsymptotic(x)) {
+            Instrumentation.branch(AlgorithmBranch.BESSEL_ASYMPTOTIC);
+            return this.bJY_byAsymptotic(x, true);
+        }
+
+        Instrumentation.branch(AlgorithmBranch.BESSEL_CONTINUED_FRACTION);
+        return this.bJY_bySteed(x, true);
+    }
+
+    @Override
+    public double besselY(double x) {
+        if (!(x >= 0)) {
+            return Double.NaN;
+        }
+        if (x == 0d) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        if (x < BOUNDARY_X_SELECTING_SERIES_OR_CONTINUED_FRACTION) {
+            Instrumentation.branch(AlgorithmBranch.BESSEL_POWER_SERIES);
+            return this.bY_byTemme(x);
+        }
+        if (x == Double.POSITIVE_INFINITY) {
+            return 0d;
+        }
+        if (this.useAsymptotic(x)) {
+            Instrumentation.branch(AlgorithmBranch.BESSEL_ASYMPTOTIC);
+            return this.bJY_byAsymptotic(x, false);
+        }
+
+        Instrumentation.branch(AlgorithmBranch.BESSEL_CONTINUED_FRACTION);
+        return this.bJY_bySteed(x, false);
+    }
+
+    private boolean useAsymptotic(double x) {
+        return x >= LOWER_LIMIT_X_OF_ASYMPTOTIC && x >= this.nu;
+    }
+
+    /**
+     * べき級数による J(x). <br>
+     * {@literal 0 <= x < 2} を前提とする.
+     */
+    private double bJ_byPower(double x) {
+        final double nu = this.nu;
+        final double halfX = x / 2;
+        final double minusSquareHalfX = -halfX * halfX;
+
+        double term = 1;
+        double sum = 1;
+        for (int k = 1; k <= K_MAX_BY_POWER; k++) {
+            term *= minusSquareHalfX / (k * (nu + k));
+            sum += term;
+            if (Math.abs(term) <= EPSILON * sum) {
+                break;
+            }
+        }
+        return Exponentiation.pow(halfX, nu) * this.invGammaNuPlus1 * sum;
+    }
+
+    /**
+     * Temme の級数と前進漸化式による Y(x). <br>
+     * {@literal 0 < x < 2} を前提とする.
+     */
+    private double bY_byTemme(double x) {
+        final TemmeCoefficients temme = this.temme;
+        final double mu = temme.mu();
+        final double mu2 = mu * mu;
+        final double halfX = x / 2;
+
+        final double d = -Exponentiation.log(halfX);
+        final double e = mu * d;
+        final double expE = Exponentiation.exp(e);
+        final double coshE = (expE + 1 / expE) / 2;
+        final double sinhEOverE = sinhc(e, expE);
+
+        double ff = (2 / Math.PI) * temme.piMuOverSinPiMu()
+                * (temme.gamma1() * coshE + temme.gamma2() * sinhEOverE * d);
+        double p = expE / (Math.PI * temme.invGammaOnePlusMu());
+        double q = 1 / (expE * Math.PI * temme.invGammaOneMinusMu());
+        final double r = this.temmeCoeffR;
+        double c = 1;
+        final double minusSquareHalfX = -halfX * halfX;
+        double sum = ff + r * q;
+        double sum1 = p;
+
+        int i = 1;
+        boolean converged = false;
+        for (; i <= MAX_ITERATION_TEMME; i++) {
+            ff = (i * ff + p + q) / (i * i - mu2);
+            c *= minusSquareHalfX / i;
+            p /= i - mu;
+            q /= i + mu;
+            double del = c * (ff + r * q);
+            sum += del;
+            sum1 += c * p - i * del;
+            if (Math.abs(del) < (1 + Math.abs(sum)) * EPSILON) {
+                converged = true;
+                break;
+            }
+        }
+        Instrumentation.iterations(IterativeLoop.BESSEL_TEMME_SERIES, i, converged);
+
+        return bY_byForwardRecursion(mu, this.shift, x, -sum, -sum1 * (2 / x));
+    }
+
+    /**
+     * sinh(e)/e を返す. <br>
+     * |e| が小さい場合は桁落ちを避けるため expm1 を用いる.
+     */
+    private static double sinhc(double e, double expE) {
+        if (Math.abs(e) >= 1d) {
+            return (expE - 1 / expE) / (2 * e);
+        }
+        if (e == 0d) {
+            return 1d;
+        }
+        double expm1E = Exponentiation.expm1(e);
+        return expm1E * (expm1E + 2) / (2 * (expm1E + 1) * e);
+    }
+
+    /**
+     * Hankel の漸近展開と前進漸化式による J(x) または Y(x). <br>
+     * {@literal x >= max(20, nu)} を前提とする.
+     */
+    private double bJY_byAsymptotic(double x, boolean isJ) {
+        final double mu = this.temme.mu();
+
+        double[] pq0 = new double[2];
+        double[] pq1 = new double[2];
+        asymptoticPQ(mu, x, pq0);
+        asymptoticPQ(mu + 1, x, pq1);
+
+        // omega = x - (mu/2 + 1/4)pi
+        SinCos sincosX = Trigonometry.sincos(x);
+        double cosOmega = sincosX.cos() * this.cosPhase + sincosX.sin() * this.sinPhase;
+        double sinOmega = sincosX.sin() * this.cosPhase - sincosX.cos() * this.sinPhase;
+        if (!(Double.isFinite(cosOmega) && Double.isFinite(sinOmega))) {
+            return 0d;
+        }
+        double amp = Exponentiation.sqrt((2 / Math.PI) / x);
+
+        // 次数 mu + 1 の位相は omega - pi/2
+        if (isJ) {
+            double jMu = amp * (pq0[0] * cosOmega - pq0[1] * sinOmega);
+            double jMu1 = amp * (pq1[0] * sinOmega + pq1[1] * cosOmega);
+            return bJ_byForwardRecursion(mu, this.shift, x, jMu, jMu1);
+        }
+        double yMu = amp * (pq0[0] * sinOmega + pq0[1] * cosOmega);
+        double yMu1 = amp * (pq1[1] * sinOmega - pq1[0] * cosOmega);
+        return bY_byForwardRecursion(mu, this.shift, x, yMu, yMu1);
+    }
+
+    /**
+     * 次数 m の Hankel の漸近展開の P, Q を計算し, 配列 (長さ2) に格納する.
+     */
+    private static void asymptoticPQ(double m, double x, double[] dest) {
+        final double fourM2 = 4 * m * m;
+        final double invEightX = 0.125 / x;
+
+        double p = 1;
+        double q = 0;
+        double term = 1;
+        for (int k = 1; k <= K_MAX_BY_ASYMPTOTIC; k++) {
+            int twoKMinus1 = 2 * k - 1;
+            term *= (fourM2 - twoKMinus1 * twoKMinus1) * invEightX / k;
+            // k = 1, 2, 3, 4, ... に対して Q, P, Q, P, ... の符号は +, -, -, +, ...
+            double signedTerm = (k & 2) == 0 ? term : -term;
+            if ((k & 1) == 1) {
+                q += signedTerm;
+            } else {
+                p += signedTerm;
+            }
+            if (Math.abs(term) < EPSILON * 0.1) {
+                break;
+            }
+        }
+        dest[0] = p;
+        dest[1] = q;
+    }
+
+    /**
+     * 第1種 Bessel 関数の対数微分の連分数, 後退漸化式,
+     * Steed の方法による複素連分数による J(x) または Y(x). <br>
+     * {@literal 2 <= x < inf} を前提とする.
+     */
+    private double bJY_bySteed(double x, boolean isJ) {
+        final double nu = this.nu;
+        final double invX = 1 / x;
+        final double doubleInvX = 2 * invX;
+
+        // 連分数 (Lentz の方法) により J'_nu / J_nu を求める
+        int sign = 1;
+        double h = Math.max(nu * invX, FPMIN);
+        double b = doubleInvX * nu;
+        double d = 0;
+        double c = h;
+        int i = 1;
+        boolean converged = false;
+        for (; i <= MAX_ITERATION_CONTINUED_FRACTION; i++) {
+            b += doubleInvX;
+            d = b - d;
+            if (Math.abs(d) < FPMIN) {
+                d = FPMIN;
+            }
+            c = b - 1 / c;
+            if (Math.abs(c) < FPMIN) {
+                c = FPMIN;
+            }
+            d = 1 / d;
+            double del = c * d;
+            h *= del;
+            if (d < 0) {
+                sign = -sign;
+            }
+            if (Math.abs(del - 1) <= EPSILON) {
+                converged = true;
+                break;
+            }
+        }
+        Instrumentation.iterations(IterativeLoop.BESSEL_J_RATIO, i, converged);
+
+        // 後退漸化式により, 次数 mu2 = nu - shift2 (連分数の収束のため x 程度以下) まで下げる
+        final int shift2 = Math.max(0, (int) (nu - x + 1.5));
+        final double mu2 = nu - shift2;
+        double rjl = sign;
+        double rjpl = h * rjl;
+        int rescalingCount = 0;
+        // (mu2 + l)/x は, 減算の累積による誤差を避けるため各段で直接計算する
+        for (int l = shift2; l >= 1; l--) {
+            double rjtemp = (mu2 + l) * invX * rjl + rjpl;
+            rjpl = (mu2 + (l - 1)) * invX * rjtemp - rjl;
+            rjl = rjtemp;
+
+            if (Math.abs(rjl) >= RESCALING_THRESHOLD) {
+                rjl *= RESCALING_FACTOR;
+                rjpl *= RESCALING_FACTOR;
+                rescalingCount++;
+            }
+        }
+        if (rjl == 0d) {
+            rjl = EPSILON;
+        }
+        final double f = rjpl / rjl;
+
+        // Steed の方法により p + iq = (J' + iY')/(J + iY) を求める
+        double a = 0.25 - mu2 * mu2;
+        double p = -0.5 * invX;
+        double q = 1;
+        final double br = 2 * x;
+        double bi = 2;
+        double fct = a * invX / (p * p + q * q);
+        double cr = br + q * fct;
+        double ci = bi + p * fct;
+        double den = br * br + bi * bi;
+        double dr = br / den;
+        double di = -bi / den;
+        double dlr = cr * dr - ci * di;
+        double dli = cr * di + ci * dr;
+        double temp = p * dlr - q * dli;
+        q = p * dli + q * dlr;
+        p = temp;
+        int j = 2;
+        converged = false;
+        for (; j <= MAX_ITERATION_CONTINUED_FRACTION; j++) {
+            a += 2 * (j - 1);
+            bi += 2;
+            dr = a * dr + br;
+            di = a * di + bi;
+            if (Math.abs(dr) + Math.abs(di) < FPMIN) {
+                dr = FPMIN;
+            }
+            fct = a / (cr * cr + ci * ci);
+            cr = br + cr * fct;
+            ci = bi - ci * fct;
+            if (Math.abs(cr) + Math.abs(ci) < FPMIN) {
+                cr = FPMIN;
+            }
+            den = dr * dr + di * di;
+            dr /= den;
+            di /= -den;
+            dlr = cr * dr - ci * di;
+            dli = cr * di + ci * dr;
+            temp = p * dlr - q * dli;
+            q = p * dli + q * dlr;
+            p = temp;
+            if (Math.abs(dlr - 1) + Math.abs(dli) <= EPSILON) {
+                converged = true;
+                break;
+            }
+        }
+        Instrumentation.iterations(IterativeLoop.BESSEL_STEED_FACTOR, j, converged);
+
+        // Wronskian J Y' - J' Y = 2/(pi x) により規格化する
+        final double gam = (p - f) / q;
+        double rjmu = Exponentiation.sqrt((doubleInvX / Math.PI) / ((p - f) * gam + q));
+        if (rjl < 0) {
+            rjmu = -rjmu;
+        }
+
+        if (isJ) {
+            // 後退漸化式の初期値は sign であった
+            double value = sign * rjmu / rjl;
+            for (int k = 0; k < rescalingCount; k++) {
+                value *= RESCALING_FACTOR;
+            }
+            return value;
+        }
+
+        double rymu = rjmu * gam;
+        double rymup = rymu * (p + q / gam);
+        double ry1 = mu2 * invX * rymu - rymup;
+        return bY_byForwardRecursion(mu2, shift2, x, rymu, ry1);
+    }
+
+    /**
+     * 次数 m, m + 1 の J(x) から, 前進漸化式により次数 m + n の値を計算する. <br>
+     * {@literal m + n <= x} を前提とする (このとき安定).
+     */
+    private static double bJ_byForwardRecursion(double m, int n, double x, double jM, double jM1) {
+        final double doubleInvX = 2 / x;
+
+        double j0 = jM;
+        double j1 = jM1;
+        for (int i = 1; i <= n; i++) {
+            double j2 = (m + i) * doubleInvX * j1 - j0;
+            j0 = j1;
+            j1 = j2;
+        }
+        return j0;
+    }
+
+    /**
+     * 次数 m, m + 1 の Y(x) から, 前進漸化式により次数 m + n の値を計算する. <br>
+     * 途中でオーバーフローした場合は -&infin; を返す.
+     */
+    private static double bY_byForwardRecursion(double m, int n, double x, double yM, double yM1) {
+        final double doubleInvX = 2 / x;
+
+        double y0 = yM;
+        double y1 = yM1;
+        for (int i = 1; i <= n; i++) {
+            if (Double.isInfinite(y1)) {
+                return Double.NEGATIVE_INFINITY;
+            }
+            double y2 = (m + i) * doubleInvX * y1 - y0;
+            y0 = y1;
+            y1 = y2;
+        }
+        return y0;
+    }
+
+    @Override
+    public String toString() {
+        return "RealOrderBesselFunction(order = %s)"
+                .formatted(this.order());
+    }
+}
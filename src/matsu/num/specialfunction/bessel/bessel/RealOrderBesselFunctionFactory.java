@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.9
+ */
+package matsu.num.specialfunction.bessel.bessel;
+
+import static matsu.num.specialfunction.bessel.RealOrderBesselFunction.*;
+
+import matsu.num.specialfunction.bessel.RealOrderBesselFunction;
+
+/**
+ * 実数次のBessel関数のファクトリを扱う.
+ * 
+ * @author Matsuura Y.
+ */
+public final class RealOrderBesselFunctionFactory {
+
+    private RealOrderBesselFunctionFactory() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 指定した次数の実数次Bessel関数計算インスタンスを返す.
+     * 
+     * @param order &nu;, 次数
+     * @return &nu;次のBessel関数を計算するインスタンス
+     * @throws IllegalArgumentException 次数がサポート外の場合
+     */
+    public static RealOrderBesselFunction instanceOf(double order) {
+        if (!acceptsParameter(order)) {
+            throw new IllegalArgumentException(
+                    "Illegal parameter: order = %s".formatted(order));
+        }
+        return new RealOrderBessel(order);
+    }
+}
@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.7.6
+ * 2025.7.29
  */
 package matsu.num.specialfunction.bessel.bessel;
 
@@ -42,6 +42,55 @@ abstract class SkeletalBessel implements BesselFunction {
         return this.order;
     }
 
+    /**
+     * {@link #besselJ(double)} の値を単精度に丸めて返す. <br>
+     * 単精度向けの専用の実装を持つ場合はオーバーライドすること.
+     */
+    @Override
+    public float besselJFloat(float x) {
+        return (float) this.besselJ(x);
+    }
+
+    @Override
+    public final void besselJFloat(float[] xs, float[] results) {
+        final int length = xs.length;
+        if (results.length != length) {
+            throw new IllegalArgumentException("length mismatch");
+        }
+        for (int i = 0; i < length; i++) {
+            results[i] = this.besselJFloat(xs[i]);
+        }
+    }
+
+    @Override
+    public final double besselJZero(int k) {
+        return BesselZeros.of(this.order).zeroJ(k);
+    }
+
+    @Override
+    public final double besselYZero(int k) {
+        return BesselZeros.of(this.order).zeroY(k);
+    }
+
+    @Override
+    public final double[] besselJZeros(int count) {
+        return BesselZeros.of(this.order).zerosJ(count);
+    }
+
+    @Override
+    public final double[] besselYZeros(int count) {
+        return BesselZeros.of(this.order).zerosY(count);
+    }
+
+    @Override
+    public final BesselFunction compile(double xMin, double xMax, double tolerance) {
+        if (!(xMin >= 0 && xMin < xMax && Double.isFinite(xMax))) {
+            throw new IllegalArgumentException(
+                    "Illegal range: xMin = %s, xMax = %s".formatted(xMin, xMax));
+        }
+        return new CompiledBessel(this, xMin, xMax, tolerance);
+    }
+
     /**
      * このインスタンスの文字列表現を提供する.
      * 
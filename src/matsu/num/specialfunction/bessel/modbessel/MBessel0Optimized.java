@@ -58,7 +58,13 @@ final class MBessel0Optimized extends ModifiedBessel0thOrder {
     /**
      * exp(shift_x)
      */
-    private static final double EXP_OF_SHIFT_X_FOR_BESSEL_I = Math.exp(SHIFT_X_FOR_BESSEL_I);
+    private static final double EXP_OF_SHIFT_X_FOR_BESSEL_I = Exponentiation.exp(SHIFT_X_FOR_BESSEL_I);
+
+    /**
+     * 単精度のI(x)がオーバーフローするxの閾値. <br>
+     * (I(100) &asymp; 1E+42 &gt; Float.MAX_VALUE)
+     */
+    private static final double BOUNDARY_X_OVERFLOW_FOR_FLOAT = 100d;
 
     MBessel0Optimized() {
         super();
@@ -511,4 +517,128 @@ final class MBessel0Optimized extends ModifiedBessel0thOrder {
 
         return v0 + t4 * (v4 + t4 * v8);
     }
+
+    @Override
+    public float besselIFloat(float x) {
+        if (!(x >= 0)) {
+            return Float.NaN;
+        }
+
+        if (x < BOUNDARY_X_SELECTING_ACCURATE_OR_EXP_FOR_BESSEL_I) {
+            return (float) mbI_byPower_forFloat(x);
+        }
+        if (x >= BOUNDARY_X_OVERFLOW_FOR_FLOAT) {
+            return Float.POSITIVE_INFINITY;
+        }
+
+        return (float) (scaling_mbI_forFloat(1d / x) * SQRT_INV_2PI / Exponentiation.sqrt(x)
+                * Exponentiation.exp(x));
+    }
+
+    /**
+     * べき級数のminimax近似による I(x) (単精度向け)
+     */
+    private static double mbI_byPower_forFloat(double x) {
+        final double halfX = x / 2d;
+        final double u = halfX * halfX;
+
+        final double C0 = 0.99999999899871048918659949751652;
+        final double C1 = 1.0000000720726917229383836532077;
+        final double C2 = 0.24999916036704441824507485763567;
+        final double C3 = 0.027781349499699643377817694258989;
+        final double C4 = 0.0017292621361660256100196983173949;
+        final double C5 = 0.000075458240005327134272222839487776;
+
+        final double u2 = u * u;
+
+        final double v0 = C0 + u * C1 + u2 * (C2 + u * C3);
+        final double v4 = C4 + u * C5;
+
+        final double u4 = u2 * u2;
+        return v0 + u4 * v4;
+    }
+
+    /**
+     * {@literal 0 <= t <= 1/2} (t = 1/x) について,
+     * I(x)exp(-x)sqrt(2&pi;x) を単精度向けの精度で計算する.
+     */
+    private static double scaling_mbI_forFloat(double t) {
+        assert t >= 0;
+        assert t <= 0.5;
+
+        switch ((int) (t * 8)) {
+            case 0:
+                return scaling_mbI_0_to_1_over8_forFloat(t);
+            case 1:
+                return scaling_mbI_1_to_2_over8_forFloat(t);
+            default:
+                return scaling_mbI_2_to_4_over8_forFloat(t);
+        }
+    }
+
+    private static double scaling_mbI_0_to_1_over8_forFloat(double t) {
+        assert t >= 0;
+        assert t <= 1d / 8;
+
+        final double C0 = 0.99999999380161137520391477765329;
+        final double C1 = 0.12500354464826998065767828019587;
+        final double C2 = 0.069993920182305424133272491659727;
+        final double C3 = 0.083303712902677526900684242319729;
+        final double C4 = -0.022139295179787468717425300031200;
+        final double C5 = 0.93245300750186105718562406708314;
+
+        final double t2 = t * t;
+
+        final double v0 = C0 + t * C1 + t2 * (C2 + t * C3);
+        final double v4 = C4 + t * C5;
+
+        final double t4 = t2 * t2;
+        return v0 + t4 * v4;
+    }
+
+    private static double scaling_mbI_1_to_2_over8_forFloat(double t) {
+        assert t >= 1d / 8;
+        assert t <= 2d / 8;
+
+        final double s = t - 0.1875;
+
+        final double C0 = 1.0266463363866930519984881554046;
+        final double C1 = 0.16560289370251858771453715082885;
+        final double C2 = 0.17692660598424358262816805673364;
+        final double C3 = 0.32976422615176931670932717415943;
+        final double C4 = -0.53507871155549482712737212402542;
+        final double C5 = -6.5681322518049970695768831547314;
+
+        final double s2 = s * s;
+
+        final double v0 = C0 + s * C1 + s2 * (C2 + s * C3);
+        final double v4 = C4 + s * C5;
+
+        final double s4 = s2 * s2;
+        return v0 + s4 * v4;
+    }
+
+    private static double scaling_mbI_2_to_4_over8_forFloat(double t) {
+        assert t >= 2d / 8;
+        assert t <= 4d / 8;
+
+        final double s = t - 0.375;
+
+        final double C0 = 1.0644630339766944906311803471898;
+        final double C1 = 0.23108009631287614594496365646365;
+        final double C2 = 0.080860772531535254068190459242515;
+        final double C3 = -0.52048387036312458272777206604616;
+        final double C4 = -0.076865639755658901095592109706101;
+        final double C5 = 2.3868524586619072701370256780826;
+        final double C6 = -3.6958564256708916915680628327593;
+        final double C7 = -2.9003111182536747893418069892451;
+
+        final double s2 = s * s;
+
+        final double v0 = C0 + s * C1 + s2 * (C2 + s * C3);
+        final double v4 = C4 + s * C5 + s2 * (C6 + s * C7);
+
+        final double s4 = s2 * s2;
+        return v0 + s4 * v4;
+    }
 }
@@ -59,7 +59,13 @@ final class MBessel1Optimized extends ModifiedBessel1stOrder {
     /**
      * exp(shift_x)
      */
-    private static final double EXP_OF_SHIFT_X_FOR_BESSEL_I = Math.exp(SHIFT_X_FOR_BESSEL_I);
+    private static final double EXP_OF_SHIFT_X_FOR_BESSEL_I = Exponentiation.exp(SHIFT_X_FOR_BESSEL_I);
+
+    /**
+     * 単精度のI(x)がオーバーフローするxの閾値. <br>
+     * (I(100) &asymp; 1E+42 &gt; Float.MAX_VALUE)
+     */
+    private static final double BOUNDARY_X_OVERFLOW_FOR_FLOAT = 100d;
 
     MBessel1Optimized() {
         super();
@@ -523,4 +529,127 @@ final class MBessel1Optimized extends ModifiedBessel1stOrder {
 
         return v0 + t4 * (v4 + t4 * v8);
     }
+
+    @Override
+    public float besselIFloat(float x) {
+        if (!(x >= 0)) {
+            return Float.NaN;
+        }
+
+        if (x < BOUNDARY_X_SELECTING_ACCURATE_OR_EXP_FOR_BESSEL_I) {
+            return (float) mbI_byPower_forFloat(x);
+        }
+        if (x >= BOUNDARY_X_OVERFLOW_FOR_FLOAT) {
+            return Float.POSITIVE_INFINITY;
+        }
+
+        return (float) (scaling_mbI_forFloat(1d / x) * SQRT_INV_2PI / Exponentiation.sqrt(x)
+                * Exponentiation.exp(x));
+    }
+
+    /**
+     * べき級数のminimax近似による I(x) (単精度向け)
+     */
+    private static double mbI_byPower_forFloat(double x) {
+        final double halfX = x / 2d;
+        final double u = halfX * halfX;
+
+        final double C0 = 1.0000000239909711875166129983084;
+        final double C1 = 0.49999880101424659301843362825536;
+        final double C2 = 0.083342901591403139799811318424639;
+        final double C3 = 0.0069177991822300475073160218951572;
+        final double C4 = 0.00037730429460958221421924262098238;
+
+        final double u2 = u * u;
+
+        final double v0 = C0 + u * C1 + u2 * (C2 + u * C3);
+        final double v4 = C4;
+
+        final double u4 = u2 * u2;
+        return (v0 + u4 * v4) * halfX;
+    }
+
+    /**
+     * {@literal 0 <= t <= 1/2} (t = 1/x) について,
+     * I(x)exp(-x)sqrt(2&pi;x) を単精度向けの精度で計算する.
+     */
+    private static double scaling_mbI_forFloat(double t) {
+        assert t >= 0;
+        assert t <= 0.5;
+
+        switch ((int) (t * 8)) {
+            case 0:
+                return scaling_mbI_0_to_1_over8_forFloat(t);
+            case 1:
+                return scaling_mbI_1_to_2_over8_forFloat(t);
+            default:
+                return scaling_mbI_2_to_4_over8_forFloat(t);
+        }
+    }
+
+    private static double scaling_mbI_0_to_1_over8_forFloat(double t) {
+        assert t >= 0;
+        assert t <= 1d / 8;
+
+        final double C0 = 1.0000000070109825369189375156909;
+        final double C1 = -0.37500400977176655854842880771868;
+        final double C2 = -0.11682691091975928087033330178125;
+        final double C3 = -0.11394112607601525738167755101889;
+        final double C4 = 0.0083483440746499064641481089678595;
+        final double C5 = -1.0831368979876516513138004427523;
+
+        final double t2 = t * t;
+
+        final double v0 = C0 + t * C1 + t2 * (C2 + t * C3);
+        final double v4 = C4 + t * C5;
+
+        final double t4 = t2 * t2;
+        return v0 + t4 * v4;
+    }
+
+    private static double scaling_mbI_1_to_2_over8_forFloat(double t) {
+        assert t >= 1d / 8;
+        assert t <= 2d / 8;
+
+        final double s = t - 0.1875;
+
+        final double C0 = 0.92457626440350530489288265363153;
+        final double C1 = -0.43778975071877711843868531331057;
+        final double C2 = -0.25564035336580673141435208772343;
+        final double C3 = -0.43439743711237413758236977829006;
+        final double C4 = 0.45859794396286228736718140827994;
+        final double C5 = 7.4243582631558060356462043074037;
+
+        final double s2 = s * s;
+
+        final double v0 = C0 + s * C1 + s2 * (C2 + s * C3);
+        final double v4 = C4 + s * C5;
+
+        final double s4 = s2 * s2;
+        return v0 + s4 * v4;
+    }
+
+    private static double scaling_mbI_2_to_4_over8_forFloat(double t) {
+        assert t >= 2d / 8;
+        assert t <= 4d / 8;
+
+        final double s = t - 0.375;
+
+        final double C0 = 0.83238060794946467598798674646116;
+        final double C1 = -0.54052336985428224655993308905285;
+        final double C2 = -0.18267589646193457261768476318676;
+        final double C3 = 0.58438105870676195531793997227487;
+        final double C4 = 0.31857296205088375618793555830252;
+        final double C5 = -2.7995990049894901044454785872177;
+        final double C6 = 3.3374165185407498098848739215857;
+        final double C7 = 5.1527721572845755567277612374905;
+
+        final double s2 = s * s;
+
+        final double v0 = C0 + s * C1 + s2 * (C2 + s * C3);
+        final double v4 = C4 + s * C5 + s2 * (C6 + s * C7);
+
+        final double s4 = s2 * s2;
+        return v0 + s4 * v4;
+    }
 }
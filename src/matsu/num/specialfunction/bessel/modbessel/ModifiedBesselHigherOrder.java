@@ -25,6 +25,23 @@ abstract class ModifiedBesselHigherOrder extends SkeletalModifiedBessel {
      */
     private static final double BOUNDARY_X_SELECTING_RAW_OR_SCALING_FOR_BESSEL_K = 2d;
 
+    /**
+     * K(x)の対数値を主要項のみで求めるxの閾値. <br>
+     * 主要項に対する相対補正は x^2/(4(n - 1)) 程度であり, 下側では無視できる.
+     */
+    private static final double BOUNDARY_X_LEADING_TERM_FOR_LOG_K = 1E-8;
+
+    /**
+     * 対数値のための前進漸化式で, 値をスケーリングする閾値. <br>
+     * 1ステップでの増大率は 2n/x (&lt; 2E+10) 以下であるため, オーバーフローしない.
+     */
+    private static final double RESCALING_THRESHOLD = 1E250;
+
+    /**
+     * log(RESCALING_THRESHOLD)
+     */
+    private static final double LOG_RESCALING_THRESHOLD = Exponentiation.log(RESCALING_THRESHOLD);
+
     protected final ModifiedBessel0thOrder mbessel0;
     protected final ModifiedBessel1stOrder mbessel1;
 
@@ -66,6 +83,37 @@ abstract class ModifiedBesselHigherOrder extends SkeletalModifiedBessel {
         return this.besselKc_byForwardRecursion(x);
     }
 
+    /**
+     * K(x)exp(x) がオーバーフローする場合 (x が小さい場合),
+     * 値をスケーリングしながら前進漸化式を進め, 対数値を求める.
+     */
+    @Override
+    final double logBesselK_whenOverflow(double x) {
+        if (x < BOUNDARY_X_LEADING_TERM_FOR_LOG_K) {
+            return this.logBesselK_byLeadingTerm(x);
+        }
+
+        final double doubleInvX = 2d / x;
+
+        double v_nu_minus_1 = this.mbessel0.besselK(x);
+        double v_nu = this.mbessel1.besselK(x);
+        int rescalingCount = 0;
+
+        for (int n = 1; n < this.order; n++) {
+            double v_nu_plus_1 = v_nu_minus_1 + n * doubleInvX * v_nu;
+
+            v_nu_minus_1 = v_nu;
+            v_nu = v_nu_plus_1;
+
+            if (v_nu > RESCALING_THRESHOLD) {
+                v_nu_minus_1 /= RESCALING_THRESHOLD;
+                v_nu /= RESCALING_THRESHOLD;
+                rescalingCount++;
+            }
+        }
+        return Exponentiation.log(v_nu) + rescalingCount * LOG_RESCALING_THRESHOLD;
+    }
+
     /**
      * 前進漸化式に従って K(x) を求める.
      */
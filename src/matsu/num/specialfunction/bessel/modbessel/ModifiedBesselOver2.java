@@ -52,7 +52,7 @@ final class ModifiedBesselOver2 extends ModifiedBesselHigherOrder {
     /**
      * exp(shift_x)
      */
-    private static final double EXP_OF_SHIFT_X_FOR_BESSEL_I = Math.exp(SHIFT_X_FOR_BESSEL_I);
+    private static final double EXP_OF_SHIFT_X_FOR_BESSEL_I = Exponentiation.exp(SHIFT_X_FOR_BESSEL_I);
 
     /**
      * I(x)についてアルゴリズムを切り替えるxの上側の閾値. <br>
@@ -0,0 +1,383 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.9
+ */
+package matsu.num.specialfunction.bessel.modbessel;
+
+import matsu.num.specialfunction.bessel.RealOrderModifiedBesselFunction;
+import matsu.num.specialfunction.bessel.basecomponent.ModifiedBesselRatio;
+import matsu.num.specialfunction.bessel.basecomponent.TemmeCoefficients;
+import matsu.num.specialfunction.common.AlgorithmBranch;
+import matsu.num.specialfunction.common.Exponentiation;
+import matsu.num.specialfunction.common.Instrumentation;
+import matsu.num.specialfunction.common.IterativeLoop;
+
+/**
+ * 実数次の変形 Bessel 関数の実装.
+ * 
+ * <p>
+ * 次数を &nu; = &mu; + <i>n</i>
+ * (<i>n</i> は整数, -1/2 &le; &mu; &lt; 1/2) と分解し,
+ * <i>K</i><sub>&mu;</sub>, <i>K</i><sub>&mu;+1</sub>
+ * を求めてから前進漸化式 (安定) により <i>K</i><sub>&nu;</sub> を得る. <br>
+ * <i>K</i><sub>&mu;</sub>, <i>K</i><sub>&mu;+1</sub> は,
+ * {@literal x < 2} では Temme の級数により,
+ * それ以外では Steed の方法による連分数
+ * (exp(-<i>x</i>) を含まない, スケーリングした値) により計算する.
+ * </p>
+ * 
+ * <p>
+ * <i>I</i><sub>&nu;</sub> は,
+ * {@literal x < 2} ではべき級数により計算する. <br>
+ * それ以外では, 比 <i>I</i><sub>&nu;+1</sub> / <i>I</i><sub>&nu;</sub>
+ * ({@link ModifiedBesselRatio}) から対数微分を求め,
+ * 後退漸化式により次数 &mu; の対数微分を得て,
+ * Wronskian <i>I</i><sub>&mu;</sub><i>K</i>'<sub>&mu;</sub> -
+ * <i>I</i>'<sub>&mu;</sub><i>K</i><sub>&mu;</sub> = -1/<i>x</i>
+ * により規格化する.
+ * </p>
+ * 
+ * <p>
+ * 次数のみに依存する係数 ({@link TemmeCoefficients}, 1/&Gamma;(&nu; + 1))
+ * はコンストラクタで計算する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class RealOrderModifiedBessel implements RealOrderModifiedBesselFunction {
+
+    /**
+     * アルゴリズムを切り替えるxの閾値. <br>
+     * 下側はべき級数 (Temme の級数), 上側は連分数.
+     */
+    private static final double BOUNDARY_X_SELECTING_SERIES_OR_CONTINUED_FRACTION = 2d;
+
+    /**
+     * {@literal x < 2} のべき級数の項数の上限. <br>
+     * 第 <i>k</i> 項は 1/(<i>k</i>!)<sup>2</sup> 以下であるため, 十分である.
+     */
+    private static final int K_MAX_BY_POWER = 20;
+
+    private static final int MAX_ITERATION_TEMME = 100;
+    private static final int MAX_ITERATION_STEED = 10000;
+    private static final double EPSILON = 1E-16;
+
+    /**
+     * 後退漸化式において値を縮小する閾値と, その縮小率.
+     */
+    private static final double RESCALING_THRESHOLD = 1E200;
+    private static final double RESCALING_FACTOR = 1E-200;
+
+    private final double nu;
+
+    /**
+     * 漸化式の段数 <i>n</i> = &nu; - &mu;.
+     */
+    private final int shift;
+
+    private final TemmeCoefficients temme;
+    private final double invGammaNuPlus1;
+
+    /**
+     * 与えた次数の変形 Bessel 関数を生成する.
+     * 
+     * @param nu 次数, 適合していなければならない
+     */
+    RealOrderModifiedBessel(double nu) {
+        super();
+        this.nu = nu;
+        this.shift = (int) (nu + 0.5);
+        this.temme = new TemmeCoefficients(nu - this.shift);
+        this.invGammaNuPlus1 = this.temme.invGammaOnePlusMuPlus(this.shift);
+    }
+
+    @Override
+    public double order() {
+        return this.nu;
+    }
+
+    @Override
+    public double besselI(double x) {
+        if (!(x >= 0)) {
+            return Double.NaN;
+        }
+        if (x < BOUNDARY_X_SELECTING_SERIES_OR_CONTINUED_FRACTION) {
+            Instrumentation.branch(AlgorithmBranch.BESSEL_POWER_SERIES);
+            return this.bI_byPower(x);
+        }
+        if (x == Double.POSITIVE_INFINITY) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        Instrumentation.branch(AlgorithmBranch.BESSEL_CONTINUED_FRACTION);
+        // exp(x) のオーバーフローを I(x) のオーバーフローに揃えるため, 2回に分ける
+        double expHalfX = Exponentiation.exp(x / 2);
+        return (this.bIc_byWronskian(x) * expHalfX) * expHalfX;
+    }
+
+    @Override
+    public double besselIc(double x) {
+        if (!(x >= 0)) {
+            return Double.NaN;
+        }
+        if (x < BOUNDARY_X_SELECTING_SERIES_OR_CONTINUED_FRACTION) {
+            Instrumentation.branch(AlgorithmBranch.BESSEL_POWER_SERIES);
+            return this.bI_byPower(x) * Exponentiation.exp(-x);
+        }
+        if (x == Double.POSITIVE_INFINITY) {
+            return 0d;
+        }
+
+        Instrumentation.branch(AlgorithmBranch.BESSEL_CONTINUED_FRACTION);
+        return this.bIc_byWronskian(x);
+    }
+
+    @Override
+    public double besselK(double x) {
+        if (!(x >= 0)) {
+            return Double.NaN;
+        }
+        if (x == 0d) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if (x < BOUNDARY_X_SELECTING_SERIES_OR_CONTINUED_FRACTION) {
+            Instrumentation.branch(AlgorithmBranch.BESSEL_POWER_SERIES);
+            return this.bK_byTemme(x);
+        }
+        if (x == Double.POSITIVE_INFINITY) {
+            return 0d;
+        }
+
+        Instrumentation.branch(AlgorithmBranch.BESSEL_CONTINUED_FRACTION);
+        return this.bKc_bySteed(x) * Exponentiation.exp(-x);
+    }
+
+    @Override
+    public double besselKc(double x) {
+        if (!(x >= 0)) {
+            return Double.NaN;
+        }
+        if (x == 0d) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if (x < BOUNDARY_X_SELECTING_SERIES_OR_CONTINUED_FRACTION) {
+            Instrumentation.branch(AlgorithmBranch.BESSEL_POWER_SERIES);
+            return this.bK_byTemme(x) * Exponentiation.exp(x);
+        }
+        if (x == Double.POSITIVE_INFINITY) {
+            return 0d;
+        }
+
+        Instrumentation.branch(AlgorithmBranch.BESSEL_CONTINUED_FRACTION);
+        return this.bKc_bySteed(x);
+    }
+
+    /**
+     * べき級数による I(x). <br>
+     * {@literal 0 <= x < 2} を前提とする.
+     */
+    private double bI_byPower(double x) {
+        final double nu = this.nu;
+        final double halfX = x / 2;
+        final double squareHalfX = halfX * halfX;
+
+        double term = 1;
+        double sum = 1;
+        for (int k = 1; k <= K_MAX_BY_POWER; k++) {
+            term *= squareHalfX / (k * (nu + k));
+            sum += term;
+            if (term <= EPSILON * sum) {
+                break;
+            }
+        }
+        return Exponentiation.pow(halfX, nu) * this.invGammaNuPlus1 * sum;
+    }
+
+    /**
+     * Temme の級数と前進漸化式による K(x). <br>
+     * {@literal 0 < x < 2} を前提とする.
+     */
+    private double bK_byTemme(double x) {
+        final TemmeCoefficients temme = this.temme;
+        final double mu = temme.mu();
+        final double mu2 = mu * mu;
+        final double halfX = x / 2;
+
+        final double d = -Exponentiation.log(halfX);
+        final double e = mu * d;
+        final double expE = Exponentiation.exp(e);
+        final double coshE = (expE + 1 / expE) / 2;
+        final double sinhEOverE = sinhc(e, expE);
+
+        double ff = temme.piMuOverSinPiMu()
+                * (temme.gamma1() * coshE + temme.gamma2() * sinhEOverE * d);
+        double p = 0.5 * expE / temme.invGammaOnePlusMu();
+        double q = 0.5 / (expE * temme.invGammaOneMinusMu());
+        double c = 1;
+        final double squareHalfX = halfX * halfX;
+        double sum = ff;
+        double sum1 = p;
+
+        int i = 1;
+        boolean converged = false;
+        for (; i <= MAX_ITERATION_TEMME; i++) {
+            ff = (i * ff + p + q) / (i * i - mu2);
+            c *= squareHalfX / i;
+            p /= i - mu;
+            q /= i + mu;
+            double del = c * ff;
+            sum += del;
+            sum1 += c * (p - i * ff);
+            if (Math.abs(del) < Math.abs(sum) * EPSILON) {
+                converged = true;
+                break;
+            }
+        }
+        Instrumentation.iterations(IterativeLoop.BESSEL_TEMME_SERIES, i, converged);
+
+        return this.bK_byForwardRecursion(x, sum, sum1 * (2 / x));
+    }
+
+    /**
+     * sinh(e)/e を返す. <br>
+     * |e| が小さい場合は桁落ちを避けるため expm1 を用いる.
+     */
+    private static double sinhc(double e, double expE) {
+        if (Math.abs(e) >= 1d) {
+            return (expE - 1 / expE) / (2 * e);
+        }
+        if (e == 0d) {
+            return 1d;
+        }
+        double expm1E = Exponentiation.expm1(e);
+        return expm1E * (expm1E + 2) / (2 * (expm1E + 1) * e);
+    }
+
+    /**
+     * Steed の方法による, スケーリングした K(x). <br>
+     * {@literal 2 <= x < inf} を前提とする.
+     */
+    private double bKc_bySteed(double x) {
+        double[] kcMu = new double[2];
+        this.kcMu_bySteed(x, kcMu);
+        return this.bK_byForwardRecursion(x, kcMu[0], kcMu[1]);
+    }
+
+    /**
+     * 次数 &mu;, &mu; + 1 の K(x) (またはスケーリングした値) から,
+     * 前進漸化式により次数 &nu; の値を計算する.
+     */
+    private double bK_byForwardRecursion(double x, double kMu, double kMu1) {
+        final double mu = this.temme.mu();
+        final double doubleInvX = 2 / x;
+
+        double k0 = kMu;
+        double k1 = kMu1;
+        for (int i = 1; i <= this.shift; i++) {
+            double k2 = (mu + i) * doubleInvX * k1 + k0;
+            k0 = k1;
+            k1 = k2;
+        }
+        return k0;
+    }
+
+    /**
+     * Steed の方法による連分数により,
+     * スケーリングした K<sub>&mu;</sub>(x), K<sub>&mu;+1</sub>(x)
+     * を計算し, 引数の配列 (長さ2) に格納する. <br>
+     * {@literal 2 <= x < inf} を前提とする.
+     */
+    private void kcMu_bySteed(double x, double[] dest) {
+        final double mu = this.temme.mu();
+        final double a1 = 0.25 - mu * mu;
+
+        double b = 2 * (1 + x);
+        double d = 1 / b;
+        double h = d;
+        double delh = d;
+        double q1 = 0;
+        double q2 = 1;
+        double q = a1;
+        double c = a1;
+        double a = -a1;
+        double s = 1 + q * delh;
+
+        int i = 2;
+        boolean converged = false;
+        for (; i <= MAX_ITERATION_STEED; i++) {
+            a -= 2 * (i - 1);
+            c = -a * c / i;
+            double qnew = (q1 - b * q2) / a;
+            q1 = q2;
+            q2 = qnew;
+            q += c * qnew;
+            b += 2;
+            d = 1 / (b + a * d);
+            delh = (b * d - 1) * delh;
+            h += delh;
+            double dels = q * delh;
+            s += dels;
+            if (Math.abs(dels) < Math.abs(s) * EPSILON) {
+                converged = true;
+                break;
+            }
+        }
+        Instrumentation.iterations(IterativeLoop.BESSEL_STEED_FACTOR, i, converged);
+
+        h *= a1;
+        double kcMu = Exponentiation.sqrt(Math.PI / (2 * x)) / s;
+        dest[0] = kcMu;
+        dest[1] = kcMu * (mu + x + 0.5 - h) / x;
+    }
+
+    /**
+     * Wronskian による, スケーリングした I(x). <br>
+     * {@literal 2 <= x < inf} を前提とする.
+     */
+    private double bIc_byWronskian(double x) {
+        final double nu = this.nu;
+        final double mu = this.temme.mu();
+        final double invX = 1 / x;
+
+        // 後退漸化式: 値 ril と微分 ripl の組を, 任意の規格化で次数 nu から mu まで下げる
+        double ril = 1;
+        double ripl = nu * invX + ModifiedBesselRatio.ratio(nu, x);
+        int rescalingCount = 0;
+        // (mu + l)/x は, 減算の累積による誤差を避けるため各段で直接計算する
+        for (int l = this.shift; l >= 1; l--) {
+            double ritemp = (mu + l) * invX * ril + ripl;
+            ripl = (mu + (l - 1)) * invX * ritemp + ril;
+            ril = ritemp;
+
+            if (ril >= RESCALING_THRESHOLD) {
+                ril *= RESCALING_FACTOR;
+                ripl *= RESCALING_FACTOR;
+                rescalingCount++;
+            }
+        }
+        double fMu = ripl / ril;
+
+        double[] kcMu = new double[2];
+        this.kcMu_bySteed(x, kcMu);
+        // K'_mu = (mu/x) K_mu - K_{mu+1}
+        double kcMuPrime = mu * invX * kcMu[0] - kcMu[1];
+        double icMu = invX / (fMu * kcMu[0] - kcMuPrime);
+
+        double value = icMu / ril;
+        for (int j = 0; j < rescalingCount; j++) {
+            value *= RESCALING_FACTOR;
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "RealOrderModifiedBesselFunction(order = %s)"
+                .formatted(this.order());
+    }
+}
@@ -9,21 +9,55 @@
  */
 package matsu.num.specialfunction.bessel.modbessel;
 
+import matsu.num.specialfunction.GammaFunction;
 import matsu.num.specialfunction.bessel.ModifiedBesselFunction;
+import matsu.num.specialfunction.bessel.basecomponent.ModifiedBesselRatio;
+import matsu.num.specialfunction.common.Exponentiation;
 
 /**
  * {@link ModifiedBesselFunction} の骨格実装. <br>
  * 主に, 文字列表現 ({@link #toString()})の実装を提供する.
  * 
+ * <p>
+ * 対数値は, スケーリングした値が正規化数の範囲にある場合はその対数により計算する. <br>
+ * そうでない場合, <i>I<sub>n</sub></i> は対数空間での前因子
+ * <i>n</i> log(<i>x</i>/2) - log(<i>n</i>!)
+ * とべき級数の対数の和により,
+ * <i>K<sub>n</sub></i> は小さな <i>x</i> における主要項
+ * log(&Gamma;(<i>n</i>)/2) + <i>n</i> log(2/<i>x</i>)
+ * により計算する
+ * (2次以上では前進漸化式によるものでオーバーライドされる).
+ * </p>
+ * 
  * @author Matsuura Y.
  */
 abstract class SkeletalModifiedBessel implements ModifiedBesselFunction {
 
+    /**
+     * 対数値の計算においてスケーリングした値を用いる下限.
+     */
+    private static final double MIN_SCALED_VALUE_FOR_LOG = 1E-290;
+
+    /**
+     * 対数値の計算において, I(x)をべき級数で計算するxの上限. <br>
+     * 0次の log I(x) &asymp; x^2/4 が桁落ちしないように, 小さな x では常に級数を用いる.
+     */
+    private static final double MAX_X_FOR_LOG_I_BY_POWER = 1d;
+
+    private static final double EPSILON_SERIES = 1E-17;
+
+    private static final double LN2 = Exponentiation.log(2);
+
     /**
      * この変形Bessel関数の次数.
      */
     final int order;
 
+    /**
+     * log(1/<i>n</i>!)
+     */
+    private final double logInverseFactorial;
+
     /**
      * 唯一のコンストラクタ
      * 
@@ -35,6 +69,7 @@ abstract class SkeletalModifiedBessel implements ModifiedBesselFunction {
         super();
 
         this.order = order;
+        this.logInverseFactorial = -GammaFunction.lgamma(order + 1);
     }
 
     @Override
@@ -42,6 +77,107 @@ abstract class SkeletalModifiedBessel implements ModifiedBesselFunction {
         return this.order;
     }
 
+    /**
+     * {@link #besselI(double)} の値を単精度に丸めて返す. <br>
+     * 単精度向けの専用の実装を持つ場合はオーバーライドすること.
+     */
+    @Override
+    public float besselIFloat(float x) {
+        return (float) this.besselI(x);
+    }
+
+    @Override
+    public final void besselIFloat(float[] xs, float[] results) {
+        final int length = xs.length;
+        if (results.length != length) {
+            throw new IllegalArgumentException("length mismatch");
+        }
+        for (int i = 0; i < length; i++) {
+            results[i] = this.besselIFloat(xs[i]);
+        }
+    }
+
+    @Override
+    public final double logBesselI(double x) {
+        if (!(x >= 0)) {
+            return Double.NaN;
+        }
+        if (x == 0d) {
+            return this.order == 0 ? 0d : Double.NEGATIVE_INFINITY;
+        }
+        if (x == Double.POSITIVE_INFINITY) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        if (x > MAX_X_FOR_LOG_I_BY_POWER) {
+            double scaled = this.besselIc(x);
+            if (scaled >= MIN_SCALED_VALUE_FOR_LOG) {
+                return Exponentiation.log(scaled) + x;
+            }
+        }
+
+        // 小さな x, または I(x)がアンダーフローする場合 (このとき x は小さい) は, 級数は速やかに収束する
+        final double squareHalfX = 0.25 * x * x;
+        final int order = this.order;
+        double term = 1;
+        double tail = 0;
+        for (int k = 1; term > EPSILON_SERIES * (1 + tail); k++) {
+            term *= squareHalfX / (k * (k + order));
+            tail += term;
+        }
+        return order * Exponentiation.log(0.5 * x) + this.logInverseFactorial
+                + Exponentiation.log1p(tail);
+    }
+
+    @Override
+    public final double logBesselK(double x) {
+        if (!(x >= 0)) {
+            return Double.NaN;
+        }
+        if (x == 0d) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if (x == Double.POSITIVE_INFINITY) {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        double scaled = this.besselKc(x);
+        if (scaled < Double.POSITIVE_INFINITY) {
+            return Exponentiation.log(scaled) - x;
+        }
+        return this.logBesselK_whenOverflow(x);
+    }
+
+    /**
+     * K(x)exp(x) がオーバーフローする場合の log K(x) を計算する. <br>
+     * 主要項による. 次数に応じて適切にオーバーライドすること.
+     * 
+     * @param x x, 正
+     * @return log K(x)
+     */
+    double logBesselK_whenOverflow(double x) {
+        return this.logBesselK_byLeadingTerm(x);
+    }
+
+    /**
+     * 小さな <i>x</i> における主要項
+     * log(&Gamma;(<i>n</i>)/2) + <i>n</i> log(2/<i>x</i>)
+     * により log <i>K<sub>n</sub></i>(<i>x</i>) を計算する. <br>
+     * 1次以上でのみ有効である.
+     * 
+     * @param x x, 正
+     * @return log K(x)
+     */
+    final double logBesselK_byLeadingTerm(double x) {
+        return GammaFunction.lgamma(this.order) - LN2
+                + this.order * (LN2 - Exponentiation.log(x));
+    }
+
+    @Override
+    public final double besselIRatio(double x) {
+        return ModifiedBesselRatio.ratio(this.order, x);
+    }
+
     /**
      * <p>
      * このインスタンスの文字列表現を返す.
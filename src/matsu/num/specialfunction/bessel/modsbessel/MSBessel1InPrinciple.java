@@ -44,7 +44,7 @@ final class MSBessel1InPrinciple extends MSBessel1 {
     /**
      * exp(shift_x)
      */
-    private static final double EXP_OF_SHIFT_X_FOR_BESSEL_I = Math.exp(SHIFT_X_FOR_BESSEL_I);
+    private static final double EXP_OF_SHIFT_X_FOR_BESSEL_I = Exponentiation.exp(SHIFT_X_FOR_BESSEL_I);
 
     /**
      * 1/exp(2*shift_x)
@@ -25,6 +25,23 @@ abstract class MSBesselHigherImplK extends SkeletalMSBessel {
      */
     private static final double BOUNDARY_X_SELECTING_RAW_OR_SCALING_FOR_BESSEL_K = 2d;
 
+    /**
+     * k(x)の対数値を主要項のみで求めるxの閾値. <br>
+     * 主要項に対する相対補正は x^2 程度であり, 下側では無視できる.
+     */
+    private static final double BOUNDARY_X_LEADING_TERM_FOR_LOG_K = 1E-8;
+
+    /**
+     * 対数値のための前進漸化式で, 値をスケーリングする閾値. <br>
+     * 1ステップでの増大率は (2n + 1)/x (&lt; 3E+10) 以下であるため, オーバーフローしない.
+     */
+    private static final double RESCALING_THRESHOLD = 1E250;
+
+    /**
+     * log(RESCALING_THRESHOLD)
+     */
+    private static final double LOG_RESCALING_THRESHOLD = Exponentiation.log(RESCALING_THRESHOLD);
+
     protected final MSBessel0 msbessel0;
     protected final MSBessel1 msbessel1;
 
@@ -63,6 +80,37 @@ abstract class MSBesselHigherImplK extends SkeletalMSBessel {
         return this.sbKc_byForwardRecursion(x);
     }
 
+    /**
+     * k(x)exp(x) がオーバーフローする場合 (x が小さい場合),
+     * 値をスケーリングしながら前進漸化式を進め, 対数値を求める.
+     */
+    @Override
+    final double logSbesselK_whenOverflow(double x) {
+        if (x < BOUNDARY_X_LEADING_TERM_FOR_LOG_K) {
+            return this.logSbesselK_byLeadingTerm(x);
+        }
+
+        final double invX = 1d / x;
+
+        double v_nu_minus_1 = this.msbessel0.sbesselK(x);
+        double v_nu = this.msbessel1.sbesselK(x);
+        int rescalingCount = 0;
+
+        for (int nu = 1; nu < this.order; nu++) {
+            double v_nu_plus_1 = v_nu_minus_1 + (2 * nu + 1) * invX * v_nu;
+
+            v_nu_minus_1 = v_nu;
+            v_nu = v_nu_plus_1;
+
+            if (v_nu > RESCALING_THRESHOLD) {
+                v_nu_minus_1 /= RESCALING_THRESHOLD;
+                v_nu /= RESCALING_THRESHOLD;
+                rescalingCount++;
+            }
+        }
+        return Exponentiation.log(v_nu) + rescalingCount * LOG_RESCALING_THRESHOLD;
+    }
+
     /**
      * 前進漸化式に従って k(x) を求める.
      */
@@ -9,21 +9,60 @@
  */
 package matsu.num.specialfunction.bessel.modsbessel;
 
+import matsu.num.specialfunction.GammaFunction;
 import matsu.num.specialfunction.bessel.ModifiedSphericalBesselFunction;
+import matsu.num.specialfunction.bessel.basecomponent.ModifiedBesselRatio;
+import matsu.num.specialfunction.common.Exponentiation;
 
 /**
  * ModifiedSphericalBessel関数の骨格実装. <br>
  * {@link #toString()} の実装を提供する.
  * 
+ * <p>
+ * 対数値は, スケーリングした値が正規化数の範囲にある場合はその対数により計算する. <br>
+ * そうでない場合, <i>i<sub>n</sub></i> は対数空間での前因子
+ * <i>n</i> log(<i>x</i>) - log((2<i>n</i> + 1)!!)
+ * とべき級数の対数の和により,
+ * <i>k<sub>n</sub></i> は小さな <i>x</i> における主要項
+ * log((2<i>n</i> - 1)!!) - (<i>n</i> + 1) log(<i>x</i>)
+ * により計算する
+ * (2次以上では前進漸化式によるものでオーバーライドされる).
+ * </p>
+ * 
  * @author Matsuura Y.
  */
 abstract class SkeletalMSBessel implements ModifiedSphericalBesselFunction {
 
+    /**
+     * 対数値の計算においてスケーリングした値を用いる下限.
+     */
+    private static final double MIN_SCALED_VALUE_FOR_LOG = 1E-290;
+
+    /**
+     * 対数値の計算において, i(x)をべき級数で計算するxの上限. <br>
+     * 0次の log i(x) &asymp; x^2/6 が桁落ちしないように, 小さな x では常に級数を用いる.
+     */
+    private static final double MAX_X_FOR_LOG_I_BY_POWER = 1d;
+
+    private static final double EPSILON_SERIES = 1E-17;
+
+    private static final double LN2 = Exponentiation.log(2);
+
     /**
      * この変形球Bessel関数が扱う次数.
      */
     final int order;
 
+    /**
+     * log((2n - 1)!!)
+     */
+    private final double logDoubleFactorial2nm1;
+
+    /**
+     * log(1/(2n + 1)!!)
+     */
+    private final double logInverseDoubleFactorial2np1;
+
     /**
      * 唯一のコンストラクタ.
      * 
@@ -35,6 +74,11 @@ abstract class SkeletalMSBessel implements ModifiedSphericalBesselFunction {
         super();
 
         this.order = order;
+
+        // (2n - 1)!! = (2n)!/(2^n n!)
+        this.logDoubleFactorial2nm1 =
+                GammaFunction.lgamma(2 * order + 1) - order * LN2 - GammaFunction.lgamma(order + 1);
+        this.logInverseDoubleFactorial2np1 = -(this.logDoubleFactorial2nm1 + Exponentiation.log(2 * order + 1));
     }
 
     @Override
@@ -42,6 +86,91 @@ abstract class SkeletalMSBessel implements ModifiedSphericalBesselFunction {
         return this.order;
     }
 
+    @Override
+    public final double logSbesselI(double x) {
+        if (!(x >= 0)) {
+            return Double.NaN;
+        }
+        if (x == 0d) {
+            return this.order == 0 ? 0d : Double.NEGATIVE_INFINITY;
+        }
+        if (x == Double.POSITIVE_INFINITY) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        if (x > MAX_X_FOR_LOG_I_BY_POWER) {
+            double scaled = this.sbesselIc(x);
+            if (scaled >= MIN_SCALED_VALUE_FOR_LOG) {
+                return Exponentiation.log(scaled) + x;
+            }
+        }
+
+        // 小さな x, または i(x)がアンダーフローする場合 (このとき x は小さい) は, 級数は速やかに収束する
+        final double halfSquareX = 0.5 * x * x;
+        final int n2_p_1 = 2 * this.order + 1;
+        double term = 1;
+        double tail = 0;
+        for (int k = 1; term > EPSILON_SERIES * (1 + tail); k++) {
+            term *= halfSquareX / (k * (2 * k + n2_p_1));
+            tail += term;
+        }
+        return this.order * Exponentiation.log(x) + this.logInverseDoubleFactorial2np1
+                + Exponentiation.log1p(tail);
+    }
+
+    @Override
+    public final double logSbesselK(double x) {
+        if (!(x >= 0)) {
+            return Double.NaN;
+        }
+        if (x == 0d) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if (x == Double.POSITIVE_INFINITY) {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        double scaled = this.sbesselKc(x);
+        if (scaled < Double.POSITIVE_INFINITY) {
+            return Exponentiation.log(scaled) - x;
+        }
+        return this.logSbesselK_whenOverflow(x);
+    }
+
+    /**
+     * k(x)exp(x) がオーバーフローする場合の log k(x) を計算する. <br>
+     * 主要項による. 次数に応じて適切にオーバーライドすること.
+     * 
+     * @param x x, 正
+     * @return log k(x)
+     */
+    double logSbesselK_whenOverflow(double x) {
+        return this.logSbesselK_byLeadingTerm(x);
+    }
+
+    /**
+     * 小さな <i>x</i> における主要項
+     * log((2<i>n</i> - 1)!!) - (<i>n</i> + 1) log(<i>x</i>)
+     * により log <i>k<sub>n</sub></i>(<i>x</i>) を計算する.
+     * 
+     * @param x x, 正
+     * @return log k(x)
+     */
+    final double logSbesselK_byLeadingTerm(double x) {
+        return this.logDoubleFactorial2nm1 - (this.order + 1) * Exponentiation.log(x);
+    }
+
+    /**
+     * <i>i<sub>n</sub></i>(<i>x</i>) =
+     * (&pi;/(2<i>x</i>))<sup>1/2</sup> <i>I</i><sub><i>n</i>+1/2</sub>(<i>x</i>)
+     * より, <i>I</i><sub><i>n</i>+3/2</sub>(<i>x</i>) / <i>I</i><sub><i>n</i>+1/2</sub>(<i>x</i>)
+     * として計算する.
+     */
+    @Override
+    public final double sbesselIRatio(double x) {
+        return ModifiedBesselRatio.ratio(this.order + 0.5, x);
+    }
+
     /**
      * このインスタンスの文字列表現を提供する.
      * 
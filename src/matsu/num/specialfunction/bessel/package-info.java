@@ -11,7 +11,11 @@
  * 
  * <p>
  * Bessel 関数のファミリーは定義上では非整数の次数も扱うことができるが,
- * このパッケージでは整数次のみを扱う.
+ * このパッケージでは主に整数次を扱う. <br>
+ * 非整数次を含む実数次の Bessel 関数, 変形 Bessel 関数は,
+ * {@link matsu.num.specialfunction.bessel.RealOrderBesselFunction},
+ * {@link matsu.num.specialfunction.bessel.RealOrderModifiedBesselFunction}
+ * が扱う.
  * </p>
  */
 package matsu.num.specialfunction.bessel;
@@ -9,6 +9,7 @@
  */
 package matsu.num.specialfunction.bessel.sbessel;
 
+import matsu.num.specialfunction.common.SinCos;
 import matsu.num.specialfunction.common.Trigonometry;
 
 /**
@@ -46,8 +47,9 @@ final class SBessel1InPrinciple extends SBessel1 {
             return sbJ_byPower(x);
         }
 
-        double sin = Trigonometry.sin(x);
-        double cos = Trigonometry.cos(x);
+        SinCos sincos = Trigonometry.sincos(x);
+        double sin = sincos.sin();
+        double cos = sincos.cos();
         double invX = 1 / x;
 
         return Double.isFinite(cos) && Double.isFinite(sin)
@@ -79,8 +81,9 @@ final class SBessel1InPrinciple extends SBessel1 {
             return Double.NEGATIVE_INFINITY;
         }
 
-        double sin = Trigonometry.sin(x);
-        double cos = Trigonometry.cos(x);
+        SinCos sincos = Trigonometry.sincos(x);
+        double sin = sincos.sin();
+        double cos = sincos.cos();
         double invX = 1 / x;
 
         return Double.isFinite(cos) && Double.isFinite(sin)
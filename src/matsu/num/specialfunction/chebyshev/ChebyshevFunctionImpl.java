@@ -35,7 +35,7 @@ public final class ChebyshevFunctionImpl extends SkeletalChebyshevFunction {
 
     @Override
     public double chebyshevT(double x) {
-        if (!(-1 <= x && x <= 1)) {
+        if (Double.isNaN(x)) {
             return Double.NaN;
         }
 
@@ -44,7 +44,7 @@ public final class ChebyshevFunctionImpl extends SkeletalChebyshevFunction {
 
     @Override
     public double chebyshevU(double x) {
-        if (!(-1 <= x && x <= 1)) {
+        if (Double.isNaN(x)) {
             return Double.NaN;
         }
 
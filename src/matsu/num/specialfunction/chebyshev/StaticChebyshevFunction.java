@@ -11,11 +11,20 @@
 package matsu.num.specialfunction.chebyshev;
 
 import matsu.num.specialfunction.ChebyshevFunction;
+import matsu.num.specialfunction.common.Exponentiation;
+import matsu.num.specialfunction.common.Trigonometry;
 
 /**
  * 計算のたびに次数を与える Chebyshev 関数.
  * 
  * <p>
+ * 次数 <i>n</i> が小さい場合は3項漸化式 (計算量 <i>O</i>(<i>n</i>)) により,
+ * それ以外は |<i>x</i>| &le; 1 では三角関数,
+ * |<i>x</i>| &gt; 1 では双曲線関数による表示 (計算量 <i>O</i>(1)) により計算する. <br>
+ * ただし, <i>x</i> = 0, &plusmn;1 では, 漸化式と同様に厳密な値を返す.
+ * </p>
+ * 
+ * <p>
  * このクラスは契約が不十分であり, 公開してはならない.
  * </p>
  * 
@@ -23,6 +32,19 @@ import matsu.num.specialfunction.ChebyshevFunction;
  */
 final class StaticChebyshevFunction {
 
+    /**
+     * 漸化式を用いる次数の上限.
+     * これを超える次数では, 三角関数・双曲線関数による表示を用いる.
+     */
+    private static final int THRESHOLD_DEGREE_RECURSION = 64;
+
+    private static final double LN2 = 0.6931471805599453;
+
+    /**
+     * cosh の計算において, exp(-<i>y</i>) が無視できるとする <i>y</i> の下限.
+     */
+    private static final double THRESHOLD_NEGLIGIBLE_EXP = 20d;
+
     /**
      * 唯一のコンストラクタ.
      */
@@ -41,16 +63,36 @@ final class StaticChebyshevFunction {
      * 
      * 
      * @param degreeN 次数 n
-     * @param x 引数 x
+     * @param x 引数 x, NaNであってはならない
      * @return T_n(x)
      */
     double chebyshevT(int degreeN, double x) {
         assert ChebyshevFunction.acceptsParameter(degreeN);
-        assert -1 <= x && x <= 1;
+        assert !Double.isNaN(x);
+
+        if (degreeN <= THRESHOLD_DEGREE_RECURSION) {
+            return chebyshevT_byRecursion(degreeN, x);
+        }
+        if (x == 0d) {
+            return valueAtZero(degreeN);
+        }
+
+        /*
+         * T(n,-x) = (-1)^n T(n,x) により, x >= 0 に帰着させる.
+         */
+        final double absX = Math.abs(x);
+        final double value = absX <= 1
+                ? Trigonometry.cos(degreeN * theta(absX))
+                : coshByExp(degreeN * arcosh(absX));
+        return x < 0 && (degreeN & 1) == 1 ? -value : value;
+    }
 
+    /**
+     * <i>T</i><sub><i>n</i></sub> (<i>x</i>)
+     * を漸化式により計算する.
+     */
+    private static double chebyshevT_byRecursion(int degreeN, double x) {
         /*
-         * 以下は, n <= 100 で適用できる.
-         * 
          * T(n,x)は漸化式により計算する.
          * T(0,x) = 1,
          * T(1,x) = x,
@@ -73,6 +115,10 @@ final class StaticChebyshevFunction {
             t_pm1 = t_p;
 
             t_p = 2 * x * t_pm1 - t_pm2;
+            if (Double.isInfinite(t_p)) {
+                // |x| > 1 では |T(p,x)| は p について単調増加するので, 以降もオーバーフローする
+                return overflowedValue(degreeN, x);
+            }
         }
         return t_p;
     }
@@ -87,16 +133,36 @@ final class StaticChebyshevFunction {
      * </p>
      * 
      * @param degreeN 次数 n
-     * @param x 引数 x
+     * @param x 引数 x, NaNであってはならない
      * @return U_n(x)
      */
     double chebyshevU(int degreeN, double x) {
         assert ChebyshevFunction.acceptsParameter(degreeN);
-        assert -1 <= x && x <= 1;
+        assert !Double.isNaN(x);
+
+        if (degreeN <= THRESHOLD_DEGREE_RECURSION) {
+            return chebyshevU_byRecursion(degreeN, x);
+        }
+        if (x == 0d) {
+            return valueAtZero(degreeN);
+        }
+
+        /*
+         * U(n,-x) = (-1)^n U(n,x) により, x >= 0 に帰着させる.
+         */
+        final double absX = Math.abs(x);
+        final double value = absX <= 1
+                ? chebyshevU_byTrigonometry(degreeN, absX)
+                : chebyshevU_byHyperbolic(degreeN, absX);
+        return x < 0 && (degreeN & 1) == 1 ? -value : value;
+    }
 
+    /**
+     * <i>U</i><sub><i>n</i></sub> (<i>x</i>)
+     * を漸化式により計算する.
+     */
+    private static double chebyshevU_byRecursion(int degreeN, double x) {
         /*
-         * 以下は, n <= 100 で適用できる.
-         * 
          * U(n,x)は漸化式により計算する.
          * U(0,x) = 1,
          * U(1,x) = 2x,
@@ -119,7 +185,92 @@ final class StaticChebyshevFunction {
             u_pm1 = u_p;
 
             u_p = 2 * x * u_pm1 - u_pm2;
+            if (Double.isInfinite(u_p)) {
+                // |x| > 1 では |U(p,x)| は p について単調増加するので, 以降もオーバーフローする
+                return overflowedValue(degreeN, x);
+            }
         }
         return u_p;
     }
+
+    /**
+     * 0 &le; x &le; 1 に対し, U(n,x) = sin((n+1)&theta;) / sin &theta; を計算する.
+     */
+    private static double chebyshevU_byTrigonometry(int degreeN, double x) {
+        final double theta = theta(x);
+        if (theta == 0d) {
+            // x = 1 における極限値
+            return degreeN + 1d;
+        }
+        return Trigonometry.sin((degreeN + 1d) * theta) / Trigonometry.sin(theta);
+    }
+
+    /**
+     * x &gt; 1 に対し, U(n,x) = sinh((n+1)t) / sinh t (x = cosh t) を計算する.
+     */
+    private static double chebyshevU_byHyperbolic(int degreeN, double x) {
+        /*
+         * sinh((n+1)t) / sinh t
+         * = exp(nt) * (1 - exp(-2(n+1)t)) / (1 - exp(-2t))
+         * とし, 括弧内を expm1 で計算すれば,
+         * t -> 0 でも桁落ちせず, exp(nt) のみがオーバーフローしうる.
+         */
+        final double t = arcosh(x);
+        final double ratio = Exponentiation.expm1(-2 * (degreeN + 1d) * t)
+                / Exponentiation.expm1(-2 * t);
+        return Exponentiation.exp(degreeN * t) * ratio;
+    }
+
+    /**
+     * T(n,0) = U(n,0) の値
+     * (n が奇数ならば 0, 偶数ならば (-1)<sup>n/2</sup>) を返す.
+     */
+    private static double valueAtZero(int degreeN) {
+        if ((degreeN & 1) == 1) {
+            return 0d;
+        }
+        return (degreeN & 2) == 0 ? 1d : -1d;
+    }
+
+    /**
+     * 0 &le; x &le; 1 に対し, &theta; = arccos x を計算する. <br>
+     * &theta; = 2 arctan(sqrt((1 - x) / (1 + x)))
+     * とすることで, x &rarr; 1 でも精度を保つ.
+     */
+    private static double theta(double x) {
+        return 2 * Trigonometry.atan(Exponentiation.sqrt((1 - x) / (1 + x)));
+    }
+
+    /**
+     * x &gt; 1 に対し, t = arcosh x を計算する. <br>
+     * t = log1p((x - 1) + sqrt((x - 1)(x + 1)))
+     * とすることで, x &rarr; 1 でも精度を保ち, x が大きくてもオーバーフローしない.
+     */
+    private static double arcosh(double x) {
+        final double xm1 = x - 1;
+        return Exponentiation.log1p(
+                xm1 + Exponentiation.sqrt(xm1) * Exponentiation.sqrt(x + 1));
+    }
+
+    /**
+     * y &ge; 0 に対し, cosh y を計算する.
+     */
+    private static double coshByExp(double y) {
+        if (y >= THRESHOLD_NEGLIGIBLE_EXP) {
+            // exp(y)/2 の中間結果でオーバーフローさせないようにする
+            return Exponentiation.exp(y - LN2);
+        }
+        final double expY = Exponentiation.exp(y);
+        return 0.5 * (expY + 1 / expY);
+    }
+
+    /**
+     * |x| &gt; 1 でオーバーフローした場合の値
+     * (符号付きの無限大) を返す.
+     */
+    private static double overflowedValue(int degreeN, double x) {
+        return x < 0 && (degreeN & 1) == 1
+                ? Double.NEGATIVE_INFINITY
+                : Double.POSITIVE_INFINITY;
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.31
+ */
+package matsu.num.specialfunction.common;
+
+/**
+ * 計測の対象となる, 特殊関数の計算における計算方式 (領域) の分岐.
+ * 
+ * @author Matsuura Y.
+ * @see Instrumentation
+ */
+public enum AlgorithmBranch {
+
+    /**
+     * 不完全ガンマ関数, 下側の連分数による P の計算.
+     */
+    ICGAMMA_LOWER_CONTINUED_FRACTION,
+
+    /**
+     * 不完全ガンマ関数, パラメータをシフトした下側の連分数による P の計算.
+     */
+    ICGAMMA_SHIFTED_LOWER_CONTINUED_FRACTION,
+
+    /**
+     * 不完全ガンマ関数, 上側の連分数による Q の計算.
+     */
+    ICGAMMA_UPPER_CONTINUED_FRACTION,
+
+    /**
+     * 不完全ガンマ関数, パラメータをシフトした上側の連分数による Q の計算.
+     */
+    ICGAMMA_SHIFTED_UPPER_CONTINUED_FRACTION,
+
+    /**
+     * 不完全ガンマ関数, 中間領域における Temme の一様漸近展開.
+     */
+    ICGAMMA_TEMME_MIDDLE,
+
+    /**
+     * 不完全ガンマ関数, 整数・半整数パラメータにおける級数による P の計算.
+     */
+    ICGAMMA_CLOSED_FORM_LOWER_SERIES,
+
+    /**
+     * 不完全ガンマ関数, 整数・半整数パラメータにおける有限和による Q の計算.
+     */
+    ICGAMMA_CLOSED_FORM_UPPER_SUM,
+
+    /**
+     * 不完全ベータ関数, 下側の連分数による計算.
+     */
+    ICBETA_LOWER_CONTINUED_FRACTION,
+
+    /**
+     * 不完全ベータ関数, パラメータをシフトした下側の連分数による計算.
+     */
+    ICBETA_SHIFTED_LOWER_CONTINUED_FRACTION,
+
+    /**
+     * 不完全ベータ関数, 上側の連分数による計算.
+     */
+    ICBETA_UPPER_CONTINUED_FRACTION,
+
+    /**
+     * 不完全ベータ関数, パラメータをシフトした上側の連分数による計算.
+     */
+    ICBETA_SHIFTED_UPPER_CONTINUED_FRACTION,
+
+    /**
+     * 不完全ベータ関数, 大パラメータの中間領域における正規近似.
+     */
+    ICBETA_NORMAL_APPROXIMATION_MIDDLE,
+
+    /**
+     * <i>t</i> 分布, 自由度 1, 2 における閉じた形による計算.
+     */
+    STUDENT_T_CLOSED_FORM,
+
+    /**
+     * <i>t</i> 分布, 整数の自由度の中心付近における三角関数の有限和による計算.
+     */
+    STUDENT_T_FINITE_SUM,
+
+    /**
+     * <i>t</i> 分布, 大きい自由度における正規化変換 (Hill) による計算.
+     */
+    STUDENT_T_NORMALIZING_TRANSFORM,
+
+    /**
+     * <i>F</i> 分布, 自由度の一方が 2 である場合の閉じた形による計算.
+     */
+    F_CLOSED_FORM,
+
+    /**
+     * 非心分布, 結果が非常に小さいために Poisson 混合の窓を延長した計算.
+     */
+    NONCENTRAL_EXTENDED_WINDOW,
+
+    /**
+     * Bessel 関数, べき級数 (またはその minimax 近似) による計算.
+     */
+    BESSEL_POWER_SERIES,
+
+    /**
+     * Bessel 関数, 漸近展開による計算.
+     */
+    BESSEL_ASYMPTOTIC,
+
+    /**
+     * Bessel 関数, 後退漸化式による計算.
+     */
+    BESSEL_BACK_RECURSION,
+
+    /**
+     * Bessel 関数, 前進漸化式による計算.
+     */
+    BESSEL_FORWARD_RECURSION,
+
+    /**
+     * 実数次 Bessel 関数, 連分数 (Steed の方法) による計算.
+     */
+    BESSEL_CONTINUED_FRACTION;
+}
@@ -0,0 +1,363 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.1
+ */
+package matsu.num.specialfunction.common;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 昇順に並んだ引数の列に沿って, 累積分布型の関数 (下側 <i>F</i>, 上側 1 - <i>F</i>) を順に計算する.
+ * 
+ * <p>
+ * 密度 <i>d</i> = <i>F</i>' が, 多項式係数の1階線形微分方程式を満たすことを利用する. <br>
+ * 基準点 <i>x</i><sub>0</sub> において <i>F</i> (のオッズ) と <i>d</i> を直接計算しておき,
+ * 次の点 <i>x</i><sub>0</sub> + <i>h</i> では, <i>d</i> の Taylor 係数を漸化式 <br>
+ * <i>e</i><sub><i>k</i>+1</sub> =
+ * [(&alpha; + &beta;<i>k</i>)<i>e</i><sub><i>k</i></sub>
+ * + (&gamma; + &delta;<i>k</i>)<i>e</i><sub><i>k</i>-1</sub>] / (<i>k</i> + 1) <br>
+ * (<i>e</i><sub><i>k</i></sub> = <i>d</i><sub><i>k</i></sub><i>h</i><sup><i>k</i></sup>)
+ * で求め, <i>d</i> とその積分を同時に更新する.
+ * </p>
+ * 
+ * <p>
+ * 基準点では下側と上側のうち小さい方 (オッズが1以下なら下側) を追跡する側として選び,
+ * 以降の点はその側の値を更新する. <br>
+ * 次の場合は, その点を新たな基準点として直接計算する.
+ * </p>
+ * 
+ * <ul>
+ * <li>引数が前の点より小さい (昇順でない) 場合.</li>
+ * <li>幅 <i>h</i> が級数の収束半径に対して大きい場合, 級数が収束しないか桁落ちが大きい場合.</li>
+ * <li>下側を追跡していて, 前の点で値が 1/2 を超えた場合 (以降は上側を追跡する).</li>
+ * <li>上側を追跡していて, 値が基準点の値の 1/2 未満になる場合 (誤差の拡大を抑える).</li>
+ * <li>基準点からの更新回数が一定回数に達した場合.</li>
+ * </ul>
+ * 
+ * <p>
+ * このクラスのインスタンスは状態を持ち, スレッドセーフでない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public abstract class AscendingCumulativeSweep {
+
+    /**
+     * 基準点からの更新回数の上限.
+     */
+    private static final int MAX_STEPS_FROM_ANCHOR = 32;
+
+    /**
+     * 級数の項数の上限.
+     */
+    private static final int MAX_TERMS = 40;
+
+    /**
+     * 漸化式の係数 &alpha;, &gamma; の絶対値の上限.
+     */
+    private static final double MAX_LEADING_COEFF = 2d;
+
+    /**
+     * 漸化式の係数による, 実効的な収束半径に対する幅の比の上限.
+     */
+    private static final double MAX_RADIUS_RATIO = 0.25;
+
+    /**
+     * 項の絶対値の和と, 和の絶対値の比の上限.
+     */
+    private static final double MAX_CANCELLATION = 16d;
+
+    /**
+     * 級数の打ち切りの相対誤差.
+     */
+    private static final double EPSILON = 0x1p-54;
+
+    /**
+     * 上側を追跡する場合の, 基準点の値に対する値の比の下限.
+     */
+    private static final double UPPER_DECAY_LIMIT = 0.5;
+
+    /**
+     * 1/(k+1).
+     */
+    private static final double[] INV = new double[MAX_TERMS + 2];
+
+    static {
+        for (int k = 0; k < INV.length; k++) {
+            INV[k] = 1d / (k + 1);
+        }
+    }
+
+    /**
+     * 漸化式の係数 &alpha;, &beta;, &gamma;, &delta; の受け渡し用.
+     */
+    private final double[] coeffs = new double[4];
+
+    /**
+     * 状態が有効 (次の点で更新が可能) かどうか.
+     */
+    private boolean valid;
+
+    private boolean upperSide;
+    private double x0;
+    private double density;
+    private double trackedValue;
+    private double anchorValue;
+    private int stepsFromAnchor;
+
+    private double lower;
+    private double upper;
+
+    /**
+     * 唯一のコンストラクタ.
+     */
+    protected AscendingCumulativeSweep() {
+        super();
+        this.valid = false;
+    }
+
+    /**
+     * 次の点における下側の値 <i>F</i>(<i>x</i>) を返す.
+     * 
+     * @param x 次の点
+     * @return <i>F</i>(<i>x</i>)
+     */
+    public final double nextLower(double x) {
+        this.advance(x);
+        return this.lower;
+    }
+
+    /**
+     * 次の点における上側の値 1 - <i>F</i>(<i>x</i>) を返す.
+     * 
+     * @param x 次の点
+     * @return 1 - <i>F</i>(<i>x</i>)
+     */
+    public final double nextUpper(double x) {
+        this.advance(x);
+        return this.upper;
+    }
+
+    /**
+     * ストリームの各要素について, 下側の値 <i>F</i>(<i>x</i>) を順に計算するストリームを返す.
+     * 
+     * <p>
+     * 返されるストリームは逐次ストリームである. <br>
+     * 呼び出し側が並列ストリームに変換しても要素は分割されず,
+     * 入力の順に1つのスレッドで {@link #nextLower(double)} が適用される.
+     * </p>
+     * 
+     * @param x 引数のストリーム
+     * @return <i>F</i>(<i>x</i>) のストリーム
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public final DoubleStream lowerAlong(DoubleStream x) {
+        return mapWithoutSplitting(x, this::nextLower);
+    }
+
+    /**
+     * ストリームの各要素について, 上側の値 1 - <i>F</i>(<i>x</i>) を順に計算するストリームを返す.
+     * 
+     * <p>
+     * 並列化に関する扱いは {@link #lowerAlong(DoubleStream)} と同一である.
+     * </p>
+     * 
+     * @param x 引数のストリーム
+     * @return 1 - <i>F</i>(<i>x</i>) のストリーム
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public final DoubleStream upperAlong(DoubleStream x) {
+        return mapWithoutSplitting(x, this::nextUpper);
+    }
+
+    /**
+     * 状態を持つ写像を入力の順に適用するストリームを, 分割されないスプリッテレータにより構築する.
+     */
+    private static DoubleStream mapWithoutSplitting(DoubleStream source, DoubleUnaryOperator mapper) {
+        Objects.requireNonNull(source);
+        return StreamSupport.doubleStream(
+                new NonSplittingMappedSpliterator(source.spliterator(), mapper), false)
+                .onClose(source::close);
+    }
+
+    /**
+     * 点 <i>x</i> におけるオッズ <i>F</i>/(1 - <i>F</i>) を直接計算する.
+     * 
+     * @param x x
+     * @return オッズ, 引数が不正の場合はNaN
+     */
+    protected abstract double odds(double x);
+
+    /**
+     * 点 <i>x</i> における密度 <i>d</i>(<i>x</i>) = <i>F</i>'(<i>x</i>) を直接計算する. <br>
+     * {@link #odds(double)} が有限の値を返した点についてのみ呼ばれる.
+     * 
+     * @param x x
+     * @return <i>d</i>(<i>x</i>)
+     */
+    protected abstract double density(double x);
+
+    /**
+     * 基準点 <i>x</i><sub>0</sub> から幅 <i>h</i> &ge; 0 だけ進むときの,
+     * 漸化式の係数 &alpha;, &beta;, &gamma;, &delta; を {@code dest} に書き込む.
+     * 
+     * @param x0 <i>x</i><sub>0</sub>
+     * @param h <i>h</i>
+     * @param dest 書き込み先 (長さ4)
+     * @return 更新が可能な場合は true, 幅が収束半径に対して大きい場合などは false
+     */
+    protected abstract boolean seriesCoefficients(double x0, double h, double[] dest);
+
+    private void advance(double x) {
+        if (this.valid && x >= this.x0 && this.stepsFromAnchor < MAX_STEPS_FROM_ANCHOR
+                && this.step(x)) {
+            return;
+        }
+        this.anchor(x);
+    }
+
+    private void anchor(double x) {
+        double odds = this.odds(x);
+        this.lower = 1 / (1 + 1 / odds);
+        this.upper = 1 / (1 + odds);
+
+        this.valid = false;
+        if (!(Double.isFinite(x) && odds > 0 && odds < Double.POSITIVE_INFINITY)) {
+            return;
+        }
+
+        double d = this.density(x);
+        if (!(d > 0 && d < Double.POSITIVE_INFINITY)) {
+            return;
+        }
+        this.upperSide = !(odds <= 1);
+        this.trackedValue = this.upperSide ? this.upper : this.lower;
+        this.anchorValue = this.trackedValue;
+        this.density = d;
+        this.x0 = x;
+        this.stepsFromAnchor = 0;
+        this.valid = true;
+    }
+
+    /**
+     * 更新を試み, 失敗した場合は false を返す (状態は変更されない).
+     */
+    private boolean step(double x) {
+        final double h = x - this.x0;
+        final double[] c = this.coeffs;
+        if (!this.seriesCoefficients(this.x0, h, c)) {
+            return false;
+        }
+        final double alpha = c[0];
+        final double beta = c[1];
+        final double gamma = c[2];
+        final double delta = c[3];
+        if (!(Math.abs(alpha) <= MAX_LEADING_COEFF && Math.abs(gamma) <= MAX_LEADING_COEFF
+                && Math.abs(beta) + Math.sqrt(Math.abs(delta)) <= MAX_RADIUS_RATIO)) {
+            return false;
+        }
+
+        double ePrev = 0d;
+        double e = this.density;
+        double sumD = e;
+        double sumAbs = e;
+        double integral = e;
+        boolean converged = false;
+        for (int k = 0; k < MAX_TERMS; k++) {
+            //係数は e に依存しないので, 依存の連鎖は積和の1段のみとなる
+            double invK1 = INV[k];
+            double eNext = ((alpha + beta * k) * invK1) * e + ((gamma + delta * k) * invK1) * ePrev;
+            ePrev = e;
+            e = eNext;
+            sumD += e;
+            sumAbs += Math.abs(e);
+            integral += e * INV[k + 1];
+            if (Math.abs(e) + Math.abs(ePrev) <= EPSILON * Math.abs(sumD)) {
+                converged = true;
+                break;
+            }
+        }
+        if (!(converged && sumAbs <= MAX_CANCELLATION * Math.min(sumD, integral))) {
+            return false;
+        }
+
+        final double increment = h * integral;
+        if (this.upperSide) {
+            double value = this.trackedValue - increment;
+            if (!(value >= UPPER_DECAY_LIMIT * this.anchorValue)) {
+                return false;
+            }
+            this.trackedValue = value;
+            this.upper = value;
+            this.lower = 1 - value;
+        } else {
+            double value = this.trackedValue + increment;
+            this.trackedValue = value;
+            this.lower = value;
+            this.upper = 1 - value;
+            if (value > 0.5) {
+                //以降は上側を追跡するため, 次の点は基準点とする
+                this.valid = false;
+            }
+        }
+        this.density = sumD;
+        this.x0 = x;
+        this.stepsFromAnchor++;
+        return true;
+    }
+
+    /**
+     * 元のスプリッテレータの要素に写像を適用する, 分割されないスプリッテレータ. <br>
+     * {@link #trySplit()} は常に null を返すため, 並列ストリームにおいても
+     * 要素は入力の順に1つのスレッドで処理される.
+     */
+    private static final class NonSplittingMappedSpliterator implements Spliterator.OfDouble {
+
+        private final Spliterator.OfDouble source;
+        private final DoubleUnaryOperator mapper;
+
+        NonSplittingMappedSpliterator(Spliterator.OfDouble source, DoubleUnaryOperator mapper) {
+            super();
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            Objects.requireNonNull(action);
+            return this.source.tryAdvance((double v) -> action.accept(this.mapper.applyAsDouble(v)));
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            Objects.requireNonNull(action);
+            this.source.forEachRemaining((double v) -> action.accept(this.mapper.applyAsDouble(v)));
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            //写像により整列性と相異性は失われる
+            return this.source.characteristics() & (ORDERED | SIZED | IMMUTABLE | CONCURRENT);
+        }
+    }
+}
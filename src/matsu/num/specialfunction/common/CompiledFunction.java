@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.30
+ */
+package matsu.num.specialfunction.common;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 区分的 Chebyshev 補間により計算を行うインスタンス ({@code compile} の戻り値) が実装する.
+ * 
+ * <p>
+ * 構築済みの表の書き出しに用いる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public interface CompiledFunction {
+
+    /**
+     * 補間を行う区間の下端を返す.
+     * 
+     * @return 区間の下端
+     */
+    public abstract double xMin();
+
+    /**
+     * 補間を行う区間の上端を返す.
+     * 
+     * @return 区間の上端
+     */
+    public abstract double xMax();
+
+    /**
+     * 構築時の許容誤差を返す.
+     * 
+     * @return 許容誤差
+     */
+    public abstract double tolerance();
+
+    /**
+     * 保持する表をすべて書き出したときのバイト数を返す.
+     * 
+     * @return バイト数
+     */
+    public abstract int serializedSize();
+
+    /**
+     * 保持する表をすべて, バッファの現在位置に書き出す.
+     * 
+     * @param dst 書き出し先
+     */
+    public abstract void writeTo(ByteBuffer dst);
+}
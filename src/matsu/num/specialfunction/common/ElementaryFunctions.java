@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.28
+ */
+package matsu.num.specialfunction.common;
+
+/**
+ * 初等関数の計算を担うバックエンド.
+ * 
+ * <p>
+ * {@link Exponentiation}, {@link Trigonometry} はこのクラスの選択されたインスタンスに計算を委譲する. <br>
+ * モジュール内の超越関数 (べき乗, 立方根を含む) の計算は, 定数の初期化を含めてすべてこれらを経由する. <br>
+ * インスタンスはシステムプロパティ {@value #BACKEND_PROPERTY_KEY}
+ * の値によって, クラスの初期化時に1度だけ選択される.
+ * </p>
+ * 
+ * <ul>
+ * <li>{@code math} (既定): {@link Math} を用いる.</li>
+ * <li>{@code strict}: {@link StrictMath} を用いる.
+ * JVMやプラットフォームによらず, ビット単位で再現可能な結果が得られる.</li>
+ * <li>{@code fast}: 表引きによる指数関数, 対数関数と,
+ * 引数還元を共有する sin, cos の同時計算を用いる.</li>
+ * </ul>
+ * 
+ * <p>
+ * 上記以外の値, またはプロパティが読めない場合は既定のものが選択される.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+abstract class ElementaryFunctions {
+
+    /**
+     * バックエンドを選択するシステムプロパティのキー.
+     */
+    static final String BACKEND_PROPERTY_KEY = "matsu.num.specialfunction.elementary";
+
+    /**
+     * 選択されたバックエンド.
+     */
+    static final ElementaryFunctions SELECTED = select(readBackendProperty());
+
+    /**
+     * 唯一のコンストラクタ.
+     */
+    ElementaryFunctions() {
+        super();
+    }
+
+    abstract double exp(double x);
+
+    abstract double expm1(double x);
+
+    abstract double log(double x);
+
+    abstract double log1p(double x);
+
+    abstract double sqrt(double x);
+
+    abstract double pow(double x, double y);
+
+    abstract double cbrt(double x);
+
+    abstract double sin(double x);
+
+    abstract double cos(double x);
+
+    abstract double atan(double x);
+
+    /**
+     * sin(x), cos(x) を同時に計算する.
+     * 
+     * @param x x
+     * @return sin(x), cos(x) の組
+     */
+    abstract SinCos sincos(double x);
+
+    /**
+     * 名前からバックエンドを選択する.
+     * 
+     * @param name 名前, nullを許容する
+     * @return バックエンド
+     */
+    static ElementaryFunctions select(String name) {
+        if ("strict".equals(name)) {
+            return new StrictMathElementaryFunctions();
+        }
+        if ("fast".equals(name)) {
+            return new FastElementaryFunctions();
+        }
+        return new MathElementaryFunctions();
+    }
+
+    private static String readBackendProperty() {
+        try {
+            return System.getProperty(BACKEND_PROPERTY_KEY);
+        } catch (SecurityException e) {
+            return null;
+        }
+    }
+}
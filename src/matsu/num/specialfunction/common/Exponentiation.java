@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2024.12.31
+ * 2025.7.28
  */
 package matsu.num.specialfunction.common;
 
@@ -15,29 +15,48 @@ package matsu.num.specialfunction.common;
  * @author Matsuura Y.
  */
 public final class Exponentiation {
+
+    private static final ElementaryFunctions BACKEND = ElementaryFunctions.SELECTED;
+
     private Exponentiation() {
         //インスタンス化不可
         throw new AssertionError();
     }
 
     public static double exp(double x) {
-        return Math.exp(x);
+        return BACKEND.exp(x);
     }
 
     public static double expm1(double x) {
-        return Math.expm1(x);
+        return BACKEND.expm1(x);
     }
 
     public static double log(double x) {
-        return Math.log(x);
+        return BACKEND.log(x);
     }
 
     public static double log1p(double x) {
-        return Math.log1p(x);
+        return BACKEND.log1p(x);
     }
 
     public static double sqrt(double x) {
-        return Math.sqrt(x);
+        return BACKEND.sqrt(x);
+    }
+
+    public static double cbrt(double x) {
+        return BACKEND.cbrt(x);
+    }
+
+    /**
+     * x^y を返す. <br>
+     * 特殊値の扱いは {@link Math#pow(double, double)} と同一である.
+     * 
+     * @param x x
+     * @param y y
+     * @return x^y
+     */
+    public static double pow(double x, double y) {
+        return BACKEND.pow(x, y);
     }
 
     /**
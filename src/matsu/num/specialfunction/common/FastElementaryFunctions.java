@@ -0,0 +1,427 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.28
+ */
+package matsu.num.specialfunction.common;
+
+/**
+ * 表引きによる初等関数の高速計算.
+ * 
+ * <p>
+ * 精度は次の通りである (いずれも {@link StrictMath} との差として, 乱数による検査で確認している). <br>
+ * 真値との差は, これに {@link StrictMath} 自身の誤差 (1 ulp 未満) が加わったものとなる.
+ * </p>
+ * 
+ * <ul>
+ * <li>exp: 1 ulp 以内. <br>
+ * |x| &le; 708 において, x = (k/128)log2 + r と分解し,
+ * 2<sup>j/128</sup> の表 (double-double) と exp(r) の5次多項式で計算する. <br>
+ * それ以外は {@link Math#exp(double)} に委譲する.</li>
+ * <li>log: 1 ulp 以内. <br>
+ * 仮数部の上位7ビットで表引きした c<sub>j</sub> により x = 2<sup>e</sup>c<sub>j</sub>(1 + r)
+ * と分解し, log(1 + r) の6次多項式で計算する. <br>
+ * 1の近傍 (|x - 1| &lt; 1/16), 非正規化数, 非正の数, 非有限の値は {@link Math#log(double)}
+ * に委譲する.</li>
+ * <li>sincos: 1 ulp 以内. <br>
+ * fdlibm と同一のカーネルと Cody-Waite 型引数還元 (|x| &lt; 823550) を用い,
+ * 引数還元を sin と cos で共有する. <br>
+ * それ以外は {@link StrictMath} に委譲する.</li>
+ * </ul>
+ * 
+ * <p>
+ * expm1, log1p, sqrt, pow, cbrt, sin, cos, atan は {@link Math} に委譲する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class FastElementaryFunctions extends ElementaryFunctions {
+
+    private static final int TABLE_SIZE = 128;
+
+    /**
+     * 128/log2.
+     */
+    private static final double N_OVER_LN2 = 184.6649652337873;
+
+    /**
+     * log2/128 の上位部 (下位28ビットが0).
+     */
+    private static final double LN2N_HI = 0.00541521234663378;
+
+    /**
+     * log2/128 の下位部.
+     */
+    private static final double LN2N_LO = 1.4907929134926466E-12;
+
+    /**
+     * log2 の上位部 (fdlibm).
+     */
+    private static final double LN2_HI = 6.93147180369123816490E-01;
+
+    /**
+     * log2 の下位部 (fdlibm).
+     */
+    private static final double LN2_LO = 1.90821492927058770002E-10;
+
+    /**
+     * exp を表引きで計算する範囲の上限.
+     */
+    private static final double EXP_TABLE_BOUND = 708d;
+
+    /**
+     * log を {@link Math#log(double)} に委譲する, 1の近傍の幅.
+     *
+     * <p>
+     * log(x) が小さい領域では表の値との桁落ちにより誤差が拡大するため, 委譲する.
+     * </p>
+     */
+    private static final double LOG_DELEGATE_NEAR_ONE = 1d / 16;
+
+    /**
+     * 指数部の補正を行う表番号の下限.
+     * 
+     * <p>
+     * j 以上では c<sub>j</sub>/2 を用い, 指数部を1増やす.
+     * </p>
+     */
+    private static final int LOG_EXPONENT_ADJUST_FROM = 53;
+
+    /**
+     * 2<sup>j/128</sup> の上位部.
+     */
+    private static final double[] EXP_HI = {
+            1.0, 1.0054299011128027, 1.0108892860517005, 1.016378314910953,
+            1.0218971486541166, 1.0274459491187637, 1.0330248790212284, 1.0386341019613787,
+            1.0442737824274138, 1.0499440858006872, 1.0556451783605572, 1.061377227289262,
+            1.0671404006768237, 1.0729348675259756, 1.0787607977571199, 1.0846183622133092,
+            1.0905077326652577, 1.0964290818163769, 1.102382583307841, 1.1083684117236787,
+            1.1143867425958924, 1.1204377524096067, 1.1265216186082418, 1.1326385195987192,
+            1.1387886347566916, 1.1449721444318042, 1.1511892299529827, 1.1574400736337511,
+            1.1637248587775775, 1.1700437696832502, 1.1763969916502812, 1.182784710984341,
+            1.189207115002721, 1.1956643920398273, 1.202156731452703, 1.2086843236265816,
+            1.215247359980469, 1.2218460329727576, 1.22848053610687, 1.2351510639369334,
+            1.241857812073484, 1.2486009771892048, 1.255380757024691, 1.2621973503942507,
+            1.2690509571917332, 1.275941778396392, 1.2828700160787783, 1.2898358734066657,
+            1.2968395546510096, 1.3038812651919358, 1.3109612115247644, 1.318079601266064,
+            1.3252366431597413, 1.3324325470831615, 1.339667524053303, 1.3469417862329458,
+            1.3542555469368927, 1.3616090206382248, 1.3690024229745905, 1.3764359707545302,
+            1.383909881963832, 1.3914243757719262, 1.3989796725383112, 1.4065759938190154,
+            1.4142135623730951, 1.4218926021691656, 1.42961333839197, 1.4373759974489824,
+            1.4451808069770467, 1.4530279958490526, 1.460917794180647, 1.4688504333369818,
+            1.4768261459394993, 1.4848451658727524, 1.4929077282912648, 1.5010140696264256,
+            1.5091644275934228, 1.5173590411982147, 1.5255981507445384, 1.533881997840956,
+            1.5422108254079407, 1.550584877685, 1.559004400237837, 1.567469639965553,
+            1.5759808451078865, 1.5845382652524937, 1.593142151342267, 1.6017927556826934,
+            1.6104903319492543, 1.6192351351948637, 1.6280274218573478, 1.6368674497669644,
+            1.645755478153965, 1.6546917676561943, 1.6636765803267364, 1.6727101796415966,
+            1.681792830507429, 1.6909247992693053, 1.7001063537185235, 1.709337763100463,
+            1.718619298122478, 1.7279512309618377, 1.7373338352737062, 1.746767386199169,
+            1.7562521603732995, 1.7657884359332727, 1.7753764925265212, 1.785016611318935,
+            1.7947090750031072, 1.804454167806624, 1.8142521755003989, 1.8241033854070534,
+            1.8340080864093424, 1.843966568958626, 1.8539791250833855, 1.864046048397789,
+            1.8741676341103, 1.8843441790323345, 1.8945759815869656, 1.9048633418176741,
+            1.9152065613971474, 1.925605943636125, 1.9360617934922943, 1.9465744175792332,
+            1.9571441241754002, 1.9677712232331759, 1.978456026387951, 1.9891988469672663
+    };
+
+    /**
+     * 2<sup>j/128</sup> の下位部.
+     */
+    private static final double[] EXP_LO = {
+            0.0, 9.499186535455032e-17, -1.5234778603368577e-17, -5.77217007319966e-17,
+            5.109225028973444e-17, -4.9560741746453704e-17, 7.600838874027088e-18, 5.996273788852511e-17,
+            8.551889705537965e-17, 5.592937848127003e-17, 1.759325738772092e-18, -1.1973537085365658e-17,
+            -7.899853966841582e-17, -3.839668843358824e-18, -6.656660436056593e-17, 3.166152845816346e-17,
+            -3.046782079812471e-17, -5.919933484449316e-17, 5.2660368715706944e-17, -8.786813845180527e-17,
+            1.0410278456845571e-16, -6.201085906554179e-17, 5.165856758795457e-17, 3.237356166738e-17,
+            8.912812676025408e-17, 4.6412898921700107e-17, 3.250710218863827e-17, -9.1238712311344e-17,
+            3.8292048369240935e-17, -1.8477442017900047e-18, 5.554203254218079e-17, 1.542975430079076e-17,
+            3.982015231465646e-17, 4.6166036704814814e-17, 6.644981499252301e-17, -4.746725945228984e-17,
+            -7.712630692681488e-17, -1.0611021211402691e-16, -1.89878163130253e-17, -1.0755244344307841e-16,
+            4.658027591836937e-17, -8.261810999021964e-17, -6.7113898212968784e-18, -3.0844648874738465e-17,
+            2.667932131342186e-18, 9.91543024421429e-17, 1.713594918243561e-17, 8.949257530897592e-17,
+            2.5382502794888315e-17, 8.647675598267871e-17, -7.181536135519454e-17, -5.4579558271491535e-17,
+            -2.8587312100388614e-17, -5.101586630916744e-17, 8.927282594831732e-17, 3.224065101254679e-17,
+            7.70094837980299e-17, 1.533787661270668e-18, 9.593797919118849e-17, -6.898588935871801e-17,
+            -6.770511658794786e-17, -4.9061748652889893e-17, -9.614213209051323e-17, 7.034914812136422e-18,
+            -9.667293313452913e-17, -1.6077828915890244e-17, -1.2031642489053655e-17, -4.2040340164675566e-17,
+            -3.0237581349939873e-17, -5.779948609396106e-17, -5.600377186075216e-17, 8.465882756533628e-17,
+            -3.483994556892796e-17, 1.0780086764407481e-16, 1.4192920154284036e-17, -6.413767275790235e-17,
+            -1.016455327754295e-16, -4.308699472043341e-17, -1.1024941712342561e-16, 8.875226844438446e-17,
+            7.949834809697621e-17, -1.4600706590689385e-17, 3.7812070533575275e-17, -1.0352061768849722e-16,
+            -1.0136916471278304e-17, -1.9337717034585703e-17, -1.0094406542311964e-16, -6.054917453527784e-17,
+            2.4707192569797888e-17, 2.0941334154229092e-17, -6.712955084707084e-17, 7.698325071319876e-17,
+            -1.0125679913674773e-16, 9.643294303196029e-17, 5.8909926967131e-17, -5.476715964599563e-17,
+            8.199010020581497e-17, -9.66967147439488e-17, -8.0237193703977e-18, -9.868779456632931e-17,
+            -1.851380418263111e-17, -1.0750981861204642e-16, 3.164389299292957e-17, -1.0752290483507515e-16,
+            2.960140695448873e-17, 9.461315018083268e-17, 6.429731796556572e-17, 1.5330400121031314e-17,
+            1.8227458427912087e-17, -5.177222408793318e-17, -9.969531538920349e-17, -1.0159627862277083e-16,
+            3.283107224245627e-17, -5.939742026949965e-17, 9.761887490727594e-17, 6.540912680620572e-17,
+            -6.122763413004143e-17, -8.226593125533711e-17, 3.4034035352165297e-17, 6.533857514718279e-17,
+            -1.0619946056195963e-16, -9.914963769693741e-17, 1.0332385960676326e-16, 6.811022349533877e-17,
+            8.960767791036668e-17, -1.0314928011531132e-16, 4.0388753109278167e-17, 8.2051326383692e-18
+    };
+
+    /**
+     * log(c<sub>j</sub>), ただし j &ge; 53 では log(c<sub>j</sub>/2).
+     */
+    private static final double[] LOG_C = {
+            0.003898640415657323, 0.011650617219975274, 0.019342962843130935, 0.026976587698202076,
+            0.034552381506659735, 0.04207121392068706, 0.04953393512227663, 0.056941376400138424,
+            0.06429435070539725, 0.07159365318700882, 0.07884006170777602, 0.08603433734180316,
+            0.0931772248541833, 0.10026945316367515, 0.10731173578908805, 0.11430477128005863,
+            0.12124924363286968, 0.12814582269193003, 0.13499516453750482, 0.14179791186025734,
+            0.14855469432313714, 0.15526612891112396, 0.16193282026931324, 0.16855536102980667,
+            0.17513433212784915, 0.18167030310763468, 0.188163832418183, 0.19461546769967167,
+            0.20102574606059073, 0.2073951943460706, 0.21372432939771813, 0.2200136583052821,
+            0.22626367865045338, 0.23247487874309405, 0.238647737850175, 0.24478272641769092,
+            0.25088030628580943, 0.2569409308975004, 0.26296504550088134, 0.26895308734550394,
+            0.2749054858727992, 0.2808226629008878, 0.2867050328039543, 0.29255300268637746,
+            0.2983669725517973, 0.3041473354672967, 0.3098944777228647, 0.31560877898630335,
+            0.3212906124537343, 0.32694034499585334, 0.3325583373000766, 0.3381449440087164,
+            0.34370051385331846, -0.343921790774657, -0.3384272714570163, -0.33296277698493754,
+            -0.3275279809989806, -0.32212256243207266, -0.31674620539569226, -0.31139859906909695,
+            -0.30607943759149703, -0.30078841995708144, -0.2955252499128068, -0.2902896358588618,
+            -0.28508129075172356, -0.27989993200972596, -0.27474528142106147, -0.269617065054142,
+            -0.26451501317024656, -0.2594388601383859, -0.2543883443523174, -0.24936320814964433,
+            -0.2443631977329386, -0.23938806309282482, -0.23443755793296864, -0.2295114395969128,
+            -0.22460946899670603, -0.21973141054327316, -0.21487703207847503, -0.21004610480880948,
+            -0.20523840324070633, -0.20045370511737004, -0.19569179135712636, -0.1909524459932298,
+            -0.18623545611509096, -0.18154061181088324, -0.1768677061114908, -0.17221653493576,
+            -0.16758689703701793, -0.1629785939508237, -0.15839142994391764, -0.15382521196433643,
+            -0.1492797495926618, -0.14475485499437216, -0.14025034287326757, -0.13576603042593896,
+            -0.1313017372972535, -0.12685728553682943, -0.12243249955647377, -0.11802720608855737,
+            -0.11364123414530308, -0.10927441497896263, -0.10492658204285926, -0.10059757095327371,
+            -0.09628721945215148, -0.09199536737061047, -0.08772185659322843, -0.08346653102309004,
+            -0.07922923654757481, -0.07500982100486657, -0.07080813415116657, -0.06662402762859256,
+            -0.06245735493374661, -0.058307971386935095, -0.054175734102024586, -0.050060501956918,
+            -0.045962135564635756, -0.04188049724498721, -0.03781545099681768, -0.033766862470817484,
+            -0.029734598942879057, -0.02571852928798912, -0.021718523954642986, -0.01773445493976858,
+            -0.013766195764147959, -0.009813621448324622, -0.005876608488985042, -0.0019550348358033506
+    };
+
+    /**
+     * 1/c<sub>j</sub>, ただし c<sub>j</sub> = 1 + (j + 1/2)/128.
+     */
+    private static final double[] INV_C;
+
+    static {
+        INV_C = new double[TABLE_SIZE];
+        for (int j = 0; j < TABLE_SIZE; j++) {
+            INV_C[j] = 1d / (1d + (j + 0.5) / TABLE_SIZE);
+        }
+    }
+
+    /*
+     * sin, cos のカーネル (fdlibm).
+     */
+    private static final double S1 = -1.66666666666666324348E-01;
+    private static final double S2 = 8.33333333332248946124E-03;
+    private static final double S3 = -1.98412698298579493134E-04;
+    private static final double S4 = 2.75573137070700676789E-06;
+    private static final double S5 = -2.50507602534068634195E-08;
+    private static final double S6 = 1.58969099521155010221E-10;
+
+    private static final double C1 = 4.16666666666666019037E-02;
+    private static final double C2 = -1.38888888888741095749E-03;
+    private static final double C3 = 2.48015872894767294178E-05;
+    private static final double C4 = -2.75573143513906633035E-07;
+    private static final double C5 = 2.08757232129817482790E-09;
+    private static final double C6 = -1.13596475577881948265E-11;
+
+    /*
+     * 引数還元 (fdlibm).
+     */
+    private static final double INV_PIO2 = 6.36619772367581382433E-01;
+    private static final double PIO2_1 = 1.57079632673412561417E+00;
+    private static final double PIO2_1T = 6.07710050650619224932E-11;
+    private static final double PIO2_2 = 6.07710050630396597660E-11;
+    private static final double PIO2_2T = 2.02226624879595063154E-21;
+    private static final double PIO2_3 = 2.02226624871116645580E-21;
+    private static final double PIO2_3T = 8.47842766036889956997E-32;
+
+    /**
+     * 引数還元を行わない範囲の上限, pi/4.
+     */
+    private static final double PIO4 = 0.7853981633974483;
+
+    /**
+     * 中程度の引数還元を適用する範囲の上限.
+     */
+    private static final double MEDIUM_REDUCTION_BOUND = 823550d;
+
+    /**
+     * 唯一のコンストラクタ.
+     */
+    FastElementaryFunctions() {
+        super();
+    }
+
+    @Override
+    double exp(double x) {
+        if (!(Math.abs(x) <= EXP_TABLE_BOUND)) {
+            return Math.exp(x);
+        }
+
+        double kd = Math.rint(x * N_OVER_LN2);
+        int k = (int) kd;
+        double r = (x - kd * LN2N_HI) - kd * LN2N_LO;
+        double p = r + (r * r) * (1d / 2 + r * (1d / 6 + r * (1d / 24 + r * (1d / 120))));
+
+        int j = k & (TABLE_SIZE - 1);
+        double t = EXP_HI[j];
+        double y = t + (EXP_LO[j] + t * p);
+        return y * Double.longBitsToDouble((long) ((k >> 7) + 1023) << 52);
+    }
+
+    @Override
+    double expm1(double x) {
+        return Math.expm1(x);
+    }
+
+    @Override
+    double log(double x) {
+        long bits = Double.doubleToRawLongBits(x);
+        if (bits < 0x0010000000000000L || bits >= 0x7FF0000000000000L
+                || Math.abs(x - 1d) < LOG_DELEGATE_NEAR_ONE) {
+            return Math.log(x);
+        }
+
+        int j = (int) ((bits >>> 45) & (TABLE_SIZE - 1));
+        int e = (int) (bits >>> 52) - 1023;
+        if (j >= LOG_EXPONENT_ADJUST_FROM) {
+            e++;
+        }
+        double m = Double.longBitsToDouble((bits & 0x000FFFFFFFFFFFFFL) | 0x3FF0000000000000L);
+        double c = 1d + (j + 0.5) / TABLE_SIZE;
+        double r = (m - c) * INV_C[j];
+        double r2 = r * r;
+        double p = r - r2 * (1d / 2 - r * (1d / 3 - r * (1d / 4 - r * (1d / 5 - r * (1d / 6)))));
+
+        return (e * LN2_HI + LOG_C[j]) + (e * LN2_LO + p);
+    }
+
+    @Override
+    double log1p(double x) {
+        return Math.log1p(x);
+    }
+
+    @Override
+    double sqrt(double x) {
+        return Math.sqrt(x);
+    }
+
+    @Override
+    double pow(double x, double y) {
+        return Math.pow(x, y);
+    }
+
+    @Override
+    double cbrt(double x) {
+        return Math.cbrt(x);
+    }
+
+    @Override
+    double sin(double x) {
+        return Math.sin(x);
+    }
+
+    @Override
+    double cos(double x) {
+        return Math.cos(x);
+    }
+
+    @Override
+    double atan(double x) {
+        return Math.atan(x);
+    }
+
+    @Override
+    SinCos sincos(double x) {
+        double ax = Math.abs(x);
+        if (ax <= PIO4) {
+            return new SinCos(x == 0d ? x : ksin(x, 0d), kcos(x, 0d));
+        }
+        if (!(ax < MEDIUM_REDUCTION_BOUND)) {
+            return new SinCos(StrictMath.sin(x), StrictMath.cos(x));
+        }
+
+        //x = n(pi/2) + (y0 + y1) と分解する
+        int n = (int) (ax * INV_PIO2 + 0.5);
+        double fn = n;
+        double r = ax - fn * PIO2_1;
+        double w = fn * PIO2_1T;
+        int expX = (int) (Double.doubleToRawLongBits(ax) >>> 52);
+        double y0 = r - w;
+        int i = expX - (int) ((Double.doubleToRawLongBits(y0) >>> 52) & 0x7FF);
+        if (i > 16) {
+            //桁落ちが大きいので2段目の還元を行う
+            double t = r;
+            w = fn * PIO2_2;
+            r = t - w;
+            w = fn * PIO2_2T - ((t - r) - w);
+            y0 = r - w;
+            i = expX - (int) ((Double.doubleToRawLongBits(y0) >>> 52) & 0x7FF);
+            if (i > 49) {
+                t = r;
+                w = fn * PIO2_3;
+                r = t - w;
+                w = fn * PIO2_3T - ((t - r) - w);
+                y0 = r - w;
+            }
+        }
+        double y1 = (r - y0) - w;
+        if (x < 0d) {
+            y0 = -y0;
+            y1 = -y1;
+            n = -n;
+        }
+
+        double s = ksin(y0, y1);
+        double c = kcos(y0, y1);
+        switch (n & 3) {
+            case 0:
+                return new SinCos(s, c);
+            case 1:
+                return new SinCos(c, -s);
+            case 2:
+                return new SinCos(-s, -c);
+            default:
+                return new SinCos(-c, s);
+        }
+    }
+
+    /**
+     * |x + y| &le; pi/4 における sin(x + y) (fdlibm __kernel_sin).
+     */
+    private static double ksin(double x, double y) {
+        double z = x * x;
+        double v = z * x;
+        double r = S2 + z * (S3 + z * (S4 + z * (S5 + z * S6)));
+        return x - ((z * (0.5 * y - v * r) - y) - v * S1);
+    }
+
+    /**
+     * |x + y| &le; pi/4 における cos(x + y) (fdlibm __kernel_cos).
+     */
+    private static double kcos(double x, double y) {
+        double z = x * x;
+        double r = z * (C1 + z * (C2 + z * (C3 + z * (C4 + z * (C5 + z * C6)))));
+        double ax = Math.abs(x);
+        if (ax < 0.3) {
+            return 1d - (0.5 * z - (z * r - x * y));
+        }
+        double qx = ax > 0.78125
+                ? 0.28125
+                : Double.longBitsToDouble(
+                        (Double.doubleToRawLongBits(ax) - 0x0020000000000000L) & 0xFFFFFFFF00000000L);
+        double hz = 0.5 * z - qx;
+        double a = 1d - qx;
+        return a - (hz - (z * r - x * y));
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.31
+ */
+package matsu.num.specialfunction.common;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 計算方式の分岐と反復回数の計測.
+ * 
+ * <p>
+ * システムプロパティ {@value #ENABLED_PROPERTY_KEY} が {@code true} のときに限り,
+ * クラスの初期化時に計測が有効になる. <br>
+ * 有効な場合, 分岐と反復の記録は {@link LongAdder} によるカウンタに加算され,
+ * さらに {@code jdk.jfr} モジュールが読める場合には JFR のイベントとしても発行される.
+ * </p>
+ * 
+ * <p>
+ * 無効な場合, 各記録メソッドは定数 {@code false} の判定のみで直ちに戻るため,
+ * JIT コンパイル後のコストは実質的に無い.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class Instrumentation {
+
+    /**
+     * 計測を有効にするシステムプロパティのキー.
+     */
+    public static final String ENABLED_PROPERTY_KEY = "matsu.num.specialfunction.instrumentation";
+
+    /**
+     * 計測が有効かどうか.
+     */
+    private static final boolean ENABLED = readEnabledProperty();
+
+    /**
+     * JFR のイベントを発行するかどうか.
+     */
+    private static final boolean JFR_ENABLED = ENABLED && isJfrReadable();
+
+    private static final Map<AlgorithmBranch, LongAdder> BRANCH_COUNTS;
+    private static final Map<IterativeLoop, LoopCounter> LOOP_COUNTS;
+
+    static {
+        BRANCH_COUNTS = new EnumMap<>(AlgorithmBranch.class);
+        for (AlgorithmBranch branch : AlgorithmBranch.values()) {
+            BRANCH_COUNTS.put(branch, new LongAdder());
+        }
+        LOOP_COUNTS = new EnumMap<>(IterativeLoop.class);
+        for (IterativeLoop loop : IterativeLoop.values()) {
+            LOOP_COUNTS.put(loop, new LoopCounter());
+        }
+    }
+
+    private Instrumentation() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 計測が有効かどうかを返す.
+     * 
+     * @return 有効なら true
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * 計算方式の分岐を1回記録する.
+     * 
+     * @param branch 分岐
+     */
+    public static void branch(AlgorithmBranch branch) {
+        if (!ENABLED) {
+            return;
+        }
+        BRANCH_COUNTS.get(branch).increment();
+        if (JFR_ENABLED) {
+            JfrEvents.commitBranch(branch);
+        }
+    }
+
+    /**
+     * 反復計算の1回の実行を記録する.
+     * 
+     * @param loop 反復計算
+     * @param iterations 反復回数
+     * @param converged 収束したかどうか (反復回数の上限に達した場合は false)
+     */
+    public static void iterations(IterativeLoop loop, int iterations, boolean converged) {
+        if (!ENABLED) {
+            return;
+        }
+        LOOP_COUNTS.get(loop).add(iterations, converged);
+        if (JFR_ENABLED) {
+            JfrEvents.commitIterations(loop, iterations, converged);
+        }
+    }
+
+    /**
+     * 現在のカウンタの値を返す.
+     * 
+     * <p>
+     * キーは次の形式である. <br>
+     * {@code branch.<分岐名>}: 分岐の回数 <br>
+     * {@code loop.<反復名>.calls}: 反復計算の実行回数 <br>
+     * {@code loop.<反復名>.iterations}: 反復回数の合計 <br>
+     * {@code loop.<反復名>.nonConverged}: 反復回数の上限に達した回数
+     * </p>
+     * 
+     * <p>
+     * 計測が無効の場合, 全ての値は0である.
+     * </p>
+     * 
+     * @return カウンタの値, 変更不可
+     */
+    public static Map<String, Long> snapshot() {
+        Map<String, Long> out = new LinkedHashMap<>();
+        for (Map.Entry<AlgorithmBranch, LongAdder> entry : BRANCH_COUNTS.entrySet()) {
+            out.put("branch." + entry.getKey().name(), entry.getValue().sum());
+        }
+        for (Map.Entry<IterativeLoop, LoopCounter> entry : LOOP_COUNTS.entrySet()) {
+            String prefix = "loop." + entry.getKey().name();
+            LoopCounter counter = entry.getValue();
+            out.put(prefix + ".calls", counter.calls.sum());
+            out.put(prefix + ".iterations", counter.iterations.sum());
+            out.put(prefix + ".nonConverged", counter.nonConverged.sum());
+        }
+        return Collections.unmodifiableMap(out);
+    }
+
+    /**
+     * 全てのカウンタを0にする.
+     */
+    public static void reset() {
+        for (LongAdder adder : BRANCH_COUNTS.values()) {
+            adder.reset();
+        }
+        for (LoopCounter counter : LOOP_COUNTS.values()) {
+            counter.calls.reset();
+            counter.iterations.reset();
+            counter.nonConverged.reset();
+        }
+    }
+
+    private static boolean readEnabledProperty() {
+        try {
+            return Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY_KEY));
+        } catch (SecurityException e) {
+            return false;
+        }
+    }
+
+    /**
+     * このクラスのモジュールから {@code jdk.jfr} が読めるかを判定する. <br>
+     * {@code jdk.jfr} は {@code requires static} であるため, 実行時には存在しない場合がある.
+     */
+    private static boolean isJfrReadable() {
+        return ModuleLayer.boot().findModule("jdk.jfr")
+                .map(Instrumentation.class.getModule()::canRead)
+                .orElse(false);
+    }
+
+    /**
+     * 1種類の反復計算に関するカウンタ.
+     */
+    private static final class LoopCounter {
+
+        final LongAdder calls = new LongAdder();
+        final LongAdder iterations = new LongAdder();
+        final LongAdder nonConverged = new LongAdder();
+
+        LoopCounter() {
+            super();
+        }
+
+        void add(int iterations, boolean converged) {
+            this.calls.increment();
+            this.iterations.add(iterations);
+            if (!converged) {
+                this.nonConverged.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.31
+ */
+package matsu.num.specialfunction.common;
+
+/**
+ * 計測の対象となる, 収束判定を伴う反復計算.
+ * 
+ * @author Matsuura Y.
+ * @see Instrumentation
+ */
+public enum IterativeLoop {
+
+    /**
+     * 不完全ガンマ関数の下側の連分数ファクター.
+     */
+    ICGAMMA_LOWER_FACTOR,
+
+    /**
+     * 不完全ガンマ関数の上側の連分数ファクター.
+     */
+    ICGAMMA_UPPER_FACTOR,
+
+    /**
+     * 不完全ベータ関数の連分数ファクター.
+     */
+    ICBETA_FACTOR,
+
+    /**
+     * 指数積分の連分数ファクター.
+     */
+    EXPINT_FACTOR,
+
+    /**
+     * 第1種変形 Bessel 関数の比の連分数.
+     */
+    BESSEL_I_RATIO,
+
+    /**
+     * 実数次 Bessel 関数, 第1種 Bessel 関数の対数微分の連分数.
+     */
+    BESSEL_J_RATIO,
+
+    /**
+     * 実数次 Bessel 関数, Temme の級数.
+     */
+    BESSEL_TEMME_SERIES,
+
+    /**
+     * 実数次 Bessel 関数, Steed の方法による第2種関数の連分数.
+     */
+    BESSEL_STEED_FACTOR;
+}
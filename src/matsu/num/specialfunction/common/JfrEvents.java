@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.31
+ */
+package matsu.num.specialfunction.common;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * {@link Instrumentation} が発行する JFR のイベント.
+ * 
+ * <p>
+ * このクラスは {@code jdk.jfr} が読める場合に限り初期化される.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class JfrEvents {
+
+    private JfrEvents() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    static void commitBranch(AlgorithmBranch branch) {
+        BranchEvent event = new BranchEvent();
+        if (event.shouldCommit()) {
+            event.branch = branch.name();
+            event.commit();
+        }
+    }
+
+    static void commitIterations(IterativeLoop loop, int iterations, boolean converged) {
+        IterationEvent event = new IterationEvent();
+        if (event.shouldCommit()) {
+            event.loop = loop.name();
+            event.iterations = iterations;
+            event.converged = converged;
+            event.commit();
+        }
+    }
+
+    @Name("matsu.num.specialfunction.AlgorithmBranch")
+    @Label("Algorithm Branch")
+    @Category({ "matsu.num", "Special Function" })
+    @Description("Selected computation region of a special function")
+    static final class BranchEvent extends Event {
+
+        @Label("Branch")
+        String branch;
+    }
+
+    @Name("matsu.num.specialfunction.Iteration")
+    @Label("Iteration")
+    @Category({ "matsu.num", "Special Function" })
+    @Description("Iteration count of a convergent loop")
+    static final class IterationEvent extends Event {
+
+        @Label("Loop")
+        String loop;
+
+        @Label("Iterations")
+        int iterations;
+
+        @Label("Converged")
+        boolean converged;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.28
+ */
+package matsu.num.specialfunction.common;
+
+/**
+ * {@link Math} による初等関数の計算 (既定).
+ * 
+ * @author Matsuura Y.
+ */
+final class MathElementaryFunctions extends ElementaryFunctions {
+
+    /**
+     * 唯一のコンストラクタ.
+     */
+    MathElementaryFunctions() {
+        super();
+    }
+
+    @Override
+    double exp(double x) {
+        return Math.exp(x);
+    }
+
+    @Override
+    double expm1(double x) {
+        return Math.expm1(x);
+    }
+
+    @Override
+    double log(double x) {
+        return Math.log(x);
+    }
+
+    @Override
+    double log1p(double x) {
+        return Math.log1p(x);
+    }
+
+    @Override
+    double sqrt(double x) {
+        return Math.sqrt(x);
+    }
+
+    @Override
+    double pow(double x, double y) {
+        return Math.pow(x, y);
+    }
+
+    @Override
+    double cbrt(double x) {
+        return Math.cbrt(x);
+    }
+
+    @Override
+    double sin(double x) {
+        return Math.sin(x);
+    }
+
+    @Override
+    double cos(double x) {
+        return Math.cos(x);
+    }
+
+    @Override
+    double atan(double x) {
+        return Math.atan(x);
+    }
+
+    @Override
+    SinCos sincos(double x) {
+        return new SinCos(Math.sin(x), Math.cos(x));
+    }
+}
@@ -0,0 +1,473 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.29
+ */
+package matsu.num.specialfunction.common;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * 区間を適応的に分割した, 区分的 Chebyshev 補間による関数の近似.
+ * 
+ * <p>
+ * 区間 [<i>x</i><sub>min</sub>, <i>x</i><sub>max</sub>] を2分割していき,
+ * 各小区間上で Chebyshev 点による12次の補間多項式を構築する. <br>
+ * 補間多項式はべき級数に変換して保持し, Estrin 法で評価する. <br>
+ * 補間多項式は, 小区間の両端を含む等間隔の検査点
+ * (補間点の数の約8倍) において,
+ * 真の値 <i>f</i>(<i>x</i>) との差が
+ * tolerance &times; |<i>f</i>(<i>x</i>)|
+ * 以内 (すなわち相対誤差が tolerance 以内) であることを確かめたうえで採用される. <br>
+ * 分割の深さが上限に達しても許容誤差を満たさない小区間
+ * (特異点の近傍, <i>f</i> の零点の近傍など) では補間を行わず,
+ * 真の関数で計算する. <br>
+ * 区間外の引数 (NaN を含む) についても, 真の関数で計算する.
+ * </p>
+ * 
+ * <p>
+ * 小区間はいずれも区間を2<sup>d</sup>等分したもの (d &le; 12) であるから,
+ * 最も細かい分割に対する索引表により, 引数を含む小区間を定数時間で特定する.
+ * </p>
+ * 
+ * <p>
+ * 構築した表は {@link #writeTo(ByteBuffer)} によりバイト列に書き出し,
+ * {@link #readFrom(ByteBuffer, DoubleUnaryOperator)} により再構築できる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class PiecewiseChebyshevApproximation {
+
+    /**
+     * 補間点の数 (補間多項式の次数 + 1).
+     */
+    private static final int NODE_COUNT = 13;
+
+    /**
+     * 各小区間における検査点の数. <br>
+     * 補間点の間隔よりも十分に細かくとる.
+     */
+    private static final int CHECK_POINT_COUNT = 8 * NODE_COUNT + 1;
+
+    /**
+     * 分割の深さの上限.
+     */
+    private static final int MAX_DEPTH = 12;
+
+    private final DoubleUnaryOperator exact;
+    private final double xMin;
+    private final double xMax;
+
+    /**
+     * 索引表のセル数と, セル幅の逆数.
+     */
+    private final int cellCount;
+    private final double invCellWidth;
+
+    /**
+     * 索引表: セル番号から小区間の番号への対応.
+     */
+    private final int[] pieceIndices;
+
+    /**
+     * 各小区間の中点.
+     */
+    private final double[] centers;
+
+    /**
+     * 各小区間の半幅の逆数.
+     */
+    private final double[] invHalfWidths;
+
+    /**
+     * 各小区間の補間多項式の, [-1, 1] に正規化した変数に関するべき級数の係数を連結したもの. <br>
+     * 補間を行わない小区間については, 先頭の係数を NaN とする.
+     */
+    private final double[] coefficients;
+
+    private PiecewiseChebyshevApproximation(
+            DoubleUnaryOperator exact, double xMin, double xMax, List<Piece> pieces) {
+        super();
+        this.exact = exact;
+        this.xMin = xMin;
+        this.xMax = xMax;
+
+        final int size = pieces.size();
+        int maxDepth = 0;
+        for (Piece piece : pieces) {
+            maxDepth = Math.max(maxDepth, piece.depth);
+        }
+        this.cellCount = 1 << maxDepth;
+        this.invCellWidth = this.cellCount / (xMax - xMin);
+        this.pieceIndices = new int[this.cellCount];
+        this.centers = new double[size];
+        this.invHalfWidths = new double[size];
+        this.coefficients = new double[size * NODE_COUNT];
+
+        int cell = 0;
+        for (int k = 0; k < size; k++) {
+            Piece piece = pieces.get(k);
+            this.centers[k] = 0.5 * (piece.lower + piece.upper);
+            this.invHalfWidths[k] = 2d / (piece.upper - piece.lower);
+            if (piece.coefficients == null) {
+                this.coefficients[k * NODE_COUNT] = Double.NaN;
+            } else {
+                System.arraycopy(piece.coefficients, 0, this.coefficients, k * NODE_COUNT, NODE_COUNT);
+            }
+
+            int cellEnd = cell + (1 << (maxDepth - piece.depth));
+            for (; cell < cellEnd; cell++) {
+                this.pieceIndices[cell] = k;
+            }
+        }
+    }
+
+    /**
+     * 表から直接構築する.
+     */
+    private PiecewiseChebyshevApproximation(
+            DoubleUnaryOperator exact, double xMin, double xMax,
+            int[] pieceIndices, double[] centers, double[] invHalfWidths, double[] coefficients) {
+        super();
+        this.exact = exact;
+        this.xMin = xMin;
+        this.xMax = xMax;
+        this.cellCount = pieceIndices.length;
+        this.invCellWidth = this.cellCount / (xMax - xMin);
+        this.pieceIndices = pieceIndices;
+        this.centers = centers;
+        this.invHalfWidths = invHalfWidths;
+        this.coefficients = coefficients;
+    }
+
+    /**
+     * 関数の値を返す.
+     * 
+     * <p>
+     * 補間が採用された小区間内であれば補間多項式により,
+     * それ以外では真の関数により計算する.
+     * </p>
+     * 
+     * @param x x
+     * @return f(x)
+     */
+    public double value(double x) {
+        if (!(this.xMin <= x && x <= this.xMax)) {
+            return this.exact.applyAsDouble(x);
+        }
+
+        int cell = Math.min((int) ((x - this.xMin) * this.invCellWidth), this.cellCount - 1);
+        int k = this.pieceIndices[cell];
+        int offset = k * NODE_COUNT;
+        if (Double.isNaN(this.coefficients[offset])) {
+            return this.exact.applyAsDouble(x);
+        }
+        return estrin(this.coefficients, offset, (x - this.centers[k]) * this.invHalfWidths[k]);
+    }
+
+    /**
+     * 補間が採用された小区間の数を返す.
+     * 
+     * @return 補間が採用された小区間の数
+     */
+    public int approximatedPieceCount() {
+        int count = 0;
+        for (int offset = 0; offset < this.coefficients.length; offset += NODE_COUNT) {
+            if (!Double.isNaN(this.coefficients[offset])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 小区間の数を返す.
+     * 
+     * @return 小区間の数
+     */
+    public int pieceCount() {
+        return this.centers.length;
+    }
+
+    /**
+     * {@link #writeTo(ByteBuffer)} が書き出すバイト数を返す.
+     * 
+     * @return 書き出すバイト数
+     */
+    public int serializedSize() {
+        return 2 * Double.BYTES + 2 * Integer.BYTES
+                + this.cellCount * Integer.BYTES
+                + (this.centers.length * 2 + this.coefficients.length) * Double.BYTES;
+    }
+
+    /**
+     * 表をバイト列としてバッファの現在位置に書き出し, 位置を進める.
+     * 
+     * <p>
+     * 書式は, 区間の下端, 上端 (double), 索引表のセル数, 小区間の数 (int),
+     * 索引表 (int), 各小区間の中点, 半幅の逆数, 係数 (double) の順である. <br>
+     * 真の関数は書き出されない.
+     * </p>
+     * 
+     * @param dst 書き出し先
+     * @throws java.nio.BufferOverflowException 残りが {@link #serializedSize()} 未満の場合
+     * @throws java.nio.ReadOnlyBufferException 読み取り専用の場合
+     */
+    public void writeTo(ByteBuffer dst) {
+        dst.putDouble(this.xMin);
+        dst.putDouble(this.xMax);
+        dst.putInt(this.cellCount);
+        dst.putInt(this.centers.length);
+        for (int index : this.pieceIndices) {
+            dst.putInt(index);
+        }
+        for (double v : this.centers) {
+            dst.putDouble(v);
+        }
+        for (double v : this.invHalfWidths) {
+            dst.putDouble(v);
+        }
+        for (double v : this.coefficients) {
+            dst.putDouble(v);
+        }
+    }
+
+    /**
+     * {@link #writeTo(ByteBuffer)} により書き出された表を,
+     * バッファの現在位置から読み込んで再構築し, 位置を進める.
+     * 
+     * @param src 読み込み元
+     * @param exact 真の関数
+     * @return 区分的 Chebyshev 補間
+     * @throws IllegalArgumentException バイト列が不正の場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static PiecewiseChebyshevApproximation readFrom(ByteBuffer src, DoubleUnaryOperator exact) {
+        if (exact == null) {
+            throw new NullPointerException();
+        }
+
+        try {
+            double xMin = src.getDouble();
+            double xMax = src.getDouble();
+            int cellCount = src.getInt();
+            int pieceCount = src.getInt();
+            if (!(Double.isFinite(xMin) && Double.isFinite(xMax) && xMin < xMax)
+                    || !(0 < cellCount && cellCount <= (1 << MAX_DEPTH) && Integer.bitCount(cellCount) == 1)
+                    || !(0 < pieceCount && pieceCount <= cellCount)) {
+                throw new IllegalArgumentException("Corrupted table");
+            }
+
+            int[] pieceIndices = new int[cellCount];
+            src.asIntBuffer().get(pieceIndices);
+            src.position(src.position() + cellCount * Integer.BYTES);
+            for (int index : pieceIndices) {
+                if (!(0 <= index && index < pieceCount)) {
+                    throw new IllegalArgumentException("Corrupted table");
+                }
+            }
+
+            double[] centers = new double[pieceCount];
+            double[] invHalfWidths = new double[pieceCount];
+            double[] coefficients = new double[pieceCount * NODE_COUNT];
+            for (double[] array : new double[][] { centers, invHalfWidths, coefficients }) {
+                src.asDoubleBuffer().get(array);
+                src.position(src.position() + array.length * Double.BYTES);
+            }
+
+            return new PiecewiseChebyshevApproximation(
+                    exact, xMin, xMax, pieceIndices, centers, invHalfWidths, coefficients);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Corrupted table", e);
+        }
+    }
+
+    /**
+     * 指定した関数の, 区間 [xMin, xMax] における区分的 Chebyshev 補間を構築する.
+     * 
+     * @param exact 真の関数
+     * @param xMin 区間の下端
+     * @param xMax 区間の上端
+     * @param tolerance 許容誤差
+     * @return 区分的 Chebyshev 補間
+     * @throws IllegalArgumentException 区間が有限でない, xMin &lt; xMax でない,
+     *             許容誤差が正の有限の値でない場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static PiecewiseChebyshevApproximation of(
+            DoubleUnaryOperator exact, double xMin, double xMax, double tolerance) {
+        if (!(Double.isFinite(xMin) && Double.isFinite(xMax) && xMin < xMax)) {
+            throw new IllegalArgumentException(
+                    "Illegal range: xMin = %s, xMax = %s".formatted(xMin, xMax));
+        }
+        if (!(tolerance > 0 && Double.isFinite(tolerance))) {
+            throw new IllegalArgumentException(
+                    "Illegal tolerance: %s".formatted(tolerance));
+        }
+        if (exact == null) {
+            throw new NullPointerException();
+        }
+
+        List<Piece> pieces = new ArrayList<>();
+        build(exact, xMin, xMax, tolerance, 0, pieces);
+        return new PiecewiseChebyshevApproximation(exact, xMin, xMax, pieces);
+    }
+
+    /**
+     * 区間 [lower, upper] の補間を構築し, 小区間を昇順に追加する.
+     */
+    private static void build(
+            DoubleUnaryOperator exact, double lower, double upper, double tolerance,
+            int depth, List<Piece> pieces) {
+        double[] c = fit(exact, lower, upper, tolerance);
+        if (c != null) {
+            pieces.add(new Piece(lower, upper, depth, c));
+            return;
+        }
+
+        double mid = 0.5 * (lower + upper);
+        if (depth >= MAX_DEPTH || !(lower < mid && mid < upper)) {
+            pieces.add(new Piece(lower, upper, depth, null));
+            return;
+        }
+        build(exact, lower, mid, tolerance, depth + 1, pieces);
+        build(exact, mid, upper, tolerance, depth + 1, pieces);
+    }
+
+    /**
+     * 区間 [lower, upper] における補間多項式のべき級数の係数を計算し,
+     * 許容誤差を満たす場合はそれを返す. <br>
+     * 満たさない場合は null を返す.
+     */
+    private static double[] fit(
+            DoubleUnaryOperator exact, double lower, double upper, double tolerance) {
+        double center = 0.5 * (lower + upper);
+        double halfWidth = 0.5 * (upper - lower);
+
+        double[] values = new double[NODE_COUNT];
+        for (int j = 0; j < NODE_COUNT; j++) {
+            double theta = Math.PI * (j + 0.5) / NODE_COUNT;
+            values[j] = exact.applyAsDouble(center + halfWidth * Trigonometry.cos(theta));
+            if (!Double.isFinite(values[j])) {
+                return null;
+            }
+        }
+
+        //Chebyshev 係数
+        double[] cheb = new double[NODE_COUNT];
+        for (int k = 0; k < NODE_COUNT; k++) {
+            double sum = 0d;
+            for (int j = 0; j < NODE_COUNT; j++) {
+                sum += values[j] * Trigonometry.cos(Math.PI * k * (j + 0.5) / NODE_COUNT);
+            }
+            cheb[k] = (2d / NODE_COUNT) * sum;
+        }
+        cheb[0] *= 0.5;
+
+        double[] c = toPowerSeries(cheb);
+
+        //評価と同一の方法で, 検査点における誤差を確かめる
+        for (int i = 0; i < CHECK_POINT_COUNT; i++) {
+            double x = i == CHECK_POINT_COUNT - 1
+                    ? upper
+                    : lower + (upper - lower) * i / (CHECK_POINT_COUNT - 1);
+            double expected = exact.applyAsDouble(x);
+            if (!Double.isFinite(expected)) {
+                return null;
+            }
+            double actual = estrin(c, 0, (x - center) * (2d / (upper - lower)));
+            if (!(Math.abs(actual - expected) <= tolerance * Math.abs(expected))) {
+                return null;
+            }
+        }
+        return c;
+    }
+
+    /**
+     * Chebyshev 級数をべき級数に変換する.
+     */
+    private static double[] toPowerSeries(double[] cheb) {
+        final int n = cheb.length;
+        double[] c = new double[n];
+
+        //T_{k-1}, T_k のべき級数の係数 (整数であり, 倍精度で正確に表される)
+        double[] tPrev = new double[n];
+        double[] tCurrent = new double[n];
+        tPrev[0] = 1d;
+        tCurrent[1] = 1d;
+        c[0] = cheb[0];
+        c[1] = cheb[1];
+        for (int k = 2; k < n; k++) {
+            //T_k = 2t T_{k-1} - T_{k-2}
+            double[] tNext = new double[n];
+            tNext[0] = -tPrev[0];
+            for (int j = 1; j <= k; j++) {
+                tNext[j] = 2 * tCurrent[j - 1] - tPrev[j];
+            }
+            for (int j = 0; j <= k; j++) {
+                c[j] += cheb[k] * tNext[j];
+            }
+            tPrev = tCurrent;
+            tCurrent = tNext;
+        }
+        return c;
+    }
+
+    /**
+     * Estrin 法により, c[offset], ..., c[offset + 12] を係数とする12次多項式の値を計算する.
+     */
+    private static double estrin(double[] c, int offset, double t) {
+        final double t2 = t * t;
+        final double t4 = t2 * t2;
+        final double t8 = t4 * t4;
+
+        final double v0 = c[offset] + c[offset + 1] * t;
+        final double v2 = c[offset + 2] + c[offset + 3] * t;
+        final double v4 = c[offset + 4] + c[offset + 5] * t;
+        final double v6 = c[offset + 6] + c[offset + 7] * t;
+        final double v8 = c[offset + 8] + c[offset + 9] * t;
+        final double v10 = c[offset + 10] + c[offset + 11] * t;
+
+        final double s0 = v0 + v2 * t2;
+        final double s4 = v4 + v6 * t2;
+        final double s8 = v8 + v10 * t2;
+
+        return (s0 + s4 * t4) + (s8 + c[offset + 12] * t4) * t8;
+    }
+
+    /**
+     * 小区間.
+     */
+    private static final class Piece {
+
+        final double lower;
+        final double upper;
+
+        /**
+         * 分割の深さ: 小区間の幅は全体の 2<sup>-depth</sup> 倍.
+         */
+        final int depth;
+
+        /**
+         * 補間を行わない場合は null.
+         */
+        final double[] coefficients;
+
+        Piece(double lower, double upper, int depth, double[] coefficients) {
+            super();
+            this.lower = lower;
+            this.upper = upper;
+            this.depth = depth;
+            this.coefficients = coefficients;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.28
+ */
+package matsu.num.specialfunction.common;
+
+/**
+ * 同じ引数に対する sin, cos の値の組.
+ * 
+ * @author Matsuura Y.
+ */
+public final class SinCos {
+
+    private final double sin;
+    private final double cos;
+
+    /**
+     * 値の組を構築する.
+     * 
+     * @param sin sin の値
+     * @param cos cos の値
+     */
+    SinCos(double sin, double cos) {
+        super();
+        this.sin = sin;
+        this.cos = cos;
+    }
+
+    /**
+     * sin の値を返す.
+     * 
+     * @return sin の値
+     */
+    public double sin() {
+        return this.sin;
+    }
+
+    /**
+     * cos の値を返す.
+     * 
+     * @return cos の値
+     */
+    public double cos() {
+        return this.cos;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.28
+ */
+package matsu.num.specialfunction.common;
+
+/**
+ * {@link StrictMath} による初等関数の計算.
+ * 
+ * <p>
+ * 結果はJVMやプラットフォームによらず, ビット単位で再現される.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class StrictMathElementaryFunctions extends ElementaryFunctions {
+
+    /**
+     * 唯一のコンストラクタ.
+     */
+    StrictMathElementaryFunctions() {
+        super();
+    }
+
+    @Override
+    double exp(double x) {
+        return StrictMath.exp(x);
+    }
+
+    @Override
+    double expm1(double x) {
+        return StrictMath.expm1(x);
+    }
+
+    @Override
+    double log(double x) {
+        return StrictMath.log(x);
+    }
+
+    @Override
+    double log1p(double x) {
+        return StrictMath.log1p(x);
+    }
+
+    @Override
+    double sqrt(double x) {
+        return StrictMath.sqrt(x);
+    }
+
+    @Override
+    double pow(double x, double y) {
+        return StrictMath.pow(x, y);
+    }
+
+    @Override
+    double cbrt(double x) {
+        return StrictMath.cbrt(x);
+    }
+
+    @Override
+    double sin(double x) {
+        return StrictMath.sin(x);
+    }
+
+    @Override
+    double cos(double x) {
+        return StrictMath.cos(x);
+    }
+
+    @Override
+    double atan(double x) {
+        return StrictMath.atan(x);
+    }
+
+    @Override
+    SinCos sincos(double x) {
+        return new SinCos(StrictMath.sin(x), StrictMath.cos(x));
+    }
+}
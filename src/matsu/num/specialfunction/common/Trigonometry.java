@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2024.12.31
+ * 2025.7.28
  */
 package matsu.num.specialfunction.common;
 
@@ -15,16 +15,38 @@ package matsu.num.specialfunction.common;
  * @author Matsuura Y.
  */
 public final class Trigonometry {
+
+    private static final ElementaryFunctions BACKEND = ElementaryFunctions.SELECTED;
+
     private Trigonometry() {
         //インスタンス化不可
         throw new AssertionError();
     }
 
     public static double cos(double x) {
-        return Math.cos(x);
+        return BACKEND.cos(x);
     }
 
     public static double sin(double x) {
-        return Math.sin(x);
+        return BACKEND.sin(x);
+    }
+
+    public static double atan(double x) {
+        return BACKEND.atan(x);
+    }
+
+    /**
+     * sin(x), cos(x) を同時に計算する.
+     * 
+     * <p>
+     * 引数還元を共有できるバックエンドでは,
+     * {@link #sin(double)}, {@link #cos(double)} を個別に呼ぶよりも高速である.
+     * </p>
+     * 
+     * @param x x
+     * @return sin(x), cos(x) の組
+     */
+    public static SinCos sincos(double x) {
+        return BACKEND.sincos(x);
     }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.5
+ */
+package matsu.num.specialfunction.distribution;
+
+import matsu.num.specialfunction.common.AlgorithmBranch;
+import matsu.num.specialfunction.common.Exponentiation;
+import matsu.num.specialfunction.common.Instrumentation;
+
+/**
+ * 自由度の一方が 2 である <i>F</i> 分布 (閉じた形).
+ * 
+ * <p>
+ * I(a, 1, x) = x<sup>a</sup>, I(1, b, x) = 1 - (1 - x)<sup>b</sup> より, <br>
+ * d2 = 2: P = (1 + 2/(d1 f))<sup>-d1/2</sup>, P/(1-P) = 1/expm1(L),
+ * L = (d1/2) log1p(2/(d1 f)), <br>
+ * d1 = 2: 1 - P = (1 + 2f/d2)<sup>-d2/2</sup>, P/(1-P) = expm1(L),
+ * L = (d2/2) log1p(2f/d2) <br>
+ * である.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class ClosedFormFDistribution extends SkeletalFDistribution {
+
+    private final boolean denominatorIs2;
+    private final double halfExponent;
+    private final double scale;
+
+    /**
+     * @param d1 分子の自由度
+     * @param d2 分母の自由度
+     */
+    ClosedFormFDistribution(double d1, double d2) {
+        super(d1, d2);
+        assert accepts(d1, d2);
+
+        this.denominatorIs2 = d2 == 2;
+        if (this.denominatorIs2) {
+            this.halfExponent = d1 / 2;
+            this.scale = 2 / d1;
+        } else {
+            this.halfExponent = d2 / 2;
+            this.scale = 2 / d2;
+        }
+    }
+
+    /**
+     * 与えた自由度がこのクラスで扱えるかを判定する.
+     * 
+     * @param d1 分子の自由度
+     * @param d2 分母の自由度
+     * @return 扱える場合はtrue
+     */
+    static boolean accepts(double d1, double d2) {
+        return d1 == 2 || d2 == 2;
+    }
+
+    @Override
+    double cdfOdds(double f) {
+        Instrumentation.branch(AlgorithmBranch.F_CLOSED_FORM);
+        if (this.denominatorIs2) {
+            double l = this.halfExponent * Exponentiation.log1p(this.scale / f);
+            return 1 / Exponentiation.expm1(l);
+        }
+        double l = this.halfExponent * Exponentiation.log1p(this.scale * f);
+        return Exponentiation.expm1(l);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.5
+ */
+package matsu.num.specialfunction.distribution;
+
+import matsu.num.specialfunction.common.AlgorithmBranch;
+import matsu.num.specialfunction.common.Exponentiation;
+import matsu.num.specialfunction.common.Instrumentation;
+import matsu.num.specialfunction.common.Trigonometry;
+
+/**
+ * 自由度 1, 2 の <i>t</i> 分布 (閉じた形).
+ * 
+ * <p>
+ * 両側確率 p のオッズは, <br>
+ * &nu; = 1 (Cauchy 分布): p/(1-p) = arctan(1/t)/arctan(t), <br>
+ * &nu; = 2: p/(1-p) = (r - t)/t = 2/(t(r + t)), r = &radic;(2 + t<sup>2</sup>) <br>
+ * であり, 分子と分母がいずれも桁落ちなく計算できる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class ClosedFormStudentT extends SkeletalStudentT {
+
+    private final boolean cauchy;
+
+    /**
+     * @param nu 自由度, 1 または 2
+     */
+    ClosedFormStudentT(double nu) {
+        super(nu);
+        assert nu == 1 || nu == 2;
+        this.cauchy = nu == 1;
+    }
+
+    @Override
+    double twoSidedOdds(double absT) {
+        Instrumentation.branch(AlgorithmBranch.STUDENT_T_CLOSED_FORM);
+        if (this.cauchy) {
+            return Trigonometry.atan(1 / absT) / Trigonometry.atan(absT);
+        }
+        double r = Exponentiation.sqrt(2 + absT * absT);
+        return 2 / (absT * (r + absT));
+    }
+}
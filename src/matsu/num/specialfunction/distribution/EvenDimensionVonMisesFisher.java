@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.7
+ */
+package matsu.num.specialfunction.distribution;
+
+import matsu.num.specialfunction.bessel.ModifiedBesselFunction;
+import matsu.num.specialfunction.common.Exponentiation;
+
+/**
+ * 偶数次元の von Mises&ndash;Fisher 分布.
+ * 
+ * <p>
+ * &nu; = <i>p</i>/2 - 1 は整数であり,
+ * {@link ModifiedBesselFunction#besselIc(double)} を用いる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class EvenDimensionVonMisesFisher extends SkeletalVonMisesFisher {
+
+    private final ModifiedBesselFunction mBessel;
+
+    /**
+     * @param p 次元, 正当性は検証されていなければならない (偶数)
+     */
+    EvenDimensionVonMisesFisher(int p) {
+        super(p);
+        this.mBessel = ModifiedBesselFunction.instanceOf(p / 2 - 1);
+    }
+
+    @Override
+    double logScaledBesselI(double kappa) {
+        return Exponentiation.log(this.mBessel.besselIc(kappa));
+    }
+}
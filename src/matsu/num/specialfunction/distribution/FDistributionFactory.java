@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.5
+ */
+package matsu.num.specialfunction.distribution;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import matsu.num.specialfunction.FDistribution;
+
+/**
+ * <i>F</i> 分布のファクトリ.
+ * 
+ * <p>
+ * 生成したインスタンスは自由度の組ごとにキャッシュされる
+ * (最大 {@link #CACHE_CAPACITY} 件, 超えた分はキャッシュされない).
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class FDistributionFactory {
+
+    /**
+     * キャッシュするインスタンス数の上限.
+     */
+    static final int CACHE_CAPACITY = 1024;
+
+    private static final ConcurrentHashMap<Key, FDistribution> CACHE =
+            new ConcurrentHashMap<>();
+
+    private FDistributionFactory() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 指定した自由度の <i>F</i> 分布の計算インスタンスを返す.
+     * 
+     * @param d1 分子の自由度
+     * @param d2 分母の自由度
+     * @return 自由度 (d1, d2) の <i>F</i> 分布の計算インスタンス
+     * @throws IllegalArgumentException 自由度がサポート外の場合
+     */
+    public static FDistribution instanceOf(double d1, double d2) {
+        if (!FDistribution.acceptsParameter(d1, d2)) {
+            throw new IllegalArgumentException(
+                    "Illegal parameter: d1 = %s, d2 = %s".formatted(d1, d2));
+        }
+
+        Key key = new Key(d1, d2);
+        FDistribution cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        FDistribution created = create(d1, d2);
+        if (CACHE.size() < CACHE_CAPACITY) {
+            FDistribution prev = CACHE.putIfAbsent(key, created);
+            if (prev != null) {
+                return prev;
+            }
+        }
+        return created;
+    }
+
+    private static SkeletalFDistribution create(double d1, double d2) {
+        if (ClosedFormFDistribution.accepts(d1, d2)) {
+            return new ClosedFormFDistribution(d1, d2);
+        }
+        return new ICBetaBasedFDistribution(d1, d2);
+    }
+
+    /**
+     * キャッシュのキー.
+     */
+    private static record Key(double d1, double d2) {
+    }
+}
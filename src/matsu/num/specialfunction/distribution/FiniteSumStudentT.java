@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.5
+ */
+package matsu.num.specialfunction.distribution;
+
+import matsu.num.specialfunction.common.AlgorithmBranch;
+import matsu.num.specialfunction.common.Exponentiation;
+import matsu.num.specialfunction.common.Instrumentation;
+import matsu.num.specialfunction.common.Trigonometry;
+
+/**
+ * 整数の自由度 (3 &le; &nu; &le; {@link #NU_MAX}) の <i>t</i> 分布.
+ * 
+ * <p>
+ * &theta; = arctan(t/&radic;&nu;), s = sin&theta;, c = cos&theta; とすると,
+ * 中心部の確率 A = 1 - p は有限和 <br>
+ * &nu; が偶数: A = s [1 + (1/2)c<sup>2</sup> + (1&middot;3)/(2&middot;4)c<sup>4</sup> + ...
+ * + (1&middot;3&middot;&middot;&middot;(&nu;-3))/(2&middot;4&middot;&middot;&middot;(&nu;-2))c<sup>&nu;-2</sup>], <br>
+ * &nu; が奇数: A = (2/&pi;){&theta; + sc [1 + (2/3)c<sup>2</sup> + ...
+ * + (2&middot;4&middot;&middot;&middot;(&nu;-3))/(3&middot;5&middot;&middot;&middot;(&nu;-2))c<sup>&nu;-3</sup>]} <br>
+ * で表される.
+ * </p>
+ * 
+ * <p>
+ * p = 1 - A は A が 1 に近いと桁落ちするため,
+ * 有限和は A &le; 3/4 (p &ge; 1/4) となる t にのみ用い,
+ * それ以外 (裾) は不完全ベータ関数により計算する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class FiniteSumStudentT extends SkeletalStudentT {
+
+    /**
+     * このクラスが扱う自由度の上限.
+     */
+    static final int NU_MAX = 30;
+
+    /**
+     * 有限和を用いる中心部の確率 A の上限.
+     */
+    private static final double CENTRAL_MASS_MAX = 0.75;
+
+    private static final double TWO_OVER_PI = 2 / Math.PI;
+
+    private final boolean odd;
+    private final double sqrtNu;
+
+    /**
+     * 有限和の係数 (c<sup>2</sup> の昇べきの順).
+     */
+    private final double[] coeffs;
+
+    /**
+     * 有限和を用いる t の上限.
+     */
+    private final double tMaxForFiniteSum;
+
+    private final ICBetaBasedStudentT tail;
+
+    /**
+     * @param nu 自由度, 3 以上 NU_MAX 以下の整数
+     */
+    FiniteSumStudentT(double nu) {
+        super(nu);
+        assert accepts(nu);
+
+        int n = (int) nu;
+        this.odd = (n & 1) == 1;
+        this.sqrtNu = Exponentiation.sqrt(nu);
+        this.coeffs = new double[this.odd ? (n - 1) / 2 : n / 2];
+        this.coeffs[0] = 1;
+        for (int k = 1; k < this.coeffs.length; k++) {
+            this.coeffs[k] = this.odd
+                    ? this.coeffs[k - 1] * (2 * k) / (2 * k + 1)
+                    : this.coeffs[k - 1] * (2 * k - 1) / (2 * k);
+        }
+        this.tMaxForFiniteSum = this.findTMaxForFiniteSum();
+        this.tail = new ICBetaBasedStudentT(nu);
+    }
+
+    /**
+     * 与えた自由度がこのクラスで扱えるかを判定する.
+     * 
+     * @param nu 自由度
+     * @return 扱える場合はtrue
+     */
+    static boolean accepts(double nu) {
+        return 3 <= nu && nu <= NU_MAX && nu == Math.rint(nu);
+    }
+
+    @Override
+    double twoSidedOdds(double absT) {
+        if (absT <= this.tMaxForFiniteSum) {
+            Instrumentation.branch(AlgorithmBranch.STUDENT_T_FINITE_SUM);
+            double central = this.centralMass(absT);
+            return (1 - central) / central;
+        }
+        return this.tail.twoSidedOdds(absT);
+    }
+
+    /**
+     * 中心部の確率 A = P(|T| &lt; t) を有限和により計算する.
+     */
+    private double centralMass(double absT) {
+        final double q = absT / this.sqrtNu;
+        final double cos2 = 1 / (1 + q * q);
+
+        final double[] cs = this.coeffs;
+        double sum = cs[cs.length - 1];
+        for (int k = cs.length - 2; k >= 0; k--) {
+            sum = cs[k] + sum * cos2;
+        }
+
+        if (this.odd) {
+            //s c = q c^2
+            return TWO_OVER_PI * (Trigonometry.atan(q) + q * cos2 * sum);
+        }
+        //s = q c
+        return q * Exponentiation.sqrt(cos2) * sum;
+    }
+
+    /**
+     * A = {@link #CENTRAL_MASS_MAX} となる t を2分法により求める.
+     */
+    private double findTMaxForFiniteSum() {
+        double lo = 0;
+        double hi = 1;
+        while (this.centralMass(hi) < CENTRAL_MASS_MAX) {
+            lo = hi;
+            hi *= 2;
+        }
+        for (int i = 0; i < 60; i++) {
+            double mid = 0.5 * (lo + hi);
+            if (this.centralMass(mid) < CENTRAL_MASS_MAX) {
+                lo = mid;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.5
+ */
+package matsu.num.specialfunction.distribution;
+
+import matsu.num.specialfunction.IncompleteBetaFunction;
+
+/**
+ * 不完全ベータ関数による <i>F</i> 分布.
+ * 
+ * <p>
+ * P = I(d1/2, d2/2, x), x = d1 f/(d1 f + d2) のオッズを,
+ * x のオッズ d1 f/d2 から直接計算する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class ICBetaBasedFDistribution extends SkeletalFDistribution {
+
+    private final double d1OverD2;
+    private final IncompleteBetaFunction ibeta;
+
+    /**
+     * @param d1 分子の自由度, 正当性は検証されていなければならない
+     * @param d2 分母の自由度, 正当性は検証されていなければならない
+     */
+    ICBetaBasedFDistribution(double d1, double d2) {
+        super(d1, d2);
+        this.d1OverD2 = d1 / d2;
+        this.ibeta = IncompleteBetaFunction.instanceOf(d1 / 2, d2 / 2);
+    }
+
+    @Override
+    double cdfOdds(double f) {
+        return this.ibeta.ribetaOdds(this.d1OverD2 * f);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.5
+ */
+package matsu.num.specialfunction.distribution;
+
+import matsu.num.specialfunction.IncompleteBetaFunction;
+
+/**
+ * 不完全ベータ関数による <i>t</i> 分布.
+ * 
+ * <p>
+ * p = I(&nu;/2, 1/2, x), x = &nu;/(&nu; + t<sup>2</sup>) のオッズを,
+ * x のオッズ &nu;/t<sup>2</sup> から直接計算する. <br>
+ * x, 1 - x を経由しないため, 裾でも桁落ちが生じない. <br>
+ * ただし t<sup>2</sup> &ge; &nu; (x &le; 1/2) では,
+ * 相対精度の良い級数 ({@link StudentTTailSeries}) を用いる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class ICBetaBasedStudentT extends SkeletalStudentT {
+
+    private final StudentTTailSeries tailSeries;
+    private final IncompleteBetaFunction ibeta;
+
+    /**
+     * @param nu 自由度, 正当性は検証されていなければならない
+     */
+    ICBetaBasedStudentT(double nu) {
+        super(nu);
+        this.tailSeries = new StudentTTailSeries(nu);
+        this.ibeta = IncompleteBetaFunction.instanceOf(nu / 2, 0.5);
+    }
+
+    @Override
+    double twoSidedOdds(double absT) {
+        final double q2 = absT * absT / this.nu;
+        if (q2 >= 1) {
+            double p = this.tailSeries.twoSidedP(q2);
+            return p / (1 - p);
+        }
+        return this.ibeta.ribetaOdds(1 / q2);
+    }
+}
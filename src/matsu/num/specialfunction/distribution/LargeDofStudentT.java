@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.5
+ */
+package matsu.num.specialfunction.distribution;
+
+import matsu.num.specialfunction.ErrorFuction;
+import matsu.num.specialfunction.common.AlgorithmBranch;
+import matsu.num.specialfunction.common.Exponentiation;
+import matsu.num.specialfunction.common.Instrumentation;
+
+/**
+ * 大きい自由度 (&nu; &ge; {@link #NU_MIN}) の <i>t</i> 分布.
+ * 
+ * <p>
+ * Hill (1970) の正規化変換 <br>
+ * y = (&nu; - 1/2) log(1 + t<sup>2</sup>/&nu;), b = 48(&nu; - 1/2)<sup>2</sup>, <br>
+ * z = &radic;y [1 + (y + 3 + R(y))/b],
+ * R(y) = (-0.4y<sup>3</sup> - 3.3y<sup>2</sup> - 24y - 85.5)/(0.8y<sup>2</sup> + 100 + b) <br>
+ * により, 両側確率を p = erfc(z/&radic;2) として計算する. <br>
+ * 展開の打ち切り誤差は y/&nu; とともに増えるため,
+ * t<sup>2</sup>/&nu; &gt; 1/16 (&nu; = 300 で p &lt; 2E-5 程度) では級数
+ * ({@link StudentTTailSeries}) を用いる.
+ * </p>
+ * 
+ * <p>
+ * 不完全ベータ関数 I(&nu;/2, 1/2, x) は, &nu; が大きいと x &asymp; 1 における
+ * log x の丸め誤差により相対精度が落ちる
+ * (&nu; = 1E+4 で 1E-12, &nu; = 1E+8 で 1E-8 程度) ため, このクラスでは用いない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class LargeDofStudentT extends SkeletalStudentT {
+
+    /**
+     * このクラスが扱う自由度の下限.
+     */
+    static final double NU_MIN = 300;
+
+    /**
+     * 正規化変換を用いる q<sup>2</sup> = t<sup>2</sup>/&nu; の上限.
+     */
+    private static final double Q2_MAX_FOR_TRANSFORM = 1d / 16;
+
+    /**
+     * erfc(w) を erfcx(w) exp(-w<sup>2</sup>) により計算する w の下限.
+     */
+    private static final double W_THRESHOLD_FOR_ERFCX = 0.5;
+
+    private final double nuMinusHalf;
+    private final double b;
+
+    private final StudentTTailSeries tailSeries;
+
+    /**
+     * @param nu 自由度, 正当性は検証されていなければならない
+     */
+    LargeDofStudentT(double nu) {
+        super(nu);
+        assert nu >= NU_MIN;
+
+        this.nuMinusHalf = nu - 0.5;
+        this.b = 48 * this.nuMinusHalf * this.nuMinusHalf;
+        this.tailSeries = new StudentTTailSeries(nu);
+    }
+
+    @Override
+    double twoSidedOdds(double absT) {
+        final double q2 = absT * absT / this.nu;
+        if (q2 > Q2_MAX_FOR_TRANSFORM) {
+            double p = this.tailSeries.twoSidedP(q2);
+            return p / (1 - p);
+        }
+
+        Instrumentation.branch(AlgorithmBranch.STUDENT_T_NORMALIZING_TRANSFORM);
+        final double y = this.nuMinusHalf * Exponentiation.log1p(q2);
+        final double r = (((-0.4 * y - 3.3) * y - 24) * y - 85.5) / (0.8 * y * y + 100 + this.b);
+        final double factor = 1 + (y + 3 + r) / this.b;
+
+        //w = z/sqrt(2), w^2 = (y/2) factor^2 は平方根を経由せずに計算する
+        final double halfY = 0.5 * y;
+        final double w = Exponentiation.sqrt(halfY) * factor;
+        if (w < W_THRESHOLD_FOR_ERFCX) {
+            return ErrorFuction.erfc(w) / ErrorFuction.erf(w);
+        }
+        double p = ErrorFuction.erfcx(w) * Exponentiation.exp(-halfY * factor * factor);
+        return p / (1 - p);
+    }
+}
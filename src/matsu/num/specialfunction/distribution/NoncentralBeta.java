@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.6
+ */
+package matsu.num.specialfunction.distribution;
+
+import matsu.num.specialfunction.IncompleteBetaFunction;
+import matsu.num.specialfunction.NoncentralBetaDistribution;
+
+/**
+ * 非心ベータ分布.
+ * 
+ * <p>
+ * P(<i>X</i> &le; <i>x</i>) =
+ * &Sigma; <i>w</i><sub><i>j</i></sub> <i>I</i>(<i>a</i> + <i>j</i>, <i>b</i>, <i>x</i>),
+ * P(<i>X</i> &gt; <i>x</i>) =
+ * &Sigma; <i>w</i><sub><i>j</i></sub> <i>I</i>(<i>b</i>, <i>a</i> + <i>j</i>, 1 - <i>x</i>)
+ * (<i>w</i><sub><i>j</i></sub> は平均 &lambda;/2 の Poisson 分布の確率)
+ * により計算する. <br>
+ * 系列は
+ * {@link IncompleteBetaFunction#ribetaOverShiftedA(double, int)},
+ * {@link IncompleteBetaFunction#ribetaOverShiftedB(double, int)}
+ * による.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class NoncentralBeta extends SkeletalPoissonMixture
+        implements NoncentralBetaDistribution {
+
+    private final double a;
+    private final double b;
+    private final double lambda;
+
+    /**
+     * パラメータ (a + lo, b) の不完全ベータ関数.
+     */
+    private final IncompleteBetaFunction ibetaAtLo;
+
+    /**
+     * パラメータ (b, a + lo) の不完全ベータ関数.
+     */
+    private final IncompleteBetaFunction reversedIbetaAtLo;
+
+    /**
+     * @param a a, 正当性は検証されていなければならない
+     * @param b b, 正当性は検証されていなければならない
+     * @param lambda 非心度, 正当性は検証されていなければならない
+     */
+    NoncentralBeta(double a, double b, double lambda) {
+        super(lambda);
+        this.a = a;
+        this.b = b;
+        this.lambda = lambda;
+
+        double aAtLo = a + this.weights.lo;
+        this.ibetaAtLo = IncompleteBetaFunction.instanceOf(aAtLo, b);
+        this.reversedIbetaAtLo = IncompleteBetaFunction.instanceOf(b, aAtLo);
+    }
+
+    @Override
+    public double a() {
+        return this.a;
+    }
+
+    @Override
+    public double b() {
+        return this.b;
+    }
+
+    @Override
+    public double noncentrality() {
+        return this.lambda;
+    }
+
+    @Override
+    public double cdf(double x) {
+        if (!(x > 0 && x < 1)) {
+            return x == 0 ? 0d : x == 1 ? 1d : Double.NaN;
+        }
+        return this.mixedLower(x);
+    }
+
+    @Override
+    public double ccdf(double x) {
+        if (!(x > 0 && x < 1)) {
+            return x == 0 ? 1d : x == 1 ? 0d : Double.NaN;
+        }
+        return this.mixedUpper(x);
+    }
+
+    @Override
+    double[] lowerSequence(double x, int from, int maxShift) {
+        IncompleteBetaFunction ibeta = from == this.weights.lo
+                ? this.ibetaAtLo
+                : IncompleteBetaFunction.instanceOf(this.a + from, this.b);
+        return ibeta.ribetaOverShiftedA(x, maxShift);
+    }
+
+    @Override
+    double[] upperSequence(double x, int from, int maxShift) {
+        IncompleteBetaFunction reversed = from == this.weights.lo
+                ? this.reversedIbetaAtLo
+                : IncompleteBetaFunction.instanceOf(this.b, this.a + from);
+        return reversed.ribetaOverShiftedB(1 - x, maxShift);
+    }
+
+    @Override
+    public String toString() {
+        return "NoncentralBetaDistribution(a = %s, b = %s, lambda = %s)"
+                .formatted(this.a, this.b, this.lambda);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.6
+ */
+package matsu.num.specialfunction.distribution;
+
+import matsu.num.specialfunction.NoncentralBetaDistribution;
+
+/**
+ * 非心ベータ分布のファクトリ.
+ * 
+ * <p>
+ * 非心度は検出力の計算などで連続的に変化させることが多いため,
+ * インスタンスはキャッシュしない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class NoncentralBetaFactory {
+
+    private NoncentralBetaFactory() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 指定したパラメータの非心ベータ分布の計算インスタンスを返す.
+     * 
+     * @param a a
+     * @param b b
+     * @param lambda 非心度
+     * @return 非心ベータ分布の計算インスタンス
+     * @throws IllegalArgumentException パラメータがサポート外の場合
+     */
+    public static NoncentralBetaDistribution instanceOf(double a, double b, double lambda) {
+        if (!NoncentralBetaDistribution.acceptsParameter(a, b, lambda)) {
+            throw new IllegalArgumentException(
+                    "Illegal parameter: a = %s, b = %s, lambda = %s".formatted(a, b, lambda));
+        }
+        return new NoncentralBeta(a, b, lambda);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.6
+ */
+package matsu.num.specialfunction.distribution;
+
+import matsu.num.specialfunction.IncompleteGammaFunction;
+import matsu.num.specialfunction.NoncentralChiSquaredDistribution;
+
+/**
+ * 非心カイ二乗分布.
+ * 
+ * <p>
+ * P(<i>X</i> &le; <i>x</i>) =
+ * &Sigma; <i>w</i><sub><i>j</i></sub> <i>P</i>(<i>k</i>/2 + <i>j</i>, <i>x</i>/2),
+ * P(<i>X</i> &gt; <i>x</i>) =
+ * &Sigma; <i>w</i><sub><i>j</i></sub> <i>Q</i>(<i>k</i>/2 + <i>j</i>, <i>x</i>/2)
+ * (<i>w</i><sub><i>j</i></sub> は平均 &lambda;/2 の Poisson 分布の確率)
+ * により計算する. <br>
+ * <i>P</i>, <i>Q</i> の系列は
+ * {@link IncompleteGammaFunction#rigammaPOverShiftedParameters(double, int)},
+ * {@link IncompleteGammaFunction#rigammaQOverShiftedParameters(double, int)}
+ * による.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class NoncentralChiSquared extends SkeletalPoissonMixture
+        implements NoncentralChiSquaredDistribution {
+
+    private final double k;
+    private final double lambda;
+
+    private final double a;
+
+    /**
+     * パラメータ k/2 + lo の不完全ガンマ関数.
+     */
+    private final IncompleteGammaFunction icgammaAtLo;
+
+    /**
+     * @param k 自由度, 正当性は検証されていなければならない
+     * @param lambda 非心度, 正当性は検証されていなければならない
+     */
+    NoncentralChiSquared(double k, double lambda) {
+        super(lambda);
+        this.k = k;
+        this.lambda = lambda;
+        this.a = k / 2;
+        this.icgammaAtLo = IncompleteGammaFunction.instanceOf(this.a + this.weights.lo);
+    }
+
+    @Override
+    public double degreesOfFreedom() {
+        return this.k;
+    }
+
+    @Override
+    public double noncentrality() {
+        return this.lambda;
+    }
+
+    @Override
+    public double cdf(double x) {
+        if (!(x > 0)) {
+            return x == 0 ? 0d : Double.NaN;
+        }
+        if (x == Double.POSITIVE_INFINITY) {
+            return 1d;
+        }
+        return this.mixedLower(x / 2);
+    }
+
+    @Override
+    public double ccdf(double x) {
+        if (!(x > 0)) {
+            return x == 0 ? 1d : Double.NaN;
+        }
+        if (x == Double.POSITIVE_INFINITY) {
+            return 0d;
+        }
+        return this.mixedUpper(x / 2);
+    }
+
+    @Override
+    double[] lowerSequence(double y, int from, int maxShift) {
+        return this.icgammaAt(from).rigammaPOverShiftedParameters(y, maxShift);
+    }
+
+    @Override
+    double[] upperSequence(double y, int from, int maxShift) {
+        return this.icgammaAt(from).rigammaQOverShiftedParameters(y, maxShift);
+    }
+
+    private IncompleteGammaFunction icgammaAt(int shift) {
+        return shift == this.weights.lo
+                ? this.icgammaAtLo
+                : IncompleteGammaFunction.instanceOf(this.a + shift);
+    }
+
+    @Override
+    public String toString() {
+        return "NoncentralChiSquaredDistribution(k = %s, lambda = %s)"
+                .formatted(this.k, this.lambda);
+    }
+}
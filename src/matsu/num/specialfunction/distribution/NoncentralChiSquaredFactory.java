@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.6
+ */
+package matsu.num.specialfunction.distribution;
+
+import matsu.num.specialfunction.NoncentralChiSquaredDistribution;
+
+/**
+ * 非心カイ二乗分布のファクトリ.
+ * 
+ * <p>
+ * 非心度は検出力の計算などで連続的に変化させることが多いため,
+ * インスタンスはキャッシュしない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class NoncentralChiSquaredFactory {
+
+    private NoncentralChiSquaredFactory() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 指定したパラメータの非心カイ二乗分布の計算インスタンスを返す.
+     * 
+     * @param k 自由度
+     * @param lambda 非心度
+     * @return 非心カイ二乗分布の計算インスタンス
+     * @throws IllegalArgumentException パラメータがサポート外の場合
+     */
+    public static NoncentralChiSquaredDistribution instanceOf(double k, double lambda) {
+        if (!NoncentralChiSquaredDistribution.acceptsParameter(k, lambda)) {
+            throw new IllegalArgumentException(
+                    "Illegal parameter: k = %s, lambda = %s".formatted(k, lambda));
+        }
+        return new NoncentralChiSquared(k, lambda);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.7
+ */
+package matsu.num.specialfunction.distribution;
+
+import matsu.num.specialfunction.bessel.ModifiedSphericalBesselFunction;
+import matsu.num.specialfunction.common.Exponentiation;
+
+/**
+ * 奇数次元の von Mises&ndash;Fisher 分布.
+ * 
+ * <p>
+ * &nu; = <i>n</i> + 1/2, <i>n</i> = (<i>p</i> - 3)/2 であり,
+ * <i>I</i><sub><i>n</i>+1/2</sub>(&kappa;) =
+ * (2&kappa;/&pi;)<sup>1/2</sup> <i>i<sub>n</sub></i>(&kappa;)
+ * の関係から {@link ModifiedSphericalBesselFunction#sbesselIc(double)} を用いる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class OddDimensionVonMisesFisher extends SkeletalVonMisesFisher {
+
+    private static final double TWO_OVER_PI = 2 / Math.PI;
+
+    private final ModifiedSphericalBesselFunction msBessel;
+
+    /**
+     * @param p 次元, 正当性は検証されていなければならない (奇数)
+     */
+    OddDimensionVonMisesFisher(int p) {
+        super(p);
+        this.msBessel = ModifiedSphericalBesselFunction.instanceOf((p - 3) / 2);
+    }
+
+    @Override
+    double logScaledBesselI(double kappa) {
+        return Exponentiation.log(this.msBessel.sbesselIc(kappa))
+                + 0.5 * Exponentiation.log(TWO_OVER_PI * kappa);
+    }
+}
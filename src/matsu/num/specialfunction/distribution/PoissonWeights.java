@@ -0,0 +1,242 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.6
+ */
+package matsu.num.specialfunction.distribution;
+
+import matsu.num.specialfunction.GammaFunction;
+import matsu.num.specialfunction.common.Exponentiation;
+
+/**
+ * Poisson 分布の確率
+ * <i>w</i><sub><i>j</i></sub> = &mu;<sup><i>j</i></sup> e<sup>-&mu;</sup> / <i>j</i>!
+ * を, 最頻値を中心とする窓 [lo, hi] について保持する.
+ * 
+ * <p>
+ * 最頻値 <i>m</i> = floor(&mu;) における確率を直接計算し,
+ * そこから両側へ比
+ * <i>w</i><sub><i>j</i>+1</sub> / <i>w</i><sub><i>j</i></sub> = &mu; / (<i>j</i> + 1)
+ * の乗除により求める. <br>
+ * 窓は, その外側の確率の和の上界 (等比級数による) がいずれの側も
+ * {@link #CORE_TAIL} 以下となるように定める.
+ * </p>
+ * 
+ * <p>
+ * 窓の外側への延長 ({@link #extendedLo(double)}, {@link #extendedHi(double)})
+ * も, 同一の上界により打ち切り位置を定める.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class PoissonWeights {
+
+    /**
+     * 窓の外側の確率の和の上界.
+     */
+    static final double CORE_TAIL = 1E-30;
+
+    private static final double HALF_LN2PI = 0.5 * Exponentiation.log(2 * Math.PI);
+
+    private final double mu;
+
+    /**
+     * 窓の下端.
+     */
+    final int lo;
+
+    /**
+     * 窓の上端.
+     */
+    final int hi;
+
+    /**
+     * w[j - lo] = w_j
+     */
+    private final double[] w;
+
+    /**
+     * @param mu &mu;, 0以上の有限値
+     */
+    PoissonWeights(double mu) {
+        super();
+        this.mu = mu;
+
+        int mode = (int) Math.floor(mu);
+        double wMode = pmfAtMode(mode, mu);
+
+        int hi = mode;
+        for (double wj = wMode; this.upperTailBound(hi, wj) > CORE_TAIL; hi++) {
+            wj *= mu / (hi + 1);
+        }
+        int lo = mode;
+        for (double wj = wMode; this.lowerTailBound(lo, wj) > CORE_TAIL; lo--) {
+            wj *= lo / mu;
+        }
+        this.lo = lo;
+        this.hi = hi;
+
+        double[] w = new double[hi - lo + 1];
+        w[mode - lo] = wMode;
+        for (int j = mode; j < hi; j++) {
+            w[j + 1 - lo] = w[j - lo] * (mu / (j + 1));
+        }
+        for (int j = mode; j > lo; j--) {
+            w[j - 1 - lo] = w[j - lo] * (j / mu);
+        }
+        this.w = w;
+    }
+
+    /**
+     * 窓内の値 <i>v</i><sub><i>j</i></sub> について,
+     * &Sigma; <i>w</i><sub><i>j</i></sub> <i>v</i><sub><i>j</i></sub>
+     * を返す.
+     * 
+     * @param values v[j - lo] = <i>v</i><sub><i>j</i></sub> (長さ hi - lo + 1)
+     * @return 重み付き和
+     */
+    double sum(double[] values) {
+        final double[] w = this.w;
+        double s = 0;
+        for (int i = 0; i < w.length; i++) {
+            s += w[i] * values[i];
+        }
+        return s;
+    }
+
+    /**
+     * 窓の下側の確率の和の上界を返す.
+     * 
+     * @return &Sigma;<sub><i>j</i> &lt; lo</sub> <i>w</i><sub><i>j</i></sub> の上界
+     */
+    double lowerTailBound() {
+        return this.lowerTailBound(this.lo, this.w[0]);
+    }
+
+    /**
+     * 窓の上側の確率の和の上界を返す.
+     * 
+     * @return &Sigma;<sub><i>j</i> &gt; hi</sub> <i>w</i><sub><i>j</i></sub> の上界
+     */
+    double upperTailBound() {
+        return this.upperTailBound(this.hi, this.w[this.w.length - 1]);
+    }
+
+    /**
+     * 窓を下側へ延長したときの下端を返す. <br>
+     * 新しい下端より下側の確率の和は tolerance 以下である.
+     * 
+     * @param tolerance 許容値
+     * @return 新しい下端 (lo 以下)
+     */
+    int extendedLo(double tolerance) {
+        int j = this.lo;
+        for (double wj = this.w[0]; this.lowerTailBound(j, wj) > tolerance; j--) {
+            wj *= j / this.mu;
+        }
+        return j;
+    }
+
+    /**
+     * 窓を上側へ延長したときの上端を返す. <br>
+     * 新しい上端より上側の確率の和は tolerance 以下である.
+     * 
+     * @param tolerance 許容値
+     * @return 新しい上端 (hi 以上)
+     */
+    int extendedHi(double tolerance) {
+        int j = this.hi;
+        for (double wj = this.w[this.w.length - 1]; this.upperTailBound(j, wj) > tolerance; j++) {
+            wj *= this.mu / (j + 1);
+        }
+        return j;
+    }
+
+    /**
+     * 窓の下側の値 <i>v</i><sub><i>j</i></sub> (newLo &le; <i>j</i> &lt; lo) について,
+     * 重み付き和を返す.
+     * 
+     * @param newLo 延長後の下端
+     * @param values v[j - newLo] = <i>v</i><sub><i>j</i></sub> (長さ lo - newLo)
+     * @return 重み付き和
+     */
+    double sumBelow(int newLo, double[] values) {
+        double wj = this.w[0];
+        double s = 0;
+        for (int j = this.lo - 1; j >= newLo; j--) {
+            wj *= (j + 1) / this.mu;
+            s += wj * values[j - newLo];
+        }
+        return s;
+    }
+
+    /**
+     * 窓の上側の値 <i>v</i><sub><i>j</i></sub> (hi &lt; <i>j</i> &le; newHi) について,
+     * 重み付き和を返す.
+     * 
+     * @param newHi 延長後の上端
+     * @param values v[j - hi - 1] = <i>v</i><sub><i>j</i></sub> (長さ newHi - hi)
+     * @return 重み付き和
+     */
+    double sumAbove(int newHi, double[] values) {
+        double wj = this.w[this.w.length - 1];
+        double s = 0;
+        for (int j = this.hi + 1; j <= newHi; j++) {
+            wj *= this.mu / j;
+            s += wj * values[j - this.hi - 1];
+        }
+        return s;
+    }
+
+    /**
+     * &Sigma;<sub><i>i</i> &lt; <i>j</i></sub> <i>w</i><sub><i>i</i></sub>
+     * の上界 <i>w</i><sub><i>j</i></sub> <i>r</i>/(1 - <i>r</i>),
+     * <i>r</i> = <i>j</i>/&mu; を返す.
+     */
+    private double lowerTailBound(int j, double wj) {
+        if (j == 0) {
+            return 0d;
+        }
+        double r = j / this.mu;
+        return r < 1 ? wj * (r / (1 - r)) : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * &Sigma;<sub><i>i</i> &gt; <i>j</i></sub> <i>w</i><sub><i>i</i></sub>
+     * の上界 <i>w</i><sub><i>j</i></sub> <i>r</i>/(1 - <i>r</i>),
+     * <i>r</i> = &mu;/(<i>j</i> + 1) を返す.
+     */
+    private double upperTailBound(int j, double wj) {
+        double r = this.mu / (j + 1);
+        return r < 1 ? wj * (r / (1 - r)) : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * 最頻値 m = floor(&mu;) における確率 &mu;<sup>m</sup> e<sup>-&mu;</sup> / m! を返す.
+     * 
+     * <p>
+     * m が大きい場合は, 対数で m log(m) のオーダーの値が打ち消し合うため,
+     * Stirling 近似の残差を用いて <br>
+     * m (log(1 + t) - t) - (1/2)log(m) - (1/2)log(2&pi;) - f(m),
+     * t = (&mu; - m)/m <br>
+     * の形で計算する.
+     * </p>
+     */
+    private static double pmfAtMode(int m, double mu) {
+        if (m == 0) {
+            return Exponentiation.exp(-mu);
+        }
+        if (m < 20) {
+            return Exponentiation.exp(
+                    m * Exponentiation.log(mu) - mu - GammaFunction.lgamma(m + 1));
+        }
+        double t = (mu - m) / m;
+        return Exponentiation.exp(
+                m * (Exponentiation.log1p(t) - t) - 0.5 * Exponentiation.log(m) - HALF_LN2PI
+                        - GammaFunction.lgammaStirlingResidual(m));
+    }
+}
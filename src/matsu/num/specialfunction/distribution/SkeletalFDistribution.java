@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.5
+ */
+package matsu.num.specialfunction.distribution;
+
+import matsu.num.specialfunction.FDistribution;
+
+/**
+ * <i>F</i> 分布の骨格実装.
+ * 
+ * <p>
+ * 全ての値を, 累積分布関数のオッズ P/(1-P) から計算する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+abstract class SkeletalFDistribution implements FDistribution {
+
+    /**
+     * 分子の自由度.
+     */
+    final double d1;
+
+    /**
+     * 分母の自由度.
+     */
+    final double d2;
+
+    /**
+     * 唯一のコンストラクタ. <br>
+     * 自由度の正当性は検証されていなければならない.
+     * 
+     * @param d1 分子の自由度
+     * @param d2 分母の自由度
+     */
+    SkeletalFDistribution(double d1, double d2) {
+        super();
+        this.d1 = d1;
+        this.d2 = d2;
+    }
+
+    @Override
+    public final double numeratorDegreesOfFreedom() {
+        return this.d1;
+    }
+
+    @Override
+    public final double denominatorDegreesOfFreedom() {
+        return this.d2;
+    }
+
+    @Override
+    public final double cdf(double f) {
+        if (!(f >= 0)) {
+            return Double.NaN;
+        }
+        return 1 / (1 + 1 / this.cdfOdds(f));
+    }
+
+    @Override
+    public final double ccdf(double f) {
+        if (!(f >= 0)) {
+            return Double.NaN;
+        }
+        return 1 / (1 + this.cdfOdds(f));
+    }
+
+    @Override
+    public final void cdf(double[] fs, double[] results) {
+        final int length = fs.length;
+        if (results.length != length) {
+            throw new IllegalArgumentException("length mismatch");
+        }
+        for (int i = 0; i < length; i++) {
+            results[i] = this.cdf(fs[i]);
+        }
+    }
+
+    @Override
+    public final void ccdf(double[] fs, double[] results) {
+        final int length = fs.length;
+        if (results.length != length) {
+            throw new IllegalArgumentException("length mismatch");
+        }
+        for (int i = 0; i < length; i++) {
+            results[i] = this.ccdf(fs[i]);
+        }
+    }
+
+    /**
+     * 累積分布関数のオッズ P/(1-P) を返す.
+     * 
+     * @param f f, 0 以上 (正の無限大を含む)
+     * @return P/(1-P)
+     */
+    abstract double cdfOdds(double f);
+
+    @Override
+    public String toString() {
+        return "FDistribution(d1 = %s, d2 = %s)"
+                .formatted(this.numeratorDegreesOfFreedom(), this.denominatorDegreesOfFreedom());
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.6
+ */
+package matsu.num.specialfunction.distribution;
+
+import matsu.num.specialfunction.common.AlgorithmBranch;
+import matsu.num.specialfunction.common.Instrumentation;
+
+/**
+ * Poisson 分布による混合
+ * &Sigma;<sub><i>j</i></sub> <i>w</i><sub><i>j</i></sub> <i>v</i><sub><i>j</i></sub>
+ * で表される非心分布の骨格実装.
+ * 
+ * <p>
+ * <i>v</i><sub><i>j</i></sub> は, パラメータを <i>j</i> だけシフトした正則化不完全関数であり,
+ * 下側 (<i>j</i> について減少, 累積分布関数に対応) と上側 (<i>j</i> について増加,
+ * 相補累積分布関数に対応) の2系列がある. <br>
+ * いずれの系列も, 桁落ちの生じない向きの隣接関係式により,
+ * 窓の端の1点における直接計算のみから求める
+ * (下側は窓の上端, 上側は窓の下端を起点とする).
+ * </p>
+ * 
+ * <p>
+ * 打ち切り誤差は次のように評価される. <br>
+ * 下側の系列では, 窓の上側の寄与は
+ * <i>v</i><sub>hi</sub> &le; <i>v</i><sub><i>m</i></sub> と確率の和の上界の積以下であり,
+ * 和は <i>v</i><sub><i>m</i></sub> &Sigma;<sub><i>j</i> &le; <i>m</i></sub> <i>w</i><sub><i>j</i></sub>
+ * 以上であるから, 相対的に無視できる
+ * (<i>m</i> は最頻値). <br>
+ * 窓の下側の寄与は, <i>v</i><sub><i>j</i></sub> &le; 1 より確率の和の上界以下である. <br>
+ * これが和の {@link #TRUNCATION} 倍を超える場合 (和が非常に小さい場合) に限り,
+ * 窓を下側へ延長する (このとき直接計算がもう1点必要になる). <br>
+ * 上側の系列では, 上下を入れ替えて同様である.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+abstract class SkeletalPoissonMixture {
+
+    /**
+     * 打ち切りの相対許容誤差.
+     */
+    static final double TRUNCATION = 1E-16;
+
+    /**
+     * Poisson 分布の確率.
+     */
+    final PoissonWeights weights;
+
+    /**
+     * 唯一のコンストラクタ.
+     * 
+     * @param lambda 非心度 &lambda;, Poisson 分布の平均は &lambda;/2
+     */
+    SkeletalPoissonMixture(double lambda) {
+        super();
+        this.weights = new PoissonWeights(lambda / 2);
+    }
+
+    /**
+     * 下側の系列の混合
+     * &Sigma; <i>w</i><sub><i>j</i></sub> <i>v</i><sub><i>j</i></sub>
+     * を返す.
+     * 
+     * @param x 引数, 系列の定義域の内部の値
+     * @return 混合の値
+     */
+    final double mixedLower(double x) {
+        PoissonWeights weights = this.weights;
+        int lo = weights.lo;
+        double s = weights.sum(this.lowerSequence(x, lo, weights.hi - lo));
+        if (lo > 0 && weights.lowerTailBound() > TRUNCATION * s) {
+            Instrumentation.branch(AlgorithmBranch.NONCENTRAL_EXTENDED_WINDOW);
+            int newLo = weights.extendedLo(TRUNCATION * s);
+            if (newLo < lo) {
+                s += weights.sumBelow(newLo, this.lowerSequence(x, newLo, lo - 1 - newLo));
+            }
+        }
+        return Math.min(1d, s);
+    }
+
+    /**
+     * 上側の系列の混合
+     * &Sigma; <i>w</i><sub><i>j</i></sub> <i>v</i><sub><i>j</i></sub>
+     * を返す.
+     * 
+     * @param x 引数, 系列の定義域の内部の値
+     * @return 混合の値
+     */
+    final double mixedUpper(double x) {
+        PoissonWeights weights = this.weights;
+        int lo = weights.lo;
+        int hi = weights.hi;
+        double s = weights.sum(this.upperSequence(x, lo, hi - lo));
+        if (weights.upperTailBound() > TRUNCATION * s) {
+            Instrumentation.branch(AlgorithmBranch.NONCENTRAL_EXTENDED_WINDOW);
+            int newHi = weights.extendedHi(TRUNCATION * s);
+            if (newHi > hi) {
+                s += weights.sumAbove(newHi, this.upperSequence(x, hi + 1, newHi - hi - 1));
+            }
+        }
+        return Math.min(1d, s);
+    }
+
+    /**
+     * 下側の系列
+     * <i>v</i><sub><i>j</i></sub> (<i>j</i> = from, ..., from + maxShift)
+     * を返す.
+     * 
+     * @param x 引数
+     * @param from 先頭のシフト量
+     * @param maxShift 長さ - 1
+     * @return 系列
+     */
+    abstract double[] lowerSequence(double x, int from, int maxShift);
+
+    /**
+     * 上側の系列
+     * <i>v</i><sub><i>j</i></sub> (<i>j</i> = from, ..., from + maxShift)
+     * を返す.
+     * 
+     * @param x 引数
+     * @param from 先頭のシフト量
+     * @param maxShift 長さ - 1
+     * @return 系列
+     */
+    abstract double[] upperSequence(double x, int from, int maxShift);
+}
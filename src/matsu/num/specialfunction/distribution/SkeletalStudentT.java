@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.5
+ */
+package matsu.num.specialfunction.distribution;
+
+import matsu.num.specialfunction.StudentTDistribution;
+
+/**
+ * <i>t</i> 分布の骨格実装.
+ * 
+ * <p>
+ * 全ての値を, 両側確率 p = P(|T| &ge; |t|) のオッズ p/(1-p) から計算する. <br>
+ * p, 1-p のいずれも相対精度よく求まる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+abstract class SkeletalStudentT implements StudentTDistribution {
+
+    /**
+     * 自由度.
+     */
+    final double nu;
+
+    /**
+     * 唯一のコンストラクタ. <br>
+     * 自由度の正当性は検証されていなければならない.
+     * 
+     * @param nu 自由度
+     */
+    SkeletalStudentT(double nu) {
+        super();
+        this.nu = nu;
+    }
+
+    @Override
+    public final double degreesOfFreedom() {
+        return this.nu;
+    }
+
+    @Override
+    public final double cdf(double t) {
+        if (Double.isNaN(t)) {
+            return Double.NaN;
+        }
+        double odds = this.twoSidedOdds(Math.abs(t));
+        return t >= 0
+                ? 0.5 + 0.5 / (1 + odds)
+                : 0.5 / (1 + 1 / odds);
+    }
+
+    @Override
+    public final double ccdf(double t) {
+        return this.cdf(-t);
+    }
+
+    @Override
+    public final double twoSidedPValue(double t) {
+        if (Double.isNaN(t)) {
+            return Double.NaN;
+        }
+        double odds = this.twoSidedOdds(Math.abs(t));
+        return 1 / (1 + 1 / odds);
+    }
+
+    @Override
+    public final void cdf(double[] ts, double[] results) {
+        final int length = ts.length;
+        if (results.length != length) {
+            throw new IllegalArgumentException("length mismatch");
+        }
+        for (int i = 0; i < length; i++) {
+            results[i] = this.cdf(ts[i]);
+        }
+    }
+
+    @Override
+    public final void ccdf(double[] ts, double[] results) {
+        final int length = ts.length;
+        if (results.length != length) {
+            throw new IllegalArgumentException("length mismatch");
+        }
+        for (int i = 0; i < length; i++) {
+            results[i] = this.cdf(-ts[i]);
+        }
+    }
+
+    @Override
+    public final void twoSidedPValue(double[] ts, double[] results) {
+        final int length = ts.length;
+        if (results.length != length) {
+            throw new IllegalArgumentException("length mismatch");
+        }
+        for (int i = 0; i < length; i++) {
+            results[i] = this.twoSidedPValue(ts[i]);
+        }
+    }
+
+    /**
+     * 両側確率 p = P(|T| &ge; t) のオッズ p/(1-p) を返す.
+     * 
+     * @param absT t, 0 以上 (正の無限大を含む)
+     * @return p/(1-p)
+     */
+    abstract double twoSidedOdds(double absT);
+
+    @Override
+    public String toString() {
+        return "StudentTDistribution(nu = %s)"
+                .formatted(this.degreesOfFreedom());
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.7
+ */
+package matsu.num.specialfunction.distribution;
+
+import matsu.num.specialfunction.GammaFunction;
+import matsu.num.specialfunction.VonMisesFisherDistribution;
+import matsu.num.specialfunction.bessel.basecomponent.ModifiedBesselRatio;
+import matsu.num.specialfunction.common.Exponentiation;
+
+/**
+ * von Mises&ndash;Fisher 分布の骨格実装.
+ * 
+ * <p>
+ * log <i>C<sub>p</sub></i>(&kappa;) は, &kappa; &ge; 1 では <br>
+ * &nu; log(&kappa;) - (<i>p</i>/2)log(2&pi;) - &kappa;
+ * - log(<i>I</i><sub>&nu;</sub>(&kappa;) e<sup>-&kappa;</sup>) <br>
+ * により計算する. <br>
+ * &kappa; &lt; 1 では, スケーリングした変形 Bessel 関数が
+ * (次数が大きい場合に) アンダーフローしうるため,
+ * 級数 <i>S</i> = &Sigma; (&kappa;<sup>2</sup>/4)<sup><i>k</i></sup> /
+ * (<i>k</i>! (&nu; + 1)<sub><i>k</i></sub>) により <br>
+ * &nu; log(2) + log&Gamma;(&nu; + 1) - (<i>p</i>/2)log(2&pi;) - log(<i>S</i>) <br>
+ * として計算する (&kappa;<sup>&nu;</sup> は打ち消し合う).
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+abstract class SkeletalVonMisesFisher implements VonMisesFisherDistribution {
+
+    /**
+     * 級数を用いる &kappa; の上限.
+     */
+    private static final double KAPPA_SERIES_MAX = 1d;
+
+    private static final double EPSILON_SERIES = 1E-17;
+
+    private final int p;
+
+    /**
+     * &nu; = p/2 - 1
+     */
+    final double nu;
+
+    /**
+     * (p/2)log(2&pi;)
+     */
+    private final double halfPLog2Pi;
+
+    /**
+     * &nu; log(2) + log&Gamma;(&nu; + 1) - (p/2)log(2&pi;)
+     */
+    private final double seriesConstant;
+
+    /**
+     * @param p 次元, 正当性は検証されていなければならない
+     */
+    SkeletalVonMisesFisher(int p) {
+        super();
+        this.p = p;
+        this.nu = 0.5 * p - 1;
+        this.halfPLog2Pi = 0.5 * p * Exponentiation.log(2 * Math.PI);
+        this.seriesConstant = this.nu * Exponentiation.log(2) + GammaFunction.lgamma(this.nu + 1) - this.halfPLog2Pi;
+    }
+
+    @Override
+    public final int dimension() {
+        return this.p;
+    }
+
+    @Override
+    public final double meanResultantLength(double kappa) {
+        return ModifiedBesselRatio.ratio(this.nu, kappa);
+    }
+
+    @Override
+    public final void meanResultantLength(double[] kappas, double[] results) {
+        final int length = kappas.length;
+        if (results.length != length) {
+            throw new IllegalArgumentException("length mismatch");
+        }
+        final double nu = this.nu;
+        for (int i = 0; i < length; i++) {
+            results[i] = ModifiedBesselRatio.ratio(nu, kappas[i]);
+        }
+    }
+
+    @Override
+    public final double logNormalizingConstant(double kappa) {
+        if (!(kappa >= 0)) {
+            return Double.NaN;
+        }
+        if (kappa == Double.POSITIVE_INFINITY) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        if (kappa < KAPPA_SERIES_MAX) {
+            return this.seriesConstant - Exponentiation.log(this.series(kappa));
+        }
+        return this.nu * Exponentiation.log(kappa) - this.halfPLog2Pi - kappa
+                - this.logScaledBesselI(kappa);
+    }
+
+    /**
+     * 級数 &Sigma; (&kappa;<sup>2</sup>/4)<sup><i>k</i></sup> /
+     * (<i>k</i>! (&nu; + 1)<sub><i>k</i></sub>) を返す.
+     */
+    private double series(double kappa) {
+        final double q = 0.25 * kappa * kappa;
+        final double nu = this.nu;
+        double term = 1;
+        double sum = 1;
+        for (int k = 1; term > EPSILON_SERIES * sum; k++) {
+            term *= q / (k * (nu + k));
+            sum += term;
+        }
+        return sum;
+    }
+
+    /**
+     * log(<i>I</i><sub>&nu;</sub>(&kappa;) e<sup>-&kappa;</sup>) を返す.
+     * 
+     * @param kappa &kappa;, 1以上の有限値
+     * @return log(<i>I</i><sub>&nu;</sub>(&kappa;) e<sup>-&kappa;</sup>)
+     */
+    abstract double logScaledBesselI(double kappa);
+
+    /**
+     * <p>
+     * このインスタンスの文字列表現を返す.
+     * </p>
+     * 
+     * <p>
+     * 文字列表現は頑強でなく, 将来のバージョンで変更されるかもしれない. <br>
+     * おそらく次のようである. <br>
+     * {@code VonMisesFisherDistribution(p = %s)}
+     * </p>
+     */
+    @Override
+    public String toString() {
+        return "VonMisesFisherDistribution(p = %s)".formatted(this.p);
+    }
+}
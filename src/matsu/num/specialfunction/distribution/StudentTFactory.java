@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.5
+ */
+package matsu.num.specialfunction.distribution;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import matsu.num.specialfunction.StudentTDistribution;
+
+/**
+ * <i>t</i> 分布のファクトリ.
+ * 
+ * <p>
+ * 生成したインスタンスは自由度ごとにキャッシュされる
+ * (最大 {@link #CACHE_CAPACITY} 件, 超えた分はキャッシュされない).
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class StudentTFactory {
+
+    /**
+     * キャッシュするインスタンス数の上限.
+     */
+    static final int CACHE_CAPACITY = 1024;
+
+    private static final ConcurrentHashMap<Double, StudentTDistribution> CACHE =
+            new ConcurrentHashMap<>();
+
+    private StudentTFactory() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 指定した自由度の <i>t</i> 分布の計算インスタンスを返す.
+     * 
+     * @param nu 自由度
+     * @return 自由度 &nu; の <i>t</i> 分布の計算インスタンス
+     * @throws IllegalArgumentException 自由度がサポート外の場合
+     */
+    public static StudentTDistribution instanceOf(double nu) {
+        if (!StudentTDistribution.acceptsParameter(nu)) {
+            throw new IllegalArgumentException(
+                    "Illegal parameter: nu = %s".formatted(nu));
+        }
+
+        Double key = nu;
+        StudentTDistribution cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        StudentTDistribution created = create(nu);
+        if (CACHE.size() < CACHE_CAPACITY) {
+            StudentTDistribution prev = CACHE.putIfAbsent(key, created);
+            if (prev != null) {
+                return prev;
+            }
+        }
+        return created;
+    }
+
+    private static SkeletalStudentT create(double nu) {
+        if (nu == 1 || nu == 2) {
+            return new ClosedFormStudentT(nu);
+        }
+        if (FiniteSumStudentT.accepts(nu)) {
+            return new FiniteSumStudentT(nu);
+        }
+        if (nu >= LargeDofStudentT.NU_MIN) {
+            return new LargeDofStudentT(nu);
+        }
+        return new ICBetaBasedStudentT(nu);
+    }
+}
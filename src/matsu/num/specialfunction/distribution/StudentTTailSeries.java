@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.5
+ */
+package matsu.num.specialfunction.distribution;
+
+import matsu.num.specialfunction.GammaFunction;
+import matsu.num.specialfunction.common.Exponentiation;
+
+/**
+ * <i>t</i> 分布の裾の両側確率を級数により計算する.
+ * 
+ * <p>
+ * q<sup>2</sup> = t<sup>2</sup>/&nu;, x = 1/(1 + q<sup>2</sup>), a = &nu;/2 として, <br>
+ * p = x<sup>a</sup>(1 - x)<sup>1/2</sup>/(a B(a, 1/2))
+ * &sum;<sub>k</sub> ((a + 1/2)<sub>k</sub>/(a + 1)<sub>k</sub>) x<sup>k</sup> <br>
+ * である. <br>
+ * 前因子の x<sup>a</sup> は, q<sup>2</sup> &le; 1 では exp(-a log1p(q<sup>2</sup>)),
+ * q<sup>2</sup> &gt; 1 では (1 + q<sup>2</sup>)<sup>-a</sup> として計算する. <br>
+ * 前者は指数の大きさに, 後者は 1 + q<sup>2</sup> の丸め誤差の a 倍に比例する誤差を持ち,
+ * q<sup>2</sup> &asymp; 1 を境に小さい方を選んでいる. <br>
+ * いずれも log x を経由する不完全ベータ関数よりも裾の相対精度が良い. <br>
+ * 級数の項の比はおよそ x であるから, x が 1 に近い (q<sup>2</sup> が小さい) と収束が遅い.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class StudentTTailSeries {
+
+    private static final double EPSILON = 1E-17;
+
+    private final double halfNu;
+
+    /**
+     * 1/(a B(a, 1/2)).
+     */
+    private final double coeff;
+
+    /**
+     * @param nu 自由度
+     */
+    StudentTTailSeries(double nu) {
+        super();
+        this.halfNu = nu / 2;
+        this.coeff = Exponentiation.exp(
+                -Exponentiation.log(this.halfNu) - GammaFunction.lbeta(this.halfNu, 0.5));
+    }
+
+    /**
+     * 両側確率 p を返す.
+     * 
+     * @param q2 q<sup>2</sup> = t<sup>2</sup>/&nu;, 正 (正の無限大を含む)
+     * @return p
+     */
+    double twoSidedP(double q2) {
+        final double a = this.halfNu;
+        final double x = 1 / (1 + q2);
+
+        double sum = 1;
+        double term = 1;
+        for (int k = 0;; k++) {
+            term *= x * (a + 0.5 + k) / (a + 1 + k);
+            sum += term;
+            if (term <= EPSILON * sum) {
+                break;
+            }
+        }
+
+        //(1 - x)^{1/2} = 1/sqrt(1 + 1/q2)
+        double sqrtY = 1 / Exponentiation.sqrt(1 + 1 / q2);
+        double xPowA = q2 <= 1
+                ? Exponentiation.exp(-a * Exponentiation.log1p(q2))
+                : Exponentiation.pow(1 + q2, -a);
+        return this.coeff * xPowA * sqrtY * sum;
+    }
+}
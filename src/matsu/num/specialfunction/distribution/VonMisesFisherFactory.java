@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.7
+ */
+package matsu.num.specialfunction.distribution;
+
+import matsu.num.specialfunction.VonMisesFisherDistribution;
+
+/**
+ * von Mises&ndash;Fisher 分布のファクトリ.
+ * 
+ * @author Matsuura Y.
+ */
+public final class VonMisesFisherFactory {
+
+    private VonMisesFisherFactory() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 指定した次元の von Mises&ndash;Fisher 分布の計算インスタンスを返す.
+     * 
+     * @param p 次元
+     * @return von Mises&ndash;Fisher 分布の計算インスタンス
+     * @throws IllegalArgumentException 次元がサポート外の場合
+     */
+    public static VonMisesFisherDistribution instanceOf(int p) {
+        if (!VonMisesFisherDistribution.acceptsParameter(p)) {
+            throw new IllegalArgumentException(
+                    "Illegal parameter: p = %s".formatted(p));
+        }
+        return (p & 1) == 0
+                ? new EvenDimensionVonMisesFisher(p)
+                : new OddDimensionVonMisesFisher(p);
+    }
+}
@@ -0,0 +1,12 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/**
+ * 統計分布 (<i>t</i> 分布, <i>F</i> 分布, 非心カイ二乗分布, 非心ベータ分布) の累積分布関数の計算, <br>
+ * および von Mises&ndash;Fisher 分布の正規化定数等の計算に関する.
+ */
+package matsu.num.specialfunction.distribution;
@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.27
+ */
+package matsu.num.specialfunction.err;
+
+import matsu.num.specialfunction.common.Exponentiation;
+
+/**
+ * 誤差関数の高速近似計算を実行する.
+ * 
+ * <p>
+ * {@link ErfCalcOptimized} と同じ構造で計算するが,
+ * 近似多項式の次数を下げている. <br>
+ * 相対誤差は 1E-7 以下 (近似多項式単体ではおよそ 1E-8 以下) である.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class ErfCalcFast implements ErrorFunctionCalculation {
+
+    /**
+     * 1/sqrt(pi)
+     */
+    // = 1d / Math.sqrt(Math.PI)
+    private static final double ONE_OVER_SQRT_PI = 0.5641895835477563;
+
+    /**
+     * 唯一のコンストラクタ.
+     */
+    ErfCalcFast() {
+        super();
+    }
+
+    @Override
+    public double erf(double x) {
+        if (Double.isNaN(x)) {
+            return Double.NaN;
+        }
+
+        /*
+         * x = +inf: 1
+         * x = -inf: -1
+         */
+        double absX = Math.abs(x);
+        if (absX <= 1) {
+            return erf_smallX(x);
+        }
+
+        double erfAtAbsX = 1 - Exponentiation.exp(-absX * absX) * erfcx_largeX(absX);
+        return x < 0 ? -erfAtAbsX : erfAtAbsX;
+    }
+
+    @Override
+    public double erfc(double x) {
+        if (Double.isNaN(x)) {
+            return Double.NaN;
+        }
+
+        /*
+         * x = +inf: 0
+         * x = -inf: 2
+         */
+        if (x > 1) {
+            return Exponentiation.exp(-x * x) * erfcx_largeX(x);
+        }
+        if (x >= -1) {
+            return 1 - erf_smallX(x);
+        }
+        return 2 - Exponentiation.exp(-x * x) * erfcx_largeX(-x);
+    }
+
+    @Override
+    public double erfcx(double x) {
+        if (Double.isNaN(x)) {
+            return Double.NaN;
+        }
+
+        /*
+         * x = +inf: 0
+         * x = -inf: +inf
+         */
+        if (x > 1) {
+            return erfcx_largeX(x);
+        }
+        if (x >= -1) {
+            return Exponentiation.exp(x * x) * (1 - erf_smallX(x));
+        }
+        return 2 * Exponentiation.exp(x * x) - erfcx_largeX(-x);
+    }
+
+    /**
+     * {@literal -1 <= x <= 1} における erf(x).
+     */
+    private double erf_smallX(double x) {
+        assert x >= -1;
+        assert x <= 1;
+
+        final double C0 = 0.99999999889473170571064696306653;
+        final double C1 = -0.33333322489049428474079932654255;
+        final double C2 = 0.099998254524649322207043139690516;
+        final double C3 = -0.023798925745363005151833169041066;
+        final double C4 = 0.0045987089926603867228563298490101;
+        final double C5 = -0.00071047609844185990763197913812533;
+        final double C6 = 0.000069798125267144821158647590784805;
+
+        final double u = x * x;
+        final double u2 = u * u;
+
+        double v0 = C0 + u * C1 + u2 * (C2 + u * C3);
+        double v4 = C4 + u * C5 + u2 * C6;
+
+        final double u4 = u2 * u2;
+        return ((2 * ONE_OVER_SQRT_PI) * x) *
+                (v0 + u4 * v4);
+    }
+
+    /**
+     * {@literal x >= 1} における erfcx(x).
+     */
+    private double erfcx_largeX(double x) {
+        assert x >= 1;
+
+        final double t = 1 / x;
+        final double limit = ONE_OVER_SQRT_PI * t;
+
+        switch ((int) (t * 4)) {
+            case 0:
+                return limit * erfcx_largeX_Factor_as_t_0_to_1_Over4(t);
+            case 1:
+                return limit * erfcx_largeX_Factor_as_t_1_to_2_Over4(t);
+            case 2:
+                return limit * erfcx_largeX_Factor_as_t_2_to_3_Over4(t);
+            default:
+                return limit * erfcx_largeX_Factor_as_t_3_to_4_Over4(t);
+        }
+    }
+
+    /**
+     * erfcx(x) = (t/sqrt(pi)) * F(t) における F(t).
+     */
+    private double erfcx_largeX_Factor_as_t_0_to_1_Over4(double t) {
+        assert t >= 0;
+        assert t <= 1d / 4;
+
+        final double C0 = 0.99999999824292459262810701148313;
+        final double C1 = -0.49999796587788610972195696359637;
+        final double C2 = 0.74961060582659709249034466315522;
+        final double C3 = -1.8469857573268335745078968557272;
+        final double C4 = 5.6055269590975988214783315357272;
+        final double C5 = -12.622184566896303468185293833040;
+
+        final double u = t * t;
+        final double u2 = u * u;
+
+        final double v0 = C0 + u * C1 + u2 * (C2 + u * C3);
+        final double v4 = C4 + u * C5;
+
+        final double u4 = u2 * u2;
+        return v0 + u4 * v4;
+    }
+
+    /**
+     * erfcx(x) = (t/sqrt(pi)) * F(t) における F(t).
+     */
+    private double erfcx_largeX_Factor_as_t_1_to_2_Over4(double t) {
+        assert t >= 1d / 4;
+        assert t <= 2d / 4;
+
+        final double t_shift = 0.375;
+        final double s = t - t_shift;
+
+        final double C0 = 0.94092547043991980881827430494013;
+        final double C1 = -0.26867854097186499405893044631443;
+        final double C2 = -0.16313654141715339606190200867269;
+        final double C3 = 0.31429444359827079872031014536801;
+        final double C4 = -0.20615046029696132948275388781125;
+        final double C5 = -0.079231184459134923522481936575212;
+        final double C6 = 0.35389381828563701100745574141859;
+
+        final double s2 = s * s;
+
+        final double v0 = C0 + s * C1 + s2 * (C2 + s * C3);
+        final double v4 = C4 + s * C5 + s2 * C6;
+
+        final double s4 = s2 * s2;
+        return v0 + s4 * v4;
+    }
+
+    /**
+     * erfcx(x) = (t/sqrt(pi)) * F(t) における F(t).
+     */
+    private double erfcx_largeX_Factor_as_t_2_to_3_Over4(double t) {
+        assert t >= 2d / 4;
+        assert t <= 3d / 4;
+
+        final double t_shift = 0.625;
+        final double s = t - t_shift;
+
+        final double C0 = 0.86766009304836038915822707071689;
+        final double C1 = -0.30412765519938059460136660854052;
+        final double C2 = -0.0022923044177276031725870129128490;
+        final double C3 = 0.12780398382019758529801612528775;
+        final double C4 = -0.13870548811349678950519779443549;
+        final double C5 = 0.086863711723017225770533735262646;
+
+        final double s2 = s * s;
+
+        final double v0 = C0 + s * C1 + s2 * (C2 + s * C3);
+        final double v4 = C4 + s * C5;
+
+        final double s4 = s2 * s2;
+        return v0 + s4 * v4;
+    }
+
+    /**
+     * erfcx(x) = (t/sqrt(pi)) * F(t) における F(t).
+     */
+    private double erfcx_largeX_Factor_as_t_3_to_4_Over4(double t) {
+        assert t >= 3d / 4;
+        assert t <= 1d;
+
+        final double t_shift = 0.875;
+        final double s = t - t_shift;
+
+        final double C0 = 0.79302108797583198934491121269195;
+        final double C1 = -0.28839027578194557784379964567656;
+        final double C2 = 0.053882157778976813780175017564989;
+        final double C3 = 0.035910224405224842337319966905750;
+        final double C4 = -0.055521686475727934741898723075871;
+        final double C5 = 0.044722900806261966257785832717768;
+
+        final double s2 = s * s;
+
+        final double v0 = C0 + s * C1 + s2 * (C2 + s * C3);
+        final double v4 = C4 + s * C5;
+
+        final double s4 = s2 * s2;
+        return v0 + s4 * v4;
+    }
+}
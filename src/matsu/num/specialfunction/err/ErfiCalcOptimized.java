@@ -41,7 +41,7 @@ final class ErfiCalcOptimized implements ErrorFunctionImaginaryCalculation {
      * exp(shift_x2)
      */
     private static final double EXP_OF_SHIFT_X2_FOR_ERFIX_TO_ERFI =
-            Math.exp(SHIFT_X2_FOR_ERFIX_TO_ERFI);
+            Exponentiation.exp(SHIFT_X2_FOR_ERFIX_TO_ERFI);
 
     /**
      * 唯一のコンストラクタ.
@@ -64,7 +64,7 @@ final class ErfiCalcSimple implements ErrorFunctionImaginaryCalculation {
      * exp(shift_x2)
      */
     private static final double EXP_OF_SHIFT_X2_FOR_ERFIX_TO_ERFI =
-            Math.exp(SHIFT_X2_FOR_ERFIX_TO_ERFI);
+            Exponentiation.exp(SHIFT_X2_FOR_ERFIX_TO_ERFI);
 
     /**
      * 唯一のコンストラクタ.
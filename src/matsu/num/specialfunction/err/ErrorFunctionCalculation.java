@@ -53,4 +53,14 @@ public interface ErrorFunctionCalculation {
         return new ErfCalcOptimized();
     }
 
+    /**
+     * 精度を落として高速化した, 新しいインスタンスを生成して返す. <br>
+     * 相対誤差は 1E-7 以下である.
+     * 
+     * @return インスタンス
+     */
+    public static ErrorFunctionCalculation createFastInstance() {
+        return new ErfCalcFast();
+    }
+
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.3
+ */
+package matsu.num.specialfunction.expint;
+
+import matsu.num.specialfunction.common.Instrumentation;
+import matsu.num.specialfunction.common.IterativeLoop;
+
+/**
+ * 指数積分の計算における連分数ファクターを扱う.
+ * 
+ * <p>
+ * 連分数は, 打ち切り項数を事前に定めて, 末尾から評価する. <br>
+ * 前方からの漸化式による評価 (収束判定を伴う) では, x &asymp; 1 において
+ * 相対誤差が 5E-15 程度まで蓄積するが, 末尾からの評価では丸め誤差はほとんど蓄積しない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class ExpIntContinuedFractionFactor {
+
+    /*
+     * 項数 K で打ち切ったときの相対誤差はおよそ exp(3 - 4 sqrt(K x)) である.
+     * 1E-17 未満となるように, K x >= 110 を満たす K に余裕を加える.
+     */
+    private static final double TERMS_TIMES_X = 120;
+    private static final int MIN_TERMS = 10;
+
+    private ExpIntContinuedFractionFactor() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 指数積分E_n(x)を求めるとき,
+     * E_n(x) = e^{-x} * F(n,x) とすると,
+     * F(n,x)は連分数
+     * F(n,x) = 1/(x+n- 1*n/(x+n+2- 2*(n+1)/(x+n+4- ...)))
+     * で計算できる.
+     * そのF(n,x)を返す.
+     * 
+     * <p>
+     * x &ge; 1 を想定している.
+     * </p>
+     * 
+     * @param x x
+     * @param n n
+     * @return F(n,x)
+     */
+    static double factorEn(double x, int n) {
+        int terms = MIN_TERMS + (int) Math.ceil(TERMS_TIMES_X / x);
+        Instrumentation.iterations(IterativeLoop.EXPINT_FACTOR, terms, true);
+
+        final double xPlusN = x + n;
+        double t = 0;
+        for (int k = terms; k >= 1; k--) {
+            t = -(k * (n - 1d + k)) / (xPlusN + 2 * k + t);
+        }
+        return 1 / (xPlusN + t);
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.3
+ */
+package matsu.num.specialfunction.expint;
+
+import matsu.num.specialfunction.common.Exponentiation;
+
+/**
+ * 指数積分の計算を実行する.
+ * 
+ * <p>
+ * E<sub><i>n</i></sub>(<i>x</i>) は, <i>x</i> &le; 1 では級数,
+ * それ以外では連分数により計算する. <br>
+ * Ei(<i>x</i>) は, 零点 <i>x</i><sub>0</sub> の近傍では零点まわりの展開,
+ * <i>x</i> &lt; 50 では級数, それ以外では漸近展開により計算する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class ExponentialIntegralCalculation {
+
+    private static final double EULER_MASCHERONI_GAMMA = 0.5772156649015329;
+
+    /**
+     * E_n(x) で級数を用いる x の上限.
+     */
+    private static final double EN_SERIES_THRESHOLD = 1;
+
+    /**
+     * Ei(x) の零点 x0 の上位部と下位部.
+     */
+    private static final double EI_ROOT_HI = 0.3725074107813666;
+    private static final double EI_ROOT_LO = 1.3140183414386028E-17;
+
+    /**
+     * Ei(x) で零点まわりの展開を用いる |x - x0| の上限.
+     */
+    private static final double EI_ROOT_NEIGHBORHOOD = 0.15;
+
+    /**
+     * Ei(x) で漸近展開を用いる x の下限.
+     */
+    private static final double EI_ASYMPTOTIC_THRESHOLD = 50;
+
+    /**
+     * exp(-x) をそのまま乗じるとアンダーフローにより精度が劣化する x の下限.
+     */
+    private static final double EXP_SPLIT_THRESHOLD = 700;
+
+    private static final double EPSILON = 1E-17;
+
+    private ExponentialIntegralCalculation() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 指数積分
+     * E<sub>1</sub>(<i>x</i>).
+     * 
+     * @param x x
+     * @return E_1(x)
+     */
+    public static double e1(double x) {
+        return en(1, x);
+    }
+
+    /**
+     * 一般化指数積分
+     * E<sub><i>n</i></sub>(<i>x</i>).
+     * 
+     * @param n n, 0以上
+     * @param x x
+     * @return E_n(x)
+     */
+    public static double en(int n, double x) {
+        assert n >= 0;
+
+        if (!(x > 0)) {
+            if (x == 0) {
+                return n <= 1 ? Double.POSITIVE_INFINITY : 1d / (n - 1);
+            }
+            return Double.NaN;
+        }
+        if (x == Double.POSITIVE_INFINITY) {
+            return 0;
+        }
+        if (n == 0) {
+            return Exponentiation.exp(-x) / x;
+        }
+        if (x <= EN_SERIES_THRESHOLD) {
+            return enSeries(n, x);
+        }
+        return multiplyExpMinus(x, ExpIntContinuedFractionFactor.factorEn(x, n));
+    }
+
+    /**
+     * 一般化指数積分の列
+     * E<sub>0</sub>(<i>x</i>), ..., E<sub><i>N</i></sub>(<i>x</i>).
+     * 
+     * <p>
+     * 漸化式 <i>n</i>E<sub><i>n</i>+1</sub> = e<sup>-<i>x</i></sup> - <i>x</i>E<sub><i>n</i></sub>
+     * は, <i>n</i> &gt; <i>x</i> では <i>n</i> の昇順に, <i>n</i> &lt; <i>x</i> では降順に安定である. <br>
+     * そこで, <i>n</i> &asymp; <i>x</i> の1点で直接計算し, そこから両側へ漸化式を適用する. <br>
+     * アンダーフローを避けるため, 漸化式は e<sup><i>x</i></sup>E<sub><i>n</i></sub> について適用する.
+     * </p>
+     * 
+     * @param maxOrder N, 0以上
+     * @param x x
+     * @return E_n(x) の配列 (長さ N + 1)
+     */
+    public static double[] enSequence(int maxOrder, double x) {
+        assert maxOrder >= 0;
+
+        double[] out = new double[maxOrder + 1];
+        if (!(x > 0 && x < Double.POSITIVE_INFINITY)) {
+            for (int n = 0; n <= maxOrder; n++) {
+                out[n] = en(n, x);
+            }
+            return out;
+        }
+
+        //s_n = e^x E_n(x)
+        out[0] = 1 / x;
+        if (maxOrder == 0) {
+            return scaleByExpMinus(x, out);
+        }
+
+        int anchor = (int) Math.min(maxOrder, Math.max(1d, Math.ceil(x)));
+        out[anchor] = x <= EN_SERIES_THRESHOLD
+                ? enSeries(anchor, x) * Exponentiation.exp(x)
+                : ExpIntContinuedFractionFactor.factorEn(x, anchor);
+        for (int n = anchor; n < maxOrder; n++) {
+            out[n + 1] = (1 - x * out[n]) / n;
+        }
+        for (int n = anchor - 1; n >= 1; n--) {
+            out[n] = (1 - n * out[n + 1]) / x;
+        }
+        return scaleByExpMinus(x, out);
+    }
+
+    /**
+     * 指数積分
+     * Ei(<i>x</i>).
+     * 
+     * @param x x
+     * @return Ei(x)
+     */
+    public static double ei(double x) {
+        if (!(x > 0)) {
+            if (x == 0) {
+                return Double.NEGATIVE_INFINITY;
+            }
+            //x < 0 では Ei(x) = -E_1(-x), NaNはNaN
+            return -e1(-x);
+        }
+        if (x == Double.POSITIVE_INFINITY) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        if (Math.abs(x - EI_ROOT_HI) < EI_ROOT_NEIGHBORHOOD) {
+            return eiAroundRoot(x);
+        }
+        if (x < EI_ASYMPTOTIC_THRESHOLD) {
+            return eiSeries(x);
+        }
+        return eiAsymptotic(x);
+    }
+
+    /**
+     * 級数による E_n(x), n &ge; 1, 0 &lt; x &le; 1. <br>
+     * E_n(x) = (-x)^{n-1}/(n-1)! [-log(x) + ψ(n)]
+     * - Σ_{m &ne; n-1} (-x)^m / ((m-n+1) m!)
+     */
+    private static double enSeries(int n, double x) {
+        double psi = -EULER_MASCHERONI_GAMMA;
+        for (int k = 1; k < n; k++) {
+            psi += 1d / k;
+        }
+
+        double logX = Exponentiation.log(x);
+        double sum = 0;
+        double term = 1; // (-x)^m/m!
+        for (int m = 0;; m++) {
+            if (m > 0) {
+                term *= -x / m;
+            }
+            if (m == n - 1) {
+                sum += term * (psi - logX);
+                continue;
+            }
+            double value = term / (m - n + 1);
+            sum -= value;
+            if (m > n - 1 && Math.abs(value) <= EPSILON * Math.abs(sum)) {
+                return sum;
+            }
+        }
+    }
+
+    /**
+     * 級数による Ei(x), x &gt; 0. <br>
+     * Ei(x) = γ + log(x) + Σ_{k&ge;1} x^k/(k k!)
+     */
+    private static double eiSeries(double x) {
+        double sum = 0;
+        double term = 1; // x^k/k!
+        for (int k = 1;; k++) {
+            term *= x / k;
+            double value = term / k;
+            sum += value;
+            if (value <= EPSILON * sum) {
+                break;
+            }
+        }
+        return (EULER_MASCHERONI_GAMMA + Exponentiation.log(x)) + sum;
+    }
+
+    /**
+     * 零点 x0 まわりの展開による Ei(x). <br>
+     * Ei(x) = log(x/x0) + (x-x0) Σ_{k&ge;1} q_k/(k k!),
+     * q_k = (x^k - x0^k)/(x - x0)
+     */
+    private static double eiAroundRoot(double x) {
+        double d = (x - EI_ROOT_HI) - EI_ROOT_LO;
+
+        double sum = 0;
+        double q = 1; // q_k
+        double powX0 = EI_ROOT_HI; // x0^k
+        double invKFact = 1; // 1/k!
+        for (int k = 1;; k++) {
+            invKFact /= k;
+            double value = q * invKFact / k;
+            sum += value;
+            if (value <= EPSILON * sum) {
+                break;
+            }
+            q = x * q + powX0;
+            powX0 *= EI_ROOT_HI;
+        }
+        return Exponentiation.log1p(d / EI_ROOT_HI) + d * sum;
+    }
+
+    /**
+     * 漸近展開による Ei(x), x &ge; 50. <br>
+     * Ei(x) ~ (e^x/x) Σ_{k&ge;0} k!/x^k
+     */
+    private static double eiAsymptotic(double x) {
+        double invX = 1 / x;
+        double sum = 1;
+        double term = 1;
+        for (int k = 1; k < x; k++) {
+            double next = term * k * invX;
+            if (next > term) {
+                break;
+            }
+            term = next;
+            sum += term;
+            if (term <= EPSILON * sum) {
+                break;
+            }
+        }
+
+        //e^x のオーバーフローを避けるため, 分割して乗じる
+        double expHalf = Exponentiation.exp(0.5 * x);
+        return expHalf * (expHalf * invX * sum);
+    }
+
+    /**
+     * exp(-x) * v を, アンダーフローによる精度劣化を避けて計算する.
+     */
+    private static double multiplyExpMinus(double x, double v) {
+        if (x < EXP_SPLIT_THRESHOLD) {
+            return Exponentiation.exp(-x) * v;
+        }
+        double expHalf = Exponentiation.exp(-0.5 * x);
+        return (expHalf * v) * expHalf;
+    }
+
+    /**
+     * 配列の各要素に exp(-x) を乗じる.
+     */
+    private static double[] scaleByExpMinus(double x, double[] v) {
+        if (x < EXP_SPLIT_THRESHOLD) {
+            double e = Exponentiation.exp(-x);
+            for (int i = 0; i < v.length; i++) {
+                v[i] *= e;
+            }
+            return v;
+        }
+        double expHalf = Exponentiation.exp(-0.5 * x);
+        for (int i = 0; i < v.length; i++) {
+            v[i] = (expHalf * v[i]) * expHalf;
+        }
+        return v;
+    }
+}
@@ -0,0 +1,11 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/**
+ * 指数積分の計算に関する.
+ */
+package matsu.num.specialfunction.expint;
@@ -0,0 +1,289 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.24
+ */
+package matsu.num.specialfunction.fraction;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * {@link BigRational} の演算を, 約分を遅延させて累積するための, ミュータブルなアキュムレータ.
+ * 
+ * <p>
+ * {@link BigRational} の四則演算は, 演算のたびに最大公約数による約分を行う. <br>
+ * 分子分母のビット長が大きい場合, この約分のコストが支配的になる. <br>
+ * このクラスは, 分子分母を約分しない状態で保持して演算を累積し,
+ * 分子分母のビット長が閾値を超えた場合にのみ約分を行う.
+ * </p>
+ * 
+ * <p>
+ * 値を取り出す際 ({@link #toBigRational()}, {@link #doubleValue()},
+ * {@link #compareTo(BigRational)}) には必ず約分が行われ,
+ * 結果は {@link BigRational} の演算を逐次行った場合と完全に一致する.
+ * </p>
+ * 
+ * <p>
+ * このクラスはスレッドセーフでない. <br>
+ * また, 値に基づく equality は提供しない
+ * (値の比較には {@link #toBigRational()} を経由すること).
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class BigRationalAccumulator {
+
+    /**
+     * 約分を行う分子分母のビット長の閾値のデフォルト値.
+     */
+    public static final int DEFAULT_REDUCTION_THRESHOLD = 1024;
+
+    private final int reductionThreshold;
+
+    /*
+     * 分母は常に正である.
+     * 約分されているとは限らない.
+     */
+    private BigInteger numerator;
+    private BigInteger denominator;
+
+    /**
+     * 唯一のコンストラクタ.
+     */
+    private BigRationalAccumulator(
+            BigInteger numerator, BigInteger denominator, int reductionThreshold) {
+        super();
+        this.numerator = numerator;
+        this.denominator = denominator;
+        this.reductionThreshold = reductionThreshold;
+    }
+
+    /**
+     * 自身に値を加算する.
+     * 
+     * @param augend augend
+     * @return this
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public BigRationalAccumulator add(BigRational augend) {
+        this.add_kernel(augend.numerator(), augend.denominator());
+        return this;
+    }
+
+    /**
+     * 自身から値を減算する.
+     * 
+     * @param subtrahend subtrahend
+     * @return this
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public BigRationalAccumulator subtract(BigRational subtrahend) {
+        this.add_kernel(subtrahend.numerator().negate(), subtrahend.denominator());
+        return this;
+    }
+
+    /**
+     * 自身に値を乗算する.
+     * 
+     * @param multiplicand multiplicand
+     * @return this
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public BigRationalAccumulator multiply(BigRational multiplicand) {
+        this.numerator = this.numerator.multiply(multiplicand.numerator());
+        this.denominator = this.denominator.multiply(multiplicand.denominator());
+        this.reduceIfNeeded();
+        return this;
+    }
+
+    /**
+     * 自身を値で除算する.
+     * 
+     * @param divisor divisor
+     * @return this
+     * @throws ArithmeticException 0割りを行った場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public BigRationalAccumulator divide(BigRational divisor) {
+        BigInteger divisorNume = divisor.numerator();
+        int signum = divisorNume.signum();
+        if (signum == 0) {
+            throw new ArithmeticException("zero divide");
+        }
+
+        BigInteger nume2 = this.numerator.multiply(divisor.denominator());
+        BigInteger denomi2 = this.denominator.multiply(divisorNume);
+        if (signum < 0) {
+            nume2 = nume2.negate();
+            denomi2 = denomi2.negate();
+        }
+        this.numerator = nume2;
+        this.denominator = denomi2;
+        this.reduceIfNeeded();
+        return this;
+    }
+
+    /**
+     * 自身に2値の積を加算する (this += multiplier * multiplicand). <br>
+     * 積を {@link BigRational} として生成しないため, 積に対する約分は発生しない.
+     * 
+     * @param multiplier multiplier
+     * @param multiplicand multiplicand
+     * @return this
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public BigRationalAccumulator addProduct(BigRational multiplier, BigRational multiplicand) {
+        this.add_kernel(
+                multiplier.numerator().multiply(multiplicand.numerator()),
+                multiplier.denominator().multiply(multiplicand.denominator()));
+        return this;
+    }
+
+    /**
+     * 自身から2値の積を減算する (this -= multiplier * multiplicand). <br>
+     * 積を {@link BigRational} として生成しないため, 積に対する約分は発生しない.
+     * 
+     * @param multiplier multiplier
+     * @param multiplicand multiplicand
+     * @return this
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public BigRationalAccumulator subtractProduct(BigRational multiplier, BigRational multiplicand) {
+        this.add_kernel(
+                multiplier.numerator().multiply(multiplicand.numerator()).negate(),
+                multiplier.denominator().multiply(multiplicand.denominator()));
+        return this;
+    }
+
+    /**
+     * 自身に値を乗算したのち, 値を加算する (this = this * multiplicand + augend). <br>
+     * Horner法によるべき級数の評価などに用いる.
+     * 
+     * @param multiplicand multiplicand
+     * @param augend augend
+     * @return this
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public BigRationalAccumulator multiplyAdd(BigRational multiplicand, BigRational augend) {
+        this.numerator = this.numerator.multiply(multiplicand.numerator());
+        this.denominator = this.denominator.multiply(multiplicand.denominator());
+        this.add_kernel(augend.numerator(), augend.denominator());
+        return this;
+    }
+
+    /**
+     * 分母が正である分数を加算する.
+     */
+    private void add_kernel(BigInteger otherNume, BigInteger otherDenomi) {
+        if (this.denominator.equals(otherDenomi)) {
+            this.numerator = this.numerator.add(otherNume);
+        } else {
+            this.numerator = this.numerator.multiply(otherDenomi)
+                    .add(otherNume.multiply(this.denominator));
+            this.denominator = this.denominator.multiply(otherDenomi);
+        }
+        this.reduceIfNeeded();
+    }
+
+    private void reduceIfNeeded() {
+        int bitLength = Math.max(this.numerator.bitLength(), this.denominator.bitLength());
+        if (bitLength > this.reductionThreshold) {
+            this.reduce();
+        }
+    }
+
+    private void reduce() {
+        BigInteger gcd = this.numerator.gcd(this.denominator);
+        if (!gcd.equals(BigInteger.ONE)) {
+            this.numerator = this.numerator.divide(gcd);
+            this.denominator = this.denominator.divide(gcd);
+        }
+    }
+
+    /**
+     * 累積された値を, 約分された {@link BigRational} として返す.
+     * 
+     * @return 累積された値
+     */
+    public BigRational toBigRational() {
+        BigRational out = BigRational.of(this.numerator, this.denominator);
+        this.numerator = out.numerator();
+        this.denominator = out.denominator();
+        return out;
+    }
+
+    /**
+     * 累積された値を {@code double} 値として返す.
+     * 
+     * @return 累積された値の {@code double} 表現
+     * @see BigRational#doubleValue()
+     */
+    public double doubleValue() {
+        return this.toBigRational().doubleValue();
+    }
+
+    /**
+     * 累積された値と与えられた値を比較する.
+     * 
+     * @param o 比較相手
+     * @return 比較結果, {@link Comparable#compareTo(Object)} の規約に従う
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public int compareTo(BigRational o) {
+        return this.toBigRational().compareTo(o);
+    }
+
+    /**
+     * このインスタンスの文字列表現を返す.
+     * 
+     * <p>
+     * このメソッドは内部状態を変更しない (約分された値を表示するが, 保持する分子分母は約分しない).
+     * </p>
+     * 
+     * @return 文字列表現
+     */
+    @Override
+    public String toString() {
+        return String.format(
+                "BigRationalAccumulator(%s)", BigRational.of(this.numerator, this.denominator));
+    }
+
+    /**
+     * 与えた値を初期値とし, デフォルトの閾値で約分を行うアキュムレータを生成する.
+     * 
+     * @param initial 初期値
+     * @return アキュムレータ
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static BigRationalAccumulator of(BigRational initial) {
+        return BigRationalAccumulator.of(initial, DEFAULT_REDUCTION_THRESHOLD);
+    }
+
+    /**
+     * 与えた値を初期値とし, 指定した閾値で約分を行うアキュムレータを生成する.
+     * 
+     * <p>
+     * 分子または分母のビット長が {@code reductionThreshold} を超えた場合に約分が行われる.
+     * </p>
+     * 
+     * @param initial 初期値
+     * @param reductionThreshold 約分を行うビット長の閾値
+     * @return アキュムレータ
+     * @throws IllegalArgumentException 閾値が1未満の場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static BigRationalAccumulator of(BigRational initial, int reductionThreshold) {
+        Objects.requireNonNull(initial);
+        if (reductionThreshold < 1) {
+            throw new IllegalArgumentException(
+                    "Illegal threshold: reductionThreshold = %s".formatted(reductionThreshold));
+        }
+        return new BigRationalAccumulator(
+                initial.numerator(), initial.denominator(), reductionThreshold);
+    }
+}
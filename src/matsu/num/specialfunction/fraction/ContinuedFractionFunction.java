@@ -181,6 +181,7 @@ public final class ContinuedFractionFunction<ET extends MathField<ET>> {
         private final int size;
         private final IntFunction<ET> ratioSupplier;
         private final MathField.ConstantSupplier<ET> constantSupplier;
+        private final QDKernel<ET> kernel;
 
         final List<ET> cfCoeff;
 
@@ -204,6 +205,7 @@ public final class ContinuedFractionFunction<ET extends MathField<ET>> {
             this.size = size;
             this.ratioSupplier = Objects.requireNonNull(ratioSupplier);
             this.constantSupplier = Objects.requireNonNull(constantSupplier);
+            this.kernel = QDKernel.of(constantSupplier);
 
             try {
                 this.cfCoeff = calcCoeffOfContinuedFraction();
@@ -240,7 +242,7 @@ public final class ContinuedFractionFunction<ET extends MathField<ET>> {
                 //q -> e
                 List<ET> e = new ArrayList<>();
                 for (int j = 0; j < this.size - step; j++) {
-                    e.add(e0.get(j + 1).plus(q0.get(j + 1).minus(q0.get(j))));
+                    e.add(this.kernel.plusDifference(e0.get(j + 1), q0.get(j + 1), q0.get(j)));
                 }
                 out.add(e.get(0).negated());
                 e0 = e;
@@ -250,7 +252,7 @@ public final class ContinuedFractionFunction<ET extends MathField<ET>> {
                 //もしq->eが最後なら, このループは回らないため問題ない
                 List<ET> q = new ArrayList<>();
                 for (int j = 0; j < size - step; j++) {
-                    q.add(q0.get(j + 1).times(e0.get(j + 1).dividedBy(e0.get(j))));
+                    q.add(this.kernel.timesQuotient(q0.get(j + 1), e0.get(j + 1), e0.get(j)));
                 }
                 if (!q.isEmpty()) {
                     out.add(q.get(0).negated());
@@ -262,4 +264,78 @@ public final class ContinuedFractionFunction<ET extends MathField<ET>> {
             return out;
         }
     }
+
+    /**
+     * 商差法の1ステップで用いる複合演算.
+     * 
+     * <p>
+     * 有理数体 ({@link BigRational}) では, 演算ごとの約分のコストが支配的であるため,
+     * {@link BigRationalAccumulator} により約分を複合演算あたり1回にまとめる.
+     * </p>
+     */
+    private static interface QDKernel<ET extends MathField<ET>> {
+
+        /**
+         * base + (minuend - subtrahend) を返す.
+         */
+        public abstract ET plusDifference(ET base, ET minuend, ET subtrahend);
+
+        /**
+         * base * (dividend / divisor) を返す.
+         * 
+         * @throws ArithmeticException 0割りの場合
+         */
+        public abstract ET timesQuotient(ET base, ET dividend, ET divisor);
+
+        /**
+         * 定数サプライヤに適合するカーネルを返す.
+         */
+        @SuppressWarnings("unchecked")
+        static <ET extends MathField<ET>> QDKernel<ET> of(ConstantSupplier<ET> constantSupplier) {
+            if (constantSupplier == BigRational.constantSupplier()) {
+                // ETはBigRationalであることが確定している
+                return (QDKernel<ET>) BigRationalQDKernel.INSTANCE;
+            }
+            return new GenericQDKernel<>();
+        }
+    }
+
+    private static final class GenericQDKernel<ET extends MathField<ET>> implements QDKernel<ET> {
+
+        @Override
+        public ET plusDifference(ET base, ET minuend, ET subtrahend) {
+            return base.plus(minuend.minus(subtrahend));
+        }
+
+        @Override
+        public ET timesQuotient(ET base, ET dividend, ET divisor) {
+            return base.times(dividend.dividedBy(divisor));
+        }
+    }
+
+    private static final class BigRationalQDKernel implements QDKernel<BigRational> {
+
+        static final BigRationalQDKernel INSTANCE = new BigRationalQDKernel();
+
+        /**
+         * 複合演算の途中では約分しないための閾値.
+         */
+        private static final int NO_REDUCTION = Integer.MAX_VALUE;
+
+        @Override
+        public BigRational plusDifference(BigRational base, BigRational minuend, BigRational subtrahend) {
+            return BigRationalAccumulator.of(base, NO_REDUCTION)
+                    .add(minuend)
+                    .subtract(subtrahend)
+                    .toBigRational();
+        }
+
+        @Override
+        public BigRational timesQuotient(BigRational base, BigRational dividend, BigRational divisor) {
+            return BigRationalAccumulator.of(base, NO_REDUCTION)
+                    .multiply(dividend)
+                    .divide(divisor)
+                    .toBigRational();
+        }
+    }
 }
@@ -0,0 +1,497 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.25
+ */
+package matsu.num.specialfunction.fraction;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Objects;
+
+import matsu.num.specialfunction.common.Exponentiation;
+
+/**
+ * <p>
+ * double-double 浮動小数点数 (およそ106ビット精度) による実数を表す.
+ * </p>
+ * 
+ * <p>
+ * 値は2個の {@code double} の和 <i>high</i> + <i>low</i> で表現され,
+ * |<i>low</i>| &le; ulp(<i>high</i>)/2 となるように正規化されている. <br>
+ * 演算は {@code double} 演算 (および {@link Math#fma(double, double, double)})
+ * のみで行われ, {@link Decimal128} のような多倍長整数の生成を伴わない.
+ * </p>
+ * 
+ * <p>
+ * 無限大やNaNは表現できず, 演算結果がそれらになる場合は {@link ArithmeticException} をスローする. <br>
+ * 負の0は正の0に修正される.
+ * </p>
+ * 
+ * <p>
+ * 内部で使用されることが前提である. <br>
+ * 公開されることは想定されていない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class DoubleDoubleReal
+        extends RealMathField<DoubleDoubleReal> {
+
+    private static final DoubleDoubleReal ZERO = new DoubleDoubleReal(0d, 0d);
+    private static final DoubleDoubleReal ONE = new DoubleDoubleReal(1d, 0d);
+
+    private static final DoubleDoubleReal PI =
+            DoubleDoubleReal.of(new BigDecimal(
+                    "3.14159265358979323846264338327950288419716939937510582097494459"));
+    private static final DoubleDoubleReal LN2 =
+            DoubleDoubleReal.of(new BigDecimal(
+                    "0.69314718055994530941723212145817656807550013436025525412068001"));
+
+    /**
+     * exp の引数縮約で用いるスケーリング: 2^(-9)
+     */
+    private static final int EXP_SCALING_POWER = 9;
+    private static final int EXP_TAYLOR_TERMS = 10;
+
+    private final double high;
+    private final double low;
+
+    /**
+     * 正規化された値を受け取る.
+     */
+    private DoubleDoubleReal(double high, double low) {
+        super();
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * 上位の {@code double} 値を返す.
+     * 
+     * @return 上位の値
+     */
+    public double high() {
+        return this.high;
+    }
+
+    /**
+     * 下位の {@code double} 値を返す.
+     * 
+     * @return 下位の値
+     */
+    public double low() {
+        return this.low;
+    }
+
+    /**
+     * @throws ArithmeticException {@inheritDoc }
+     * @throws NullPointerException {@inheritDoc }
+     */
+    @Override
+    public DoubleDoubleReal plus(DoubleDoubleReal augend) {
+        return plus_kernel(this.high, this.low, augend.high, augend.low);
+    }
+
+    /**
+     * @throws ArithmeticException {@inheritDoc }
+     * @throws NullPointerException {@inheritDoc }
+     */
+    @Override
+    public DoubleDoubleReal minus(DoubleDoubleReal subtrahend) {
+        return plus_kernel(this.high, this.low, -subtrahend.high, -subtrahend.low);
+    }
+
+    /**
+     * (ah + al) + (bh + bl) を計算する.
+     */
+    private static DoubleDoubleReal plus_kernel(double ah, double al, double bh, double bl) {
+        // two-sum (high)
+        double s = ah + bh;
+        double v = s - ah;
+        double e = (ah - (s - v)) + (bh - v);
+
+        // two-sum (low)
+        double t = al + bl;
+        double w = t - al;
+        double f = (al - (t - w)) + (bl - w);
+
+        e += t;
+        double s2 = s + e;
+        e = e - (s2 - s);
+        e += f;
+        return normalizedOrThrow(s2, e);
+    }
+
+    /**
+     * @throws ArithmeticException {@inheritDoc }
+     * @throws NullPointerException {@inheritDoc }
+     */
+    @Override
+    public DoubleDoubleReal times(DoubleDoubleReal multiplicand) {
+        double p = this.high * multiplicand.high;
+        double e = Math.fma(this.high, multiplicand.high, -p);
+        e += this.high * multiplicand.low + this.low * multiplicand.high;
+        return normalizedOrThrow(p, e);
+    }
+
+    /**
+     * {@code double} 値との積を返す.
+     * 
+     * @param multiplicand multiplicand
+     * @return 積
+     * @throws ArithmeticException 演算結果が表現できない場合
+     */
+    public DoubleDoubleReal times(double multiplicand) {
+        double p = this.high * multiplicand;
+        double e = Math.fma(this.high, multiplicand, -p);
+        e += this.low * multiplicand;
+        return normalizedOrThrow(p, e);
+    }
+
+    /**
+     * @throws ArithmeticException 0割りを行った場合, {@inheritDoc }
+     * @throws NullPointerException {@inheritDoc }
+     */
+    @Override
+    public DoubleDoubleReal dividedBy(DoubleDoubleReal divisor) {
+        final double bh = divisor.high;
+        if (bh == 0d) {
+            throw new ArithmeticException("zero divide");
+        }
+
+        // 残差に基づき商を2回補正する
+        double q1 = this.high / bh;
+        DoubleDoubleReal r = this.minus(divisor.times(q1));
+        double q2 = r.high / bh;
+        r = r.minus(divisor.times(q2));
+        double q3 = r.high / bh;
+
+        return normalized(q1, q2).plus(q3);
+    }
+
+    /**
+     * {@code double} 値による商を返す.
+     * 
+     * @param divisor divisor
+     * @return 商
+     * @throws ArithmeticException 0割りを行った場合, 演算結果が表現できない場合
+     */
+    public DoubleDoubleReal dividedBy(double divisor) {
+        if (divisor == 0d) {
+            throw new ArithmeticException("zero divide");
+        }
+
+        double q1 = this.high / divisor;
+        double p = q1 * divisor;
+        double pe = Math.fma(q1, divisor, -p);
+        double q2 = ((this.high - p) - pe + this.low) / divisor;
+        return normalizedOrThrow(q1, q2);
+    }
+
+    @Override
+    public DoubleDoubleReal negated() {
+        return normalized(-this.high, -this.low);
+    }
+
+    @Override
+    public DoubleDoubleReal abs() {
+        return this.high < 0d
+                ? this.negated()
+                : this;
+    }
+
+    /**
+     * 平方根を返す.
+     * 
+     * @return 平方根
+     * @throws ArithmeticException 自身が負の場合
+     */
+    public DoubleDoubleReal sqrt() {
+        if (this.high < 0d) {
+            throw new ArithmeticException("negative value: sqrt");
+        }
+        if (this.high == 0d) {
+            return ZERO;
+        }
+
+        // Newton法による1回の補正
+        double s = Math.sqrt(this.high);
+        double ss = s * s;
+        double sse = Math.fma(s, s, -ss);
+        double r = ((this.high - ss) - sse) + this.low;
+        return normalizedOrThrow(s, r / (2 * s));
+    }
+
+    /**
+     * 指数関数 exp(this) を返す.
+     * 
+     * <p>
+     * 結果がアンダーフローする場合は0を返す.
+     * </p>
+     * 
+     * @return exp(this)
+     * @throws ArithmeticException 結果がオーバーフローする場合
+     */
+    public DoubleDoubleReal exp() {
+        if (this.high > 709.8) {
+            throw new ArithmeticException("overflow: exp");
+        }
+        if (this.high < -745.2) {
+            return ZERO;
+        }
+
+        // x = k * ln2 + r, |r| <= ln2/2
+        double k = Math.rint(this.high / LN2.high);
+        DoubleDoubleReal r = this.minus(LN2.times(k));
+        r = new DoubleDoubleReal(
+                Math.scalb(r.high, -EXP_SCALING_POWER), Math.scalb(r.low, -EXP_SCALING_POWER));
+
+        // expm1(r) をTaylor級数で計算
+        DoubleDoubleReal m = ZERO;
+        for (int n = EXP_TAYLOR_TERMS; n >= 1; n--) {
+            m = m.plus(ONE).times(r).dividedBy(n);
+        }
+
+        // expm1(2r) = expm1(r) * (2 + expm1(r)) を繰り返す
+        for (int i = 0; i < EXP_SCALING_POWER; i++) {
+            m = m.times(m.plus(2d));
+        }
+        DoubleDoubleReal e = m.plus(ONE);
+
+        int ki = (int) k;
+        return normalizedOrThrow(Math.scalb(e.high, ki), Math.scalb(e.low, ki));
+    }
+
+    /**
+     * 自然対数 log(this) を返す.
+     * 
+     * @return log(this)
+     * @throws ArithmeticException 自身が正でない場合
+     */
+    public DoubleDoubleReal log() {
+        if (!(this.high > 0d)) {
+            throw new ArithmeticException("non-positive value: log");
+        }
+
+        // Newton法による1回の補正: y + x * exp(-y) - 1
+        DoubleDoubleReal y = new DoubleDoubleReal(Exponentiation.log(this.high), 0d);
+        return y.plus(this.times(y.negated().exp()).minus(ONE));
+    }
+
+    /**
+     * {@code double} 値との和を返す.
+     * 
+     * @param augend augend
+     * @return 和
+     * @throws ArithmeticException 演算結果が表現できない場合
+     */
+    public DoubleDoubleReal plus(double augend) {
+        return plus_kernel(this.high, this.low, augend, 0d);
+    }
+
+    @Override
+    public int compareTo(DoubleDoubleReal o) {
+        int c = Double.compare(this.high, o.high);
+        return c != 0
+                ? c
+                : Double.compare(this.low, o.low);
+    }
+
+    /**
+     * 値を {@code double} に丸めて返す.
+     * 
+     * @return {@code double} 値
+     */
+    @Override
+    public double doubleValue() {
+        return this.high + this.low;
+    }
+
+    /**
+     * 値を {@link BigDecimal} として正確に返す.
+     * 
+     * @return 値
+     */
+    public BigDecimal toBigDecimal() {
+        return new BigDecimal(this.high).add(new BigDecimal(this.low));
+    }
+
+    /**
+     * 与えられたインスタンスが自身と等価であるかを判定する.
+     * 
+     * @param obj 比較相手
+     * @return 等価なら true
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!(obj instanceof DoubleDoubleReal target)) {
+            return false;
+        }
+
+        return this.compareTo(target) == 0;
+    }
+
+    /**
+     * このインスタンスのハッシュコードを返す.
+     * 
+     * @return ハッシュコード
+     */
+    @Override
+    public int hashCode() {
+        int result = Double.hashCode(this.high);
+        result = 31 * result + Double.hashCode(this.low);
+        return result;
+    }
+
+    /**
+     * このインスタンスの文字列表現を返す.
+     * 
+     * @return 文字列表現
+     */
+    @Override
+    public String toString() {
+        return this.toBigDecimal().round(new MathContext(32)).toString();
+    }
+
+    /**
+     * 正規化 (quick-two-sum) を行い, 値を生成する.
+     * 
+     * @throws ArithmeticException 不正値の場合
+     */
+    private static DoubleDoubleReal normalizedOrThrow(double high, double low) {
+        if (!(Double.isFinite(high) && Double.isFinite(low))) {
+            throw new ArithmeticException("invalid calc result");
+        }
+        return normalized(high, low);
+    }
+
+    /**
+     * |high| &ge; |low| でなければならない.
+     */
+    private static DoubleDoubleReal normalized(double high, double low) {
+        double s = high + low;
+        double e = low - (s - high);
+
+        // 負の0を排除
+        return new DoubleDoubleReal(s + 0d, e + 0d);
+    }
+
+    /**
+     * 与えた {@code double} 値を表現する値を返す.
+     * 
+     * @param value 値
+     * @return 値
+     * @throws IllegalArgumentException 引数が有限でない場合
+     */
+    public static DoubleDoubleReal of(double value) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException("invalid args");
+        }
+        return new DoubleDoubleReal(value + 0d, 0d);
+    }
+
+    /**
+     * 与えた2個の {@code double} 値の和を表現する値を返す.
+     * 
+     * @param high 上位の値
+     * @param low 下位の値
+     * @return 値
+     * @throws IllegalArgumentException 引数が有限でない場合
+     */
+    public static DoubleDoubleReal of(double high, double low) {
+        if (!(Double.isFinite(high) && Double.isFinite(low))) {
+            throw new IllegalArgumentException("invalid args");
+        }
+        return plus_kernel(high, 0d, low, 0d);
+    }
+
+    /**
+     * 与えた {@link BigDecimal} 値を double-double 精度に丸めた値を返す.
+     * 
+     * @param value 値
+     * @return 値
+     * @throws IllegalArgumentException 値が {@code double} の範囲を超える場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static DoubleDoubleReal of(BigDecimal value) {
+        double high = Objects.requireNonNull(value).doubleValue();
+        if (!Double.isFinite(high)) {
+            throw new IllegalArgumentException("out of range");
+        }
+        double low = value.subtract(new BigDecimal(high)).doubleValue();
+        return DoubleDoubleReal.of(high, low);
+    }
+
+    /**
+     * 与えた有理数を double-double 精度に丸めた値を返す.
+     * 
+     * @param value 値
+     * @return 値
+     * @throws IllegalArgumentException 値が {@code double} の範囲を超える場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static DoubleDoubleReal of(BigRational value) {
+        return DoubleDoubleReal.of(
+                new BigDecimal(value.numerator()).divide(
+                        new BigDecimal(value.denominator()), new MathContext(40)));
+    }
+
+    /**
+     * 円周率を返す.
+     * 
+     * @return 円周率
+     */
+    public static DoubleDoubleReal pi() {
+        return PI;
+    }
+
+    /**
+     * 2の自然対数を返す.
+     * 
+     * @return log(2)
+     */
+    public static DoubleDoubleReal ln2() {
+        return LN2;
+    }
+
+    /**
+     * このクラスと関連する定数サプライヤを返す.
+     * 
+     * @return 定数サプライヤ.
+     */
+    public static MathField.ConstantSupplier<DoubleDoubleReal> constantSupplier() {
+        return DoubleDoubleReal.ConstantSupplier.INSTANCE;
+    }
+
+    /**
+     * {@link DoubleDoubleReal} と関連する定数サプライヤ.
+     */
+    private static final class ConstantSupplier
+            implements MathField.ConstantSupplier<DoubleDoubleReal> {
+
+        static final ConstantSupplier INSTANCE = new ConstantSupplier();
+
+        ConstantSupplier() {
+            super();
+        }
+
+        @Override
+        public DoubleDoubleReal zero() {
+            return DoubleDoubleReal.ZERO;
+        }
+
+        @Override
+        public DoubleDoubleReal one() {
+            return DoubleDoubleReal.ONE;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.25
+ */
+package matsu.num.specialfunction.fraction;
+
+import java.math.BigInteger;
+
+/**
+ * 有理数として正確に表現された Bernoulli 数.
+ * 
+ * <p>
+ * 拡張精度の計算で用いる係数を生成するために使用する. <br>
+ * 値は漸化式 <br>
+ * &sum;<sub><i>k</i> = 0</sub><sup><i>m</i></sup>
+ * C(<i>m</i> + 1, <i>k</i>) <i>B</i><sub><i>k</i></sub> = 0 <br>
+ * によりクラス初期化時に計算される.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class RationalBernoulliNumber {
+
+    /**
+     * 扱う最大のindex.
+     */
+    public static final int MAX_INDEX = 120;
+
+    /**
+     * B_0, B_1, ..., B_{MAX_INDEX}
+     */
+    private static final BigRational[] BERNOULLI;
+
+    static {
+        BERNOULLI = new BigRational[MAX_INDEX + 1];
+        BERNOULLI[0] = BigRational.of(1, 1);
+
+        for (int m = 1; m <= MAX_INDEX; m++) {
+            if (m >= 3 && (m & 1) == 1) {
+                BERNOULLI[m] = BigRational.of(0, 1);
+                continue;
+            }
+
+            BigRationalAccumulator acc =
+                    BigRationalAccumulator.of(BigRational.of(0, 1));
+            BigInteger binom = BigInteger.ONE; // C(m+1, k)
+            for (int k = 0; k < m; k++) {
+                acc.addProduct(BERNOULLI[k], BigRational.of(binom, BigInteger.ONE));
+                binom = binom.multiply(BigInteger.valueOf(m + 1 - k))
+                        .divide(BigInteger.valueOf(k + 1));
+            }
+            BERNOULLI[m] = acc.divide(BigRational.of(-(m + 1), 1)).toBigRational();
+        }
+    }
+
+    private RationalBernoulliNumber() {
+        // インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * <i>B</i><sub><i>k</i></sub> の値を返す.
+     * 
+     * @param k <i>k</i>
+     * @return <i>B</i><sub><i>k</i></sub>
+     * @throws IllegalArgumentException <i>k</i> が0以上 {@link #MAX_INDEX} 以下でない場合
+     */
+    public static BigRational of(int k) {
+        if (!(0 <= k && k <= MAX_INDEX)) {
+            throw new IllegalArgumentException("Illegal index: k = %s".formatted(k));
+        }
+        return BERNOULLI[k];
+    }
+}
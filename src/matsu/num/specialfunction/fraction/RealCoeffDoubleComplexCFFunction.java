@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2024.10.22
+ * 2025.7.26
  */
 package matsu.num.specialfunction.fraction;
 
@@ -21,6 +21,7 @@ public final class RealCoeffDoubleComplexCFFunction {
 
     private final DoubleContinuedFractionFunction src;
     private final DoubleComplexNumber[] cfCoeff;
+    private final double[] realCfCoeff;
 
     /**
      * 与えたdouble連分数を, 引数がcomplexに対応するように変換する.
@@ -30,6 +31,7 @@ public final class RealCoeffDoubleComplexCFFunction {
     public RealCoeffDoubleComplexCFFunction(DoubleContinuedFractionFunction src) {
         this.src = src;
         double[] srcCoeffs = src.coeffOfContinuedFraction();
+        this.realCfCoeff = srcCoeffs;
 
         this.cfCoeff = new DoubleComplexNumber[srcCoeffs.length];
         for (int i = 0; i < srcCoeffs.length; i++) {
@@ -55,6 +57,109 @@ public final class RealCoeffDoubleComplexCFFunction {
         return DoubleComplexNumber.ONE.dividedBy(value);
     }
 
+    /**
+     * 実部と虚部を分離した引数により, 連分数から値を計算する.
+     * 
+     * <p>
+     * {@link #value(DoubleComplexNumber)} と同一の演算順序で計算するが,
+     * 中間結果のインスタンスを生成しない. <br>
+     * 結果は {@code out[0]} に実部, {@code out[1]} に虚部として書き込まれる. <br>
+     * 演算結果が表現できない場合でも例外はスローせず, 無限大やNaNが書き込まれる.
+     * </p>
+     * 
+     * @param tReal tの実部
+     * @param tImaginary tの虚部
+     * @param out 結果の書き込み先, 長さは2以上
+     * @throws IndexOutOfBoundsException outの長さが2未満の場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public void value(double tReal, double tImaginary, double[] out) {
+        if (out.length < 2) {
+            throw new IndexOutOfBoundsException("out.length < 2");
+        }
+
+        this.value_kernel(tReal, tImaginary, out, 0, out, 1);
+    }
+
+    /**
+     * 実部と虚部を分離した引数の配列により, 連分数から値を一括で計算する.
+     * 
+     * <p>
+     * {@code i} 番目の引数は ({@code tReal[i]}, {@code tImaginary[i]}) であり,
+     * その結果は ({@code outReal[i]}, {@code outImaginary[i]}) に書き込まれる. <br>
+     * 各要素の計算は {@link #value(double, double, double[])} と同一である.
+     * </p>
+     * 
+     * @param tReal tの実部
+     * @param tImaginary tの虚部
+     * @param outReal 結果の実部の書き込み先
+     * @param outImaginary 結果の虚部の書き込み先
+     * @throws IllegalArgumentException 配列の長さが等しくない場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public void value(double[] tReal, double[] tImaginary, double[] outReal, double[] outImaginary) {
+        final int length = tReal.length;
+        if (!(tImaginary.length == length
+                && outReal.length == length && outImaginary.length == length)) {
+            throw new IllegalArgumentException("length mismatch");
+        }
+
+        for (int i = 0; i < length; i++) {
+            this.value_kernel(tReal[i], tImaginary[i], outReal, i, outImaginary, i);
+        }
+    }
+
+    /**
+     * {@link DoubleComplexNumber} の演算をインライン化した計算.
+     */
+    private void value_kernel(
+            double tRe, double tIm,
+            double[] outRe, int indexRe, double[] outIm, int indexIm) {
+
+        final double[] coeffs = this.realCfCoeff;
+
+        double vRe = 1d;
+        double vIm = 0d;
+        for (int i = coeffs.length - 1; i >= 0; i--) {
+            double coeff = coeffs[i];
+            // 符号付きゼロを含めて一致させるため, 虚部0との積も計算する
+            double nRe = coeff * tRe - 0d * tIm;
+            double nIm = coeff * tIm + 0d * tRe;
+
+            // (nRe + i nIm) / (vRe + i vIm), DoubleComplexNumber.dividedByと同一
+            final double p;
+            final double q;
+            final double k;
+            if (Math.abs(vRe) > Math.abs(vIm)) {
+                p = 1d;
+                q = vIm / vRe;
+                k = vRe * (1 + q * q);
+            } else {
+                p = vRe / vIm;
+                q = 1d;
+                k = vIm * (1 + p * p);
+            }
+            vRe = (nRe * p + nIm * q) / k + 1d;
+            vIm = (nIm * p - nRe * q) / k + 0d;
+        }
+
+        // 1 / (vRe + i vIm)
+        final double p;
+        final double q;
+        final double k;
+        if (Math.abs(vRe) > Math.abs(vIm)) {
+            p = 1d;
+            q = vIm / vRe;
+            k = vRe * (1 + q * q);
+        } else {
+            p = vRe / vIm;
+            q = 1d;
+            k = vIm * (1 + p * p);
+        }
+        outRe[indexRe] = (p + 0d * q) / k;
+        outIm[indexIm] = (0d * p - q) / k;
+    }
+
     /**
      * 連分数の係数を返す. <br>
      * 最初の1は含まない.
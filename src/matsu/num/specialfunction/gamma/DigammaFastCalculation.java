@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.27
+ */
+package matsu.num.specialfunction.gamma;
+
+import matsu.num.specialfunction.common.Exponentiation;
+
+/**
+ * ディガンマ関数の高速近似計算.
+ * 
+ * <p>
+ * {@link DigammaCalculation} と同じ領域分割で計算するが,
+ * 近似多項式の次数を下げている. <br>
+ * 誤差は 1E-7 &times; max(1, |<i>&psi;</i>(<i>x</i>)|) 以下である.
+ * (<i>&psi;</i>(<i>x</i>) の零点近傍では相対誤差は保証されない.)
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class DigammaFastCalculation {
+
+    private static final double BOUNDARY_X_FOR_ASYMPTOTIC = 2.5;
+
+    /**
+     * 唯一のコンストラクタ.
+     */
+    public DigammaFastCalculation() {
+        super();
+    }
+
+    /**
+     * ディガンマ関数
+     * <i>&psi;</i>(<i>x</i>) =
+     * (d/d<i>x</i>) log<sub>e</sub>&Gamma;(<i>x</i>)
+     * を計算する.
+     * 
+     * @param x
+     * @return dgamma(x)
+     */
+    public double digamma(double x) {
+        /*
+         * x < 0: NaN
+         * x = 0: -inf
+         * x = +inf: +inf
+         */
+        if (!(x >= 0)) {
+            return Double.NaN;
+        }
+
+        if (x >= BOUNDARY_X_FOR_ASYMPTOTIC) {
+            //2.5以上は漸近展開を使う.
+            return digammaStirRes_largeX(x) + Exponentiation.log(x) - 0.5 / x;
+        }
+
+        assert x <= 2.5;
+        switch ((int) (x * 2)) {
+            case 0: {
+                //-0dの場合でもうまくいく
+                double shift = (2 * x + 1) / (x * x + x);
+                return digamma2p_smallX(x) - shift;
+            }
+            case 1, 2: {
+                double shift = 1d / x;
+                return digamma2p_smallX(x - 1) - shift;
+            }
+            default: {
+                return digamma2p_smallX(x - 2);
+            }
+        }
+    }
+
+    /**
+     * {@literal -0.5 <= x <= 0.5} のときの, psi(2+x)
+     */
+    private double digamma2p_smallX(double x) {
+        assert x >= -0.5;
+        assert x <= 0.5;
+
+        return x <= 0d
+                ? digamma2p_smallX_m0_5_to_0(x)
+                : digamma2p_smallX_0_to_0_5(x);
+    }
+
+    private double digamma2p_smallX_m0_5_to_0(double x) {
+        assert x >= -0.5;
+        assert x <= 0;
+
+        final double C0 = 0.42278433581775879778362885040329;
+        final double C1 = 0.64493425062956005795416767958057;
+        final double C2 = -0.20204926064063832557714473105029;
+        final double C3 = 0.082443178044385139666583164008400;
+        final double C4 = -0.036015089623222744062987778195205;
+        final double C5 = 0.021037971006686694498504317986991;
+        final double C6 = -0.00037949059039378980583941501469369;
+        final double C7 = 0.012187381193369999179747136650966;
+
+        final double x2 = x * x;
+
+        final double v0 = C0 + x * C1 + x2 * (C2 + x * C3);
+        final double v4 = C4 + x * C5 + x2 * (C6 + x * C7);
+
+        final double x4 = x2 * x2;
+
+        return v0 + x4 * v4;
+    }
+
+    private double digamma2p_smallX_0_to_0_5(double x) {
+        assert x >= 0;
+        assert x <= 0.5;
+
+        final double C0 = 0.42278433686353484465806174019391;
+        final double C1 = 0.64493372002951572981563420120082;
+        final double C2 = -0.20204566260462309486142602451975;
+        final double C3 = 0.082184875770927789443697957897144;
+        final double C4 = -0.036100778116762838708016737331260;
+        final double C5 = 0.014710598278915022310110997703759;
+        final double C6 = -0.0038181782494755649345033850717731;
+
+        final double x2 = x * x;
+
+        final double v0 = C0 + x * C1 + x2 * (C2 + x * C3);
+        final double v4 = C4 + x * C5 + x2 * C6;
+
+        final double x4 = x2 * x2;
+
+        return v0 + x4 * v4;
+    }
+
+    /**
+     * {@literal x >= 2.5} のときの, psi(x)-log(x)+0.5/x
+     */
+    private double digammaStirRes_largeX(double x) {
+        assert x >= BOUNDARY_X_FOR_ASYMPTOTIC;
+
+        final double C0 = -0.083333313494424706054246127540441;
+        final double C1 = 0.0083293216810212998402739845727375;
+        final double C2 = -0.0038353523396863541546164223318099;
+        final double C3 = 0.0026249653680615751931045630243434;
+
+        final double t = 1 / x;
+        final double u = t * t;
+
+        return u * (C0 + u * C1 + (u * u) * (C2 + u * C3));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.25
+ */
+package matsu.num.specialfunction.gamma;
+
+import matsu.num.specialfunction.fraction.BigRational;
+import matsu.num.specialfunction.fraction.DoubleDoubleReal;
+import matsu.num.specialfunction.fraction.RationalBernoulliNumber;
+
+/**
+ * double-double 精度 (拡張精度) による対数ガンマ関数の計算.
+ * 
+ * <p>
+ * <i>x</i> &ge; 30 では Stirling 級数を用い,
+ * それ以外では漸化式 &Gamma;(<i>x</i> + 1) = <i>x</i>&Gamma;(<i>x</i>)
+ * により <i>x</i> を30以上にシフトする. <br>
+ * 相対誤差はおよそ 1E-29 以下であるが,
+ * 零点 (<i>x</i> = 1, 2) の近傍では絶対誤差での評価となる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class LGammaDoubleDoubleCalculation {
+
+    private static final double BOUNDARY_X_FOR_ASYMPTOTIC = 30d;
+
+    /**
+     * Stirling 級数の係数: B_{2k}/(2k(2k-1)), k = 1, 2, ...
+     */
+    private static final DoubleDoubleReal[] STIRLING_COEFF;
+
+    private static final DoubleDoubleReal HALF_LN2PI =
+            DoubleDoubleReal.pi().times(2d).log().times(0.5);
+
+    static {
+        final int k_max = 16;
+        STIRLING_COEFF = new DoubleDoubleReal[k_max];
+        for (int k = 1; k <= k_max; k++) {
+            BigRational c = RationalBernoulliNumber.of(2 * k)
+                    .dividedBy(BigRational.of(2 * k * (2 * k - 1), 1));
+            STIRLING_COEFF[k - 1] = DoubleDoubleReal.of(c);
+        }
+    }
+
+    /**
+     * 唯一のコンストラクタ.
+     */
+    public LGammaDoubleDoubleCalculation() {
+        super();
+    }
+
+    /**
+     * log<sub>e</sub>&Gamma;(<i>x</i>) を計算する.
+     * 
+     * @param x <i>x</i>, 正の有限値
+     * @return lgamma(x)
+     * @throws IllegalArgumentException <i>x</i> が正の有限値でない場合
+     * @throws ArithmeticException 結果が表現できない場合
+     */
+    public DoubleDoubleReal lgamma(double x) {
+        if (!(x > 0 && x < Double.POSITIVE_INFINITY)) {
+            throw new IllegalArgumentException("Illegal argument: x = %s".formatted(x));
+        }
+
+        if (x >= BOUNDARY_X_FOR_ASYMPTOTIC) {
+            return lgammaStirling(DoubleDoubleReal.of(x));
+        }
+
+        // x(x+1)...(x+m-1) を計算し, x+m >= 30 にシフトする
+        DoubleDoubleReal z = DoubleDoubleReal.of(x);
+        DoubleDoubleReal prod = z;
+        z = z.plus(1d);
+        while (z.high() < BOUNDARY_X_FOR_ASYMPTOTIC) {
+            prod = prod.times(z);
+            z = z.plus(1d);
+        }
+        return lgammaStirling(z).minus(prod.log());
+    }
+
+    /**
+     * Stirling 級数による lgamma(z) の計算. <br>
+     * z は30以上であることが前提.
+     */
+    private static DoubleDoubleReal lgammaStirling(DoubleDoubleReal z) {
+        // z^2 のオーバーフローを避けるため, 1/z を2乗する
+        DoubleDoubleReal invZ = DoubleDoubleReal.constantSupplier().one().dividedBy(z);
+        DoubleDoubleReal invZ2 = invZ.times(invZ);
+
+        DoubleDoubleReal res = DoubleDoubleReal.constantSupplier().zero();
+        for (int k = STIRLING_COEFF.length - 1; k >= 0; k--) {
+            res = res.times(invZ2).plus(STIRLING_COEFF[k]);
+        }
+        res = res.dividedBy(z);
+
+        // (z - 1/2)log(z) - z + log(2pi)/2
+        return z.minus(DoubleDoubleReal.of(0.5)).times(z.log())
+                .minus(z).plus(HALF_LN2PI).plus(res);
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.27
+ */
+package matsu.num.specialfunction.gamma;
+
+import matsu.num.specialfunction.common.Exponentiation;
+
+/**
+ * 対数ガンマ関数の高速近似計算.
+ * 
+ * <p>
+ * {@link LGammaCalculation} と同じ領域分割で計算するが,
+ * 近似多項式の次数を下げている. <br>
+ * 相対誤差は 1E-7 以下である.
+ * (<i>x</i> = 1, 2 の近傍でも,
+ * log<sub>e</sub>&Gamma;(<i>x</i>) の零点を因子として分離しているため相対誤差が保たれる.)
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class LGammaFastCalculation {
+
+    private static final double BOUNDARY_X_FOR_ASYMPTOTIC = 2.5;
+
+    // = 0.5 * Math.log(2 * Math.PI)
+    private static final double HALF_LN2PI = 0.9189385332046727;
+
+    /**
+     * 唯一のコンストラクタ.
+     */
+    public LGammaFastCalculation() {
+        super();
+    }
+
+    /**
+     * log<sub>e</sub>&Gamma;(<i>x</i>) を計算する.
+     * 
+     * @param x
+     * @return lgamma(x)
+     */
+    public double lgamma(double x) {
+        /*
+         * x < 0: NaN
+         * x = 0: +inf
+         * x = +inf: +inf
+         */
+
+        if (!(x >= 0)) {
+            return Double.NaN;
+        }
+
+        if (x >= BOUNDARY_X_FOR_ASYMPTOTIC) {
+            return lgammaStirlRes_largeX(x)
+                    + (x - 0.5) * (Exponentiation.log(x) - 1) - 0.5 + HALF_LN2PI;
+        }
+
+        // ここに来た段階で2.5を下回っていてほしい
+        // BOUNDARY_X_FOR_ASYMPTOTIC == 2.5 であるはず.
+        assert x <= 2.5;
+
+        switch ((int) (x * 2)) {
+            case 0:
+                return lgamma1p_smallX(x) - Exponentiation.log(x);
+            case 1, 2:
+                return lgamma1p_smallX(x - 1d);
+            default:
+                return lgamma2p_smallX(x - 2d);
+        }
+    }
+
+    /**
+     * logΓ(x)-(x-0.5)log(x)+x-0.5*log(2π) を返す.
+     * {@literal 2.5 <= x}の場合.
+     */
+    private double lgammaStirlRes_largeX(double x) {
+        assert x >= BOUNDARY_X_FOR_ASYMPTOTIC;
+
+        final double C0 = 0.083333330880535423614962511558929;
+        final double C1 = -0.0027772827332367671189281431065993;
+        final double C2 = 0.00077741201522915834678216731947878;
+        final double C3 = -0.00041150514554874742879698839973280;
+
+        // スターリング近似の残差
+        final double t = 1 / x;
+        final double u = t * t;
+
+        return t * (C0 + C1 * u + (C2 + C3 * u) * (u * u));
+    }
+
+    /**
+     * logΓ(2+x) を返す.
+     * {@literal -0.5 <= x <= 0.5}の場合.
+     */
+    private double lgamma2p_smallX(double x) {
+        assert x >= -0.5;
+        assert x <= 0.5;
+
+        return x >= 0
+                ? lgamma2p_smallX_0_to_0_5(x)
+                : lgamma2p_smallX_m0_5_to_0(x);
+    }
+
+    /**
+     * {@literal -0.5 <= x <= 0}の場合.
+     */
+    private double lgamma2p_smallX_m0_5_to_0(double x) {
+        assert x >= -0.5;
+        assert x <= 0;
+
+        final double C0 = 0.42278433396507780379835134774799;
+        final double C1 = 0.32246681178342489400283042151155;
+        final double C2 = -0.067359311189952846636075832994164;
+        final double C3 = 0.020498619270296059416511173900127;
+        final double C4 = -0.0078364990445370029037071932291768;
+        final double C5 = 0.0016608079066005259031291822766045;
+        final double C6 = -0.0027273408302303152711248408961341;
+
+        final double x2 = x * x;
+        final double v0 = C0 + C1 * x + x2 * (C2 + C3 * x);
+        final double v4 = C4 + C5 * x + x2 * C6;
+
+        final double x4 = x2 * x2;
+
+        return x * (v0 + x4 * v4);
+    }
+
+    /**
+     * {@literal 0 <= x <= 0.5}の場合.
+     */
+    private double lgamma2p_smallX_0_to_0_5(double x) {
+        assert x >= 0;
+        assert x <= 0.5;
+
+        final double C0 = 0.42278434014303920942163764876290;
+        final double C1 = 0.32246630488194043118351100912906;
+        final double C2 = -0.067335044544593887471308661080451;
+        final double C3 = 0.020428901651170364540797294930308;
+        final double C4 = -0.0067636191637061582289036233288687;
+        final double C5 = 0.0016360691329182143718793134798866;
+
+        final double x2 = x * x;
+        final double v0 = C0 + C1 * x + x2 * (C2 + C3 * x);
+        final double v4 = C4 + C5 * x;
+
+        final double x4 = x2 * x2;
+
+        return x * (v0 + x4 * v4);
+    }
+
+    /**
+     * logΓ(1+x) を返す.
+     * {@literal -0.5 <= x <= 0.5}の場合.
+     */
+    private double lgamma1p_smallX(double x) {
+        assert x >= -0.5;
+        assert x <= 0.5;
+
+        return x >= 0
+                ? lgamma1p_smallX_0_to_0_5(x)
+                : (x >= -0.25
+                        ? lgamma1p_smallX_m0_25_to_0(x)
+                        : lgamma1p_smallX_m0_5_to_m0_25(x));
+    }
+
+    /**
+     * {@literal -0.5 <= x <= -0.25}の場合.
+     */
+    private double lgamma1p_smallX_m0_5_to_m0_25(double x) {
+        assert x >= -0.5;
+        assert x <= -0.25;
+
+        final double x_shift = -0.375;
+        final double s = x - x_shift;
+
+        final double C0 = -0.96221198550056845870902046376354;
+        final double C1 = 1.3079914007353417920556038054020;
+        final double C2 = -1.0469388725848274616930068915150;
+        final double C3 = 1.1497754649823202012589050267858;
+        final double C4 = -1.4179971811296425027553777488367;
+        final double C5 = 1.8571208533510200119419074169212;
+        final double C6 = -2.6862239943694906070921058231787;
+        final double C7 = 3.7423168570895925623341551747928;
+
+        final double s2 = s * s;
+        final double v0 = C0 + C1 * s + s2 * (C2 + C3 * s);
+        final double v4 = C4 + C5 * s + s2 * (C6 + C7 * s);
+
+        final double s4 = s2 * s2;
+
+        return x * (v0 + s4 * v4);
+    }
+
+    /**
+     * {@literal -0.25 <= x <= 0}の場合.
+     */
+    private double lgamma1p_smallX_m0_25_to_0(double x) {
+        assert x >= -0.25;
+        assert x <= 0;
+
+        final double C0 = -0.57721566710426932078450265273874;
+        final double C1 = 0.82246617192787197119883258846851;
+        final double C2 = -0.40074012366318356719108903460592;
+        final double C3 = 0.26930339821688787080427352341020;
+        final double C4 = -0.22139750320745395598450773629548;
+        final double C5 = 0.093193598362997755257658783986433;
+        final double C6 = -0.33434050662479415740456963170941;
+
+        final double x2 = x * x;
+        final double v0 = C0 + C1 * x + x2 * (C2 + C3 * x);
+        final double v4 = C4 + C5 * x + x2 * C6;
+
+        final double x4 = x2 * x2;
+
+        return x * (v0 + x4 * v4);
+    }
+
+    /**
+     * {@literal 0 <= x <= 0.5}の場合.
+     */
+    private double lgamma1p_smallX_0_to_0_5(double x) {
+        assert x >= 0;
+        assert x <= 0.5;
+
+        final double C0 = -0.57721566205900367852797972408437;
+        final double C1 = 0.82246630322344842180008016717144;
+        final double C2 = -0.40065442588574691380216231859835;
+        final double C3 = 0.27006420195272584226986527864935;
+        final double C4 = -0.20308626544772711181107498113540;
+        final double C5 = 0.14935679933391348945074107070077;
+        final double C6 = -0.087390940581783035544311263174656;
+        final double C7 = 0.027467959798135086941840393071419;
+
+        final double x2 = x * x;
+        final double v0 = C0 + C1 * x + x2 * (C2 + C3 * x);
+        final double v4 = C4 + C5 * x + x2 * (C6 + C7 * x);
+
+        final double x4 = x2 * x2;
+
+        return x * (v0 + x4 * v4);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.30
+ */
+package matsu.num.specialfunction.icbeta;
+
+import java.nio.ByteBuffer;
+import java.util.stream.DoubleStream;
+
+import matsu.num.specialfunction.IncompleteBetaFunction;
+import matsu.num.specialfunction.common.CompiledFunction;
+import matsu.num.specialfunction.common.PiecewiseChebyshevApproximation;
+
+/**
+ * 指定した区間において,
+ * 正則化不完全ベータ関数を区分的 Chebyshev 補間で計算する不完全ベータ関数.
+ * 
+ * <p>
+ * 区間外, および補間が採用されなかった小区間では, 元のインスタンスにより計算する. <br>
+ * オッズは常に元のインスタンスにより計算する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class CompiledICBeta implements IncompleteBetaFunction, CompiledFunction {
+
+    private final IncompleteBetaFunction original;
+    private final double xMin;
+    private final double xMax;
+    private final double tolerance;
+
+    private final PiecewiseChebyshevApproximation approx;
+    private final PiecewiseChebyshevApproximation approxR;
+
+    /**
+     * 区分的 Chebyshev 補間を構築する.
+     * 
+     * <p>
+     * 引数のバリデーションは行われていない.
+     * </p>
+     * 
+     * @param original 元のインスタンス
+     * @param xMin 区間の下端
+     * @param xMax 区間の上端
+     * @param tolerance 許容誤差
+     */
+    CompiledICBeta(IncompleteBetaFunction original, double xMin, double xMax, double tolerance) {
+        super();
+        this.original = original;
+        this.xMin = xMin;
+        this.xMax = xMax;
+        this.tolerance = tolerance;
+        this.approx = PiecewiseChebyshevApproximation.of(original::ribeta, xMin, xMax, tolerance);
+        this.approxR = PiecewiseChebyshevApproximation.of(original::ribetaR, xMin, xMax, tolerance);
+    }
+
+    /**
+     * {@link #writeTo(ByteBuffer)} により書き出された表を読み込んで構築する.
+     *
+     * @param original 元のインスタンス
+     * @param xMin 区間の下端
+     * @param xMax 区間の上端
+     * @param tolerance 許容誤差
+     * @param src 読み込み元
+     * @throws IllegalArgumentException バイト列が不正の場合
+     */
+    CompiledICBeta(IncompleteBetaFunction original, double xMin, double xMax, double tolerance, ByteBuffer src) {
+        super();
+        this.original = original;
+        this.xMin = xMin;
+        this.xMax = xMax;
+        this.tolerance = tolerance;
+        this.approx = PiecewiseChebyshevApproximation.readFrom(src, original::ribeta);
+        this.approxR = PiecewiseChebyshevApproximation.readFrom(src, original::ribetaR);
+    }
+
+    @Override
+    public double a() {
+        return this.original.a();
+    }
+
+    @Override
+    public double b() {
+        return this.original.b();
+    }
+
+    @Override
+    public double ribeta(double x) {
+        return this.approx.value(x);
+    }
+
+    @Override
+    public double ribetaR(double x) {
+        return this.approxR.value(x);
+    }
+
+    @Override
+    public double ribetaOdds(double oddsX) {
+        return this.original.ribetaOdds(oddsX);
+    }
+
+    /**
+     * 区間内では補間により十分に高速であるため, 各点で {@link #ribeta(double)} を計算する.
+     */
+    @Override
+    public double[] ribetaAlongAscending(double[] x) {
+        double[] out = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            out[i] = this.ribeta(x[i]);
+        }
+        return out;
+    }
+
+    @Override
+    public DoubleStream ribetaAlongAscending(DoubleStream x) {
+        return x.sequential().map(this::ribeta);
+    }
+
+    /**
+     * パラメータが異なるため, 元のインスタンスにより計算する.
+     */
+    @Override
+    public double[] ribetaOverShiftedA(double x, int maxShift) {
+        return this.original.ribetaOverShiftedA(x, maxShift);
+    }
+
+    /**
+     * パラメータが異なるため, 元のインスタンスにより計算する.
+     */
+    @Override
+    public double[] ribetaOverShiftedB(double x, int maxShift) {
+        return this.original.ribetaOverShiftedB(x, maxShift);
+    }
+
+    @Override
+    public IncompleteBetaFunction compile(double xMin, double xMax, double tolerance) {
+        return this.original.compile(xMin, xMax, tolerance);
+    }
+
+    @Override
+    public double xMin() {
+        return this.xMin;
+    }
+
+    @Override
+    public double xMax() {
+        return this.xMax;
+    }
+
+    @Override
+    public double tolerance() {
+        return this.tolerance;
+    }
+
+    @Override
+    public int serializedSize() {
+        return this.approx.serializedSize() + this.approxR.serializedSize();
+    }
+
+    @Override
+    public void writeTo(ByteBuffer dst) {
+        this.approx.writeTo(dst);
+        this.approxR.writeTo(dst);
+    }
+
+    /**
+     * このインスタンスの文字列表現を提供する.
+     * 
+     * <p>
+     * 概ね, 次のような表現であろう.
+     * ただし, バージョン間の互換性は担保されていない. <br>
+     * {@code IncompleteBetaFunction(a = %a, b = %b, compiled in [%xMin, %xMax])}
+     * </p>
+     */
+    @Override
+    public String toString() {
+        return "IncompleteBetaFunction(a = %s, b = %s, compiled in [%s, %s])"
+                .formatted(this.a(), this.b(), this.xMin, this.xMax);
+    }
+}
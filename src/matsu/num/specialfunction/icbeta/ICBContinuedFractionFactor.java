@@ -9,6 +9,9 @@
  */
 package matsu.num.specialfunction.icbeta;
 
+import matsu.num.specialfunction.common.Instrumentation;
+import matsu.num.specialfunction.common.IterativeLoop;
+
 /**
  * 不完全ベータ関数の計算における連分数ファクターを扱う.
  * 
@@ -98,9 +101,11 @@ final class ICBContinuedFractionFactor {
             f0 = a0 / b0;
             f1 = a1 / b1;
             if (Math.abs(f1 - f0) < EPSILON_A_FOR_FACTOR_F + Math.abs(f1) * EPSILON_R_FOR_FACTOR_F) {
+                Instrumentation.iterations(IterativeLoop.ICBETA_FACTOR, n, true);
                 return f1;
             }
         }
+        Instrumentation.iterations(IterativeLoop.ICBETA_FACTOR, n, false);
         return a1 / b1;
     }
 
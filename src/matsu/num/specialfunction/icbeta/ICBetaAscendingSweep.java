@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.1
+ */
+package matsu.num.specialfunction.icbeta;
+
+import matsu.num.specialfunction.common.AscendingCumulativeSweep;
+
+/**
+ * 昇順の <i>x</i> の列に沿って, 正則化不完全ベータ関数 <i>I</i>(<i>a</i>, <i>b</i>, <i>x</i>) を順に計算する.
+ * 
+ * <p>
+ * 密度 <i>d</i>(<i>x</i>) = <i>x</i><sup><i>a</i>-1</sup> <i>y</i><sup><i>b</i>-1</sup>/B(<i>a</i>, <i>b</i>)
+ * (<i>y</i> = 1 - <i>x</i>) は
+ * <i>x</i><i>y</i><i>d</i>' = [(<i>a</i> - 1)<i>y</i> - (<i>b</i> - 1)<i>x</i>]<i>d</i>
+ * を満たすので, <br>
+ * <i>p</i><sub>0</sub> = <i>x</i><sub>0</sub><i>y</i><sub>0</sub>,
+ * <i>q</i><sub>0</sub> = (<i>a</i> - 1)<i>y</i><sub>0</sub> - (<i>b</i> - 1)<i>x</i><sub>0</sub>
+ * として, <br>
+ * &alpha; = <i>q</i><sub>0</sub><i>h</i>/<i>p</i><sub>0</sub>,
+ * &beta; = -(<i>y</i><sub>0</sub> - <i>x</i><sub>0</sub>)<i>h</i>/<i>p</i><sub>0</sub>,
+ * &gamma; = -(<i>a</i> + <i>b</i> - 1)<i>h</i><sup>2</sup>/<i>p</i><sub>0</sub>,
+ * &delta; = <i>h</i><sup>2</sup>/<i>p</i><sub>0</sub> <br>
+ * である.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class ICBetaAscendingSweep extends AscendingCumulativeSweep {
+
+    /**
+     * 収束半径 min(x0, y0) に対する幅の比の上限.
+     */
+    private static final double MAX_STEP_RATIO = 0.25;
+
+    private final SkeletalICBeta original;
+    private final double a;
+    private final double b;
+
+    /**
+     * 唯一のコンストラクタ.
+     * 
+     * @param original 基準点の計算を行うインスタンス
+     */
+    ICBetaAscendingSweep(SkeletalICBeta original) {
+        super();
+        this.original = original;
+        this.a = original.a;
+        this.b = original.b;
+    }
+
+    @Override
+    protected double odds(double x) {
+        double oddsX = x == 1 ? Double.POSITIVE_INFINITY : x / (1 - x);
+        return this.original.ribetaOdds(oddsX);
+    }
+
+    @Override
+    protected double density(double x) {
+        double y = 1 - x;
+        return this.original.coeffToICBeta(x, y) / (x * y);
+    }
+
+    @Override
+    protected boolean seriesCoefficients(double x0, double h, double[] dest) {
+        double y0 = 1 - x0;
+        if (!(h <= MAX_STEP_RATIO * Math.min(x0, y0))) {
+            return false;
+        }
+        double p0 = x0 * y0;
+        double hOverP0 = h / p0;
+        double h2OverP0 = h * hOverP0;
+        dest[0] = ((this.a - 1) * y0 - (this.b - 1) * x0) * hOverP0;
+        dest[1] = -(y0 - x0) * hOverP0;
+        dest[2] = -(this.a + this.b - 1) * h2OverP0;
+        dest[3] = h2OverP0;
+        return true;
+    }
+}
@@ -11,7 +11,9 @@ package matsu.num.specialfunction.icbeta;
 
 import matsu.num.specialfunction.ErrorFuction;
 import matsu.num.specialfunction.GammaFunction;
+import matsu.num.specialfunction.common.AlgorithmBranch;
 import matsu.num.specialfunction.common.Exponentiation;
+import matsu.num.specialfunction.common.Instrumentation;
 
 /**
  * 不完全ベータ関数の計算(およそ倍精度未満). <br>
@@ -83,12 +85,15 @@ final class ICBetaAtHighParam extends SkeletalICBeta {
         double y = 1 / (1 + oddsX);
 
         if (x < this.xLowerThreshold) {
+            Instrumentation.branch(AlgorithmBranch.ICBETA_LOWER_CONTINUED_FRACTION);
             double lcp = ICBContinuedFractionFactor.factorLowerSide(x, this.a, this.b) * coeffToICBeta(x, y);
             return lcp / (1 - lcp);
         } else if (x > this.xUpperThreshold) {
+            Instrumentation.branch(AlgorithmBranch.ICBETA_UPPER_CONTINUED_FRACTION);
             double ucp = ICBContinuedFractionFactor.factorLowerSide(y, this.b, this.a) * coeffToICBeta(x, y);
             return (1 - ucp) / ucp;
         } else {
+            Instrumentation.branch(AlgorithmBranch.ICBETA_NORMAL_APPROXIMATION_MIDDLE);
             double lcp = aproximate_by_normalDistribution(x, y);
             return lcp / (1 - lcp);
         }
@@ -109,10 +114,8 @@ final class ICBetaAtHighParam extends SkeletalICBeta {
         return corr + 0.5 * ErrorFuction.erfc(-z * INV_SQRT_2);
     }
 
-    /*
-     * x^a y^b / B(a,b) を返す.
-     */
-    private double coeffToICBeta(double x, double y) {
+    @Override
+    double coeffToICBeta(double x, double y) {
         return Exponentiation.exp(
                 this.a * Exponentiation.log(x / this.muX) + this.b * Exponentiation.log(y / this.muY)
                         + this.residualLogFactor);
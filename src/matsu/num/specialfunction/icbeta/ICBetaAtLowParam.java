@@ -10,7 +10,9 @@
 package matsu.num.specialfunction.icbeta;
 
 import matsu.num.specialfunction.GammaFunction;
+import matsu.num.specialfunction.common.AlgorithmBranch;
 import matsu.num.specialfunction.common.Exponentiation;
+import matsu.num.specialfunction.common.Instrumentation;
 
 /**
  * 不完全ベータ関数の計算(およそ倍精度未満). <br>
@@ -52,18 +54,18 @@ final class ICBetaAtLowParam extends SkeletalICBeta {
         final double y = 1 / (1 + oddsX);
 
         if (oddsX < this.oddsThreshold) {
+            Instrumentation.branch(AlgorithmBranch.ICBETA_LOWER_CONTINUED_FRACTION);
             double lcp = ICBContinuedFractionFactor.factorLowerSide(x, this.a, this.b) * coeffToICBeta(x, y);
             return lcp / (1 - lcp);
         } else {
+            Instrumentation.branch(AlgorithmBranch.ICBETA_UPPER_CONTINUED_FRACTION);
             double ucp = ICBContinuedFractionFactor.factorLowerSide(y, this.b, this.a) * coeffToICBeta(x, y);
             return (1 - ucp) / ucp;
         }
     }
 
-    /*
-     * x^a y^b / B(a,b) を返す.
-     */
-    private double coeffToICBeta(double x, double y) {
+    @Override
+    double coeffToICBeta(double x, double y) {
         return Exponentiation.exp(this.a * Exponentiation.log(x) + this.b * Exponentiation.log(y) - this.lnBetaAB);
     }
 }
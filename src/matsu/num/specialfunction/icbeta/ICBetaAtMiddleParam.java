@@ -10,7 +10,9 @@
 package matsu.num.specialfunction.icbeta;
 
 import matsu.num.specialfunction.GammaFunction;
+import matsu.num.specialfunction.common.AlgorithmBranch;
 import matsu.num.specialfunction.common.Exponentiation;
+import matsu.num.specialfunction.common.Instrumentation;
 
 /**
  * 不完全ベータ関数の計算(およそ倍精度未満). <br>
@@ -78,17 +80,21 @@ final class ICBetaAtMiddleParam extends SkeletalICBeta {
         double y = 1 / (1 + oddsX);
 
         if (x < this.xLowerThreshold) {
+            Instrumentation.branch(AlgorithmBranch.ICBETA_LOWER_CONTINUED_FRACTION);
             double lcp = ICBContinuedFractionFactor.factorLowerSide(x, this.a, this.b) * coeffToICBeta(x, y);
             return lcp / (1 - lcp);
         } else if (x > this.xUpperThreshold) {
+            Instrumentation.branch(AlgorithmBranch.ICBETA_UPPER_CONTINUED_FRACTION);
             double ucp = ICBContinuedFractionFactor.factorLowerSide(y, this.b, this.a) * coeffToICBeta(x, y);
             return (1 - ucp) / ucp;
         } else {
             if (x < this.muX) {
+                Instrumentation.branch(AlgorithmBranch.ICBETA_SHIFTED_LOWER_CONTINUED_FRACTION);
                 int shift = (int) (this.combinedAB * (x - this.xLowerThreshold)) + 1;
                 double lcp = factorLowerSideWithShift(x, y, this.a, this.b, shift) * coeffToICBeta(x, y);
                 return lcp / (1 - lcp);
             } else {
+                Instrumentation.branch(AlgorithmBranch.ICBETA_SHIFTED_UPPER_CONTINUED_FRACTION);
                 int shift = (int) (this.combinedAB * (this.xUpperThreshold - x)) + 1;
                 double ucp = factorLowerSideWithShift(y, x, this.b, this.a, shift) * coeffToICBeta(x, y);
                 return (1 - ucp) / ucp;
@@ -114,10 +120,8 @@ final class ICBetaAtMiddleParam extends SkeletalICBeta {
         return out;
     }
 
-    /*
-     * x^a y^b / B(a,b) を返す.
-     */
-    private double coeffToICBeta(double x, double y) {
+    @Override
+    double coeffToICBeta(double x, double y) {
         return Exponentiation.exp(
                 this.a * Exponentiation.log(x / this.muX) + this.b * Exponentiation.log(y / this.muY)
                         + this.residualLogFactor);
@@ -5,10 +5,12 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.7.5
+ * 2025.7.30
  */
 package matsu.num.specialfunction.icbeta;
 
+import java.nio.ByteBuffer;
+
 import matsu.num.specialfunction.IncompleteBetaFunction;
 
 /**
@@ -41,6 +43,23 @@ public final class ICBetaFactory {
             throw new IllegalArgumentException(
                     "Illegal parameter: a = %s, b = %s".formatted(a, b));
         }
+        return skeletalInstanceOf(a, b);
+    }
+
+    /**
+     * 指定したパラメータの不完全ベータ関数計算インスタンスを,
+     * 骨格実装の型で返す.
+     * 
+     * <p>
+     * バリデーションされないので公開してはならない. <br>
+     * パラメータは {@link IncompleteBetaFunction#acceptsParameter(double, double)} に適合すること.
+     * </p>
+     *
+     * @param a パラメータa
+     * @param b パラメータb
+     * @return パラメータa,bの不完全ベータ関数計算インスタンス
+     */
+    static SkeletalICBeta skeletalInstanceOf(double a, double b) {
         double minAB = Math.min(a, b);
         if (minAB <= AB_THRESHOLD_FIRST) {
             return new ICBetaAtLowParam(a, b);
@@ -50,4 +69,26 @@ public final class ICBetaFactory {
         }
         return new ICBetaAtHighParam(a, b);
     }
+
+    /**
+     * {@link IncompleteBetaFunction#compile(double, double, double)} により構築され,
+     * 表として書き出されたインスタンスを, 表を読み込んで再構築する.
+     *
+     * <p>
+     * 表はバッファの現在位置から読み込まれ, 位置が進められる.
+     * </p>
+     *
+     * @param a パラメータa
+     * @param b パラメータb
+     * @param xMin 区間の下端
+     * @param xMax 区間の上端
+     * @param tolerance 構築時の許容誤差
+     * @param src 読み込み元
+     * @return 再構築されたインスタンス
+     * @throws IllegalArgumentException パラメータが範囲外の場合, バイト列が不正の場合
+     */
+    public static IncompleteBetaFunction restoreCompiled(
+            double a, double b, double xMin, double xMax, double tolerance, ByteBuffer src) {
+        return new CompiledICBeta(instanceOf(a, b), xMin, xMax, tolerance, src);
+    }
 }
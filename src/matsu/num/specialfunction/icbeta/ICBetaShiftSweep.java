@@ -0,0 +1,167 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.2
+ */
+package matsu.num.specialfunction.icbeta;
+
+import java.util.Arrays;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * パラメータを整数だけシフトした正則化不完全ベータ関数の列
+ * <i>I</i>(<i>a</i> + <i>j</i>, <i>b</i>, <i>x</i>),
+ * <i>I</i>(<i>a</i>, <i>b</i> + <i>k</i>, <i>x</i>)
+ * を計算する.
+ * 
+ * <p>
+ * 隣接関係式 <br>
+ * <i>I</i>(<i>a</i> + <i>j</i>, <i>b</i>, <i>x</i>) =
+ * <i>I</i>(<i>a</i> + <i>j</i> + 1, <i>b</i>, <i>x</i>) + <i>t</i><sub><i>j</i></sub>, <br>
+ * <i>t</i><sub><i>j</i></sub> =
+ * <i>x</i><sup><i>a</i>+<i>j</i></sup> <i>y</i><sup><i>b</i></sup> /
+ * ((<i>a</i> + <i>j</i>) B(<i>a</i> + <i>j</i>, <i>b</i>)), <br>
+ * <i>I</i>(<i>a</i>, <i>b</i> + <i>k</i> + 1, <i>x</i>) =
+ * <i>I</i>(<i>a</i>, <i>b</i> + <i>k</i>, <i>x</i>) + <i>u</i><sub><i>k</i></sub>, <br>
+ * <i>u</i><sub><i>k</i></sub> =
+ * <i>x</i><sup><i>a</i></sup> <i>y</i><sup><i>b</i>+<i>k</i></sup> /
+ * ((<i>b</i> + <i>k</i>) B(<i>a</i>, <i>b</i> + <i>k</i>))
+ * <br>
+ * (<i>y</i> = 1 - <i>x</i>) を用いる. <br>
+ * いずれも正の値の加算のみとなる向き (<i>a</i> のシフトでは <i>j</i> の降順,
+ * <i>b</i> のシフトでは <i>k</i> の昇順) に適用するため, 桁落ちは生じない. <br>
+ * 直接計算は, 加算の起点となる1点のみで行う.
+ * </p>
+ * 
+ * <p>
+ * 加算項は, シフト量について最大となる点で直接計算し,
+ * そこから両側へ隣接項の比の乗除により求める. <br>
+ * これにより, アンダーフローするのは真に微小な項のみとなる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class ICBetaShiftSweep {
+
+    private ICBetaShiftSweep() {
+        throw new AssertionError();
+    }
+
+    /**
+     * <i>I</i>(<i>a</i> + <i>j</i>, <i>b</i>, <i>x</i>) (<i>j</i> = 0, 1, ..., maxShift)
+     * を計算する.
+     * 
+     * <p>
+     * 引数のバリデーションは行われていない. <br>
+     * (<i>a</i> + maxShift, <i>b</i>) はパラメータの範囲内でなければならない.
+     * </p>
+     * 
+     * @param original パラメータ (<i>a</i>, <i>b</i>) のインスタンス
+     * @param x x
+     * @param maxShift シフト量の最大値, 0以上
+     * @return <i>I</i>(<i>a</i> + <i>j</i>, <i>b</i>, <i>x</i>) の配列 (長さ maxShift + 1)
+     */
+    static double[] sequenceOverA(SkeletalICBeta original, double x, int maxShift) {
+        double[] out = new double[maxShift + 1];
+        if (!isRegular(x)) {
+            Arrays.fill(out, original.ribeta(x));
+            return out;
+        }
+        if (maxShift == 0) {
+            out[0] = original.ribeta(x);
+            return out;
+        }
+
+        double a = original.a;
+        double b = original.b;
+        double y = 1 - x;
+        out[maxShift] = ICBetaFactory.skeletalInstanceOf(a + maxShift, b).ribeta(x);
+
+        double[] t = terms(a, b, x, maxShift,
+                j -> ICBetaFactory.skeletalInstanceOf(a + j, b).coeffToICBeta(x, y) / (a + j));
+        for (int j = maxShift - 1; j >= 0; j--) {
+            out[j] = Math.min(1d, out[j + 1] + t[j]);
+        }
+        return out;
+    }
+
+    /**
+     * <i>I</i>(<i>a</i>, <i>b</i> + <i>k</i>, <i>x</i>) (<i>k</i> = 0, 1, ..., maxShift)
+     * を計算する.
+     * 
+     * <p>
+     * 引数のバリデーションは行われていない. <br>
+     * (<i>a</i>, <i>b</i> + maxShift) はパラメータの範囲内でなければならない.
+     * </p>
+     * 
+     * @param original パラメータ (<i>a</i>, <i>b</i>) のインスタンス
+     * @param x x
+     * @param maxShift シフト量の最大値, 0以上
+     * @return <i>I</i>(<i>a</i>, <i>b</i> + <i>k</i>, <i>x</i>) の配列 (長さ maxShift + 1)
+     */
+    static double[] sequenceOverB(SkeletalICBeta original, double x, int maxShift) {
+        double[] out = new double[maxShift + 1];
+        if (!isRegular(x)) {
+            Arrays.fill(out, original.ribeta(x));
+            return out;
+        }
+        out[0] = original.ribeta(x);
+        if (maxShift == 0) {
+            return out;
+        }
+
+        double a = original.a;
+        double b = original.b;
+        double y = 1 - x;
+
+        double[] u = terms(b, a, y, maxShift,
+                k -> ICBetaFactory.skeletalInstanceOf(a, b + k).coeffToICBeta(x, y) / (b + k));
+        for (int k = 0; k < maxShift; k++) {
+            out[k + 1] = Math.min(1d, out[k] + u[k]);
+        }
+        return out;
+    }
+
+    /**
+     * 漸化式を適用すべき x かを判定する. <br>
+     * そうでない x (範囲外, NaN, 0, 1) では, 値はパラメータに依らない.
+     */
+    private static boolean isRegular(double x) {
+        return x > 0 && x < 1;
+    }
+
+    /**
+     * 加算項
+     * <i>s</i><sup><i>p</i>+<i>j</i></sup> (1 - <i>s</i>)<sup><i>q</i></sup> /
+     * ((<i>p</i> + <i>j</i>) B(<i>p</i> + <i>j</i>, <i>q</i>))
+     * (<i>j</i> = 0, 1, ..., count - 1)
+     * を計算する.
+     * 
+     * @param p シフトされるパラメータ
+     * @param q 固定されるパラメータ
+     * @param s p に対応する変数, 0 &lt; s &lt; 1
+     * @param count 項数, 1以上
+     * @param peakTerm 指定した j における加算項を直接計算する関数
+     * @return 加算項の配列 (長さ count)
+     */
+    private static double[] terms(double p, double q, double s, int count, IntToDoubleFunction peakTerm) {
+        double[] t = new double[count];
+
+        // t_{j+1}/t_j = s(p+q+j)/(p+j+1) であるから,
+        // t_j は j ≒ (s(p+q) - p - 1)/(1-s) で最大となる
+        double peakEstimate = Math.ceil((s * (p + q) - p - 1) / (1 - s));
+        int peak = (int) Math.min(count - 1, Math.max(0d, peakEstimate));
+        t[peak] = peakTerm.applyAsDouble(peak);
+        for (int j = peak + 1; j < count; j++) {
+            t[j] = t[j - 1] * (s * ((p + q + j - 1) / (p + j)));
+        }
+        for (int j = peak - 1; j >= 0; j--) {
+            t[j] = t[j + 1] * (((p + j + 1) / (p + q + j)) / s);
+        }
+        return t;
+    }
+}
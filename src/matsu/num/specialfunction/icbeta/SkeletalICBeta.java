@@ -5,10 +5,12 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.7.6
+ * 2025.7.29
  */
 package matsu.num.specialfunction.icbeta;
 
+import java.util.stream.DoubleStream;
+
 import matsu.num.specialfunction.IncompleteBetaFunction;
 
 /**
@@ -86,6 +88,49 @@ abstract class SkeletalICBeta implements IncompleteBetaFunction {
         return this.oddsValue(oddsX);
     }
 
+    @Override
+    public final IncompleteBetaFunction compile(double xMin, double xMax, double tolerance) {
+        if (!(xMin >= 0 && xMin < xMax && xMax <= 1)) {
+            throw new IllegalArgumentException(
+                    "Illegal range: xMin = %s, xMax = %s".formatted(xMin, xMax));
+        }
+        return new CompiledICBeta(this, xMin, xMax, tolerance);
+    }
+
+    @Override
+    public final double[] ribetaAlongAscending(double[] x) {
+        ICBetaAscendingSweep sweep = new ICBetaAscendingSweep(this);
+        double[] out = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            out[i] = sweep.nextLower(x[i]);
+        }
+        return out;
+    }
+
+    @Override
+    public final DoubleStream ribetaAlongAscending(DoubleStream x) {
+        ICBetaAscendingSweep sweep = new ICBetaAscendingSweep(this);
+        return sweep.lowerAlong(x);
+    }
+
+    @Override
+    public final double[] ribetaOverShiftedA(double x, int maxShift) {
+        if (!(maxShift >= 0 && IncompleteBetaFunction.acceptsParameter(this.a + maxShift, this.b))) {
+            throw new IllegalArgumentException(
+                    "Illegal shift: a = %s, b = %s, maxShift = %s".formatted(this.a, this.b, maxShift));
+        }
+        return ICBetaShiftSweep.sequenceOverA(this, x, maxShift);
+    }
+
+    @Override
+    public final double[] ribetaOverShiftedB(double x, int maxShift) {
+        if (!(maxShift >= 0 && IncompleteBetaFunction.acceptsParameter(this.a, this.b + maxShift))) {
+            throw new IllegalArgumentException(
+                    "Illegal shift: a = %s, b = %s, maxShift = %s".formatted(this.a, this.b, maxShift));
+        }
+        return ICBetaShiftSweep.sequenceOverB(this, x, maxShift);
+    }
+
     /**
      * 引数として x のオッズを与えて,
      * 正則化不完全ベータ関数のオッズを計算する抽象メソッド.
@@ -103,6 +148,20 @@ abstract class SkeletalICBeta implements IncompleteBetaFunction {
      */
     abstract double oddsValue(double oddsX);
 
+    /**
+     * x<sup>a</sup> y<sup>b</sup> / B(a,b) を計算する抽象メソッド.
+     * 
+     * <p>
+     * この抽象メソッドは内部から呼ばれることを想定している. <br>
+     * この抽象メソッドは公開すべきでない.
+     * </p>
+     * 
+     * @param x x, 0 &lt; x &lt; 1
+     * @param y y = 1 - x
+     * @return x<sup>a</sup> y<sup>b</sup> / B(a,b)
+     */
+    abstract double coeffToICBeta(double x, double y);
+
     /**
      * {@linkplain IncompleteBetaFunction}向けの文字列表現を提供する.
      * 
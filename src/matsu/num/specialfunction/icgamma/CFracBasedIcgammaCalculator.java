@@ -136,6 +136,16 @@ final class CFracBasedIcgammaCalculator {
         return this.coeffToLCPCalc.calc(x, out * (a / x));
     }
 
+    /**
+     * x^a e^{-x}/(Γ(a+1)) の値を返す.
+     * 
+     * @param x x
+     * @return x^a e^{-x}/(Γ(a+1))
+     */
+    final double coeffToLCP(double x) {
+        return this.coeffToLCPCalc.calc(x, 1d);
+    }
+
     /**
      * a に対応するインスタンスを返す.
      * 
@@ -199,7 +209,7 @@ final class CFracBasedIcgammaCalculator {
      */
     private static final class CoefficientCalculatorHighParam implements CoefficientCalculator {
 
-        private static final double HALF_LN2PI = 0.5 * Math.log(2 * Math.PI);
+        private static final double HALF_LN2PI = 0.5 * Exponentiation.log(2 * Math.PI);
 
         private final double a;
 
@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.30
+ */
+package matsu.num.specialfunction.icgamma;
+
+import java.nio.ByteBuffer;
+import java.util.stream.DoubleStream;
+
+import matsu.num.specialfunction.IncompleteGammaFunction;
+import matsu.num.specialfunction.common.CompiledFunction;
+import matsu.num.specialfunction.common.PiecewiseChebyshevApproximation;
+
+/**
+ * 指定した区間において,
+ * 正則化不完全ガンマ関数を区分的 Chebyshev 補間で計算する不完全ガンマ関数.
+ * 
+ * <p>
+ * 区間外, および補間が採用されなかった小区間では, 元のインスタンスにより計算する. <br>
+ * オッズは常に元のインスタンスにより計算する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class CompiledICGamma implements IncompleteGammaFunction, CompiledFunction {
+
+    private final IncompleteGammaFunction original;
+    private final double xMin;
+    private final double xMax;
+    private final double tolerance;
+
+    private final PiecewiseChebyshevApproximation approxP;
+    private final PiecewiseChebyshevApproximation approxQ;
+
+    /**
+     * 区分的 Chebyshev 補間を構築する.
+     * 
+     * <p>
+     * 引数のバリデーションは行われていない.
+     * </p>
+     * 
+     * @param original 元のインスタンス
+     * @param xMin 区間の下端
+     * @param xMax 区間の上端
+     * @param tolerance 許容誤差
+     */
+    CompiledICGamma(IncompleteGammaFunction original, double xMin, double xMax, double tolerance) {
+        super();
+        this.original = original;
+        this.xMin = xMin;
+        this.xMax = xMax;
+        this.tolerance = tolerance;
+        this.approxP = PiecewiseChebyshevApproximation.of(original::rigammaP, xMin, xMax, tolerance);
+        this.approxQ = PiecewiseChebyshevApproximation.of(original::rigammaQ, xMin, xMax, tolerance);
+    }
+
+    /**
+     * {@link #writeTo(ByteBuffer)} により書き出された表を読み込んで構築する.
+     *
+     * @param original 元のインスタンス
+     * @param xMin 区間の下端
+     * @param xMax 区間の上端
+     * @param tolerance 許容誤差
+     * @param src 読み込み元
+     * @throws IllegalArgumentException バイト列が不正の場合
+     */
+    CompiledICGamma(IncompleteGammaFunction original, double xMin, double xMax, double tolerance, ByteBuffer src) {
+        super();
+        this.original = original;
+        this.xMin = xMin;
+        this.xMax = xMax;
+        this.tolerance = tolerance;
+        this.approxP = PiecewiseChebyshevApproximation.readFrom(src, original::rigammaP);
+        this.approxQ = PiecewiseChebyshevApproximation.readFrom(src, original::rigammaQ);
+    }
+
+    @Override
+    public double a() {
+        return this.original.a();
+    }
+
+    @Override
+    public double rigammaP(double x) {
+        return this.approxP.value(x);
+    }
+
+    @Override
+    public double rigammaQ(double x) {
+        return this.approxQ.value(x);
+    }
+
+    @Override
+    public double rigammaOdds(double x) {
+        return this.original.rigammaOdds(x);
+    }
+
+    /**
+     * 区間内では補間により十分に高速であるため, 各点で {@link #rigammaP(double)} を計算する.
+     */
+    @Override
+    public double[] rigammaPAlongAscending(double[] x) {
+        double[] out = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            out[i] = this.rigammaP(x[i]);
+        }
+        return out;
+    }
+
+    /**
+     * 区間内では補間により十分に高速であるため, 各点で {@link #rigammaQ(double)} を計算する.
+     */
+    @Override
+    public double[] rigammaQAlongAscending(double[] x) {
+        double[] out = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            out[i] = this.rigammaQ(x[i]);
+        }
+        return out;
+    }
+
+    @Override
+    public DoubleStream rigammaPAlongAscending(DoubleStream x) {
+        return x.sequential().map(this::rigammaP);
+    }
+
+    @Override
+    public DoubleStream rigammaQAlongAscending(DoubleStream x) {
+        return x.sequential().map(this::rigammaQ);
+    }
+
+    /**
+     * パラメータが異なるため, 元のインスタンスにより計算する.
+     */
+    @Override
+    public double[] rigammaPOverShiftedParameters(double x, int maxShift) {
+        return this.original.rigammaPOverShiftedParameters(x, maxShift);
+    }
+
+    /**
+     * パラメータが異なるため, 元のインスタンスにより計算する.
+     */
+    @Override
+    public double[] rigammaQOverShiftedParameters(double x, int maxShift) {
+        return this.original.rigammaQOverShiftedParameters(x, maxShift);
+    }
+
+    @Override
+    public IncompleteGammaFunction compile(double xMin, double xMax, double tolerance) {
+        return this.original.compile(xMin, xMax, tolerance);
+    }
+
+    @Override
+    public double xMin() {
+        return this.xMin;
+    }
+
+    @Override
+    public double xMax() {
+        return this.xMax;
+    }
+
+    @Override
+    public double tolerance() {
+        return this.tolerance;
+    }
+
+    @Override
+    public int serializedSize() {
+        return this.approxP.serializedSize() + this.approxQ.serializedSize();
+    }
+
+    @Override
+    public void writeTo(ByteBuffer dst) {
+        this.approxP.writeTo(dst);
+        this.approxQ.writeTo(dst);
+    }
+
+    /**
+     * このインスタンスの文字列表現を提供する.
+     * 
+     * <p>
+     * 概ね, 次のような表現であろう.
+     * ただし, バージョン間の互換性は担保されていない. <br>
+     * {@code IncompleteGammaFunction(a = %a, compiled in [%xMin, %xMax])}
+     * </p>
+     */
+    @Override
+    public String toString() {
+        return "IncompleteGammaFunction(a = %s, compiled in [%s, %s])"
+                .formatted(this.a(), this.xMin, this.xMax);
+    }
+}
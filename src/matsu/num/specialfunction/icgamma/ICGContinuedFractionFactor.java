@@ -9,6 +9,9 @@
  */
 package matsu.num.specialfunction.icgamma;
 
+import matsu.num.specialfunction.common.Instrumentation;
+import matsu.num.specialfunction.common.IterativeLoop;
+
 /**
  * 不完全ガンマ関数の計算における連分数ファクターを扱う.
  * 
@@ -95,9 +98,11 @@ final class ICGContinuedFractionFactor {
             f0 = a0 / b0;
             f1 = a1 / b1;
             if (Math.abs(f1 - f0) < EPSILON_A_FOR_FACTOR_F + Math.abs(f1) * EPSILON_R_FOR_FACTOR_F) {
+                Instrumentation.iterations(IterativeLoop.ICGAMMA_LOWER_FACTOR, n, true);
                 return f1;
             }
         }
+        Instrumentation.iterations(IterativeLoop.ICGAMMA_LOWER_FACTOR, n, false);
         return a1 / b1;
     }
 
@@ -160,9 +165,11 @@ final class ICGContinuedFractionFactor {
             f0 = a0 / b0;
             f1 = a1 / b1;
             if (Math.abs(f1 - f0) < EPSILON_A_FOR_FACTOR_F + Math.abs(f1) * EPSILON_R_FOR_FACTOR_F) {
+                Instrumentation.iterations(IterativeLoop.ICGAMMA_UPPER_FACTOR, n, true);
                 return f1;
             }
         }
+        Instrumentation.iterations(IterativeLoop.ICGAMMA_UPPER_FACTOR, n, false);
         return a1 / b1;
     }
 
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.1
+ */
+package matsu.num.specialfunction.icgamma;
+
+import matsu.num.specialfunction.IncompleteGammaFunction;
+import matsu.num.specialfunction.common.AscendingCumulativeSweep;
+
+/**
+ * 昇順の <i>x</i> の列に沿って, 正則化不完全ガンマ関数 <i>P</i>, <i>Q</i> を順に計算する.
+ * 
+ * <p>
+ * 密度 <i>d</i>(<i>x</i>) = <i>x</i><sup><i>a</i>-1</sup> e<sup>-<i>x</i></sup>/&Gamma;(<i>a</i>)
+ * は <i>x</i><i>d</i>' = (<i>a</i> - 1 - <i>x</i>)<i>d</i> を満たすので, <br>
+ * <i>r</i> = <i>h</i>/<i>x</i><sub>0</sub> として, <br>
+ * &alpha; = (<i>a</i> - 1 - <i>x</i><sub>0</sub>)<i>r</i>,
+ * &beta; = -<i>r</i>,
+ * &gamma; = -<i>h</i><i>r</i>,
+ * &delta; = 0 <br>
+ * である.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class ICGammaAscendingSweep extends AscendingCumulativeSweep {
+
+    private final IncompleteGammaFunction original;
+    private final double a;
+    private final CFracBasedIcgammaCalculator coeffCalculator;
+
+    /**
+     * 唯一のコンストラクタ.
+     * 
+     * @param original 基準点の計算を行うインスタンス
+     */
+    ICGammaAscendingSweep(IncompleteGammaFunction original) {
+        super();
+        this.original = original;
+        this.a = original.a();
+        this.coeffCalculator = CFracBasedIcgammaCalculator.of(this.a);
+    }
+
+    @Override
+    protected double odds(double x) {
+        return this.original.rigammaOdds(x);
+    }
+
+    @Override
+    protected double density(double x) {
+        return this.coeffCalculator.coeffToLCP(x) * (this.a / x);
+    }
+
+    @Override
+    protected boolean seriesCoefficients(double x0, double h, double[] dest) {
+        if (!(x0 > 0)) {
+            return false;
+        }
+        double r = h / x0;
+        dest[0] = (this.a - 1 - x0) * r;
+        dest[1] = -r;
+        dest[2] = -h * r;
+        dest[3] = 0d;
+        return true;
+    }
+}
@@ -5,10 +5,12 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.7.24
+ * 2025.7.30
  */
 package matsu.num.specialfunction.icgamma;
 
+import java.nio.ByteBuffer;
+
 import matsu.num.specialfunction.IncompleteGammaFunction;
 
 /**
@@ -26,6 +28,11 @@ public final class ICGammaFactory {
 
     /**
      * 指定したパラメータの不完全ガンマ関数計算インスタンスを返す.
+     * 
+     * <p>
+     * 50以下の整数および半整数のパラメータに対しては,
+     * 閉じた形 (有限和と誤差関数) による実装が選ばれる.
+     * </p>
      *
      * @param a パラメータa
      * @return パラメータaの不完全ガンマ関数計算インスタンス
@@ -37,9 +44,33 @@ public final class ICGammaFactory {
                     "Illegal parameter: a = %s".formatted(a));
         }
 
+        if (ClosedFormICGamma.accepts(a)) {
+            return new ClosedFormICGamma(a);
+        }
         if (a <= A_THRESHOLD) {
             return new WithShiftingICGamma(a);
         }
         return new TemmeTypeICGamma(a);
     }
+
+    /**
+     * {@link IncompleteGammaFunction#compile(double, double, double)} により構築され,
+     * 表として書き出されたインスタンスを, 表を読み込んで再構築する.
+     *
+     * <p>
+     * 表はバッファの現在位置から読み込まれ, 位置が進められる.
+     * </p>
+     *
+     * @param a パラメータa
+     * @param xMin 区間の下端
+     * @param xMax 区間の上端
+     * @param tolerance 構築時の許容誤差
+     * @param src 読み込み元
+     * @return 再構築されたインスタンス
+     * @throws IllegalArgumentException パラメータが範囲外の場合, バイト列が不正の場合
+     */
+    public static IncompleteGammaFunction restoreCompiled(
+            double a, double xMin, double xMax, double tolerance, ByteBuffer src) {
+        return new CompiledICGamma(instanceOf(a), xMin, xMax, tolerance, src);
+    }
 }
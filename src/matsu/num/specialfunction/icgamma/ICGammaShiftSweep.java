@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.8.2
+ */
+package matsu.num.specialfunction.icgamma;
+
+import java.util.Arrays;
+
+import matsu.num.specialfunction.IncompleteGammaFunction;
+
+/**
+ * パラメータを整数だけシフトした正則化不完全ガンマ関数の列
+ * <i>P</i>(<i>a</i> + <i>k</i>, <i>x</i>), <i>Q</i>(<i>a</i> + <i>k</i>, <i>x</i>)
+ * (<i>k</i> = 0, 1, ..., <i>K</i>)
+ * を計算する.
+ * 
+ * <p>
+ * 漸化式 <br>
+ * <i>P</i>(<i>a</i> + <i>k</i>, <i>x</i>) =
+ * <i>P</i>(<i>a</i> + <i>k</i> + 1, <i>x</i>) + <i>d</i><sub><i>k</i></sub>, <br>
+ * <i>Q</i>(<i>a</i> + <i>k</i> + 1, <i>x</i>) =
+ * <i>Q</i>(<i>a</i> + <i>k</i>, <i>x</i>) + <i>d</i><sub><i>k</i></sub>, <br>
+ * <i>d</i><sub><i>k</i></sub> =
+ * <i>x</i><sup><i>a</i>+<i>k</i></sup> e<sup>-<i>x</i></sup> / &Gamma;(<i>a</i> + <i>k</i> + 1)
+ * <br>
+ * を用いる. <br>
+ * いずれも正の値の加算のみとなる向き (<i>P</i> は <i>k</i> の降順, <i>Q</i> は昇順) に適用するため,
+ * 桁落ちは生じない. <br>
+ * 直接計算は, <i>P</i> では <i>k</i> = <i>K</i>, <i>Q</i> では <i>k</i> = 0 の1点のみで行う.
+ * </p>
+ * 
+ * <p>
+ * <i>d</i><sub><i>k</i></sub> は, <i>k</i> について最大となる点
+ * (<i>k</i> &asymp; <i>x</i> - <i>a</i>) で直接計算し,
+ * そこから両側へ比 <i>x</i> / (<i>a</i> + <i>k</i>) の乗除により求める. <br>
+ * これにより, アンダーフローするのは真に微小な項のみとなる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class ICGammaShiftSweep {
+
+    private ICGammaShiftSweep() {
+        throw new AssertionError();
+    }
+
+    /**
+     * <i>P</i>(<i>a</i> + <i>k</i>, <i>x</i>) (<i>k</i> = 0, 1, ..., maxShift)
+     * を計算する.
+     * 
+     * <p>
+     * 引数のバリデーションは行われていない. <br>
+     * <i>a</i> + maxShift はパラメータの範囲内でなければならない.
+     * </p>
+     * 
+     * @param original パラメータ <i>a</i> のインスタンス
+     * @param x x
+     * @param maxShift シフト量の最大値, 0以上
+     * @return <i>P</i>(<i>a</i> + <i>k</i>, <i>x</i>) の配列 (長さ maxShift + 1)
+     */
+    static double[] lowerSequence(IncompleteGammaFunction original, double x, int maxShift) {
+        double[] out = new double[maxShift + 1];
+        if (!isRegular(x)) {
+            Arrays.fill(out, original.rigammaP(x));
+            return out;
+        }
+
+        double a = original.a();
+        out[maxShift] = maxShift == 0
+                ? original.rigammaP(x)
+                : ICGammaFactory.instanceOf(a + maxShift).rigammaP(x);
+        if (maxShift == 0) {
+            return out;
+        }
+
+        double[] d = densities(a, x, maxShift);
+        for (int k = maxShift - 1; k >= 0; k--) {
+            out[k] = Math.min(1d, out[k + 1] + d[k]);
+        }
+        return out;
+    }
+
+    /**
+     * <i>Q</i>(<i>a</i> + <i>k</i>, <i>x</i>) (<i>k</i> = 0, 1, ..., maxShift)
+     * を計算する.
+     * 
+     * <p>
+     * 引数のバリデーションは行われていない. <br>
+     * <i>a</i> + maxShift はパラメータの範囲内でなければならない.
+     * </p>
+     * 
+     * @param original パラメータ <i>a</i> のインスタンス
+     * @param x x
+     * @param maxShift シフト量の最大値, 0以上
+     * @return <i>Q</i>(<i>a</i> + <i>k</i>, <i>x</i>) の配列 (長さ maxShift + 1)
+     */
+    static double[] upperSequence(IncompleteGammaFunction original, double x, int maxShift) {
+        double[] out = new double[maxShift + 1];
+        if (!isRegular(x)) {
+            Arrays.fill(out, original.rigammaQ(x));
+            return out;
+        }
+
+        out[0] = original.rigammaQ(x);
+        if (maxShift == 0) {
+            return out;
+        }
+
+        double[] d = densities(original.a(), x, maxShift);
+        for (int k = 0; k < maxShift; k++) {
+            out[k + 1] = Math.min(1d, out[k] + d[k]);
+        }
+        return out;
+    }
+
+    /**
+     * 漸化式を適用すべき x かを判定する. <br>
+     * そうでない x (負, NaN, 0, +inf) では, 値はパラメータに依らない.
+     */
+    private static boolean isRegular(double x) {
+        return x > 0 && x < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * <i>d</i><sub><i>k</i></sub> (<i>k</i> = 0, 1, ..., maxShift - 1)
+     * を計算する.
+     * 
+     * @param a a
+     * @param x x, 正の有限値
+     * @param maxShift シフト量の最大値, 1以上
+     * @return <i>d</i><sub><i>k</i></sub> の配列 (長さ maxShift)
+     */
+    private static double[] densities(double a, double x, int maxShift) {
+        double[] d = new double[maxShift];
+
+        // d_{k+1}/d_k = x/(a+k+1) であるから, d_k は k ≒ x - a で最大となる
+        int peak = (int) Math.min(maxShift - 1, Math.max(0d, Math.floor(x - a)));
+        d[peak] = CFracBasedIcgammaCalculator.of(a + peak).coeffToLCP(x);
+        for (int k = peak + 1; k < maxShift; k++) {
+            d[k] = d[k - 1] * (x / (a + k));
+        }
+        for (int k = peak - 1; k >= 0; k--) {
+            d[k] = d[k + 1] * ((a + k + 1) / x);
+        }
+        return d;
+    }
+}
@@ -5,10 +5,12 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.7.6
+ * 2025.7.29
  */
 package matsu.num.specialfunction.icgamma;
 
+import java.util.stream.DoubleStream;
+
 import matsu.num.specialfunction.IncompleteGammaFunction;
 
 /**
@@ -72,6 +74,71 @@ abstract class SkeletalICGamma implements IncompleteGammaFunction {
         return this.oddsValue(x);
     }
 
+    @Override
+    public final IncompleteGammaFunction compile(double xMin, double xMax, double tolerance) {
+        if (!(xMin >= 0 && xMin < xMax && Double.isFinite(xMax))) {
+            throw new IllegalArgumentException(
+                    "Illegal range: xMin = %s, xMax = %s".formatted(xMin, xMax));
+        }
+        return new CompiledICGamma(this, xMin, xMax, tolerance);
+    }
+
+    @Override
+    public final double[] rigammaPAlongAscending(double[] x) {
+        ICGammaAscendingSweep sweep = new ICGammaAscendingSweep(this);
+        double[] out = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            out[i] = sweep.nextLower(x[i]);
+        }
+        return out;
+    }
+
+    @Override
+    public final double[] rigammaQAlongAscending(double[] x) {
+        ICGammaAscendingSweep sweep = new ICGammaAscendingSweep(this);
+        double[] out = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            out[i] = sweep.nextUpper(x[i]);
+        }
+        return out;
+    }
+
+    @Override
+    public final DoubleStream rigammaPAlongAscending(DoubleStream x) {
+        ICGammaAscendingSweep sweep = new ICGammaAscendingSweep(this);
+        return sweep.lowerAlong(x);
+    }
+
+    @Override
+    public final DoubleStream rigammaQAlongAscending(DoubleStream x) {
+        ICGammaAscendingSweep sweep = new ICGammaAscendingSweep(this);
+        return sweep.upperAlong(x);
+    }
+
+    @Override
+    public final double[] rigammaPOverShiftedParameters(double x, int maxShift) {
+        this.validateShift(maxShift);
+        return ICGammaShiftSweep.lowerSequence(this, x, maxShift);
+    }
+
+    @Override
+    public final double[] rigammaQOverShiftedParameters(double x, int maxShift) {
+        this.validateShift(maxShift);
+        return ICGammaShiftSweep.upperSequence(this, x, maxShift);
+    }
+
+    /**
+     * シフト量の最大値が正当かを検証する.
+     * 
+     * @throws IllegalArgumentException 不正の場合
+     */
+    private void validateShift(int maxShift) {
+        if (!(maxShift >= 0 && IncompleteGammaFunction.acceptsParameter(this.a + maxShift))) {
+            throw new IllegalArgumentException(
+                    "Illegal shift: a = %s, maxShift = %s".formatted(this.a, maxShift));
+        }
+    }
+
     /**
      * 正則化不完全ガンマ関数のオッズを計算する抽象メソッド.
      * 
@@ -11,7 +11,9 @@
 package matsu.num.specialfunction.icgamma;
 
 import matsu.num.specialfunction.ErrorFuction;
+import matsu.num.specialfunction.common.AlgorithmBranch;
 import matsu.num.specialfunction.common.Exponentiation;
+import matsu.num.specialfunction.common.Instrumentation;
 
 /**
  * Temme による漸近展開法を利用した, large <i>a</i> に対する正則化不完全ガンマ関数.
@@ -143,15 +145,18 @@ final class TemmeTypeICGamma extends SkeletalICGamma {
     double oddsValue(double x) {
         final double thisA = this.a;
         if (x < this.xLowerThreshold) {
+            Instrumentation.branch(AlgorithmBranch.ICGAMMA_LOWER_CONTINUED_FRACTION);
             double lcp = this.fractionCoefficient.calcP(x);
             return lcp / (1 - lcp);
         }
         if (x > this.xUpperThreshold) {
+            Instrumentation.branch(AlgorithmBranch.ICGAMMA_UPPER_CONTINUED_FRACTION);
             double ucp = this.fractionCoefficient.calcQ(x);
             return (1 - ucp) / ucp;
         }
 
         // 中間領域の計算
+        Instrumentation.branch(AlgorithmBranch.ICGAMMA_TEMME_MIDDLE);
         double lambda = x / thisA;
         double mu = lambda - 1;
         double eta = Exponentiation.sqrt(2 * (mu - Exponentiation.log1p(mu)));
@@ -9,7 +9,9 @@
  */
 package matsu.num.specialfunction.icgamma;
 
+import matsu.num.specialfunction.common.AlgorithmBranch;
 import matsu.num.specialfunction.common.Exponentiation;
+import matsu.num.specialfunction.common.Instrumentation;
 
 /**
  * 連分数とパラメータシフトを併用した, small, middle <i>a</i> に対する正則化不完全ガンマ関数.
@@ -56,20 +58,24 @@ final class WithShiftingICGamma extends SkeletalICGamma {
     double oddsValue(double x) {
         if (x <= this.xMiddleThreshold) {
             if (x <= this.xLowerThreshold) {
+                Instrumentation.branch(AlgorithmBranch.ICGAMMA_LOWER_CONTINUED_FRACTION);
                 double lcp = this.fractionCoefficient.calcP(x);
                 return lcp / (1 - lcp);
             }
 
+            Instrumentation.branch(AlgorithmBranch.ICGAMMA_SHIFTED_LOWER_CONTINUED_FRACTION);
             int shift = (int) (x - this.xLowerThreshold) + 1;
             double lcp = this.fractionCoefficient.calcPByShift(x, shift);
             return lcp / (1 - lcp);
         }
 
         if (x >= this.xUpperThreshold) {
+            Instrumentation.branch(AlgorithmBranch.ICGAMMA_UPPER_CONTINUED_FRACTION);
             double ucp = this.fractionCoefficient.calcQ(x);
             return (1 - ucp) / ucp;
         }
 
+        Instrumentation.branch(AlgorithmBranch.ICGAMMA_SHIFTED_UPPER_CONTINUED_FRACTION);
         int shift = (int) (this.xUpperThreshold - x) + 1;
         double ucp = this.fractionCoefficient.calcQByShift(x, shift);
         return (1 - ucp) / ucp;
@@ -0,0 +1,331 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2025.8.10
+ */
+package matsu.num.specialfunction.legendre;
+
+import matsu.num.specialfunction.GammaFunction;
+import matsu.num.specialfunction.bessel.RealOrderBesselFunction;
+import matsu.num.specialfunction.common.Exponentiation;
+import matsu.num.specialfunction.common.Trigonometry;
+
+/**
+ * 次数 <i>&ell;</i> が大きい場合の Legendre 多項式
+ * <i>P</i><sub><i>&ell;</i></sub> (<i>x</i>)
+ * を, Bessel 関数による漸近展開 (Szeg&#337; 型, Bogaert の方法) により,
+ * 次数によらない計算量で計算する.
+ * 
+ * <p>
+ * <i>x</i> = cos &theta; (0 &le; &theta; &le; &pi;/2),
+ * <i>v</i> = <i>&ell;</i> + 1/2 として, <br>
+ * <i>P</i><sub><i>&ell;</i></sub> (cos &theta;)
+ * = (&theta; / sin &theta;)<sup>1/2</sup>
+ * [<i>J</i><sub>0</sub>(<i>v</i>&theta;)
+ * &Sigma;<sub><i>s</i></sub> <i>F<sub>s</sub></i>(&theta;) / <i>v</i><sup>2<i>s</i></sup>
+ * - &theta; <i>J</i><sub>1</sub>(<i>v</i>&theta;)
+ * &Sigma;<sub><i>s</i></sub> <i>G<sub>s</sub></i>(&theta;) / <i>v</i><sup>2<i>s</i>+1</sup>] <br>
+ * を用いる. <br>
+ * 係数関数 <i>F<sub>s</sub></i>, <i>G<sub>s</sub></i> は,
+ * sin<sup>1/2</sup>&theta; <i>P</i><sub><i>&ell;</i></sub> (cos &theta;) が満たす微分方程式を
+ * &theta; のべき級数として逐次解いて得たもので,
+ * <i>F</i><sub>0</sub> = 1,
+ * <i>G</i><sub>0</sub> = (1 - &theta; cot &theta;) / (8&theta;<sup>2</sup>)
+ * である. <br>
+ * &theta; &le; &pi;/2 では <i>s</i> &le; 3 の項で,
+ * <i>&ell;</i> &ge; 100 において倍精度の打ち切り誤差を得る.
+ * </p>
+ * 
+ * <p>
+ * ただし <i>x</i> = 0 では, 偶奇性による厳密な値 (<i>&ell;</i> が奇数ならば 0) と,
+ * <i>&ell;</i> = 2<i>k</i> に対する閉じた形 <br>
+ * <i>P</i><sub>2<i>k</i></sub> (0) = (-1)<sup><i>k</i></sup>
+ * B(<i>k</i> + 1/2, 1/2) / &pi; <br>
+ * を用いる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class AsymptoticLegendrePolynomial {
+
+    /**
+     * この漸近展開が倍精度で適用できる次数の下限.
+     */
+    static final int LOWER_LIMIT_OF_DEGREE = 100;
+
+    private static final RealOrderBesselFunction BESSEL_0 = RealOrderBesselFunction.instanceOf(0);
+    private static final RealOrderBesselFunction BESSEL_1 = RealOrderBesselFunction.instanceOf(1);
+
+    /**
+     * <i>F</i><sub>1</sub>(&theta;) / &theta;<sup>2</sup> の &theta;<sup>2</sup> についてのべき級数の係数.
+     */
+    private static final double[] COEFF_F1 = {
+            -0.0036458333333333334,
+            -0.0006448412698412698,
+            -9.424603174603175e-05,
+            -1.2526054192720859e-05,
+            -1.5725749852733979e-06,
+            -1.9013907902796792e-07,
+            -2.2388160421151395e-08,
+            -2.5848854984147828e-09,
+            -2.939726522466961e-10,
+            -3.303497785638656e-11,
+            -3.676369586550627e-12,
+            -4.058517820821227e-13,
+            -4.450122214057755e-14,
+            -4.851365841751374e-15,
+            -5.262435028384356e-16,
+            -5.683519356582231e-17,
+            -6.114811708155126e-18,
+            -6.556508314706403e-19,
+            -7.008808811521374e-20,
+            -7.471916292990492e-21,
+            -7.946037369093496e-22,
+            -8.431382222824245e-23,
+            -8.928164668533358e-24,
+            -9.436602211192601e-25
+    };
+
+    /**
+     * <i>F</i><sub>2</sub>(&theta;) / &theta;<sup>2</sup> の &theta;<sup>2</sup> についてのべき級数の係数.
+     */
+    private static final double[] COEFF_F2 = {
+            0.0019221230158730158,
+            0.0007351022548776455,
+            0.00018434045940556357,
+            3.734187812343814e-05,
+            6.634591311343957e-06,
+            1.0782751334592731e-06,
+            1.642839408572834e-07,
+            2.383323806930873e-08,
+            3.327135190776216e-09,
+            4.5029522082086327e-10,
+            5.940764011174276e-11,
+            7.671910680420863e-12,
+            9.729125052202823e-13,
+            1.2146575775926175e-13,
+            1.4959911535696045e-14,
+            1.8206306422727028e-15,
+            2.1924506469518948e-16,
+            2.6154877366533527e-17,
+            3.093945338610937e-18,
+            3.6321987540132393e-19
+    };
+
+    /**
+     * <i>F</i><sub>3</sub>(&theta;) / &theta;<sup>2</sup> の &theta;<sup>2</sup> についてのべき級数の係数.
+     */
+    private static final double[] COEFF_F3 = {
+            -0.0020670572916666667,
+            -0.0013746165265940656,
+            -0.000527404458478601,
+            -0.0001514197516204047,
+            -3.61847128836469e-05,
+            -7.611454081593506e-06,
+            -1.4572416880766146e-06,
+            -2.595004081263024e-07,
+            -4.3627873204984827e-08,
+            -6.999405113160034e-09,
+            -1.0801547789356243e-09,
+            -1.6131664320764268e-10,
+            -2.34263283658529e-11,
+            -3.320510863321683e-12,
+            -4.607996452897816e-13,
+            -6.276518875388495e-14
+    };
+
+    /**
+     * <i>G</i><sub>0</sub>(&theta;) の &theta;<sup>2</sup> についてのべき級数の係数.
+     */
+    private static final double[] COEFF_G0 = {
+            0.041666666666666664,
+            0.002777777777777778,
+            0.00026455026455026457,
+            2.6455026455026456e-05,
+            2.672224894447117e-06,
+            2.7055053510079965e-07,
+            2.7407434814842222e-08,
+            2.7768260987474598e-09,
+            2.8134808146011243e-10,
+            2.850643900574023e-11,
+            2.888304074875328e-12,
+            2.9264633524781103e-13,
+            2.9651271750292066e-14,
+            3.004301916663463e-15,
+            3.043994253647921e-16,
+            3.0842110056465093e-17,
+            3.1249590964026012e-18,
+            3.1662455446757936e-19,
+            3.208077462853286e-20,
+            3.2504620575171592e-21,
+            3.293406630519225e-22,
+            3.336918580196744e-23,
+            3.381005402636289e-24,
+            3.4256746929624393e-25,
+            3.4709341466455546e-26,
+            3.516791560827349e-27
+    };
+
+    /**
+     * <i>G</i><sub>1</sub>(&theta;) の &theta;<sup>2</sup> についてのべき級数の係数.
+     */
+    private static final double[] COEFF_G1 = {
+            -0.007291666666666667,
+            -0.0017702132936507937,
+            -0.00035073578042328044,
+            -5.927955146705147e-05,
+            -9.051574527765003e-06,
+            -1.2901529931953211e-06,
+            -1.7503441921820386e-07,
+            -2.2884476176432984e-08,
+            -2.907288903726189e-09,
+            -3.609781686026596e-10,
+            -4.3989197969649364e-11,
+            -5.277775340995148e-12,
+            -6.249499093587213e-13,
+            -7.317321763116977e-14,
+            -8.484555570643015e-15,
+            -9.754595957134728e-16,
+            -1.113092335487909e-16,
+            -1.2617105003050877e-17,
+            -1.4216796801591013e-18,
+            -1.5933745202042538e-19,
+            -1.7771789135399088e-20,
+            -1.9734861977456696e-21
+    };
+
+    /**
+     * <i>G</i><sub>2</sub>(&theta;) の &theta;<sup>2</sup> についてのべき級数の係数.
+     */
+    private static final double[] COEFF_G2 = {
+            0.0038442460317460315,
+            0.001986968832671958,
+            0.0006729550443437976,
+            0.0001730413279015671,
+            3.734999487081787e-05,
+            7.1499660881705475e-06,
+            1.254382562209279e-06,
+            2.0596548560703703e-07,
+            3.2105974075376484e-08,
+            4.7994451632952815e-09,
+            6.93157295066083e-10,
+            9.72621003792916e-11,
+            1.3317181177296274e-11,
+            1.7853674866776686e-12,
+            2.3501039596284486e-13,
+            3.044160888034302e-14,
+            3.8875555912192425e-15,
+            4.902177870145301e-16
+    };
+
+    /**
+     * <i>G</i><sub>3</sub>(&theta;) の &theta;<sup>2</sup> についてのべき級数の係数.
+     */
+    private static final double[] COEFF_G3 = {
+            -0.004134114583333333,
+            -0.0036943531999684342,
+            -0.0019135562837306918,
+            -0.0006973709397301806,
+            -0.00020246010020778045,
+            -5.016328344064351e-05,
+            -1.1058887541015876e-05,
+            -2.2289076673689294e-06,
+            -4.1842515844795187e-07,
+            -7.414602015361166e-08,
+            -1.252572065252067e-08,
+            -2.032547098055236e-09,
+            -3.186825449374596e-10
+    };
+
+    private AsymptoticLegendrePolynomial() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * <i>P</i><sub><i>&ell;</i></sub> (<i>x</i>)
+     * を計算する.
+     * 
+     * <p>
+     * 引数のバリデーションは行われていない. <br>
+     * 呼び出し元でチェックすること.
+     * </p>
+     * 
+     * @param degreeL 次数 l, {@link #LOWER_LIMIT_OF_DEGREE} 以上
+     * @param x 引数 x, -1 &le; x &le; 1
+     * @return P_l(x)
+     */
+    static double legendreP(int degreeL, double x) {
+        assert degreeL >= LOWER_LIMIT_OF_DEGREE;
+        assert -1 <= x && x <= 1;
+
+        if (x == 0d) {
+            return legendrePAtZero(degreeL);
+        }
+
+        /*
+         * P(l,-x) = (-1)^l P(l,x) により, x >= 0 に帰着させる.
+         */
+        final double value = legendrePForNonNegative(degreeL, Math.abs(x));
+        return x < 0 && (degreeL & 1) == 1 ? -value : value;
+    }
+
+    /**
+     * P_l(0) を計算する.
+     */
+    private static double legendrePAtZero(int degreeL) {
+        if ((degreeL & 1) == 1) {
+            return 0d;
+        }
+        final int k = degreeL / 2;
+        final double value = Exponentiation.exp(GammaFunction.lbeta(k + 0.5, 0.5)) / Math.PI;
+        return (k & 1) == 0 ? value : -value;
+    }
+
+    /**
+     * 0 &le; x &le; 1 に対して P_l(x) を計算する.
+     */
+    private static double legendrePForNonNegative(int degreeL, double x) {
+        // theta = arccos x, x -> 1 でも精度を保つ
+        final double theta = 2 * Trigonometry.atan(Exponentiation.sqrt((1 - x) / (1 + x)));
+        if (theta == 0d) {
+            return 1d;
+        }
+
+        final double v = degreeL + 0.5;
+        final double invV2 = 1 / (v * v);
+        final double theta2 = theta * theta;
+
+        final double sumF = 1 + theta2 * invV2
+                * (polynomial(COEFF_F1, theta2)
+                        + invV2 * (polynomial(COEFF_F2, theta2)
+                                + invV2 * polynomial(COEFF_F3, theta2)));
+        final double sumG = polynomial(COEFF_G0, theta2)
+                + invV2 * (polynomial(COEFF_G1, theta2)
+                        + invV2 * (polynomial(COEFF_G2, theta2)
+                                + invV2 * polynomial(COEFF_G3, theta2)));
+
+        final double vTheta = v * theta;
+        final double j0 = BESSEL_0.besselJ(vTheta);
+        final double j1 = BESSEL_1.besselJ(vTheta);
+
+        return Exponentiation.sqrt(theta / Trigonometry.sin(theta))
+                * (j0 * sumF - theta * j1 * sumG / v);
+    }
+
+    /**
+     * Horner 法により多項式 &Sigma; c<sub>k</sub> t<sup>k</sup> を計算する.
+     */
+    private static double polynomial(double[] coeff, double t) {
+        double value = 0;
+        for (int k = coeff.length - 1; k >= 0; k--) {
+            value = value * t + coeff[k];
+        }
+        return value;
+    }
+}
@@ -41,6 +41,15 @@ public final class LegendreFunctionImpl extends SkeletalLegendreFunction {
         return staticLegendreFunction.legendreP(degreeL, orderM, x);
     }
 
+    @Override
+    public double normalizedLegendreP(double x) {
+        if (!(-1 <= x && x <= 1)) {
+            return Double.NaN;
+        }
+
+        return staticLegendreFunction.normalizedLegendreP(degreeL, orderM, x);
+    }
+
     /**
      * 与えられた次数と階数を持つ Legendre 関数を構築する. <br>
      * 与えるパラメータは {@link LegendreFunction#acceptsParameter(int, int)}
@@ -6,7 +6,7 @@
  */
 
 /*
- * 2025.7.9
+ * 2025.8.10
  */
 package matsu.num.specialfunction.legendre;
 
@@ -17,6 +17,14 @@ import matsu.num.specialfunction.common.Exponentiation;
  * 計算のたびにパラメータを与える Legendre 関数.
  * 
  * <p>
+ * 基本的には, 次数 <i>&ell;</i> についての3項漸化式 (計算量 <i>O</i>(<i>&ell;</i>)) により計算する. <br>
+ * 次数が大きい場合は中間結果がオーバーフロー・アンダーフローするため,
+ * 値を (仮数, 2<sup>{@value #SCALING_EXPONENT}</sup> を底とする指数) の組で保持して漸化式を進める. <br>
+ * <i>m</i> = 0 かつ次数が大きい場合は, 漸近展開 ({@link AsymptoticLegendrePolynomial})
+ * により計算量 <i>O</i>(1) で計算する.
+ * </p>
+ * 
+ * <p>
  * このクラスは契約が不十分であり, 公開してはならない.
  * </p>
  * 
@@ -24,6 +32,27 @@ import matsu.num.specialfunction.common.Exponentiation;
  */
 final class StaticLegendreFunction {
 
+    /**
+     * <i>m</i> = 0 において漸化式を用いる次数の上限.
+     * これを超える次数では, 漸近展開を用いる.
+     */
+    private static final int THRESHOLD_DEGREE_RECURSION = 100;
+
+    /**
+     * スケーリングの単位となる2の指数.
+     */
+    private static final int SCALING_EXPONENT = 600;
+
+    /**
+     * 値を縮小する閾値 (2<sup>600</sup>).
+     */
+    private static final double HUGE = Math.scalb(1d, SCALING_EXPONENT);
+
+    /**
+     * 値を拡大する閾値 (2<sup>-600</sup>).
+     */
+    private static final double TINY = Math.scalb(1d, -SCALING_EXPONENT);
+
     /**
      * 唯一のコンストラクタ.
      */
@@ -50,20 +79,42 @@ final class StaticLegendreFunction {
         assert LegendreFunction.acceptsParameter(degreeL, orderM);
         assert -1 <= x && x <= 1;
 
+        if (orderM == 0 && degreeL > THRESHOLD_DEGREE_RECURSION) {
+            return AsymptoticLegendrePolynomial.legendreP(degreeL, x);
+        }
+
         /*
          * 漸化式によりP(l,m,x)を計算する.
          * 
          * P(m,m,x) = (-1)^m (2m-1)!! (1-x^2)^(m/2)
          * P(m+1,m,x) = (2m+1)xP(m,m,x)
          * P(l,m,x) * (l-m)= (2l-1)xP(l-1,m,x) - (l+m-1)P(l-2,m,x)
+         * 
+         * 値は p * 2^(600 * scale) として保持する.
          */
-        final double p_m_m = legendreP_mm(orderM, x);
+        final double sqrt_1mx2 = Exponentiation.sqrt((1 - x) * (1 + x));
+        if (orderM > 0 && sqrt_1mx2 == 0d) {
+            return 0d;
+        }
+
+        int scale = 0;
+        double p_m_m = 1d;
+        for (int i = orderM; i >= 1; i--) {
+            p_m_m *= -(2 * i - 1) * sqrt_1mx2;
+            if (Math.abs(p_m_m) >= HUGE) {
+                p_m_m *= TINY;
+                scale++;
+            } else if (Math.abs(p_m_m) <= TINY) {
+                p_m_m *= HUGE;
+                scale--;
+            }
+        }
         if (degreeL == orderM) {
-            return p_m_m;
+            return Math.scalb(p_m_m, scale * SCALING_EXPONENT);
         }
         final double p_mp1_m = (2 * orderM + 1) * x * p_m_m;
         if (degreeL == orderM + 1) {
-            return p_mp1_m;
+            return Math.scalb(p_mp1_m, scale * SCALING_EXPONENT);
         }
 
         double p_km2_m;
@@ -75,20 +126,94 @@ final class StaticLegendreFunction {
 
             p_k_m = ((2 * k - 1) * x * p_km1_m - (k + orderM - 1) * p_km2_m)
                     / (k - orderM);
+            if (Math.abs(p_k_m) >= HUGE) {
+                p_k_m *= TINY;
+                p_km1_m *= TINY;
+                scale++;
+            }
         }
-        return p_k_m;
+        return Math.scalb(p_k_m, scale * SCALING_EXPONENT);
     }
 
-    private double legendreP_mm(int m, double x) {
+    /**
+     * 正規化された
+     * <i>P&#772;</i><sub><i>&ell;</i></sub><sup><i>m</i></sup> (<i>x</i>)
+     * を計算する.
+     * 
+     * <p>
+     * 引数のバリデーションは行われていない. <br>
+     * 呼び出し元でチェックすること.
+     * </p>
+     * 
+     * @param degreeL 次数 l
+     * @param orderM 階数 m
+     * @param x 引数 x
+     * @return 正規化された P_l^m(x)
+     */
+    double normalizedLegendreP(int degreeL, int orderM, double x) {
+        assert LegendreFunction.acceptsParameter(degreeL, orderM);
+        assert -1 <= x && x <= 1;
+
+        if (orderM == 0 && degreeL > THRESHOLD_DEGREE_RECURSION) {
+            return Exponentiation.sqrt(degreeL + 0.5)
+                    * AsymptoticLegendrePolynomial.legendreP(degreeL, x);
+        }
 
-        // sqrt((1-x)(1+x))
-        double sqrt_1mx2 = Exponentiation.sqrt((1 - x) * (1 + x));
+        /*
+         * 正規化された Q(l,m,x) = sqrt((2l+1)/2 * (l-m)!/(l+m)!) P(l,m,x)
+         * を漸化式により計算する.
+         * 
+         * Q(m,m,x) = (-1)^m sqrt((2m+1)/2 * prod_{i=1}^{m} (2i-1)/(2i)) (1-x^2)^(m/2)
+         * Q(m+1,m,x) = a(m+1) x Q(m,m,x)
+         * Q(l,m,x) = a(l) (x Q(l-1,m,x) - Q(l-2,m,x) / a(l-1))
+         * ただし, a(l) = sqrt((2l+1)(2l-1) / ((l-m)(l+m))).
+         * 
+         * 値は q * 2^(600 * scale) として保持する.
+         */
+        final double sqrt_1mx2 = Exponentiation.sqrt((1 - x) * (1 + x));
+        if (orderM > 0 && sqrt_1mx2 == 0d) {
+            return 0d;
+        }
 
-        double v = 1d;
-        for (int i = m; i >= 1; i--) {
-            v *= -(2 * i - 1) * sqrt_1mx2;
+        int scale = 0;
+        double factorialRatio = 1d;
+        double powerSqrt_1mx2 = 1d;
+        for (int i = 1; i <= orderM; i++) {
+            factorialRatio *= (2 * i - 1) / (2d * i);
+            powerSqrt_1mx2 *= -sqrt_1mx2;
+            if (Math.abs(powerSqrt_1mx2) <= TINY) {
+                powerSqrt_1mx2 *= HUGE;
+                scale--;
+            }
+        }
+        final double q_m_m = Exponentiation.sqrt((orderM + 0.5) * factorialRatio) * powerSqrt_1mx2;
+        if (degreeL == orderM) {
+            return Math.scalb(q_m_m, scale * SCALING_EXPONENT);
+        }
+        double a_k = Exponentiation.sqrt(2 * orderM + 3d);
+        final double q_mp1_m = a_k * x * q_m_m;
+        if (degreeL == orderM + 1) {
+            return Math.scalb(q_mp1_m, scale * SCALING_EXPONENT);
         }
 
-        return v;
+        final double m2 = (double) orderM * orderM;
+        double q_km2_m;
+        double q_km1_m = q_m_m;
+        double q_k_m = q_mp1_m;
+        for (int k = orderM + 2; k <= degreeL; k++) {
+            q_km2_m = q_km1_m;
+            q_km1_m = q_k_m;
+
+            final double a_km1 = a_k;
+            final double k2 = (double) k * k;
+            a_k = Exponentiation.sqrt((4 * k2 - 1) / (k2 - m2));
+            q_k_m = a_k * (x * q_km1_m - q_km2_m / a_km1);
+            if (Math.abs(q_k_m) >= HUGE) {
+                q_k_m *= TINY;
+                q_km1_m *= TINY;
+                scale++;
+            }
+        }
+        return Math.scalb(q_k_m, scale * SCALING_EXPONENT);
     }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.25
+ */
+package matsu.num.specialfunction.zeta;
+
+import matsu.num.specialfunction.fraction.BigRational;
+import matsu.num.specialfunction.fraction.DoubleDoubleReal;
+import matsu.num.specialfunction.fraction.RationalBernoulliNumber;
+
+/**
+ * double-double 精度 (拡張精度) による, EM方式の Riemann ゼータ関数の計算.
+ * 
+ * <p>
+ * {@link EMTypeRiemannZetaFunctionCalculation} と同様に Euler-Maclaurin の公式を使用するが,
+ * 分岐点 <i>N</i> と補正項の数を拡張精度に合わせて増やしている. <br>
+ * 相対誤差はおよそ 1E-29 以下である.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class EMTypeRiemannZetaDoubleDoubleCalculation {
+
+    /**
+     * このNで分岐する. <br>
+     * zeta(s) は,
+     * kが1から(N-1)までを普通に加え, k = N を(1/2)倍して加え, k = Nの残差分をEM公式で加える.
+     */
+    private static final int N = 20;
+
+    private static final int K_MAX = 40;
+
+    private static final double EPSILON = 1E-34;
+
+    private static final DoubleDoubleReal ZERO =
+            DoubleDoubleReal.constantSupplier().zero();
+    private static final DoubleDoubleReal ONE =
+            DoubleDoubleReal.constantSupplier().one();
+
+    /**
+     * log(k), k = 0, 1, ..., N (k = 0 は使用しない)
+     */
+    private static final DoubleDoubleReal[] LN_K;
+
+    /**
+     * B_{2k}/(2k)!, k = 1, 2, ..., K_MAX
+     */
+    private static final DoubleDoubleReal[] BERNOULLI_PER_FACTORIAL;
+
+    static {
+        LN_K = new DoubleDoubleReal[N + 1];
+        LN_K[0] = ZERO;
+        for (int k = 1; k <= N; k++) {
+            LN_K[k] = DoubleDoubleReal.of(k).log();
+        }
+
+        BERNOULLI_PER_FACTORIAL = new DoubleDoubleReal[K_MAX];
+        BigRational factorial = BigRational.of(1, 1);
+        for (int k = 1; k <= K_MAX; k++) {
+            factorial = factorial.times(BigRational.of((2L * k - 1) * (2L * k), 1));
+            BERNOULLI_PER_FACTORIAL[k - 1] = DoubleDoubleReal.of(
+                    RationalBernoulliNumber.of(2 * k).dividedBy(factorial));
+        }
+    }
+
+    /**
+     * 唯一のコンストラクタ
+     */
+    public EMTypeRiemannZetaDoubleDoubleCalculation() {
+        super();
+    }
+
+    /**
+     * zeta(s) を返す.
+     * 
+     * @param s s, 1より大きい有限値
+     * @return zeta(s)
+     * @throws IllegalArgumentException s が1より大きい有限値でない場合
+     */
+    public DoubleDoubleReal zeta(double s) {
+        return this.zetam1(s).plus(ONE);
+    }
+
+    /**
+     * zeta(s) - 1 を返す.
+     * 
+     * @param s s, 1より大きい有限値
+     * @return zeta(s) - 1
+     * @throws IllegalArgumentException s が1より大きい有限値でない場合
+     */
+    public DoubleDoubleReal zetam1(double s) {
+        if (!(s > 1 && s < Double.POSITIVE_INFINITY)) {
+            throw new IllegalArgumentException("Illegal argument: s = %s".formatted(s));
+        }
+
+        // k = 2 から (N-1) までの級数の和 (小さい項から加える)
+        DoubleDoubleReal sum = powMinusS(N, s).times(0.5);
+        for (int k = N - 1; k >= 2; k--) {
+            sum = sum.plus(powMinusS(k, s));
+        }
+
+        return sum.plus(zetaN_Res(s));
+    }
+
+    /**
+     * k^{-s} を返す.
+     */
+    private static DoubleDoubleReal powMinusS(int k, double s) {
+        return LN_K[k].times(-s).exp();
+    }
+
+    /**
+     * N^{1-s}/(s-1) + sum_{k} B_{2k}/(2k)! s(s+1)...(s+2k-2) N^{-s-2k+1}
+     */
+    private static DoubleDoubleReal zetaN_Res(double s) {
+        DoubleDoubleReal nPowMinusS = powMinusS(N, s);
+        DoubleDoubleReal res = nPowMinusS.times(N).dividedBy(s - 1d);
+
+        // term = s(s+1)...(s+2k-2) N^{-s-2k+1}
+        DoubleDoubleReal term = nPowMinusS.times(s).dividedBy(N);
+        // 1/N^2 は2進数で正確に表現できないため, 除算を用いる
+        final double squareN = N * N;
+        for (int k = 1; k <= K_MAX; k++) {
+            DoubleDoubleReal v = term.times(BERNOULLI_PER_FACTORIAL[k - 1]);
+            res = res.plus(v);
+            if (Math.abs(v.high()) < EPSILON) {
+                break;
+            }
+            term = term.times(DoubleDoubleReal.of(s).plus(2 * k - 1))
+                    .times(DoubleDoubleReal.of(s).plus(2 * k))
+                    .dividedBy(squareN);
+        }
+        return res;
+    }
+}
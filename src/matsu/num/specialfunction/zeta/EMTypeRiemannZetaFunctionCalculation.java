@@ -10,6 +10,8 @@
  */
 package matsu.num.specialfunction.zeta;
 
+import matsu.num.specialfunction.common.Exponentiation;
+
 /**
  * EM方式の Riemann ゼータ関数の計算.
  * 
@@ -42,7 +44,7 @@ public final class EMTypeRiemannZetaFunctionCalculation {
      */
     private static final int N = 10;
 
-    private static final double LN_N = Math.log(N);
+    private static final double LN_N = Exponentiation.log(N);
     private static final double INV_SQUARE_N = 1d / (N * N);
 
     /**
@@ -89,15 +91,15 @@ public final class EMTypeRiemannZetaFunctionCalculation {
         // k = 2 から (N-1) までの級数の和
         int k;
         for (k = 2; k < N - 3; k += 4) {
-            v0 += Math.pow(1d / k, s);
-            v1 += Math.pow(1d / (k + 1), s);
-            v2 += Math.pow(1d / (k + 2), s);
-            v3 += Math.pow(1d / (k + 3), s);
+            v0 += Exponentiation.pow(1d / k, s);
+            v1 += Exponentiation.pow(1d / (k + 1), s);
+            v2 += Exponentiation.pow(1d / (k + 2), s);
+            v3 += Exponentiation.pow(1d / (k + 3), s);
         }
         for (; k < N; k++) {
-            v0 += Math.pow(1d / k, s);
+            v0 += Exponentiation.pow(1d / k, s);
         }
-        v1 += 0.5 * Math.pow(1d / N, s);
+        v1 += 0.5 * Exponentiation.pow(1d / N, s);
 
         return (v0 + v1) + (v2 + v3) + zetaN_Res(s);
     }
@@ -112,6 +114,6 @@ public final class EMTypeRiemannZetaFunctionCalculation {
         }
 
         double sm1 = s - 1;
-        return v / Math.exp((sm1) * LN_N) / (sm1);
+        return v / Exponentiation.exp((sm1) * LN_N) / (sm1);
     }
 }
@@ -17,14 +17,33 @@
  * </p>
  * 
  * <p>
+ * 内部で用いる初等関数 (exp, log, sin, cos など) の計算方式は,
+ * システムプロパティ {@code matsu.num.specialfunction.elementary} により,
+ * クラスの初期化前に選択できる. <br>
+ * {@code math} (既定) は {@link Math} を,
+ * {@code strict} は {@link StrictMath} を用い,
+ * 後者ではプラットフォームによらずビット単位で再現可能な結果が得られる. <br>
+ * {@code fast} は表引きによる exp, log (誤差はいずれも {@link StrictMath} との差が 1 ulp 以内)
+ * と, 引数還元を共有する sin, cos の同時計算を用いる.
+ * </p>
+ * 
+ * <p>
+ * システムプロパティ {@code matsu.num.specialfunction.instrumentation} を {@code true} とすると,
+ * 計算方式の選択と反復回数の計測が有効になる
+ * ({@link matsu.num.specialfunction.AlgorithmStatistics} を参照).
+ * </p>
+ * 
+ * <p>
  * <i>依存モジュール:</i> <br>
- * (無し)
+ * {@code jdk.jfr} (任意, 計測のイベントの発行にのみ用いる)
  * </p>
  * 
  * @author Matsuura Y.
- * @version 23.8.0
+ * @version 23.9.0
  */
 module matsu.num.Specialfunction {
+    requires static jdk.jfr;
+
     exports matsu.num.specialfunction;
     exports matsu.num.specialfunction.bessel;
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.bessel.BesselFunction;
+
+/**
+ * {@link CompiledFunctionSnapshot} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class CompiledFunctionSnapshotTest {
+
+    public static final Class<?> TEST_CLASS = CompiledFunctionSnapshot.class;
+
+    private static final double TOLERANCE = 1E-10;
+
+    /**
+     * 一時ファイルを削除する. <br>
+     * マップ中のファイルを削除できない環境では, 終了時の削除とする.
+     */
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    public static class 書き出しと読み込みに関するテスト {
+
+        private Path file;
+
+        private IncompleteGammaFunction icgamma;
+        private IncompleteBetaFunction icbeta;
+        private BesselFunction bessel;
+
+        @Before
+        public void before_書き出し() throws IOException {
+            file = Files.createTempFile("snapshot", ".bin");
+            icgamma = IncompleteGammaFunction.instanceOf(2.5).compile(0, 30, TOLERANCE);
+            icbeta = IncompleteBetaFunction.instanceOf(2.5, 3.5).compile(0, 1, TOLERANCE);
+            bessel = BesselFunction.instanceOf(5).compile(0, 50, TOLERANCE);
+            CompiledFunctionSnapshot.write(file, List.of(icgamma, icbeta, bessel));
+        }
+
+        @After
+        public void after_削除() {
+            delete(file);
+        }
+
+        @Test
+        public void test_読み込んだインスタンスは元と一致() throws IOException {
+            CompiledFunctionSnapshot snapshot = CompiledFunctionSnapshot.load(file);
+            assertThat(snapshot.size(), is(3));
+
+            IncompleteGammaFunction restoredGamma =
+                    snapshot.incompleteGamma(2.5, 0, 30, TOLERANCE).get();
+            IncompleteBetaFunction restoredBeta =
+                    snapshot.incompleteBeta(2.5, 3.5, 0, 1, TOLERANCE).get();
+            BesselFunction restoredBessel =
+                    snapshot.bessel(5, 0, 50, TOLERANCE).get();
+
+            for (int i = 0; i <= 1000; i++) {
+                double x = i * 0.031;
+                assertThat(restoredGamma.rigammaP(x), is(icgamma.rigammaP(x)));
+                assertThat(restoredGamma.rigammaQ(x), is(icgamma.rigammaQ(x)));
+                assertThat(restoredBessel.besselJ(x), is(bessel.besselJ(x)));
+                assertThat(restoredBessel.besselY(x), is(bessel.besselY(x)));
+
+                double t = i / 1000d;
+                assertThat(restoredBeta.ribeta(t), is(icbeta.ribeta(t)));
+                assertThat(restoredBeta.ribetaR(t), is(icbeta.ribetaR(t)));
+            }
+        }
+
+        @Test
+        public void test_キーが異なれば空() throws IOException {
+            CompiledFunctionSnapshot snapshot = CompiledFunctionSnapshot.load(file);
+            assertThat(snapshot.incompleteGamma(2.5, 0, 30, 1E-8).isPresent(), is(false));
+            assertThat(snapshot.incompleteGamma(3.5, 0, 30, TOLERANCE).isPresent(), is(false));
+            assertThat(snapshot.incompleteBeta(3.5, 2.5, 0, 1, TOLERANCE).isPresent(), is(false));
+            assertThat(snapshot.bessel(4, 0, 50, TOLERANCE).isPresent(), is(false));
+        }
+    }
+
+    public static class 不正な入力に関するテスト {
+
+        private Path file;
+
+        @Before
+        public void before_ファイルの作成() throws IOException {
+            file = Files.createTempFile("snapshot", ".bin");
+        }
+
+        @After
+        public void after_削除() {
+            delete(file);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_compileされていないインスタンスは書き出し不可() throws IOException {
+            CompiledFunctionSnapshot.write(file, List.of(IncompleteGammaFunction.instanceOf(2.5)));
+        }
+
+        @Test(expected = IOException.class)
+        public void test_書式が不正なファイルは読み込み不可() throws IOException {
+            Files.write(file, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12 });
+            CompiledFunctionSnapshot.load(file);
+        }
+
+        @Test
+        public void test_空のスナップショット() throws IOException {
+            CompiledFunctionSnapshot.write(file, List.of());
+            CompiledFunctionSnapshot snapshot = CompiledFunctionSnapshot.load(file);
+            assertThat(snapshot.size(), is(0));
+            assertThat(snapshot.bessel(0, 0, 1, TOLERANCE).isPresent(), is(false));
+        }
+    }
+
+    public static class toString表示 {
+
+        @Test
+        public void test_toString() throws IOException {
+            Path file = Files.createTempFile("snapshot", ".bin");
+            try {
+                CompiledFunctionSnapshot.write(file,
+                        List.of(BesselFunction.instanceOf(0).compile(0, 10, TOLERANCE)));
+                System.out.println(TEST_CLASS.getName());
+                System.out.println(CompiledFunctionSnapshot.load(file));
+                System.out.println();
+            } finally {
+                delete(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+/**
+ * {@link ErrorFuction} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class ErrorFuctionTest {
+
+    public static final Class<?> TEST_CLASS = ErrorFuction.class;
+
+    private static void assertRelative(String expected, double[] hiLo, String relTol) {
+        assertThat(hiLo.length, is(2));
+        BigDecimal exp = new BigDecimal(expected);
+        BigDecimal diff = new BigDecimal(hiLo[0]).add(new BigDecimal(hiLo[1])).subtract(exp).abs();
+        assertThat(diff.compareTo(exp.abs().multiply(new BigDecimal(relTol))) <= 0, is(true));
+    }
+
+    public static class 拡張精度のerfとerfcのテスト {
+
+        @Test
+        public void test_erf() {
+            assertRelative(
+                    "0.8427007929497148693412206350826092593",
+                    ErrorFuction.erfDoubleDouble(1d), "1E-28");
+            assertRelative(
+                    "-0.8427007929497148693412206350826092593",
+                    ErrorFuction.erfDoubleDouble(-1d), "1E-28");
+        }
+
+        @Test
+        public void test_erfc() {
+            assertRelative(
+                    "0.1572992070502851306587793649173907407",
+                    ErrorFuction.erfcDoubleDouble(1d), "1E-28");
+        }
+
+        @Test
+        public void test_特殊値() {
+            assertThat(ErrorFuction.erfDoubleDouble(Double.NaN)[0], is(Double.NaN));
+            assertThat(ErrorFuction.erfcDoubleDouble(Double.NaN)[0], is(Double.NaN));
+            assertThat(ErrorFuction.erfDoubleDouble(Double.POSITIVE_INFINITY)[0], is(1d));
+            assertThat(ErrorFuction.erfDoubleDouble(Double.NEGATIVE_INFINITY)[0], is(-1d));
+            assertThat(ErrorFuction.erfcDoubleDouble(Double.POSITIVE_INFINITY)[0], is(0d));
+            assertThat(ErrorFuction.erfcDoubleDouble(Double.NEGATIVE_INFINITY)[0], is(2d));
+        }
+    }
+}
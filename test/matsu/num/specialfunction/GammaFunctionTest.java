@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+/**
+ * {@link GammaFunction} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class GammaFunctionTest {
+
+    public static final Class<?> TEST_CLASS = GammaFunction.class;
+
+    private static void assertRelative(String expected, double[] hiLo, String relTol) {
+        assertThat(hiLo.length, is(2));
+        BigDecimal exp = new BigDecimal(expected);
+        BigDecimal diff = new BigDecimal(hiLo[0]).add(new BigDecimal(hiLo[1])).subtract(exp).abs();
+        assertThat(diff.compareTo(exp.abs().multiply(new BigDecimal(relTol))) <= 0, is(true));
+    }
+
+    public static class 拡張精度のlgammaのテスト {
+
+        @Test
+        public void test_半整数() {
+            // log(sqrt(pi))
+            assertRelative(
+                    "0.5723649429247000870717136756765293558",
+                    GammaFunction.lgammaDoubleDouble(0.5), "1E-28");
+        }
+
+        @Test
+        public void test_上位の値は倍精度の値に近い() {
+            for (double x : new double[] { 0.1, 3.5, 17d, 1E300 }) {
+                double[] hiLo = GammaFunction.lgammaDoubleDouble(x);
+                // 倍精度版の誤差は初等関数の計算方式 (fastを含む) に依存するため, 相対誤差で比較する
+                assertThat(Math.abs(hiLo[0] - GammaFunction.lgamma(x)) <= 1E-14 * Math.abs(hiLo[0]), is(true));
+                assertThat(Math.abs(hiLo[1]) <= Math.ulp(hiLo[0]) / 2, is(true));
+            }
+        }
+
+        @Test
+        public void test_特殊値() {
+            assertThat(GammaFunction.lgammaDoubleDouble(-1d)[0], is(Double.NaN));
+            assertThat(GammaFunction.lgammaDoubleDouble(Double.NaN)[0], is(Double.NaN));
+            assertThat(GammaFunction.lgammaDoubleDouble(0d)[0], is(Double.POSITIVE_INFINITY));
+            assertThat(GammaFunction.lgammaDoubleDouble(Double.MAX_VALUE)[0], is(Double.POSITIVE_INFINITY));
+            assertThat(GammaFunction.lgammaDoubleDouble(Double.POSITIVE_INFINITY)[0], is(Double.POSITIVE_INFINITY));
+        }
+    }
+}
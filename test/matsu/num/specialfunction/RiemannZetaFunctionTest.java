@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+/**
+ * {@link RiemannZetaFunction} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class RiemannZetaFunctionTest {
+
+    public static final Class<?> TEST_CLASS = RiemannZetaFunction.class;
+
+    private static void assertRelative(String expected, double[] hiLo, String relTol) {
+        assertThat(hiLo.length, is(2));
+        BigDecimal exp = new BigDecimal(expected);
+        BigDecimal diff = new BigDecimal(hiLo[0]).add(new BigDecimal(hiLo[1])).subtract(exp).abs();
+        assertThat(diff.compareTo(exp.abs().multiply(new BigDecimal(relTol))) <= 0, is(true));
+    }
+
+    public static class 拡張精度のzetaのテスト {
+
+        @Test
+        public void test_zeta2() {
+            // pi^2/6
+            assertRelative(
+                    "1.6449340668482264364724151666460251892",
+                    RiemannZetaFunction.zetaDoubleDouble(2d), "1E-28");
+        }
+
+        @Test
+        public void test_zeta3m1() {
+            assertRelative(
+                    "0.2020569031595942853997381615114499908",
+                    RiemannZetaFunction.zetam1DoubleDouble(3d), "1E-28");
+        }
+
+        @Test
+        public void test_特殊値() {
+            assertThat(RiemannZetaFunction.zetaDoubleDouble(0.5)[0], is(Double.NaN));
+            assertThat(RiemannZetaFunction.zetam1DoubleDouble(Double.NaN)[0], is(Double.NaN));
+            assertThat(RiemannZetaFunction.zetaDoubleDouble(1d)[0], is(Double.POSITIVE_INFINITY));
+            assertThat(RiemannZetaFunction.zetaDoubleDouble(Double.POSITIVE_INFINITY)[0], is(1d));
+            assertThat(RiemannZetaFunction.zetam1DoubleDouble(Double.POSITIVE_INFINITY)[0], is(0d));
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+package matsu.num.specialfunction.bessel.basecomponent;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.DoubleRelativeAssertion;
+
+/**
+ * {@link ModifiedBesselRatio} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class ModifiedBesselRatioTest {
+
+    public static final Class<?> TEST_CLASS = ModifiedBesselRatio.class;
+
+    @RunWith(Theories.class)
+    public static class 比の値のテスト {
+
+        private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+                new DoubleRelativeAssertion(2E-15);
+
+        /* 値は多倍長演算による級数の比から計算した */
+        /* {nu, x, I_{nu+1}(x)/I_nu(x)} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 0, 1E-300, 5.00000000000000012530E-301 },
+                { 0, 0.01, 4.99993750104164857984E-03 },
+                { 0, 1.0, 4.46389965896534512968E-01 },
+                { 0, 3.0, 8.09985293956504537327E-01 },
+                { 0, 10.0, 9.48599825954845932152E-01 },
+                { 0, 31.6, 9.84047863592386717890E-01 },
+                { 0, 100.0, 9.94987373005168818096E-01 },
+                { 0, 1000.0, 9.99499874874804294933E-01 },
+                { 0, 30000.0, 9.99983333194439771852E-01 },
+                { 0, 1000000.0, 9.99999499999875030021E-01 },
+                { 0.5, 1E-300, 3.33333333333333341686E-301 },
+                { 0.5, 0.01, 3.33331111132274945583E-03 },
+                { 0.5, 1.0, 3.13035285499331294989E-01 },
+                { 0.5, 3.0, 6.71636489980355855245E-01 },
+                { 0.5, 10.0, 9.00000004122307295518E-01 },
+                { 0.5, 31.6, 9.68354430379746888846E-01 },
+                { 0.5, 100.0, 9.89999999999999991118E-01 },
+                { 0.5, 1000.0, 9.98999999999999999112E-01 },
+                { 0.5, 30000.0, 9.99966666666666670338E-01 },
+                { 0.5, 1000000.0, 9.99998999999999971244E-01 },
+                { 1, 1E-300, 2.50000000000000006265E-301 },
+                { 1, 0.01, 2.49998958339843696877E-03 },
+                { 1, 1.0, 2.40193723870089748118E-01 },
+                { 1, 3.0, 5.67923649307266464881E-01 },
+                { 1, 10.0, 8.54185308323681558029E-01 },
+                { 1, 31.6, 9.52919592978735630062E-01 },
+                { 1, 100.0, 9.85037880008156840894E-01 },
+                { 1, 1000.0, 9.98500375375493076646E-01 },
+                { 1, 30000.0, 9.99950000416680584436E-01 },
+                { 1, 1000000.0, 9.99998500000375045715E-01 },
+                { 2, 1E-300, 1.66666666666666670843E-301 },
+                { 2, 0.01, 1.66666319445601843023E-03 },
+                { 2, 1.0, 1.63306117610534123896E-01 },
+                { 2, 3.0, 4.27466734104895940138E-01 },
+                { 2, 10.0, 7.70706157382262002642E-01 },
+                { 2, 31.6, 9.22824205936099151160E-01 },
+                { 2, 100.0, 9.75189385398782082603E-01 },
+                { 2, 1000.0, 9.97501876876053295007E-01 },
+                { 2, 30000.0, 9.99916668750069459470E-01 },
+                { 2, 1000000.0, 9.99997500001875039288E-01 },
+                { 10.5, 1E-300, 4.34782608695652198323E-302 },
+                { 10.5, 0.01, 4.34782533081309820102E-04 },
+                { 10.5, 1.0, 4.34028891037746278325E-02 },
+                { 10.5, 3.0, 1.28450414871969315067E-01 },
+                { 10.5, 10.0, 3.76914845626591332728E-01 },
+                { 10.5, 31.6, 7.07177902996812712821E-01 },
+                { 10.5, 100.0, 8.95540179561166826971E-01 },
+                { 10.5, 1000.0, 9.89055053564177999448E-01 },
+                { 10.5, 30000.0, 9.99633394446479695006E-01 },
+                { 10.5, 1000000.0, 9.99989000055000021305E-01 },
+                { 100, 1E-300, 4.95049504950495088840E-303 },
+                { 100, 0.01, 4.95049503749151844950E-05 },
+                { 100, 1.0, 4.95037492095884868598E-03 },
+                { 100, 3.0, 1.48482429242159496424E-02 },
+                { 100, 10.0, 4.93853901578858167642E-02 },
+                { 100, 31.6, 1.52816639083446448311E-01 },
+                { 100, 100.0, 4.11720230444277246473E-01 },
+                { 100, 1000.0, 9.04492395447105135275E-01 },
+                { 100, 30000.0, 9.96655555586423158587E-01 },
+                { 100, 1000000.0, 9.99899504999880006650E-01 },
+                { 100.5, 1E-300, 4.92610837438423688608E-303 },
+                { 100.5, 0.01, 4.92610836254689845996E-05 },
+                { 100.5, 1.0, 4.92599000663393286892E-03 },
+                { 100.5, 3.0, 1.47751304101228046750E-02 },
+                { 100.5, 10.0, 4.91432704563384697982E-02 },
+                { 100.5, 31.6, 1.52097510603027452625E-01 },
+                { 100.5, 100.0, 4.10272646022835918433E-01 },
+                { 100.5, 1000.0, 9.04042319659226434325E-01 },
+                { 100.5, 30000.0, 9.96638944615746535938E-01 },
+                { 100.5, 1000000.0, 9.99899005050005063033E-01 },
+                { 1000, 1E-300, 4.99500499500499533072E-304 },
+                { 1000, 0.01, 4.99500499488049386291E-06 },
+                { 1000, 1.0, 4.99500374999189739218E-04 },
+                { 1000, 3.0, 1.49849813697952756464E-03 },
+                { 1000, 10.0, 4.99488049983310127694E-03 },
+                { 1000, 31.6, 1.57802891586061068419E-02 },
+                { 1000, 100.0, 4.98261647732118687082E-02 },
+                { 1000, 1000.0, 4.13963628703407027221E-01 },
+                { 1000, 30000.0, 9.67205419680314704145E-01 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(
+                    dataPair[2], ModifiedBesselRatio.ratio(dataPair[0], dataPair[1]));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 境界値のテスト {
+
+        @DataPoints
+        public static double[] nus = { 0, 0.5, 1, 10.5, 100 };
+
+        @Theory
+        public void test_x_0(double nu) {
+            assertThat(ModifiedBesselRatio.ratio(nu, 0), is(0d));
+        }
+
+        @Theory
+        public void test_正の無限大(double nu) {
+            assertThat(ModifiedBesselRatio.ratio(nu, Double.POSITIVE_INFINITY), is(1d));
+        }
+
+        @Theory
+        public void test_負やNaNは非数(double nu) {
+            assertThat(ModifiedBesselRatio.ratio(nu, -1E-300), is(Double.NaN));
+            assertThat(ModifiedBesselRatio.ratio(nu, Double.NEGATIVE_INFINITY), is(Double.NaN));
+            assertThat(ModifiedBesselRatio.ratio(nu, Double.NaN), is(Double.NaN));
+        }
+    }
+
+    public static class 連分数の切り替えのテスト {
+
+        @Test
+        public void test_切り替えの前後で連続() {
+            /* x^2 = 100(nu + 1) の前後 */
+            for (double nu : new double[] { 0, 2.5, 50 }) {
+                double x = Math.sqrt(100 * (nu + 1));
+                double below = ModifiedBesselRatio.ratio(nu, Math.nextDown(x));
+                double above = ModifiedBesselRatio.ratio(nu, Math.nextUp(x));
+                assertThat(Math.abs(above / below - 1), is(lessThan(1E-15)));
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.bessel.basecomponent;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.DoubleRelativeAssertion;
+
+/**
+ * {@link TemmeCoefficients} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class TemmeCoefficientsTest {
+
+    public static final Class<?> TEST_CLASS = TemmeCoefficients.class;
+
+    private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+            new DoubleRelativeAssertion(1E-15);
+
+    public static class 係数の検証 {
+
+        @Test
+        public void test_mu_0() {
+            TemmeCoefficients coeffs = new TemmeCoefficients(0);
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(-0.5772156649015329, coeffs.gamma1());
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(1d, coeffs.gamma2());
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(1d, coeffs.invGammaOnePlusMu());
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(1d, coeffs.invGammaOneMinusMu());
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(1d, coeffs.piMuOverSinPiMu());
+        }
+
+        @Test
+        public void test_mu_0_5() {
+            // 1/Gamma(1/2) = 1/sqrt(pi), 1/Gamma(3/2) = 2/sqrt(pi)
+            TemmeCoefficients coeffs = new TemmeCoefficients(0.5);
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(-0.5641895835477563, coeffs.gamma1());
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(0.8462843753216345, coeffs.gamma2());
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(1.1283791670955126, coeffs.invGammaOnePlusMu());
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(0.5641895835477563, coeffs.invGammaOneMinusMu());
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(Math.PI / 2, coeffs.piMuOverSinPiMu());
+        }
+
+        @Test
+        public void test_mu_負() {
+            // 値は多倍長演算により計算した
+            TemmeCoefficients coeffs = new TemmeCoefficients(-0.3);
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(-0.5730988744678931, coeffs.gamma1());
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(0.9423128462069339, coeffs.gamma2());
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(0.770383183866566, coeffs.invGammaOnePlusMu());
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(1.1142425085473019, coeffs.invGammaOneMinusMu());
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(1.16496662323528, coeffs.piMuOverSinPiMu());
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(5.556036835111471E-7, coeffs.invGammaOnePlusMuPlus(10));
+        }
+    }
+
+    public static class パラメータの検証 {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_範囲外のmuは例外() {
+            new TemmeCoefficients(0.51);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_NaNは例外() {
+            new TemmeCoefficients(Double.NaN);
+        }
+    }
+}
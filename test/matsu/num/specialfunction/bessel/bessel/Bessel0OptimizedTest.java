@@ -6,6 +6,15 @@
  */
 package matsu.num.specialfunction.bessel.bessel;
 
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assume;
+import org.junit.Ignore;
+import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.experimental.theories.DataPoints;
 import org.junit.experimental.theories.Theories;
@@ -13,6 +22,7 @@ import org.junit.experimental.theories.Theory;
 import org.junit.runner.RunWith;
 
 import matsu.num.specialfunction.DoubleRelativeAssertion;
+import matsu.num.specialfunction.speedutil.SpeedTestExecutor;
 
 /**
  * {@link Bessel0Optimized} クラスのテスト.
@@ -70,6 +80,48 @@ final class Bessel0OptimizedTest {
         }
     }
 
+    @RunWith(Theories.class)
+    public static class 第1種ベッセルの単精度版に関するテスト {
+
+        private static final DoubleRelativeAssertion FLOAT_RELATIVE_ASSERTION =
+                new DoubleRelativeAssertion(1E-6);
+
+        @DataPoints
+        public static double[][] dataPairs = 第1種ベッセルに関するテスト.dataPairs;
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            // 負の値はfloatへのキャスト時に-0に丸められることがある
+            // float の範囲を超える値は検証対象外
+            Assume.assumeFalse(dataPair[0] < 0);
+            Assume.assumeFalse(Math.abs(dataPair[1]) > Float.MAX_VALUE);
+
+            FLOAT_RELATIVE_ASSERTION.compareAndAssert(
+                    dataPair[1],
+                    BESSEL_0.besselJFloat((float) dataPair[0]));
+        }
+
+        @Test
+        public void test_負の値はNaN() {
+            assertThat(BESSEL_0.besselJFloat(-Float.MIN_VALUE), is(Float.NaN));
+        }
+
+        @Test
+        public void test_配列版はスカラー版と一致する() {
+            float[] xs = { 0f, 0.5f, 1.5f, 3f, 10f, 30f };
+            float[] results = new float[xs.length];
+            BESSEL_0.besselJFloat(xs, results);
+            for (int i = 0; i < xs.length; i++) {
+                assertThat(results[i], is(BESSEL_0.besselJFloat(xs[i])));
+            }
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_配列長の不一致は例外() {
+            BESSEL_0.besselJFloat(new float[3], new float[2]);
+        }
+    }
+
     @RunWith(Theories.class)
     public static class 第2種ベッセルに関するテスト {
 
@@ -112,4 +164,80 @@ final class Bessel0OptimizedTest {
                     BESSEL_0.besselY(dataPair[0]));
         }
     }
+
+    @Ignore
+    public static class 計算時間評価 {
+
+        /*
+         * 近似多項式の領域が入力ごとに入れ替わる場合と, 単一の領域に留まる場合を比較する.
+         * 前者では領域選択の分岐予測が外れやすい.
+         * 分岐予測器が周期を学習しないよう, 入力は 2^16 個の点を固定したシードでシャッフルする.
+         * 同じ入力を昇順に並べた場合 (領域の切り替えが稀で, 分岐予測が当たる) も比較する.
+         * 入力点は t = 1/(8x) について等間隔に取る.
+         * 領域は (int)(t * 128) により選ばれる.
+         */
+
+        private static final int SIZE = 1 << 16;
+        private static final double[] MIXED_XS = shuffledXs(1d / 512, 1d / 16, 1L);
+        private static final double[] SORTED_XS = sorted(MIXED_XS);
+        private static final double[] SINGLE_XS = shuffledXs(1d / 512, 1d / 128, 2L);
+
+        private double d = 0d;
+        private int index = 0;
+
+        private static double[] shuffledXs(double lower, double upper, long seed) {
+            double[] xs = new double[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                double t = lower + (upper - lower) * i / SIZE;
+                xs[i] = 0.125 / t;
+            }
+            Random random = new Random(seed);
+            for (int i = SIZE - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                double tmp = xs[i];
+                xs[i] = xs[j];
+                xs[j] = tmp;
+            }
+            return xs;
+        }
+
+        private static double[] sorted(double[] xs) {
+            double[] out = xs.clone();
+            Arrays.sort(out);
+            return out;
+        }
+
+        @Test
+        public void test_besselJの実行_領域混在() {
+            var executor = new SpeedTestExecutor(
+                    TEST_CLASS, "besselJ: mixed regions, t = 1/(8x) in [1/512 : 1/16]", 30_000_000,
+                    () -> {
+                        d += BESSEL_0.besselJ(MIXED_XS[index]);
+                        index = (index + 1) & (SIZE - 1);
+                    });
+            executor.execute();
+        }
+
+        @Test
+        public void test_besselJの実行_領域混在_昇順() {
+            var executor = new SpeedTestExecutor(
+                    TEST_CLASS, "besselJ: mixed regions, sorted, t = 1/(8x) in [1/512 : 1/16]", 30_000_000,
+                    () -> {
+                        d += BESSEL_0.besselJ(SORTED_XS[index]);
+                        index = (index + 1) & (SIZE - 1);
+                    });
+            executor.execute();
+        }
+
+        @Test
+        public void test_besselJの実行_単一領域() {
+            var executor = new SpeedTestExecutor(
+                    TEST_CLASS, "besselJ: single region, t = 1/(8x) in [1/512 : 1/128)", 30_000_000,
+                    () -> {
+                        d += BESSEL_0.besselJ(SINGLE_XS[index]);
+                        index = (index + 1) & (SIZE - 1);
+                    });
+            executor.execute();
+        }
+    }
 }
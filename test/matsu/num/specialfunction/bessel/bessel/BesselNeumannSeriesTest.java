@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.bessel.bessel;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.DoubleRelativeAssertion;
+import matsu.num.specialfunction.bessel.BesselFunction;
+
+/**
+ * {@link BesselNeumannSeries} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class BesselNeumannSeriesTest {
+
+    public static final Class<?> TEST_CLASS = BesselNeumannSeries.class;
+
+    /**
+     * 係数が c_n = 1 (n = order), それ以外は 0 である長さ length の配列を返す.
+     */
+    private static double[] unitCoefficients(int order, int length) {
+        double[] coefficients = new double[length];
+        coefficients[order] = 1;
+        return coefficients;
+    }
+
+    @RunWith(Theories.class)
+    public static class 単一項の値の検証 {
+
+        private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+                new DoubleRelativeAssertion(1E-14);
+
+        /* 値は多倍長演算によるべき級数から計算した */
+        /* {n, x, J_n(x)} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 0, 0.1, 9.9750156206604001507542989E-01 },
+                { 1, 0.1, 4.9937526036241998428355515E-02 },
+                { 10, 0.1, 2.6905328954342169296576124E-20 },
+                { 50, 0.1, 2.9201425690996437344826551E-130 },
+                { 100, 0.1, 8.4525165351217888791355272E-289 },
+                { 0, 1, 7.6519768655796660539181175E-01 },
+                { 1, 1, 4.4005058574493349787815077E-01 },
+                { 10, 1, 2.6306151236874534379999005E-10 },
+                { 50, 1, 2.9060049481732392367903307E-80 },
+                { 100, 1, 8.4318287896267086075989296E-189 },
+                { 0, 9.9, -2.4034110553476029092934141E-01 },
+                { 1, 9.9, 6.8369832283692047458778518E-02 },
+                { 10, 9.9, 1.9901352409053374437064576E-01 },
+                { 50, 9.9, 1.0903260149174573520306081E-30 },
+                { 100, 9.9, 2.4267840816912234393858104E-89 },
+                { 200, 9.9, 9.3582224730533981476162033E-237 },
+                { 0, 47.5, -1.0608271415889353184169863E-01 },
+                { 1, 47.5, 4.5235110474968018290375937E-02 },
+                { 10, 47.5, 9.3605379070996599932819038E-02 },
+                { 50, 47.5, 5.4390025191915089552985307E-02 },
+                { 100, 47.5, 1.2565174603997332635937062E-23 },
+                { 200, 47.5, 1.0196610098448880559138710E-101 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            int n = (int) dataPair[0];
+            double x = dataPair[1];
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(
+                    dataPair[2], BesselNeumannSeries.sum(unitCoefficients(n, n + 1), x));
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(
+                    dataPair[2], BesselNeumannSeries.sum(unitCoefficients(n, 400), x));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 大きな引数での単一項の値の検証 {
+
+        /* 値は多倍長演算によるべき級数から計算した */
+        /* {n, x, J_n(x)} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 0, 150, -7.7409037539429123749024075E-04 },
+                { 1, 150, -6.5145163657727364614480337E-02 },
+                { 10, 150, -2.0612788945218587371988050E-02 },
+                { 50, 150, -5.7300163341716066345288283E-02 },
+                { 100, 150, -1.5359526118405391476029465E-02 },
+                { 200, 150, 8.0577021983968543460013479E-14 },
+                { 399, 150, 5.3135839230817784760761745E-125 },
+                { 0, 300.25, -2.4377879030670072252329206E-02 },
+                { 1, 300.25, -3.9104892828043066876908540E-02 },
+                { 10, 300.25, 1.7569642080786658511204479E-02 },
+                { 50, 300.25, 2.1140159568046996974022278E-02 },
+                { 100, 300.25, -2.4629088942967350406298976E-02 },
+                { 200, 300.25, -9.8130121090641130726650587E-03 },
+                { 399, 300.25, 3.6697545114099435150405049E-25 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            int n = (int) dataPair[0];
+            double x = dataPair[1];
+            assertThat(
+                    BesselNeumannSeries.sum(unitCoefficients(n, n + 1), x),
+                    is(closeTo(dataPair[2], 2E-15)));
+            assertThat(
+                    BesselNeumannSeries.sum(unitCoefficients(n, 400), x),
+                    is(closeTo(dataPair[2], 2E-15)));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class Jacobi_Anger展開の検証 {
+
+        /*
+         * x sin(theta) の丸め誤差が右辺に x に比例する誤差を生むため,
+         * 許容誤差は x に比例させる.
+         */
+
+        @DataPoints
+        public static double[] xs = { 0.5, 5, 20, 80, 250 };
+
+        @Theory
+        public void test_cos(double x) {
+            for (double theta : new double[] { 0.3, 1, 2.5 }) {
+                /* cos(x sin(theta)) = J_0(x) + 2 sum_k J_2k(x) cos(2k theta) */
+                double[] coefficients = new double[400];
+                coefficients[0] = 1;
+                for (int n = 2; n < coefficients.length; n += 2) {
+                    coefficients[n] = 2 * Math.cos(n * theta);
+                }
+                assertThat(
+                        BesselNeumannSeries.sum(coefficients, x),
+                        is(closeTo(Math.cos(x * Math.sin(theta)), 1E-15 * (1 + x))));
+            }
+        }
+
+        @Theory
+        public void test_sin(double x) {
+            for (double theta : new double[] { 0.3, 1, 2.5 }) {
+                /* sin(x sin(theta)) = 2 sum_k J_2k+1(x) sin((2k+1) theta) */
+                double[] coefficients = new double[400];
+                for (int n = 1; n < coefficients.length; n += 2) {
+                    coefficients[n] = 2 * Math.sin(n * theta);
+                }
+                assertThat(
+                        BesselNeumannSeries.sum(coefficients, x),
+                        is(closeTo(Math.sin(x * Math.sin(theta)), 1E-15 * (1 + x))));
+            }
+        }
+    }
+
+    public static class 単一の次数の計算との比較 {
+
+        @Test
+        public void test_Bessel関数の値と一致する() {
+            for (int n = 0; n <= 100; n += 7) {
+                BesselFunction bessel = BesselFunction.instanceOf(n);
+                for (double x : new double[] { 0.7, 3, 12.5, 40, 90, 130 }) {
+                    double expected = bessel.besselJ(x);
+                    assertThat(
+                            BesselNeumannSeries.sum(unitCoefficients(n, 101), x),
+                            is(closeTo(expected, 1E-12 * Math.max(Math.abs(expected), 0.01))));
+                }
+            }
+        }
+    }
+
+    public static class 小さな引数のテスト {
+
+        /*
+         * 後退漸化式では 2/x 倍のステップでオーバーフローする領域を含む.
+         * 期待値はべき級数の主要項 (x/2)^n/n! による (相対誤差は x^2/4 程度).
+         */
+        private static final double[] xs = { 1E-7, 1E-9, 1E-150, 1E-300, Double.MIN_VALUE };
+
+        @Test
+        public void test_単一項が主要項と一致する() {
+            for (double x : xs) {
+                double expected = 1;
+                for (int n = 0; n <= 3; n++) {
+                    if (n > 0) {
+                        expected *= 0.5 * x / n;
+                    }
+                    assertThat(
+                            BesselNeumannSeries.sum(unitCoefficients(n, 10), x),
+                            is(closeTo(expected, 1E-14 * expected)));
+                }
+            }
+        }
+
+        @Test
+        public void test_和は先頭係数に一致する() {
+            double[] coefficients = { 0.25, 1, 2, 3 };
+            for (double x : new double[] { 1E-150, 1E-300, Double.MIN_VALUE }) {
+                assertThat(BesselNeumannSeries.sum(coefficients, x), is(0.25));
+                assertThat(BesselFunction.neumannSeries(coefficients, x), is(0.25));
+            }
+        }
+    }
+
+    public static class 境界値のテスト {
+
+        @Test
+        public void test_境界値() {
+            double[] coefficients = { 0.25, 1, 2 };
+            assertThat(BesselNeumannSeries.sum(coefficients, 0), is(0.25));
+            assertThat(BesselNeumannSeries.sum(coefficients, Double.POSITIVE_INFINITY), is(0d));
+            assertThat(BesselNeumannSeries.sum(coefficients, -1), is(Double.NaN));
+            assertThat(BesselNeumannSeries.sum(coefficients, Double.NaN), is(Double.NaN));
+            assertThat(BesselNeumannSeries.sum(new double[0], 1), is(0d));
+        }
+
+        @Test(expected = NullPointerException.class)
+        public void test_係数がnullは例外() {
+            BesselNeumannSeries.sum(null, 1);
+        }
+    }
+
+    public static class 配列版のテスト {
+
+        @Test
+        public void test_単一版と一致する() {
+            double[] coefficients = { 0.5, -1, 0.25, 3, 0, 1.5 };
+            double[] xs = { 0, 0.3, 2, 4.5, 5, 10, 100 };
+            double[] results = new double[xs.length];
+            BesselFunction.neumannSeries(coefficients, xs, results);
+            for (int i = 0; i < xs.length; i++) {
+                assertThat(results[i], is(BesselFunction.neumannSeries(coefficients, xs[i])));
+            }
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_長さの不一致は例外() {
+            BesselFunction.neumannSeries(new double[3], new double[3], new double[2]);
+        }
+    }
+}
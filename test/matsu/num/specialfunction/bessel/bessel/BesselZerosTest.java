@@ -0,0 +1,209 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.bessel.bessel;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.DoubleRelativeAssertion;
+import matsu.num.specialfunction.bessel.BesselFunction;
+
+/**
+ * {@link BesselZeros} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class BesselZerosTest {
+
+    public static final Class<?> TEST_CLASS = BesselZeros.class;
+
+    private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+            new DoubleRelativeAssertion(5E-15);
+
+    @RunWith(Theories.class)
+    public static class Jの零点の検証 {
+
+        /* 値は多倍長演算によるべき級数を用いた Newton 法により計算した */
+        /* {n, k, j_n,k} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 0, 1, 2.4048255576957728862907970E+00 },
+                { 0, 2, 5.5200781102863105687106327E+00 },
+                { 0, 5, 1.4930917708487786654814045E+01 },
+                { 0, 20, 6.2048469190227166336626397E+01 },
+                { 0, 100, 3.1337426607752786367200315E+02 },
+                { 1, 1, 3.8317059702075124683062768E+00 },
+                { 1, 2, 7.0155866698156188476787065E+00 },
+                { 1, 5, 1.6470630050877634431572005E+01 },
+                { 1, 20, 6.3611356698481230864672398E+01 },
+                { 1, 100, 3.1494347283776716039938037E+02 },
+                { 2, 1, 5.1356223018406828018100896E+00 },
+                { 2, 2, 8.4172441403998643494333010E+00 },
+                { 2, 5, 1.7959819494987826260512520E+01 },
+                { 2, 20, 6.5159273190757801330619259E+01 },
+                { 2, 100, 3.1650953586812840967468219E+02 },
+                { 10, 1, 1.4475500686554541474038160E+01 },
+                { 10, 2, 1.8433463666966581229189615E+01 },
+                { 10, 5, 2.8887375063530456031912763E+01 },
+                { 10, 20, 7.7106734246861293513575220E+01 },
+                { 10, 100, 3.2893019159487573688238626E+02 },
+                { 50, 1, 5.7116899160119174894134630E+01 },
+                { 50, 2, 6.2807698764835357962965645E+01 },
+                { 50, 5, 7.6437072182667947117806762E+01 },
+                { 50, 20, 1.3091815372195216582440480E+02 },
+                { 50, 100, 3.8869366006560591131346882E+02 },
+                { 100, 1, 1.0883616589840977439962444E+02 },
+                { 100, 2, 1.1573935123918876399784494E+02 },
+                { 100, 5, 1.3182393465391845666090376E+02 },
+                { 100, 20, 1.9251777030049632344343991E+02 },
+                { 100, 100, 4.5952954657546746375373914E+02 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            BesselFunction bessel = BesselFunction.instanceOf((int) dataPair[0]);
+            int k = (int) dataPair[1];
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(dataPair[2], bessel.besselJZero(k));
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(dataPair[2], bessel.besselJZeros(k)[k - 1]);
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class Yの零点の検証 {
+
+        /* 値は多倍長演算によるべき級数を用いた Newton 法により計算した */
+        /* {n, k, y_n,k} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 0, 1, 8.9357696627916749498865556E-01 },
+                { 0, 2, 3.9576784193148579760190842E+00 },
+                { 0, 5, 1.3361097473872764140878644E+01 },
+                { 0, 20, 6.0477725164223478770963993E+01 },
+                { 0, 100, 3.1180347176018716481848969E+02 },
+                { 1, 1, 2.1971413260310170834088694E+00 },
+                { 1, 2, 5.4296810407941347165206025E+00 },
+                { 1, 5, 1.4897442128336725986059719E+01 },
+                { 1, 20, 6.2040411147670695868328039E+01 },
+                { 1, 100, 3.1337267054263594445728813E+02 },
+                { 2, 1, 3.3842417671495934605729872E+00 },
+                { 2, 2, 6.7938075132682671508632666E+00 },
+                { 2, 5, 1.6378966558947457343720089E+01 },
+                { 2, 20, 6.3587765799737596239538107E+01 },
+                { 2, 100, 3.1493870999429054791107774E+02 },
+                { 10, 1, 1.2128927704415438881824230E+01 },
+                { 10, 2, 1.6522284394784424677027346E+01 },
+                { 10, 5, 2.7206568881574774820819584E+01 },
+                { 10, 20, 7.5522312738500360751459084E+01 },
+                { 10, 100, 3.2735866720165023480149102E+02 },
+                { 50, 1, 5.3502858820400362560576468E+01 },
+                { 50, 2, 6.0112444427740584274033608E+01 },
+                { 50, 5, 7.4338747166755752004974056E+01 },
+                { 50, 20, 1.2921663635446117268656963E+02 },
+                { 50, 100, 3.8710965098249437232880155E+02 },
+                { 100, 1, 1.0438020425686610792581632E+02 },
+                { 100, 2, 1.1248596483026810233241122E+02 },
+                { 100, 5, 1.2938248572580650375130062E+02 },
+                { 100, 20, 1.9067627547470976878685178E+02 },
+                { 100, 100, 4.5792004242685618464747677E+02 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            BesselFunction bessel = BesselFunction.instanceOf((int) dataPair[0]);
+            int k = (int) dataPair[1];
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(dataPair[2], bessel.besselYZero(k));
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(dataPair[2], bessel.besselYZeros(k)[k - 1]);
+        }
+    }
+
+    public static class 零点の性質のテスト {
+
+        @Test
+        public void test_零点の飛び越しがない() {
+            /* j_n,k < j_n+1,k < j_n,k+1, y_n,k < y_n+1,k < y_n,k+1 (交互性) */
+            for (int n = 0; n < 100; n++) {
+                double[] jn = BesselFunction.instanceOf(n).besselJZeros(60);
+                double[] jn1 = BesselFunction.instanceOf(n + 1).besselJZeros(60);
+                double[] yn = BesselFunction.instanceOf(n).besselYZeros(60);
+                double[] yn1 = BesselFunction.instanceOf(n + 1).besselYZeros(60);
+                for (int i = 0; i < 59; i++) {
+                    assertThat(jn[i] < jn1[i] && jn1[i] < jn[i + 1], is(true));
+                    assertThat(yn[i] < yn1[i] && yn1[i] < yn[i + 1], is(true));
+                    /* y_n,k < j_n,k < y_n,k+1 */
+                    assertThat(yn[i] < jn[i] && jn[i] < yn[i + 1], is(true));
+                }
+            }
+        }
+
+        @Test
+        public void test_零点で関数値が十分小さい() {
+            for (int n : new int[] { 0, 3, 40, 100 }) {
+                BesselFunction bessel = BesselFunction.instanceOf(n);
+                double[] zerosJ = bessel.besselJZeros(BesselZeros.MAX_INDEX);
+                double[] zerosY = bessel.besselYZeros(BesselZeros.MAX_INDEX);
+                for (int i = 0; i < zerosJ.length; i += 97) {
+                    /* 関数の振幅は sqrt(2/(pi x)) 程度であり, 零点の相対誤差 1E-15 に相当する値と比較する */
+                    double x = zerosJ[i];
+                    assertThat(Math.abs(bessel.besselJ(x)), is(lessThan(1E-15 * Math.sqrt(x))));
+                    double y = zerosY[i];
+                    assertThat(Math.abs(bessel.besselY(y)), is(lessThan(1E-15 * Math.sqrt(y))));
+                }
+            }
+        }
+    }
+
+    public static class キャッシュのテスト {
+
+        @Test
+        public void test_返される配列はキャッシュと独立である() {
+            BesselFunction bessel = BesselFunction.instanceOf(7);
+            double expected = bessel.besselJZero(3);
+            double[] zeros = bessel.besselJZeros(5);
+            zeros[2] = 0;
+            assertThat(bessel.besselJZero(3), is(expected));
+            assertThat(bessel.besselJZeros(0).length, is(0));
+        }
+
+        @Test
+        public void test_並行して取得しても同じ値が返る() {
+            double[] expected = BesselFunction.instanceOf(13).besselYZeros(3000);
+            IntStream.rangeClosed(1, 3000).parallel().forEach(k -> {
+                int n = k % 50;
+                assertThat(
+                        BesselFunction.instanceOf(n).besselJZero(k),
+                        is(BesselFunction.instanceOf(n).besselJZeros(k)[k - 1]));
+            });
+            assertThat(BesselFunction.instanceOf(13).besselYZeros(3000), is(expected));
+        }
+    }
+
+    public static class 例外のテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_番号0は例外() {
+            BesselFunction.instanceOf(2).besselJZero(0);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_番号が上限を超えると例外() {
+            BesselFunction.instanceOf(2).besselYZero(BesselZeros.MAX_INDEX + 1);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_個数が負は例外() {
+            BesselFunction.instanceOf(2).besselJZeros(-1);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.bessel.bessel;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.bessel.BesselFunction;
+
+/**
+ * {@link CompiledBessel} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class CompiledBesselTest {
+
+    public static final Class<?> TEST_CLASS = CompiledBessel.class;
+
+    private static final double TOLERANCE = 1E-10;
+
+    public static class 区間内の値に関するテスト {
+
+        @Test
+        public void test_元のインスタンスとの差が許容誤差以内() {
+            for (int order : new int[] { 0, 1, 5, 30 }) {
+                BesselFunction original = BesselFunctionFactory.instanceOf(order);
+                BesselFunction compiled = original.compile(0, 60, TOLERANCE);
+
+                Random random = new Random(1L);
+                for (int i = 0; i < 10000; i++) {
+                    double x = 60 * random.nextDouble();
+                    double j = original.besselJ(x);
+                    double y = original.besselY(x);
+                    assertThat(
+                            Math.abs(compiled.besselJ(x) - j) <= TOLERANCE * Math.max(1, Math.abs(j)),
+                            is(true));
+                    assertThat(
+                            Math.abs(compiled.besselY(x) - y) <= TOLERANCE * Math.max(1, Math.abs(y)),
+                            is(true));
+                }
+            }
+        }
+    }
+
+    public static class 小さな値に関するテスト {
+
+        @Test
+        public void test_原点近傍のJで相対誤差が許容誤差以内() {
+            double tolerance = 1E-12;
+            BesselFunction original = BesselFunctionFactory.instanceOf(5);
+            BesselFunction compiled = original.compile(0, 50, tolerance);
+
+            for (int i = 0; i <= 10000; i++) {
+                double x = 0.5 * i / 10000d;
+                double j = original.besselJ(x);
+                assertThat(Math.abs(compiled.besselJ(x) - j) <= tolerance * j, is(true));
+            }
+        }
+    }
+
+    public static class 区間外の値に関するテスト {
+
+        @Test
+        public void test_区間外は元のインスタンスと一致() {
+            BesselFunction original = BesselFunctionFactory.instanceOf(1);
+            BesselFunction compiled = original.compile(1, 10, TOLERANCE);
+
+            for (double x : new double[] { 0, 0.5, 10.5, 1000, -1, Double.POSITIVE_INFINITY, Double.NaN }) {
+                assertThat(compiled.besselJ(x), is(original.besselJ(x)));
+                assertThat(compiled.besselY(x), is(original.besselY(x)));
+            }
+        }
+
+        @Test
+        public void test_単精度版は元のインスタンスと一致() {
+            BesselFunction original = BesselFunctionFactory.instanceOf(0);
+            BesselFunction compiled = original.compile(0, 10, TOLERANCE);
+
+            for (float x : new float[] { 0f, 0.5f, 3f, 20f }) {
+                assertThat(compiled.besselJFloat(x), is(original.besselJFloat(x)));
+            }
+        }
+    }
+
+    public static class 構築に関するテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_負の下端は例外() {
+            BesselFunctionFactory.instanceOf(0).compile(-1, 10, TOLERANCE);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_空の区間は例外() {
+            BesselFunctionFactory.instanceOf(0).compile(10, 10, TOLERANCE);
+        }
+
+        @Test
+        public void test_次数が保たれる() {
+            assertThat(BesselFunctionFactory.instanceOf(3).compile(0, 10, TOLERANCE).order(), is(3));
+        }
+    }
+
+    public static class toString表示 {
+
+        @Test
+        public void test_toString() {
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(BesselFunctionFactory.instanceOf(3).compile(0, 10, TOLERANCE));
+            System.out.println();
+        }
+    }
+}
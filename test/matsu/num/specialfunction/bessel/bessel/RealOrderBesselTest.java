@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.bessel.bessel;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.DoubleRelativeAssertion;
+import matsu.num.specialfunction.bessel.RealOrderBesselFunction;
+
+/**
+ * {@link RealOrderBessel} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class RealOrderBesselTest {
+
+    public static final Class<?> TEST_CLASS = RealOrderBessel.class;
+
+    private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+            new DoubleRelativeAssertion(1E-14);
+
+    @RunWith(Theories.class)
+    public static class J_nuの値の検証 {
+
+        /* 値は多倍長演算によるべき級数から計算した */
+        /* {nu, x, J_nu(x)} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 0.3, 0.01, 2.2733294197947475561727166E-1 },
+                { 0.3, 1.5, 6.3095776797879694369732760E-1 },
+                { 0.3, 5, -2.9682911012576075751222026E-1 },
+                { 0.3, 15, 8.0045072038934181249015173E-2 },
+                { 0.3, 30, -1.3011079142417547185593476E-1 },
+                { 0.3, 150, -3.0246391350782191486355778E-2 },
+                { 1.7, 0.01, 7.9324038938818928005386071E-5 },
+                { 1.7, 1.5, 3.2031432862133153308475857E-1 },
+                { 1.7, 5, -8.5089767345250405926712246E-2 },
+                { 1.7, 15, 1.2282092162639584292133623E-1 },
+                { 1.7, 30, 1.6771672441977255823518198E-2 },
+                { 1.7, 150, -2.9446343992932028123085734E-2 },
+                { 10.25, 0.01, 3.9633169028957259551378997E-31 },
+                { 10.25, 1.5, 7.6073939276753219748167078E-9 },
+                { 10.25, 5, 1.0361575705213813119494832E-3 },
+                { 10.25, 15, -4.2851121332524214094160668E-2 },
+                { 10.25, 30, -1.0131531247230178809473150E-1 },
+                { 10.25, 150, 3.5363103248989336406892146E-3 },
+                { 50.5, 0.01, 2.8986079421613952525188242E-182 },
+                { 50.5, 1.5, 2.2390009080638118646335954E-72 },
+                { 50.5, 5, 5.0980978205288275584802839E-46 },
+                { 50.5, 15, 2.3734144505411525430625627E-22 },
+                { 50.5, 30, 1.1756536595053053746508376E-8 },
+                { 50.5, 150, -6.6982770984378533643436987E-2 },
+                { 99.9, 1.5, 5.5768703359305855899989231E-171 },
+                { 99.9, 5, 9.0675280328580655989121715E-119 },
+                { 99.9, 15, 2.5470236275973724934551216E-71 },
+                { 99.9, 30, 5.5251754287913998023255894E-42 },
+                { 99.9, 150, -2.1506576428107266936395434E-2 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            RealOrderBesselFunction bessel = RealOrderBesselFunctionFactory.instanceOf(dataPair[0]);
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(dataPair[2], bessel.besselJ(dataPair[1]));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class Y_nuの値の検証 {
+
+        /* 値は多倍長演算によるべき級数 (J_nu, J_-nu の結合) から計算した */
+        /* {nu, x, Y_nu(x)} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 0.3, 0.01, -4.5018849277250570089817184 },
+                { 0.3, 1.5, 1.2573091853294628546874091E-1 },
+                { 0.3, 5, -1.9705687911614494825088558E-1 },
+                { 0.3, 15, 1.8978704021449617689482603E-1 },
+                { 0.3, 30, -6.5497771941121579199818874E-2 },
+                { 0.3, 150, -5.7699848672929790600366291E-2 },
+                { 1.7, 0.01, -2.3605210946172128905301354E3 },
+                { 1.7, 1.5, -7.7630030056545511553401707E-1 },
+                { 1.7, 5, 3.5626412768764786328471306E-1 },
+                { 1.7, 15, -1.6615009246822551978158648E-1 },
+                { 1.7, 30, 1.4481198245941209522288297E-1 },
+                { 1.7, 150, 5.8114487312643681649801986E-2 },
+                { 10.25, 0.01, -7.8355172509124375537151683E28 },
+                { 10.25, 1.5, -4.1270462267379738391270701E6 },
+                { 10.25, 5, -3.4435179526209014160073227E1 },
+                { 10.25, 15, 2.3617444925283255133476167E-1 },
+                { 10.25, 30, 1.1094158845538063689682018E-1 },
+                { 10.25, 150, 6.5127149619571225777733435E-2 },
+                { 50.5, 0.01, -2.1745494086975954640289835E179 },
+                { 50.5, 1.5, -2.8164122273785955969369398E69 },
+                { 50.5, 5, -1.2424835150314190318707518E43 },
+                { 50.5, 15, -2.7813257558171938860911903E19 },
+                { 50.5, 30, -6.6667992374087352066321499E5 },
+                { 50.5, 150, 4.5280862802923530789363551E-3 },
+                { 99.9, 1.5, -5.7140371334996680601397000E167 },
+                { 99.9, 5, -3.5183612189854146106216897E115 },
+                { 99.9, 15, -1.2653300508514940847770585E68 },
+                { 99.9, 30, -6.0459361570920808625833348E38 },
+                { 99.9, 150, 7.2294619875068627871356289E-2 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            RealOrderBesselFunction bessel = RealOrderBesselFunctionFactory.instanceOf(dataPair[0]);
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(dataPair[2], bessel.besselY(dataPair[1]));
+        }
+    }
+
+    public static class 半整数次の閉じた形との比較 {
+
+        @Test
+        public void test_次数1_2() {
+            RealOrderBesselFunction bessel = RealOrderBesselFunctionFactory.instanceOf(0.5);
+            for (double x : new double[] { 1E-10, 0.3, 1.9, 2.1, 13.7, 21, 1E5 }) {
+                double amp = Math.sqrt(2 / (Math.PI * x));
+                /*
+                 * sin(x), cos(x) の相対的な誤差は0付近で大きくなるため,
+                 * 絶対誤差を包絡線 amp で評価する.
+                 */
+                assertThat(Math.abs(bessel.besselJ(x) - amp * Math.sin(x)), is(lessThan(4E-15 * amp)));
+                assertThat(Math.abs(bessel.besselY(x) + amp * Math.cos(x)), is(lessThan(4E-15 * amp)));
+            }
+        }
+    }
+
+    public static class 境界値のテスト {
+
+        @Test
+        public void test_負の引数はNaN() {
+            RealOrderBesselFunction bessel = RealOrderBesselFunctionFactory.instanceOf(2.5);
+            assertThat(bessel.besselJ(-1E-300), is(Double.NaN));
+            assertThat(bessel.besselY(Double.NaN), is(Double.NaN));
+        }
+
+        @Test
+        public void test_ゼロでの値() {
+            assertThat(RealOrderBesselFunctionFactory.instanceOf(0).besselJ(0), is(1d));
+            RealOrderBesselFunction bessel = RealOrderBesselFunctionFactory.instanceOf(0.7);
+            assertThat(bessel.besselJ(0), is(0d));
+            assertThat(bessel.besselY(0), is(Double.NEGATIVE_INFINITY));
+        }
+
+        @Test
+        public void test_無限大での値() {
+            RealOrderBesselFunction bessel = RealOrderBesselFunctionFactory.instanceOf(0.7);
+            assertThat(bessel.besselJ(Double.POSITIVE_INFINITY), is(0d));
+            assertThat(bessel.besselY(Double.POSITIVE_INFINITY), is(0d));
+        }
+
+        @Test
+        public void test_小さなxでのYのオーバーフロー() {
+            RealOrderBesselFunction bessel = RealOrderBesselFunctionFactory.instanceOf(99.5);
+            assertThat(bessel.besselY(1E-10), is(Double.NEGATIVE_INFINITY));
+            assertThat(bessel.besselY(1E-300), is(Double.NEGATIVE_INFINITY));
+            assertThat(bessel.besselJ(1E-10), is(0d));
+        }
+    }
+
+    public static class ファクトリのテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_負の次数は例外() {
+            RealOrderBesselFunctionFactory.instanceOf(-0.1);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_上限を超える次数は例外() {
+            RealOrderBesselFunctionFactory.instanceOf(100.1);
+        }
+
+        @Test
+        public void test_次数を返す() {
+            assertThat(RealOrderBesselFunctionFactory.instanceOf(2.75).order(), is(2.75));
+        }
+    }
+}
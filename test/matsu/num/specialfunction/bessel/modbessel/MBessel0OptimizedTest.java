@@ -6,6 +6,15 @@
  */
 package matsu.num.specialfunction.bessel.modbessel;
 
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assume;
+import org.junit.Ignore;
+import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.experimental.theories.DataPoints;
 import org.junit.experimental.theories.Theories;
@@ -13,6 +22,7 @@ import org.junit.experimental.theories.Theory;
 import org.junit.runner.RunWith;
 
 import matsu.num.specialfunction.DoubleRelativeAssertion;
+import matsu.num.specialfunction.speedutil.SpeedTestExecutor;
 
 /**
  * {@link MBessel0Optimized} クラスのテスト.
@@ -76,6 +86,48 @@ final class MBessel0OptimizedTest {
         }
     }
 
+    @RunWith(Theories.class)
+    public static class 第1種変形ベッセルの単精度版に関するテスト {
+
+        private static final DoubleRelativeAssertion FLOAT_RELATIVE_ASSERTION =
+                new DoubleRelativeAssertion(1E-6);
+
+        @DataPoints
+        public static double[][] dataPairs = 第1種変形ベッセルの値に関するテスト.dataPairs;
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            // 負の値はfloatへのキャスト時に-0に丸められることがある
+            // float の範囲を超える値は検証対象外
+            Assume.assumeFalse(dataPair[0] < 0);
+            Assume.assumeFalse(Math.abs(dataPair[1]) > Float.MAX_VALUE);
+
+            FLOAT_RELATIVE_ASSERTION.compareAndAssert(
+                    dataPair[1],
+                    M_BESSEL_0.besselIFloat((float) dataPair[0]));
+        }
+
+        @Test
+        public void test_負の値はNaN() {
+            assertThat(M_BESSEL_0.besselIFloat(-Float.MIN_VALUE), is(Float.NaN));
+        }
+
+        @Test
+        public void test_配列版はスカラー版と一致する() {
+            float[] xs = { 0f, 0.5f, 1.5f, 3f, 10f, 30f };
+            float[] results = new float[xs.length];
+            M_BESSEL_0.besselIFloat(xs, results);
+            for (int i = 0; i < xs.length; i++) {
+                assertThat(results[i], is(M_BESSEL_0.besselIFloat(xs[i])));
+            }
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_配列長の不一致は例外() {
+            M_BESSEL_0.besselIFloat(new float[3], new float[2]);
+        }
+    }
+
     @RunWith(Theories.class)
     public static class 第2種変形ベッセルの値に関するテスト {
 
@@ -218,4 +270,79 @@ final class MBessel0OptimizedTest {
                     M_BESSEL_0.besselKc(dataPair[0]));
         }
     }
+
+    @Ignore
+    public static class 計算時間評価 {
+
+        /*
+         * 近似多項式の領域が入力ごとに入れ替わる場合と, 単一の領域に留まる場合を比較する.
+         * 前者では領域選択の分岐予測が外れやすい.
+         * 分岐予測器が周期を学習しないよう, 入力は 2^16 個の点を固定したシードでシャッフルする.
+         * 同じ入力を昇順に並べた場合 (領域の切り替えが稀で, 分岐予測が当たる) も比較する.
+         * 入力点は x について等間隔に取る.
+         * 領域は (int)(x / 2) により選ばれる.
+         */
+
+        private static final int SIZE = 1 << 16;
+        private static final double[] MIXED_XS = shuffledXs(2, 24, 1L);
+        private static final double[] SORTED_XS = sorted(MIXED_XS);
+        private static final double[] SINGLE_XS = shuffledXs(18, 24, 2L);
+
+        private double d = 0d;
+        private int index = 0;
+
+        private static double[] shuffledXs(double lower, double upper, long seed) {
+            double[] xs = new double[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                xs[i] = lower + (upper - lower) * i / SIZE;
+            }
+            Random random = new Random(seed);
+            for (int i = SIZE - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                double tmp = xs[i];
+                xs[i] = xs[j];
+                xs[j] = tmp;
+            }
+            return xs;
+        }
+
+        private static double[] sorted(double[] xs) {
+            double[] out = xs.clone();
+            Arrays.sort(out);
+            return out;
+        }
+
+        @Test
+        public void test_besselIcの実行_領域混在() {
+            var executor = new SpeedTestExecutor(
+                    TEST_CLASS, "besselIc: mixed regions, x in [2 : 24)", 30_000_000,
+                    () -> {
+                        d += M_BESSEL_0.besselIc(MIXED_XS[index]);
+                        index = (index + 1) & (SIZE - 1);
+                    });
+            executor.execute();
+        }
+
+        @Test
+        public void test_besselIcの実行_領域混在_昇順() {
+            var executor = new SpeedTestExecutor(
+                    TEST_CLASS, "besselIc: mixed regions, sorted, x in [2 : 24)", 30_000_000,
+                    () -> {
+                        d += M_BESSEL_0.besselIc(SORTED_XS[index]);
+                        index = (index + 1) & (SIZE - 1);
+                    });
+            executor.execute();
+        }
+
+        @Test
+        public void test_besselIcの実行_単一領域() {
+            var executor = new SpeedTestExecutor(
+                    TEST_CLASS, "besselIc: single region, x in [18 : 24)", 30_000_000,
+                    () -> {
+                        d += M_BESSEL_0.besselIc(SINGLE_XS[index]);
+                        index = (index + 1) & (SIZE - 1);
+                    });
+            executor.execute();
+        }
+    }
 }
@@ -6,6 +6,11 @@
  */
 package matsu.num.specialfunction.bessel.modbessel;
 
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Assume;
+import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.experimental.theories.DataPoints;
 import org.junit.experimental.theories.Theories;
@@ -76,6 +81,48 @@ final class MBessel1OptimizedTest {
         }
     }
 
+    @RunWith(Theories.class)
+    public static class 第1種変形ベッセルの単精度版に関するテスト {
+
+        private static final DoubleRelativeAssertion FLOAT_RELATIVE_ASSERTION =
+                new DoubleRelativeAssertion(1E-6);
+
+        @DataPoints
+        public static double[][] dataPairs = 第1種変形ベッセルの値に関するテスト.dataPairs;
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            // 負の値はfloatへのキャスト時に-0に丸められることがある
+            // float の範囲を超える値は検証対象外
+            Assume.assumeFalse(dataPair[0] < 0);
+            Assume.assumeFalse(Math.abs(dataPair[1]) > Float.MAX_VALUE);
+
+            FLOAT_RELATIVE_ASSERTION.compareAndAssert(
+                    dataPair[1],
+                    M_BESSEL_1.besselIFloat((float) dataPair[0]));
+        }
+
+        @Test
+        public void test_負の値はNaN() {
+            assertThat(M_BESSEL_1.besselIFloat(-Float.MIN_VALUE), is(Float.NaN));
+        }
+
+        @Test
+        public void test_配列版はスカラー版と一致する() {
+            float[] xs = { 0f, 0.5f, 1.5f, 3f, 10f, 30f };
+            float[] results = new float[xs.length];
+            M_BESSEL_1.besselIFloat(xs, results);
+            for (int i = 0; i < xs.length; i++) {
+                assertThat(results[i], is(M_BESSEL_1.besselIFloat(xs[i])));
+            }
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_配列長の不一致は例外() {
+            M_BESSEL_1.besselIFloat(new float[3], new float[2]);
+        }
+    }
+
     @RunWith(Theories.class)
     public static class 第2種変形ベッセルの値に関するテスト {
 
@@ -0,0 +1,258 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.bessel.modbessel;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.DoubleRelativeAssertion;
+import matsu.num.specialfunction.bessel.ModifiedBesselFunction;
+import matsu.num.specialfunction.bessel.RealOrderModifiedBesselFunction;
+
+/**
+ * {@link RealOrderModifiedBessel} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class RealOrderModifiedBesselTest {
+
+    public static final Class<?> TEST_CLASS = RealOrderModifiedBessel.class;
+
+    private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+            new DoubleRelativeAssertion(1E-14);
+
+    @RunWith(Theories.class)
+    public static class I_nuの値の検証 {
+
+        /* 値は多倍長演算によるべき級数から計算した */
+        /* {nu, x, I_nu(x)} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 0.3, 0.01, 2.2734168572231438078770520E-1 },
+                { 0.3, 1.5, 1.5216267795390422549460229 },
+                { 0.3, 5, 2.6962093779437942725417811E1 },
+                { 0.3, 15, 3.3859537859625020769007841E5 },
+                { 0.3, 30, 7.8048042139983352914181567E11 },
+                { 0.3, 150, 4.5422300165399432845570282E63 },
+                { 1.7, 0.01, 7.9325507916104584589429261E-5 },
+                { 1.7, 1.5, 4.8622268779224534217717589E-1 },
+                { 1.7, 5, 1.9748516040401816063670742E1 },
+                { 1.7, 15, 3.0742658153877641175651119E5 },
+                { 1.7, 30, 7.4430416928697244725970149E11 },
+                { 1.7, 150, 4.4998925469981016219250726E63 },
+                { 10.25, 0.01, 3.9633345176766605318036935E-31 },
+                { 10.25, 1.5, 8.4074791646658159355276229E-9 },
+                { 10.25, 5, 3.1520336563391722758256429E-3 },
+                { 10.25, 15, 1.0432435516432952852195127E4 },
+                { 10.25, 30, 1.3406193571671729635220107E11 },
+                { 10.25, 150, 3.1978340683666098267900410E63 },
+                { 50.5, 0.01, 2.8986107563452294788149054E-182 },
+                { 50.5, 1.5, 2.2884492482336761723554722E-72 },
+                { 50.5, 5, 6.4986001287179058969527380E-46 },
+                { 50.5, 15, 2.1103000217586237603604482E-21 },
+                { 50.5, 30, 7.6341354492746482850450376E-5 },
+                { 50.5, 150, 9.7172066397222264782888100E59 },
+                { 99.9, 1.5, 5.6393984413861428421729463E-171 },
+                { 99.9, 5, 1.0263405950639011987828693E-118 },
+                { 99.9, 15, 7.7672239216576075350842118E-71 },
+                { 99.9, 30, 4.7846783584669583212783403E-40 },
+                { 99.9, 150, 4.4069082959801953400761052E49 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            RealOrderModifiedBesselFunction bessel =
+                    RealOrderModifiedBesselFunctionFactory.instanceOf(dataPair[0]);
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(dataPair[2], bessel.besselI(dataPair[1]));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class K_nuの値の検証 {
+
+        /* 値は多倍長演算による積分表示 (台形則) から計算した */
+        /* {nu, x, K_nu(x)} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 0.3, 0.01, 6.8901026382927695431739739 },
+                { 0.3, 1.5, 2.1893795473217301824890015E-1 },
+                { 0.3, 5, 3.7216693288734254970012551E-3 },
+                { 0.3, 15, 9.8481180411382837560227546E-8 },
+                { 0.3, 30, 2.1356270283260948772099491E-14 },
+                { 0.3, 150, 7.3385653608486752349241571E-67 },
+                { 1.7, 0.01, 3.7076330878543871787843041E3 },
+                { 1.7, 1.5, 4.4583962452821623828890350E-1 },
+                { 1.7, 5, 4.8026033101904889849461368E-3 },
+                { 1.7, 15, 1.0779224162274460910462761E-7 },
+                { 1.7, 30, 2.2359454624763856897053372E-14 },
+                { 1.7, 150, 7.4071497199943142100020117E-67 },
+                { 10.25, 0.01, 1.2307935186712106133872734E29 },
+                { 10.25, 1.5, 5.7403375794615214323671823E6 },
+                { 10.25, 5, 1.3901454760652625152495686E1 },
+                { 10.25, 15, 2.6376635815353502202570842E-6 },
+                { 10.25, 30, 1.1764975485852835608070200E-13 },
+                { 10.25, 150, 1.0399526316296786088450423E-66 },
+                { 50.5, 0.01, 3.4157707733409463850926996E179 },
+                { 50.5, 1.5, 4.3245982541629627738753821E69 },
+                { 50.5, 5, 1.5161413157094605904536449E43 },
+                { 50.5, 15, 4.4974779636914660256074673E18 },
+                { 50.5, 30, 1.1149972577909085192802804E2 },
+                { 50.5, 150, 3.2510488069314989252340992E-63 },
+                { 99.9, 1.5, 8.8740685820105297871411221E167 },
+                { 99.9, 5, 4.8704566224339781386957909E115 },
+                { 99.9, 15, 6.3723116132695009592542217E67 },
+                { 99.9, 30, 1.0018463686869371483448383E37 },
+                { 99.9, 150, 6.2954574486742397178936780E-53 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            RealOrderModifiedBesselFunction bessel =
+                    RealOrderModifiedBesselFunctionFactory.instanceOf(dataPair[0]);
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(dataPair[2], bessel.besselK(dataPair[1]));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class スケーリングしたI_nuの値の検証_大きなx {
+
+        /* 値は多倍長演算によるべき級数 (x = 800), 漸近展開 (x = 10000) から計算した */
+        /* {nu, x, I_nu(x)exp(-x)} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 0.3, 800, 1.4106151015946849200551882E-2 },
+                { 0.3, 10000, 3.9894547211203665111295506E-3 },
+                { 10.25, 800, 1.3209852769923139885280121E-2 },
+                { 10.25, 10000, 3.9685693844358361765227390E-3 },
+                { 50.5, 800, 2.8642142957159815834171566E-3 },
+                { 50.5, 10000, 3.5118411888282729889496897E-3 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            RealOrderModifiedBesselFunction bessel =
+                    RealOrderModifiedBesselFunctionFactory.instanceOf(dataPair[0]);
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(dataPair[2], bessel.besselIc(dataPair[1]));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class スケーリングしたK_nuの値の検証_大きなx {
+
+        /* 値は多倍長演算による積分表示 (台形則) から計算した */
+        /* {nu, x, K_nu(x)exp(x)} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 0.3, 800, 4.4306918125195314697024166E-2 },
+                { 0.3, 10000, 1.2533041113437778559846528E-2 },
+                { 10.25, 800, 4.7309295498713125115493170E-2 },
+                { 10.25, 10000, 1.2598991967480266325144102E-2 },
+                { 50.5, 800, 2.1777650831321890924629805E-1 },
+                { 50.5, 10000, 1.4237364340744767874398266E-2 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            RealOrderModifiedBesselFunction bessel =
+                    RealOrderModifiedBesselFunctionFactory.instanceOf(dataPair[0]);
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(dataPair[2], bessel.besselKc(dataPair[1]));
+        }
+    }
+
+    public static class 整数次との整合性 {
+
+        private static final DoubleRelativeAssertion ASSERTION_FOR_INTEGER_ORDER =
+                new DoubleRelativeAssertion(1E-13);
+
+        @Test
+        public void test_整数次の変形Bessel関数と一致する() {
+            for (int n : new int[] { 0, 1, 3, 40, 100 }) {
+                RealOrderModifiedBesselFunction realOrder =
+                        RealOrderModifiedBesselFunctionFactory.instanceOf(n);
+                ModifiedBesselFunction integerOrder = ModifiedBesselFunction.instanceOf(n);
+                for (double x : new double[] { 0.25, 1.5, 2, 7.5, 30, 120 }) {
+                    ASSERTION_FOR_INTEGER_ORDER.compareAndAssert(
+                            integerOrder.besselI(x), realOrder.besselI(x));
+                    ASSERTION_FOR_INTEGER_ORDER.compareAndAssert(
+                            integerOrder.besselK(x), realOrder.besselK(x));
+                    ASSERTION_FOR_INTEGER_ORDER.compareAndAssert(
+                            integerOrder.besselIc(x), realOrder.besselIc(x));
+                    ASSERTION_FOR_INTEGER_ORDER.compareAndAssert(
+                            integerOrder.besselKc(x), realOrder.besselKc(x));
+                }
+            }
+        }
+    }
+
+    public static class 境界値のテスト {
+
+        @Test
+        public void test_負の引数はNaN() {
+            RealOrderModifiedBesselFunction bessel = RealOrderModifiedBesselFunctionFactory.instanceOf(2.5);
+            assertThat(bessel.besselI(-1E-300), is(Double.NaN));
+            assertThat(bessel.besselK(-1E-300), is(Double.NaN));
+            assertThat(bessel.besselIc(Double.NaN), is(Double.NaN));
+            assertThat(bessel.besselKc(Double.NaN), is(Double.NaN));
+        }
+
+        @Test
+        public void test_ゼロでの値() {
+            assertThat(RealOrderModifiedBesselFunctionFactory.instanceOf(0).besselI(0), is(1d));
+            RealOrderModifiedBesselFunction bessel = RealOrderModifiedBesselFunctionFactory.instanceOf(0.7);
+            assertThat(bessel.besselI(0), is(0d));
+            assertThat(bessel.besselK(0), is(Double.POSITIVE_INFINITY));
+            assertThat(bessel.besselKc(0), is(Double.POSITIVE_INFINITY));
+        }
+
+        @Test
+        public void test_無限大での値() {
+            RealOrderModifiedBesselFunction bessel = RealOrderModifiedBesselFunctionFactory.instanceOf(0.7);
+            assertThat(bessel.besselI(Double.POSITIVE_INFINITY), is(Double.POSITIVE_INFINITY));
+            assertThat(bessel.besselK(Double.POSITIVE_INFINITY), is(0d));
+            assertThat(bessel.besselIc(Double.POSITIVE_INFINITY), is(0d));
+            assertThat(bessel.besselKc(Double.POSITIVE_INFINITY), is(0d));
+        }
+
+        @Test
+        public void test_オーバーフローとアンダーフロー() {
+            RealOrderModifiedBesselFunction bessel = RealOrderModifiedBesselFunctionFactory.instanceOf(99.5);
+            assertThat(bessel.besselK(1E-10), is(Double.POSITIVE_INFINITY));
+            assertThat(bessel.besselI(1E-10), is(0d));
+            assertThat(bessel.besselI(800), is(Double.POSITIVE_INFINITY));
+            assertThat(bessel.besselK(800), is(0d));
+        }
+    }
+
+    public static class ファクトリのテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_負の次数は例外() {
+            RealOrderModifiedBesselFunctionFactory.instanceOf(-0.1);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_上限を超える次数は例外() {
+            RealOrderModifiedBesselFunctionFactory.instanceOf(100.1);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_NaNの次数は例外() {
+            RealOrderModifiedBesselFunctionFactory.instanceOf(Double.NaN);
+        }
+
+        @Test
+        public void test_次数を返す() {
+            assertThat(RealOrderModifiedBesselFunctionFactory.instanceOf(2.75).order(), is(2.75));
+        }
+    }
+}
@@ -6,10 +6,19 @@
  */
 package matsu.num.specialfunction.bessel.modbessel;
 
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
 import org.junit.runner.RunWith;
 
+import matsu.num.specialfunction.DoubleRelativeAssertion;
+import matsu.num.specialfunction.bessel.ModifiedBesselFunction;
+
 /**
  * {@link SkeletalModifiedBessel} クラスのテスト
  */
@@ -28,6 +37,194 @@ final class SkeletalModifiedBesselTest {
         }
     }
 
+    public static class 比のテスト {
+
+        @Test
+        public void test_多倍長演算による値との比較() {
+            /* I_11(10)/I_10(10) */
+            double expected = 3.89913883928382998256E-01;
+            assertThat(
+                    new SkeletalModifiedBesselImpl(10).besselIRatio(10),
+                    is(closeTo(expected, expected * 4E-15)));
+        }
+
+        @Test
+        public void test_関数値の比と一致する() {
+            for (int n = 0; n < 100; n += 9) {
+                double x = 0.7 + n * 0.3;
+                double expected = ModifiedBesselFunctionFactory.instanceOf(n + 1).besselIc(x)
+                        / ModifiedBesselFunctionFactory.instanceOf(n).besselIc(x);
+                assertThat(
+                        ModifiedBesselFunctionFactory.instanceOf(n).besselIRatio(x),
+                        is(closeTo(expected, expected * 1E-13)));
+            }
+        }
+
+        @Test
+        public void test_大きな引数でもオーバーフローしない() {
+            double ratio = new SkeletalModifiedBesselImpl(100).besselIRatio(1E6);
+            assertThat(ratio, is(closeTo(9.99899504999880006650E-01, 1E-15)));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 対数値のテスト_I {
+
+        private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+                new DoubleRelativeAssertion(2E-15);
+
+        /* 値は多倍長演算による級数和から計算した */
+        /* {n, x, log I_n(x)} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 0, 1E-300, 0.00000000000000000000E+00 },
+                { 0, 1E-20, 2.49999999999999982323E-41 },
+                { 0, 1E-09, 2.50000000000000017886E-19 },
+                { 0, 1E-05, 2.49999999998437542479E-11 },
+                { 0, 0.01, 2.49998437517360910191E-05 },
+                { 0, 0.3, 2.23746886220419043123E-02 },
+                { 0, 1, 2.35914358507178650859E-01 },
+                { 0, 5, 3.30468177582253330726E+00 },
+                { 0, 30, 2.73847014331719371683E+01 },
+                { 0, 200, 1.96432529354223476048E+02 },
+                { 1, 1E-300, -6.91468675078773685527E+02 },
+                { 1, 1E-20, -4.67448490404408616428E+01 },
+                { 1, 1E-09, -2.14164130175063576189E+01 },
+                { 1, 1E-05, -1.22060726455176737915E+01 },
+                { 1, 0.01, -5.29830486657407817574E+00 },
+                { 1, 0.3, -1.88589099988854935752E+00 },
+                { 1, 1, -5.70647987490831232193E-01 },
+                { 1, 5, 3.19194203054567537947E+00 },
+                { 1, 30, 2.73677480892824078751E+01 },
+                { 1, 200, 1.96430023075380489672E+02 },
+                { 2, 1E-300, -1.38363049733810726138E+03 },
+                { 2, 1E-20, -9.41828452614416704591E+01 },
+                { 2, 1E-09, -4.35259732155726553060E+01 },
+                { 2, 1E-05, -2.51052924716119605364E+01 },
+                { 2, 0.01, -1.12897735803313654657E+01 },
+                { 2, 0.3, -4.47989416755372182877E+00 },
+                { 2, 1, -1.99695748593576727359E+00 },
+                { 2, 5, 2.86252168470210577311E+00 },
+                { 2, 30, 2.73169085874113406476E+01 },
+                { 2, 200, 1.96422504302300296786E+02 },
+                { 10, 1E-300, -6.92979116336081187910E+03 },
+                { 10, 1E-20, -4.82552902977484109215E+02 },
+                { 10, 1E-09, -2.29268542748139083187E+02 },
+                { 10, 1E-05, -1.37165139028374966301E+02 },
+                { 10, 0.01, -6.80875839658288271039E+01 },
+                { 10, 0.3, -3.40735671416808258982E+01 },
+                { 10, 1, -2.20131785779730435593E+01 },
+                { 10, 5, -5.38604658239301858913E+00 },
+                { 10, 30, 2.57057198081423301517E+01 },
+                { 10, 200, 1.96181953776809194778E+02 },
+                { 100, 1E-300, -6.95106068834329344099E+04 },
+                { 100, 1E-20, -5.03822427959964898037E+03 },
+                { 100, 1E-09, -2.50538067730619923168E+03 },
+                { 100, 1E-05, -1.58434664010858068650E+03 },
+                { 100, 0.01, -8.93571111962842451248E+02 },
+                { 100, 0.3, -5.53451151272117613189E+02 },
+                { 100, 1, -4.33051618394065883422E+02 },
+                { 100, 5, -2.72048439935996896111E+02 },
+                { 100, 30, -9.07302852797758419001E+01 },
+                { 100, 200, 1.71862104814144146303E+02 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(
+                    dataPair[2],
+                    ModifiedBesselFunctionFactory.instanceOf((int) dataPair[0]).logBesselI(dataPair[1]));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 対数値のテスト_K {
+
+        private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+                new DoubleRelativeAssertion(2E-15);
+
+        /* 値は多倍長演算による級数和と漸化式から計算した */
+        /* {n, x, log K_n(x)} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 0, 1E-300, 6.53798273388103456938E+00 },
+                { 0, 1E-20, 3.83227897628242253347E+00 },
+                { 0, 1E-09, 3.03683570139320568870E+00 },
+                { 0, 1E-05, 2.45348967975255183305E+00 },
+                { 0, 0.01, 1.55207247884821586403E+00 },
+                { 0, 0.3, 3.16604794192565985878E-01 },
+                { 0, 1, -8.65064398906788101229E-01 },
+                { 0, 5, -5.60183121371706338465E+00 },
+                { 0, 30, -3.14789068542436965004E+01 },
+                { 1, 1E-300, 6.90775527898213681510E+02 },
+                { 1, 1E-20, 4.60517018598809144692E+01 },
+                { 1, 1E-09, 2.07232658369464104453E+01 },
+                { 1, 1E-05, 1.15129254643637857214E+01 },
+                { 1, 0.01, 4.60490909308926887888E+00 },
+                { 1, 0.3, 1.11710426444790678069E+00 },
+                { 1, 1, -5.07651948210752324009E-01 },
+                { 1, 5, -5.51036929658522289799E+00 },
+                { 1, 30, -3.14625098413439268086E+01 },
+                { 2, 1E-300, 1.38224420297698725335E+03 },
+                { 2, 1E-20, 9.27965509003217761119E+01 },
+                { 2, 1E-09, 4.21396788544527680642E+01 },
+                { 2, 1E-05, 2.37189981104754004093E+01 },
+                { 2, 0.01, 9.90346255564317878850E+00 },
+                { 2, 0.3, 3.07941788932356663722E+00 },
+                { 2, 1, 4.85408671565646210322E-01 },
+                { 2, 5, -5.23836238776804563599E+00 },
+                { 2, 30, -3.14133356051973748890E+01 },
+                { 10, 1E-300, 6.92679543108725829370E+03 },
+                { 10, 1E-20, 4.79557170703930125910E+02 },
+                { 10, 1E-09, 2.26272810474585099882E+02 },
+                { 10, 1E-05, 1.34169406754820471406E+02 },
+                { 10, 0.01, 6.50918511872245915129E+01 },
+                { 10, 0.3, 3.10773805388194688248E+01 },
+                { 10, 1, 1.90124222996263121388E+01 },
+                { 10, 5, 2.27814513847366129085E+00 },
+                { 10, 30, -2.98526884741456086658E+01 },
+                { 100, 1E-300, 6.95053085660663782619E+04 },
+                { 100, 1E-20, 5.03292596223310101777E+03 },
+                { 100, 1E-09, 2.50008235993965126909E+03 },
+                { 100, 1E-05, 1.57904832274203249654E+03 },
+                { 100, 0.01, 8.88272794591293859412E+02 },
+                { 100, 0.3, 5.48152829405139868868E+02 },
+                { 100, 1, 4.27753251025018812470E+02 },
+                { 100, 5, 2.66748874005347886396E+02 },
+                { 100, 30, 8.53888756683985690188E+01 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(
+                    dataPair[2],
+                    ModifiedBesselFunctionFactory.instanceOf((int) dataPair[0]).logBesselK(dataPair[1]));
+        }
+    }
+
+    public static class 対数値の境界値のテスト {
+
+        @Test
+        public void test_境界値() {
+            ModifiedBesselFunction zero = ModifiedBesselFunctionFactory.instanceOf(0);
+            ModifiedBesselFunction ten = ModifiedBesselFunctionFactory.instanceOf(10);
+            assertThat(zero.logBesselI(0), is(0d));
+            assertThat(ten.logBesselI(0), is(Double.NEGATIVE_INFINITY));
+            assertThat(ten.logBesselI(Double.POSITIVE_INFINITY), is(Double.POSITIVE_INFINITY));
+            assertThat(ten.logBesselI(-1), is(Double.NaN));
+            assertThat(ten.logBesselK(0), is(Double.POSITIVE_INFINITY));
+            assertThat(ten.logBesselK(Double.POSITIVE_INFINITY), is(Double.NEGATIVE_INFINITY));
+            assertThat(ten.logBesselK(-1), is(Double.NaN));
+        }
+
+        @Test
+        public void test_大きな引数と次数でもオーバーフローしない() {
+            ModifiedBesselFunction bessel = ModifiedBesselFunctionFactory.instanceOf(100);
+            assertThat(bessel.logBesselI(1E4), is(closeTo(9.99397588294651541219E+03, 1E-11)));
+            assertThat(bessel.logBesselK(1E-300), is(closeTo(6.95053085660663782619E+04, 1E-10)));
+        }
+    }
+
     private static final class SkeletalModifiedBesselImpl extends SkeletalModifiedBessel {
 
         SkeletalModifiedBesselImpl(int order) {
@@ -6,10 +6,19 @@
  */
 package matsu.num.specialfunction.bessel.modsbessel;
 
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
 import org.junit.runner.RunWith;
 
+import matsu.num.specialfunction.DoubleRelativeAssertion;
+import matsu.num.specialfunction.bessel.ModifiedSphericalBesselFunction;
+
 /**
  * {@link SkeletalMSBessel} クラスのテスト.
  */
@@ -28,6 +37,198 @@ final class SkeletalMSBesselTest {
         }
     }
 
+    public static class 比のテスト {
+
+        @Test
+        public void test_多倍長演算による値との比較() {
+            /* i_11(31.6)/i_10(31.6) = I_{23/2}(31.6)/I_{21/2}(31.6) */
+            double expected = 7.07177902996812712821E-01;
+            assertThat(
+                    new SkeletalMSBesselImpl(10).sbesselIRatio(31.6),
+                    is(closeTo(expected, expected * 4E-15)));
+        }
+
+        @Test
+        public void test_関数値の比と一致する() {
+            for (int n = 0; n < 100; n += 9) {
+                double x = 0.7 + n * 0.3;
+                double expected = MSBesselFunctionFactory.instanceOf(n + 1).sbesselIc(x)
+                        / MSBesselFunctionFactory.instanceOf(n).sbesselIc(x);
+                assertThat(
+                        MSBesselFunctionFactory.instanceOf(n).sbesselIRatio(x),
+                        is(closeTo(expected, expected * 1E-13)));
+            }
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 対数値のテスト_i {
+
+        private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+                new DoubleRelativeAssertion(2E-15);
+
+        /* 値は多倍長演算による級数和から計算した */
+        /* {n, x, log i_n(x)} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 0, 1E-300, 0.00000000000000000000E+00 },
+                { 0, 1E-20, 1.66666666666666654882E-41 },
+                { 0, 1E-09, 1.66666666666666694640E-19 },
+                { 0, 1E-05, 1.66666666666111136947E-11 },
+                { 0, 0.01, 1.66666111114638411535E-05 },
+                { 0, 0.3, 1.49552554196711214030E-02 },
+                { 0, 1, 1.61439361571195622025E-01 },
+                { 0, 5, 2.69736950604558378686E+00 },
+                { 0, 30, 2.59056554377778986975E+01 },
+                { 0, 200, 1.94008535452892004969E+02 },
+                { 1, 1E-300, -6.91874140186881845693E+02 },
+                { 1, 1E-20, -4.71503141485490218088E+01 },
+                { 1, 1E-09, -2.18218781256145213376E+01 },
+                { 1, 1E-05, -1.26115377536283386206E+01 },
+                { 1, 0.01, -5.70377247467048675844E+00 },
+                { 1, 0.3, -2.29359663366520738492E+00 },
+                { 1, 1, -1.00000000000000000000E+00 },
+                { 1, 5, 2.47433945326769588746E+00 },
+                { 1, 30, 2.58717538861022191554E+01 },
+                { 1, 200, 1.94003522911068472467E+02 },
+                { 2, 1E-300, -1.38425910599752955932E+03 },
+                { 2, 1E-20, -9.48114539208640394463E+01 },
+                { 2, 1E-09, -4.41545818749950313986E+01 },
+                { 2, 1E-05, -2.57339011310355232354E+01 },
+                { 2, 0.01, -1.19183834302269193728E+01 },
+                { 2, 0.3, -5.10957182301996670759E+00 },
+                { 2, 1, -2.63717891313202601467E+00 },
+                { 2, 5, 2.04333825932435209083E+00 },
+                { 2, 30, 2.58039917840014005890E+01 },
+                { 2, 200, 1.93993497954315273546E+02 },
+                { 10, 1E-300, -6.93109953350193882216E+03 },
+                { 10, 1E-20, -4.83861273118611052269E+02 },
+                { 10, 1E-09, -2.30576912889266054663E+02 },
+                { 10, 1E-05, -1.38473509169502051463E+02 },
+                { 10, 0.01, -6.93959542057699962925E+01 },
+                { 10, 0.3, -3.53820261944116793984E+01 },
+                { 10, 1, -2.33225342524869603267E+01 },
+                { 10, 5, -6.71761958057996899640E+00 },
+                { 10, 30, 2.40606118988433550498E+01 },
+                { 10, 200, 1.93732908415231236177E+02 },
+                { 100, 1E-300, -6.95130339883102715248E+04 },
+                { 100, 1E-20, -5.04065138447699791868E+03 },
+                { 100, 1E-09, -2.50780778218354771525E+03 },
+                { 100, 1E-05, -1.58677374498592917007E+03 },
+                { 100, 0.01, -8.95998216841410226152E+02 },
+                { 100, 0.3, -5.55878257246862972352E+02 },
+                { 100, 1, -4.35478735464311739634E+02 },
+                { 100, 5, -2.74475849372002244309E+02 },
+                { 100, 30, -9.31680236857537380502E+01 },
+                { 100, 200, 1.69197070121253489106E+02 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(
+                    dataPair[2],
+                    MSBesselFunctionFactory.instanceOf((int) dataPair[0]).logSbesselI(dataPair[1]));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 対数値のテスト_k {
+
+        private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+                new DoubleRelativeAssertion(2E-15);
+
+        /* 値は多倍長演算による級数和と漸化式から計算した */
+        /* {n, x, log k_n(x)} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 0, 1E-300, 6.90775527898213681510E+02 },
+                { 0, 1E-20, 4.60517018598809144692E+01 },
+                { 0, 1E-09, 2.07232658359464103626E+01 },
+                { 0, 1E-05, 1.15129154649702289959E+01 },
+                { 0, 0.01, 4.59517018598809112717E+00 },
+                { 0, 0.3, 9.03972804325936074576E-01 },
+                { 0, 1, -1.00000000000000000000E+00 },
+                { 0, 5, -6.60943791243410050384E+00 },
+                { 0, 30, -3.34011973816621576816E+01 },
+                { 0, 200, -2.05298317366548047858E+02 },
+                { 0, 10000, -1.00092103403719756898E+04 },
+                { 1, 1E-300, 1.38155105579642736302E+03 },
+                { 1, 1E-20, 9.21034037197618289383E+01 },
+                { 1, 1E-09, 4.14465316738928208906E+01 },
+                { 1, 1E-05, 2.30258509298904563423E+01 },
+                { 1, 0.01, 9.21029070282935080627E+00 },
+                { 1, 0.3, 2.37030987311936325312E+00 },
+                { 1, 1, -3.06852819440054713773E-01 },
+                { 1, 5, -6.42711635564014560629E+00 },
+                { 1, 30, -3.33684075588391664269E+01 },
+                { 1, 200, -2.05293329825037005776E+02 },
+                { 1, 10000, -1.00092102403769749799E+04 },
+                { 2, 1E-300, 2.07342519598330909503E+03 },
+                { 2, 1E-20, 1.39253717868310843642E+02 },
+                { 2, 1E-09, 6.32684097995073457810E+01 },
+                { 2, 1E-05, 3.56373886835621291880E+01 },
+                { 2, 0.01, 1.49141061802412853154E+01 },
+                { 2, 0.3, 4.69570964387957978659E+00 },
+                { 2, 1, 9.45910149055313342892E-01 },
+                { 2, 5, -6.06711362160873868277E+00 },
+                { 2, 30, -3.33028614809412957243E+01 },
+                { 2, 200, -2.05283354865158514713E+02 },
+                { 2, 10000, -1.00092100403869753791E+04 },
+                { 10, 1E-300, 7.61883053896242927294E+03 },
+                { 10, 1E-20, 5.26868452540768544168E+02 },
+                { 10, 1E-09, 2.48255656288489035433E+02 },
+                { 10, 1E-05, 1.46941912196748404540E+02 },
+                { 10, 0.01, 7.09566014963689752904E+01 },
+                { 10, 0.3, 3.35410648384381246956E+01 },
+                { 10, 1, 2.02734568399395023164E+01 },
+                { 10, 5, 1.96094840931716030141E+00 },
+                { 10, 30, -3.16138830399005037464E+01 },
+                { 10, 200, -2.05024063492890462612E+02 },
+                { 10, 10000, -1.00092048406474532385E+04 },
+                { 100, 1E-300, 7.01985062113004387356E+04 },
+                { 100, 1E-20, 5.08139978142881955137E+03 },
+                { 100, 1E-09, 2.52322774311243483680E+03 },
+                { 100, 1E-05, 1.59298336554284037447E+03 },
+                { 100, 0.01, 8.95300082114388374066E+02 },
+                { 100, 0.3, 5.51778920687373329201E+02 },
+                { 100, 1, 4.30175381050077817235E+02 },
+                { 100, 5, 2.67561870365932236382E+02 },
+                { 100, 30, 8.44208391455553339711E+01 },
+                { 100, 200, -1.80599425322915749348E+02 },
+                { 100, 10000, -1.00087053698684649135E+04 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(
+                    dataPair[2],
+                    MSBesselFunctionFactory.instanceOf((int) dataPair[0]).logSbesselK(dataPair[1]));
+        }
+    }
+
+    public static class 対数値の境界値のテスト {
+
+        @Test
+        public void test_境界値() {
+            ModifiedSphericalBesselFunction zero = MSBesselFunctionFactory.instanceOf(0);
+            ModifiedSphericalBesselFunction ten = MSBesselFunctionFactory.instanceOf(10);
+            assertThat(zero.logSbesselI(0), is(0d));
+            assertThat(ten.logSbesselI(0), is(Double.NEGATIVE_INFINITY));
+            assertThat(ten.logSbesselI(Double.POSITIVE_INFINITY), is(Double.POSITIVE_INFINITY));
+            assertThat(ten.logSbesselI(-1), is(Double.NaN));
+            assertThat(ten.logSbesselK(0), is(Double.POSITIVE_INFINITY));
+            assertThat(ten.logSbesselK(Double.POSITIVE_INFINITY), is(Double.NEGATIVE_INFINITY));
+            assertThat(ten.logSbesselK(-1), is(Double.NaN));
+        }
+
+        @Test
+        public void test_大きな引数と次数でもオーバーフローしない() {
+            ModifiedSphericalBesselFunction bessel = MSBesselFunctionFactory.instanceOf(100);
+            assertThat(bessel.logSbesselI(1E4), is(closeTo(9.98959149144650109520E+03, 1E-11)));
+            assertThat(bessel.logSbesselK(1E-300), is(closeTo(7.01985062113004387356E+04, 1E-10)));
+        }
+    }
+
     private static final class SkeletalMSBesselImpl extends SkeletalMSBessel {
 
         SkeletalMSBesselImpl(int order) {
@@ -118,31 +118,175 @@ final class ChebyshevFunctionImplTest {
         private final ChebyshevFunction function = ChebyshevFunctionImpl.instanceOf(10);
 
         @Test
-        public void test_chebyshevT_m1未満はNaN() {
-            double x = Math.nextDown(-1d);
+        public void test_chebyshevT_NaNはNaN() {
+            assertThat(function.chebyshevT(Double.NaN), is(Double.NaN));
+        }
 
-            assertThat(function.chebyshevT(x), is(Double.NaN));
+        @Test
+        public void test_chebyshevU_NaNはNaN() {
+            assertThat(function.chebyshevU(Double.NaN), is(Double.NaN));
         }
+    }
+
+    public static class 次数の上限に関するテスト {
 
         @Test
-        public void test_chebyshevT_1超過はNaN() {
-            double x = Math.nextUp(1d);
+        public void test_次数10の6乗は生成可能() {
+            assertThat(ChebyshevFunctionImpl.instanceOf(1_000_000).degreeN(), is(1_000_000));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_次数10の6乗超過はIAEx() {
+            ChebyshevFunctionImpl.instanceOf(1_000_001);
+        }
+    }
+
+    /* 値の生成コード (Python, decimal モジュールで有効桁80桁の漸化式) */
+    /* ------------------------------------ */
+    // def TU(n, x):
+    //     x = D(x); t0, t1 = D(1), x; u0, u1 = D(1), 2 * x
+    //     for p in range(2, n + 1):
+    //         t0, t1 = t1, 2 * x * t1 - t0; u0, u1 = u1, 2 * x * u1 - u0
+    //     return t1, u1
+    /* ------------------------------------ */
+
+    @RunWith(Theories.class)
+    public static class 大きな次数の正常値のパラメータ化テスト {
+
+        @DataPoints
+        public static List<DegreeChebyshevFixture> fixtures;
+
+        @BeforeClass
+        public static void before_大きな次数() {
+            double[][] data = new double[][] {
+                    { 1000, -1, 1, 1.001E3 },
+                    { 1000, -0.99, -9.8595392915005419268548501E-1, -2.1580701291337476322334156 },
+                    { 1000, -0.3, -9.9912511164261119687674733E-1, -1.0122772650058723138330292 },
+                    { 1000, 0, 1, 1 },
+                    { 1000, 0.123, -7.0373044099828887862280537E-1, -6.1567435173667292298731776E-1 },
+                    { 1000, 0.5, -5E-1, -1 },
+                    { 1000, 0.9, 2.0676368769053326433298829E-1, -1.8133607349191961673880482 },
+                    { 1000, 0.999999, 1.5594357833592952053211822E-1, 6.9861143136033224088962409E2 },
+                    { 1000, 1, 1, 1.001E3 },
+                    { 30000, -1, 1, 3.0001E4 },
+                    { 30000, -0.99, 3.1620675432726974374019234E-1, -6.3416296156553038929231552 },
+                    { 30000, -0.3, 3.1057210657709729793486396E-1, 6.0950619647804057123582016E-1 },
+                    { 30000, 0, 1, 1 },
+                    { 30000, 0.123, 1.4242024167684078691173389E-1, 2.6509794650650298703824567E-1 },
+                    { 30000, 0.5, 1, 1 },
+                    { 30000, 0.9, -9.9938036364643184165647442E-1, -9.2670589502744934748092247E-1 },
+                    { 30000, 0.999999, 1.4909031492107893041591213E-2, -7.0701274993415501927455819E2 },
+                    { 30000, 1, 1, 3.0001E4 },
+                    { 1000000, -1, 1, 1.000001E6 },
+                    { 1000000, -0.99, -2.6797841009320335341453081E-1, -7.0292211932057550534459654 },
+                    { 1000000, -0.3, -5.4644875370923608927613075E-1, -8.0982797381554748812749531E-1 },
+                    { 1000000, 0, 1, 1 },
+                    { 1000000, 0.123, 5.1127191657639327730015577E-2, 1.7490622102898082750908042E-1 },
+                    { 1000000, 0.5, -5E-1, -1 },
+                    { 1000000, 0.9, 6.0511104308073547862194457E-1, 2.2489366624160792012971751 },
+                    { 1000000, 0.999999, 8.7902350062364164697394917E-1, 3.3801204203214541313792082E2 },
+                    { 1000000, 1, 1, 1.000001E6 }
+            };
+            fixtures = Arrays.stream(data)
+                    .map(DegreeChebyshevFixture::new)
+                    .toList();
+        }
 
-            assertThat(function.chebyshevT(x), is(Double.NaN));
+        @Theory
+        public void test_chebyshevT(DegreeChebyshevFixture fixture) {
+            fixture.assertChebyshevT();
+        }
+
+        @Theory
+        public void test_chebyshevU(DegreeChebyshevFixture fixture) {
+            fixture.assertChebyshevU();
         }
+    }
+
+    @RunWith(Theories.class)
+    public static class 絶対値が1を超える引数の正常値のパラメータ化テスト {
+
+        @DataPoints
+        public static List<DegreeChebyshevFixture> fixtures;
+
+        @BeforeClass
+        public static void before_絶対値が1を超える引数() {
+            double[][] data = new double[][] {
+                    { 10, 1.5, 7.5635E3, 1.7711E4 },
+                    { 10, -2.5, 3.1878115E6, 6.665999E6 },
+                    { 10, 10.0, 4.993116004999E12, 1.0011386405999E13 },
+                    { 100, -1.25, 6.338253001141147007483516E29, 1.6902008003043058686622709E30 },
+                    { 1000, 1.001, 1.317017434691639248819458E19, 3.0788505003898951099522361E20 },
+                    { 1000, -1.0001, 6.9305912687062926019244193E5, 4.9703415388659824842787669E7 },
+                    { 1000000, 1.0000000001, 6.9314121309705831551153354E5, 4.9013176327262519425121501E10 },
+                    { 1000000, -1.000000000001, 2.1783052007750830151000269, 1.3683370502279165301234409E6 }
+            };
+            fixtures = Arrays.stream(data)
+                    .map(DegreeChebyshevFixture::new)
+                    .toList();
+        }
+
+        @Theory
+        public void test_chebyshevT(DegreeChebyshevFixture fixture) {
+            fixture.assertChebyshevT();
+        }
+
+        @Theory
+        public void test_chebyshevU(DegreeChebyshevFixture fixture) {
+            fixture.assertChebyshevU();
+        }
+    }
+
+    public static class 厳密な値のテスト {
+
+        /*
+         * 漸化式を用いる次数の上限 (64) の前後を含めて,
+         * x = 0, ±1 では漸化式と同様に厳密な値を返す.
+         */
+        private static final int[] DEGREES = { 63, 64, 65, 66, 67, 68, 1001, 30000, 999999, 1000000 };
 
         @Test
-        public void test_chebyshevU_m1未満はNaN() {
-            double x = Math.nextDown(-1d);
+        public void test_x0での値() {
+            for (int n : DEGREES) {
+                ChebyshevFunction function = ChebyshevFunctionImpl.instanceOf(n);
+                double expected = (n & 1) == 1 ? 0d : (n & 2) == 0 ? 1d : -1d;
+                // 奇数次の 0 の符号は問わない
+                assertThat(function.chebyshevT(0), is(closeTo(expected, 0d)));
+                assertThat(function.chebyshevU(0), is(closeTo(expected, 0d)));
+            }
+        }
 
-            assertThat(function.chebyshevU(x), is(Double.NaN));
+        @Test
+        public void test_x1での値() {
+            for (int n : DEGREES) {
+                ChebyshevFunction function = ChebyshevFunctionImpl.instanceOf(n);
+                double sign = (n & 1) == 1 ? -1d : 1d;
+                assertThat(function.chebyshevT(1), is(1d));
+                assertThat(function.chebyshevU(1), is(n + 1d));
+                assertThat(function.chebyshevT(-1), is(sign));
+                assertThat(function.chebyshevU(-1), is(sign * (n + 1d)));
+            }
         }
+    }
+
+    public static class オーバーフローのテスト {
 
         @Test
-        public void test_chebyshevU_1超過はNaN() {
-            double x = Math.nextUp(1d);
+        public void test_漸化式でのオーバーフローは符号付き無限大() {
+            ChebyshevFunction function = ChebyshevFunctionImpl.instanceOf(11);
 
-            assertThat(function.chebyshevT(x), is(Double.NaN));
+            assertThat(function.chebyshevT(1E100), is(Double.POSITIVE_INFINITY));
+            assertThat(function.chebyshevU(-1E100), is(Double.NEGATIVE_INFINITY));
+            assertThat(function.chebyshevT(Double.NEGATIVE_INFINITY), is(Double.NEGATIVE_INFINITY));
+        }
+
+        @Test
+        public void test_大きな次数でのオーバーフローは符号付き無限大() {
+            ChebyshevFunction function = ChebyshevFunctionImpl.instanceOf(10001);
+
+            assertThat(function.chebyshevT(1.5), is(Double.POSITIVE_INFINITY));
+            assertThat(function.chebyshevU(-1.5), is(Double.NEGATIVE_INFINITY));
+            assertThat(function.chebyshevU(Double.POSITIVE_INFINITY), is(Double.POSITIVE_INFINITY));
         }
     }
 
@@ -159,4 +303,39 @@ final class ChebyshevFunctionImplTest {
             this.chebyshevU = chebyshevU;
         }
     }
+
+    /**
+     * 次数を含むフィクスチャ. <br>
+     * 次数 n が大きい場合, 引数の丸め誤差に対する条件数がおよそ n であるため,
+     * 許容誤差を n に比例させる.
+     */
+    @Ignore
+    public static class DegreeChebyshevFixture {
+        final int degreeN;
+        final double x;
+        final double chebyshevT;
+        final double chebyshevU;
+
+        DegreeChebyshevFixture(double[] row) {
+            super();
+            this.degreeN = (int) row[0];
+            this.x = row[1];
+            this.chebyshevT = row[2];
+            this.chebyshevU = row[3];
+        }
+
+        void assertChebyshevT() {
+            double result = ChebyshevFunctionImpl.instanceOf(degreeN).chebyshevT(x);
+            assertThat(result, is(closeTo(chebyshevT, tolerance(chebyshevT))));
+        }
+
+        void assertChebyshevU() {
+            double result = ChebyshevFunctionImpl.instanceOf(degreeN).chebyshevU(x);
+            assertThat(result, is(closeTo(chebyshevU, tolerance(chebyshevU))));
+        }
+
+        private double tolerance(double expected) {
+            return Math.max(1E-14, degreeN * 1E-15) * Math.max(1, Math.abs(expected));
+        }
+    }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.common;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+/**
+ * {@link FastElementaryFunctions} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class FastElementaryFunctionsTest {
+
+    private static final ElementaryFunctions FAST = new FastElementaryFunctions();
+
+    private static final int ITERATION = 200_000;
+
+    /**
+     * {@link StrictMath} との差が1 ulp 以内であることを確かめる.
+     */
+    private static void assertWithin1Ulp(double expected, double actual, double x) {
+        if (expected == actual || (Double.isNaN(expected) && Double.isNaN(actual))) {
+            return;
+        }
+        assertThat(
+                "x = " + x,
+                Math.abs(expected - actual) <= Math.ulp(expected),
+                is(true));
+    }
+
+    public static class expに関するテスト {
+
+        @Test
+        public void test_StrictMathとの差が1ulp以内() {
+            Random random = new Random(1L);
+            for (int i = 0; i < ITERATION; i++) {
+                double x = (random.nextDouble() * 2 - 1) * 740;
+                assertWithin1Ulp(StrictMath.exp(x), FAST.exp(x), x);
+            }
+        }
+
+        @Test
+        public void test_特殊値() {
+            double[] xs = {
+                    0d, -0d, 1d, -1d, 708d, -708d, 709.7, 710d, -745d, -746d,
+                    Double.MIN_VALUE, -Double.MIN_VALUE,
+                    Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN };
+            for (double x : xs) {
+                assertWithin1Ulp(StrictMath.exp(x), FAST.exp(x), x);
+            }
+            assertThat(FAST.exp(0d), is(1d));
+            assertThat(FAST.exp(Double.POSITIVE_INFINITY), is(Double.POSITIVE_INFINITY));
+            assertThat(FAST.exp(Double.NEGATIVE_INFINITY), is(0d));
+        }
+    }
+
+    public static class logに関するテスト {
+
+        @Test
+        public void test_StrictMathとの差が1ulp以内() {
+            Random random = new Random(2L);
+            for (int i = 0; i < ITERATION; i++) {
+                double x = Math.exp((random.nextDouble() * 2 - 1) * 700);
+                assertWithin1Ulp(StrictMath.log(x), FAST.log(x), x);
+            }
+        }
+
+        @Test
+        public void test_1近傍でStrictMathとの差が1ulp以内() {
+            Random random = new Random(3L);
+            for (int i = 0; i < ITERATION; i++) {
+                double x = 1 + (random.nextDouble() * 2 - 1) * 0.05;
+                assertWithin1Ulp(StrictMath.log(x), FAST.log(x), x);
+            }
+        }
+
+        @Test
+        public void test_特殊値() {
+            double[] xs = {
+                    1d, 2d, 0.5, Double.MIN_VALUE, Double.MIN_NORMAL, Double.MAX_VALUE,
+                    0d, -0d, -1d,
+                    Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN };
+            for (double x : xs) {
+                assertWithin1Ulp(StrictMath.log(x), FAST.log(x), x);
+            }
+            assertThat(FAST.log(1d), is(0d));
+            assertThat(FAST.log(0d), is(Double.NEGATIVE_INFINITY));
+            assertThat(Double.isNaN(FAST.log(-1d)), is(true));
+        }
+    }
+
+    public static class sincosに関するテスト {
+
+        @Test
+        public void test_StrictMathとの差が1ulp以内() {
+            Random random = new Random(4L);
+            for (int i = 0; i < ITERATION; i++) {
+                double scale;
+                switch (i % 3) {
+                    case 0:
+                        scale = 4;
+                        break;
+                    case 1:
+                        scale = 1E4;
+                        break;
+                    default:
+                        scale = 8E5;
+                }
+                double x = (random.nextDouble() * 2 - 1) * scale;
+                SinCos sincos = FAST.sincos(x);
+                assertWithin1Ulp(StrictMath.sin(x), sincos.sin(), x);
+                assertWithin1Ulp(StrictMath.cos(x), sincos.cos(), x);
+            }
+        }
+
+        @Test
+        public void test_特殊値() {
+            double[] xs = {
+                    0d, -0d, 1E-300, Math.PI / 4, Math.nextUp(Math.PI / 4), Math.PI / 2, Math.PI,
+                    -3 * Math.PI / 2, 1E5 * Math.PI, 823549.9, 823550d, 1E300,
+                    Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN };
+            for (double x : xs) {
+                SinCos sincos = FAST.sincos(x);
+                assertWithin1Ulp(StrictMath.sin(x), sincos.sin(), x);
+                assertWithin1Ulp(StrictMath.cos(x), sincos.cos(), x);
+            }
+            assertThat(1 / FAST.sincos(-0d).sin(), is(Double.NEGATIVE_INFINITY));
+        }
+    }
+
+    public static class バックエンドの選択に関するテスト {
+
+        @Test
+        public void test_名前による選択() {
+            assertThat(ElementaryFunctions.select("strict"), is(instanceOf(StrictMathElementaryFunctions.class)));
+            assertThat(ElementaryFunctions.select("fast"), is(instanceOf(FastElementaryFunctions.class)));
+            assertThat(ElementaryFunctions.select("math"), is(instanceOf(MathElementaryFunctions.class)));
+            assertThat(ElementaryFunctions.select(null), is(instanceOf(MathElementaryFunctions.class)));
+            assertThat(ElementaryFunctions.select("unknown"), is(instanceOf(MathElementaryFunctions.class)));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.common;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.IncompleteBetaFunction;
+import matsu.num.specialfunction.IncompleteGammaFunction;
+
+/**
+ * {@link Instrumentation} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class InstrumentationTest {
+
+    public static final Class<?> TEST_CLASS = Instrumentation.class;
+
+    public static class カウンタのキーに関するテスト {
+
+        @Test
+        public void test_全ての分岐と反復のキーが含まれる() {
+            Map<String, Long> snapshot = Instrumentation.snapshot();
+
+            for (AlgorithmBranch branch : AlgorithmBranch.values()) {
+                assertThat(snapshot.containsKey("branch." + branch.name()), is(true));
+            }
+            for (IterativeLoop loop : IterativeLoop.values()) {
+                assertThat(snapshot.containsKey("loop." + loop.name() + ".calls"), is(true));
+                assertThat(snapshot.containsKey("loop." + loop.name() + ".iterations"), is(true));
+                assertThat(snapshot.containsKey("loop." + loop.name() + ".nonConverged"), is(true));
+            }
+            assertThat(snapshot.size(), is(AlgorithmBranch.values().length + 3 * IterativeLoop.values().length));
+        }
+
+        @Test(expected = UnsupportedOperationException.class)
+        public void test_スナップショットは変更不可() {
+            Instrumentation.snapshot().put("branch.X", 1L);
+        }
+    }
+
+    public static class 計測の有効無効に関するテスト {
+
+        @Test
+        public void test_記録の後のカウンタ() {
+            Instrumentation.reset();
+            IncompleteGammaFunction.instanceOf(30.3).rigammaP(5d);
+            IncompleteBetaFunction.instanceOf(3, 2).ribeta(0.1);
+            Instrumentation.branch(AlgorithmBranch.BESSEL_ASYMPTOTIC);
+            Instrumentation.iterations(IterativeLoop.ICBETA_FACTOR, 70, false);
+
+            Map<String, Long> snapshot = Instrumentation.snapshot();
+            if (Instrumentation.isEnabled()) {
+                assertThat(snapshot.get("branch.BESSEL_ASYMPTOTIC"), is(1L));
+                assertThat(snapshot.get("loop.ICBETA_FACTOR.nonConverged"), is(1L));
+                assertThat(snapshot.get("loop.ICGAMMA_LOWER_FACTOR.calls") > 0, is(true));
+            } else {
+                for (long value : snapshot.values()) {
+                    assertThat(value, is(0L));
+                }
+            }
+        }
+
+        @Test
+        public void test_リセットにより全て0になる() {
+            Instrumentation.branch(AlgorithmBranch.BESSEL_ASYMPTOTIC);
+            Instrumentation.reset();
+
+            for (long value : Instrumentation.snapshot().values()) {
+                assertThat(value, is(0L));
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.common;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import java.util.function.DoubleUnaryOperator;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+/**
+ * {@link PiecewiseChebyshevApproximation} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class PiecewiseChebyshevApproximationTest {
+
+    public static class 滑らかな関数の近似に関するテスト {
+
+        @Test
+        public void test_区間内で許容誤差以内() {
+            double tolerance = 1E-12;
+            DoubleUnaryOperator f = x -> 2 + Math.sin(x);
+            PiecewiseChebyshevApproximation approx =
+                    PiecewiseChebyshevApproximation.of(f, 0, 50, tolerance);
+            assertThat(approx.approximatedPieceCount(), is(approx.pieceCount()));
+
+            Random random = new Random(1L);
+            for (int i = 0; i < 100000; i++) {
+                double x = 50 * random.nextDouble();
+                double expected = f.applyAsDouble(x);
+                assertThat(Math.abs(approx.value(x) - expected) <= tolerance * expected, is(true));
+            }
+            assertThat(Math.abs(approx.value(50) - f.applyAsDouble(50)) <= tolerance * f.applyAsDouble(50), is(true));
+        }
+
+        @Test
+        public void test_小さな値でも相対誤差が許容誤差以内() {
+            double tolerance = 1E-12;
+            DoubleUnaryOperator f = x -> Math.exp(-x);
+            PiecewiseChebyshevApproximation approx =
+                    PiecewiseChebyshevApproximation.of(f, 0, 700, tolerance);
+
+            Random random = new Random(3L);
+            for (int i = 0; i < 100000; i++) {
+                double x = 700 * random.nextDouble();
+                double expected = f.applyAsDouble(x);
+                assertThat(Math.abs(approx.value(x) - expected) <= tolerance * expected, is(true));
+            }
+        }
+
+        @Test
+        public void test_区間外は真の関数で計算() {
+            PiecewiseChebyshevApproximation approx =
+                    PiecewiseChebyshevApproximation.of(Math::exp, 0, 1, 1E-12);
+            assertThat(approx.value(-0.5), is(Math.exp(-0.5)));
+            assertThat(approx.value(2), is(Math.exp(2)));
+            assertThat(Double.isNaN(approx.value(Double.NaN)), is(true));
+        }
+    }
+
+    public static class 零点を含む関数の近似に関するテスト {
+
+        @Test
+        public void test_零点を含む小区間は真の関数で計算() {
+            double tolerance = 1E-12;
+            PiecewiseChebyshevApproximation approx =
+                    PiecewiseChebyshevApproximation.of(Math::sin, 0, 50, tolerance);
+            assertThat(approx.approximatedPieceCount() < approx.pieceCount(), is(true));
+
+            assertThat(approx.value(0), is(0d));
+            assertThat(approx.value(1E-200), is(Math.sin(1E-200)));
+            Random random = new Random(1L);
+            for (int i = 0; i < 100000; i++) {
+                double x = 50 * random.nextDouble();
+                assertThat(Math.abs(approx.value(x) - Math.sin(x)) <= tolerance, is(true));
+            }
+        }
+    }
+
+    public static class 特異点を含む関数の近似に関するテスト {
+
+        @Test
+        public void test_特異点近傍は真の関数で計算() {
+            double tolerance = 1E-12;
+            PiecewiseChebyshevApproximation approx =
+                    PiecewiseChebyshevApproximation.of(Math::sqrt, 0, 1, tolerance);
+            assertThat(approx.approximatedPieceCount() < approx.pieceCount(), is(true));
+
+            assertThat(approx.value(1E-300), is(Math.sqrt(1E-300)));
+            Random random = new Random(2L);
+            for (int i = 0; i < 100000; i++) {
+                double x = random.nextDouble();
+                assertThat(Math.abs(approx.value(x) - Math.sqrt(x)) <= tolerance, is(true));
+            }
+        }
+    }
+
+    public static class 構築に関するテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_空の区間は例外() {
+            PiecewiseChebyshevApproximation.of(Math::exp, 1, 1, 1E-12);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_無限大の区間は例外() {
+            PiecewiseChebyshevApproximation.of(Math::exp, 0, Double.POSITIVE_INFINITY, 1E-12);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_NaNの許容誤差は例外() {
+            PiecewiseChebyshevApproximation.of(Math::exp, 0, 1, Double.NaN);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+package matsu.num.specialfunction.distribution;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.DoubleRelativeAssertion;
+import matsu.num.specialfunction.FDistribution;
+import matsu.num.specialfunction.StudentTDistribution;
+
+/**
+ * {@link FDistributionFactory} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class FDistributionFactoryTest {
+
+    public static final Class<?> TEST_CLASS = FDistributionFactory.class;
+
+    @RunWith(Theories.class)
+    public static class 閉じた形のテスト {
+
+        private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+                new DoubleRelativeAssertion(1E-14);
+
+        /* {d1, d2} */
+        @DataPoints
+        public static double[][] dofs = {
+                { 2, 2 }, { 2, 7.5 }, { 0.3, 2 }, { 40, 2 }
+        };
+
+        @DataPoints
+        public static double[] fs = { 1E-12, 0.01, 0.5, 1, 3, 10, 1E3 };
+
+        @Theory
+        public void test_検証(double[] dof, double f) {
+            double d1 = dof[0];
+            double d2 = dof[1];
+            FDistribution dist = FDistributionFactory.instanceOf(d1, d2);
+
+            /* I(a, 1, x) = x^a, I(1, b, x) = 1 - (1 - x)^b */
+            double cdf;
+            double ccdf;
+            if (d2 == 2) {
+                cdf = Math.exp(-d1 / 2 * Math.log1p(2 / (d1 * f)));
+                ccdf = -Math.expm1(-d1 / 2 * Math.log1p(2 / (d1 * f)));
+            } else {
+                ccdf = Math.exp(-d2 / 2 * Math.log1p(2 * f / d2));
+                cdf = -Math.expm1(-d2 / 2 * Math.log1p(2 * f / d2));
+            }
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(cdf, dist.cdf(f));
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(ccdf, dist.ccdf(f));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class t分布との関係のテスト {
+
+        private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+                new DoubleRelativeAssertion(1E-12);
+
+        @DataPoints
+        public static double[] nus = { 1, 5, 7.5, 30, 100.5 };
+
+        @DataPoints
+        public static double[] ts = { 0.1, 0.5, 2, 10 };
+
+        @Theory
+        public void test_F_1_nuの上側確率はtの両側確率(double nu, double t) {
+            FDistribution dist = FDistributionFactory.instanceOf(1, nu);
+            StudentTDistribution tDist = StudentTDistribution.instanceOf(nu);
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(tDist.twoSidedPValue(t), dist.ccdf(t * t));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 境界値のテスト {
+
+        /* {d1, d2} */
+        @DataPoints
+        public static double[][] dofs = {
+                { 2, 2 }, { 2, 7.5 }, { 0.3, 2 }, { 3, 5 }, { 100, 0.5 }
+        };
+
+        @Theory
+        public void test_f_0(double[] dof) {
+            FDistribution dist = FDistributionFactory.instanceOf(dof[0], dof[1]);
+            assertThat(dist.cdf(0), is(0d));
+            assertThat(dist.ccdf(0), is(1d));
+        }
+
+        @Theory
+        public void test_正の無限大(double[] dof) {
+            FDistribution dist = FDistributionFactory.instanceOf(dof[0], dof[1]);
+            assertThat(dist.cdf(Double.POSITIVE_INFINITY), is(1d));
+            assertThat(dist.ccdf(Double.POSITIVE_INFINITY), is(0d));
+        }
+
+        @Theory
+        public void test_負やNaNは非数(double[] dof) {
+            FDistribution dist = FDistributionFactory.instanceOf(dof[0], dof[1]);
+            assertThat(dist.cdf(-1E-300), is(Double.NaN));
+            assertThat(dist.ccdf(-1), is(Double.NaN));
+            assertThat(dist.cdf(Double.NaN), is(Double.NaN));
+            assertThat(dist.ccdf(Double.NaN), is(Double.NaN));
+        }
+    }
+
+    public static class 配列版のテスト {
+
+        @Test
+        public void test_単一版と一致する() {
+            FDistribution dist = FDistributionFactory.instanceOf(3, 5);
+            double[] fs = { 0, 0.5, 1, 3, 50 };
+            double[] cdfs = new double[fs.length];
+            double[] ccdfs = new double[fs.length];
+            dist.cdf(fs, cdfs);
+            dist.ccdf(fs, ccdfs);
+            for (int i = 0; i < fs.length; i++) {
+                assertThat(cdfs[i], is(dist.cdf(fs[i])));
+                assertThat(ccdfs[i], is(dist.ccdf(fs[i])));
+            }
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_長さの不一致は例外() {
+            FDistributionFactory.instanceOf(3, 5).ccdf(new double[3], new double[4]);
+        }
+    }
+
+    public static class インスタンスの生成のテスト {
+
+        @Test
+        public void test_自由度に応じた実装の選択() {
+            assertThat(FDistributionFactory.instanceOf(2, 5), is(instanceOf(ClosedFormFDistribution.class)));
+            assertThat(FDistributionFactory.instanceOf(5, 2), is(instanceOf(ClosedFormFDistribution.class)));
+            assertThat(FDistributionFactory.instanceOf(3, 5), is(instanceOf(ICBetaBasedFDistribution.class)));
+        }
+
+        @Test
+        public void test_同一の自由度ではキャッシュが返る() {
+            assertThat(
+                    FDistributionFactory.instanceOf(3.5, 8),
+                    is(sameInstance(FDistributionFactory.instanceOf(3.5, 8))));
+        }
+
+        @Test
+        public void test_自由度の取得() {
+            FDistribution dist = FDistributionFactory.instanceOf(3.5, 8);
+            assertThat(dist.numeratorDegreesOfFreedom(), is(3.5));
+            assertThat(dist.denominatorDegreesOfFreedom(), is(8d));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_サポート外の自由度は例外() {
+            FDistributionFactory.instanceOf(3, 0.01);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+package matsu.num.specialfunction.distribution;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.DoubleRelativeAssertion;
+import matsu.num.specialfunction.IncompleteBetaFunction;
+import matsu.num.specialfunction.NoncentralBetaDistribution;
+
+/**
+ * {@link NoncentralBeta} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class NoncentralBetaTest {
+
+    public static final Class<?> TEST_CLASS = NoncentralBeta.class;
+
+    @RunWith(Theories.class)
+    public static class 累積分布関数と相補累積分布関数のテスト {
+
+        private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+                new DoubleRelativeAssertion(2E-14);
+
+        /* 値は多倍長演算による Poisson 混合の和から計算した */
+        /* {a, b, lambda, x, P(X <= x), P(X > x)} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 2, 3, 5, 0.01, 5.06565573781422006E-05, 9.99949343442621874E-01 },
+                { 2, 3, 5, 0.5, 3.22877476149081410E-01, 6.77122523850918534E-01 },
+                { 2, 3, 5, 0.99, 9.99967127158637226E-01, 3.28728413627620193E-05 },
+                { 0.5, 0.7, 40, 0.001, 5.28680115053688867E-11, 9.99999999947131957E-01 },
+                { 0.5, 0.7, 40, 0.95, 2.35900958897891144E-01, 7.64099041102108800E-01 },
+                { 0.5, 0.7, 40, 0.9999, 9.85710498399615553E-01, 1.42895016003844848E-02 },
+                { 30, 2.5, 400, 0.5, 1.40446482951422470E-50, 1d },
+                { 30, 2.5, 400, 0.97, 1.61743565408028131E-02, 9.83825643459197208E-01 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            NoncentralBetaDistribution dist = new NoncentralBeta(dataPair[0], dataPair[1], dataPair[2]);
+            double x = dataPair[3];
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(dataPair[4], dist.cdf(x));
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(dataPair[5], dist.ccdf(x));
+        }
+    }
+
+    public static class 非心度0のテスト {
+
+        @Test
+        public void test_ベータ分布に一致する() {
+            NoncentralBetaDistribution dist = new NoncentralBeta(2.5, 4, 0);
+            IncompleteBetaFunction ibeta = IncompleteBetaFunction.instanceOf(2.5, 4);
+            for (double x : new double[] { 0.01, 0.3, 0.5, 0.9 }) {
+                assertThat(dist.cdf(x), is(ibeta.ribeta(x)));
+            }
+        }
+    }
+
+    public static class 境界値のテスト {
+
+        private final NoncentralBetaDistribution dist = new NoncentralBeta(2, 3, 5);
+
+        @Test
+        public void test_x_0と1() {
+            assertThat(dist.cdf(0), is(0d));
+            assertThat(dist.ccdf(0), is(1d));
+            assertThat(dist.cdf(1), is(1d));
+            assertThat(dist.ccdf(1), is(0d));
+        }
+
+        @Test
+        public void test_範囲外やNaNは非数() {
+            assertThat(dist.cdf(-1E-300), is(Double.NaN));
+            assertThat(dist.ccdf(1.5), is(Double.NaN));
+            assertThat(dist.cdf(Double.NaN), is(Double.NaN));
+            assertThat(dist.ccdf(Double.NaN), is(Double.NaN));
+        }
+    }
+
+    public static class インスタンスの生成のテスト {
+
+        @Test
+        public void test_パラメータの取得() {
+            NoncentralBetaDistribution dist = NoncentralBetaFactory.instanceOf(2, 3, 5);
+            assertThat(dist.a(), is(2d));
+            assertThat(dist.b(), is(3d));
+            assertThat(dist.noncentrality(), is(5d));
+        }
+
+        @Test
+        public void test_パラメータの判定() {
+            assertThat(NoncentralBetaDistribution.acceptsParameter(1E-2, 1E14, 0), is(true));
+            assertThat(NoncentralBetaDistribution.acceptsParameter(5E13, 1E-2, 1E6), is(true));
+            assertThat(NoncentralBetaDistribution.acceptsParameter(1E14, 1, 1), is(false));
+            assertThat(NoncentralBetaDistribution.acceptsParameter(1, 1, -1), is(false));
+            assertThat(NoncentralBetaDistribution.acceptsParameter(1, Double.NaN, 1), is(false));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_サポート外のパラメータは例外() {
+            NoncentralBetaFactory.instanceOf(2, 3, 2E6);
+        }
+    }
+}
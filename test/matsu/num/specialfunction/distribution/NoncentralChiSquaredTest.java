@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+package matsu.num.specialfunction.distribution;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.DoubleRelativeAssertion;
+import matsu.num.specialfunction.IncompleteGammaFunction;
+import matsu.num.specialfunction.NoncentralChiSquaredDistribution;
+
+/**
+ * {@link NoncentralChiSquared} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class NoncentralChiSquaredTest {
+
+    public static final Class<?> TEST_CLASS = NoncentralChiSquared.class;
+
+    @RunWith(Theories.class)
+    public static class 累積分布関数と相補累積分布関数のテスト {
+
+        private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+                new DoubleRelativeAssertion(2E-14);
+
+        /* 値は多倍長演算による Poisson 混合の和から計算した */
+        /* {k, lambda, x, P(X <= x), P(X > x)} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 3, 10, 0.1, 6.06657265997063964E-05, 9.99939334273400315E-01 },
+                { 3, 10, 2, 1.28518519864983076E-02, 9.87148148013501703E-01 },
+                { 3, 10, 10, 3.73843374032038767E-01, 6.26156625967961289E-01 },
+                { 3, 10, 30, 9.81038016636556875E-01, 1.89619833634431592E-02 },
+                { 3, 10, 60, 9.99994259557672405E-01, 5.74044232759754790E-06 },
+                { 0.5, 0.3, 1E-8, 7.98504273750241106E-03, 9.92014957262497554E-01 },
+                { 0.5, 0.3, 1, 7.65789368879540855E-01, 2.34210631120459173E-01 },
+                { 0.5, 0.3, 40, 9.99999998053523576E-01, 1.94647645388986666E-09 },
+                { 10, 1000, 400, 1.94629784021948295E-32, 1d },
+                { 10, 1000, 1000, 4.43411213514919134E-01, 5.56588786485080922E-01 },
+                { 10, 1000, 1800, 1d, 6.23210480880512345E-27 },
+                { 1, 0, 0.5, 5.20499877813046519E-01, 4.79500122186953481E-01 },
+                { 1, 0, 3, 9.16735483336449608E-01, 8.32645166635504058E-02 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            NoncentralChiSquaredDistribution dist = new NoncentralChiSquared(dataPair[0], dataPair[1]);
+            double x = dataPair[2];
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(dataPair[3], dist.cdf(x));
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(dataPair[4], dist.ccdf(x));
+        }
+    }
+
+    public static class 非心度0のテスト {
+
+        @Test
+        public void test_中心カイ二乗分布に一致する() {
+            NoncentralChiSquaredDistribution dist = new NoncentralChiSquared(7, 0);
+            IncompleteGammaFunction icgamma = IncompleteGammaFunction.instanceOf(3.5);
+            for (double x : new double[] { 0.01, 1, 7, 20, 100 }) {
+                assertThat(dist.cdf(x), is(icgamma.rigammaP(x / 2)));
+                assertThat(dist.ccdf(x), is(icgamma.rigammaQ(x / 2)));
+            }
+        }
+    }
+
+    public static class 境界値のテスト {
+
+        private final NoncentralChiSquaredDistribution dist = new NoncentralChiSquared(3, 10);
+
+        @Test
+        public void test_x_0() {
+            assertThat(dist.cdf(0), is(0d));
+            assertThat(dist.ccdf(0), is(1d));
+        }
+
+        @Test
+        public void test_正の無限大() {
+            assertThat(dist.cdf(Double.POSITIVE_INFINITY), is(1d));
+            assertThat(dist.ccdf(Double.POSITIVE_INFINITY), is(0d));
+        }
+
+        @Test
+        public void test_負やNaNは非数() {
+            assertThat(dist.cdf(-1E-300), is(Double.NaN));
+            assertThat(dist.ccdf(-1), is(Double.NaN));
+            assertThat(dist.cdf(Double.NaN), is(Double.NaN));
+            assertThat(dist.ccdf(Double.NaN), is(Double.NaN));
+        }
+    }
+
+    public static class インスタンスの生成のテスト {
+
+        @Test
+        public void test_パラメータの取得() {
+            NoncentralChiSquaredDistribution dist = NoncentralChiSquaredFactory.instanceOf(3, 10);
+            assertThat(dist.degreesOfFreedom(), is(3d));
+            assertThat(dist.noncentrality(), is(10d));
+        }
+
+        @Test
+        public void test_パラメータの判定() {
+            assertThat(NoncentralChiSquaredDistribution.acceptsParameter(2E-2, 0), is(true));
+            assertThat(NoncentralChiSquaredDistribution.acceptsParameter(1E14, 1E6), is(true));
+            assertThat(NoncentralChiSquaredDistribution.acceptsParameter(1E-2, 1), is(false));
+            assertThat(NoncentralChiSquaredDistribution.acceptsParameter(3, -1E-10), is(false));
+            assertThat(NoncentralChiSquaredDistribution.acceptsParameter(3, 2E6), is(false));
+            assertThat(NoncentralChiSquaredDistribution.acceptsParameter(3, Double.NaN), is(false));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_サポート外のパラメータは例外() {
+            NoncentralChiSquaredFactory.instanceOf(3, -1);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+package matsu.num.specialfunction.distribution;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Arrays;
+
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.DoubleRelativeAssertion;
+
+/**
+ * {@link PoissonWeights} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class PoissonWeightsTest {
+
+    public static final Class<?> TEST_CLASS = PoissonWeights.class;
+
+    @RunWith(Theories.class)
+    public static class 最頻値における確率のテスト {
+
+        private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+                new DoubleRelativeAssertion(1E-14);
+
+        /* 値は多倍長演算により計算した */
+        /* {mu, w_m} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 0.3, 7.40818220681717876E-01 },
+                { 7.5, 1.46483832164136130E-01 },
+                { 99.9, 3.98989013808822637E-02 },
+                { 100000.25, 1.26156481546689124E-03 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            double mu = dataPair[0];
+            PoissonWeights weights = new PoissonWeights(mu);
+            double[] indicator = new double[weights.hi - weights.lo + 1];
+            indicator[(int) Math.floor(mu) - weights.lo] = 1;
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(dataPair[1], weights.sum(indicator));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 窓のテスト {
+
+        @DataPoints
+        public static double[] mus = { 0, 1E-10, 0.3, 7.5, 99.9, 100000.25 };
+
+        @Theory
+        public void test_窓内の確率の和は1(double mu) {
+            PoissonWeights weights = new PoissonWeights(mu);
+            double[] ones = new double[weights.hi - weights.lo + 1];
+            Arrays.fill(ones, 1d);
+            assertThat(weights.sum(ones), is(closeTo(1d, 1E-13)));
+        }
+
+        @Theory
+        public void test_窓の外側は無視できる(double mu) {
+            PoissonWeights weights = new PoissonWeights(mu);
+            assertThat(weights.lowerTailBound(), is(lessThanOrEqualTo(PoissonWeights.CORE_TAIL)));
+            assertThat(weights.upperTailBound(), is(lessThanOrEqualTo(PoissonWeights.CORE_TAIL)));
+        }
+
+        @Theory
+        public void test_延長した窓の外側は許容値以下(double mu) {
+            PoissonWeights weights = new PoissonWeights(mu);
+            int newHi = weights.extendedHi(1E-100);
+            assertThat(newHi, is(greaterThanOrEqualTo(weights.hi)));
+
+            double[] ones = new double[newHi - weights.hi];
+            Arrays.fill(ones, 1d);
+            assertThat(weights.sumAbove(newHi, ones), is(lessThanOrEqualTo(PoissonWeights.CORE_TAIL)));
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+package matsu.num.specialfunction.distribution;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.DoubleRelativeAssertion;
+import matsu.num.specialfunction.StudentTDistribution;
+
+/**
+ * {@link StudentTFactory} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class StudentTFactoryTest {
+
+    public static final Class<?> TEST_CLASS = StudentTFactory.class;
+
+    @RunWith(Theories.class)
+    public static class 整数自由度の両側確率のテスト {
+
+        private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+                new DoubleRelativeAssertion(1E-14);
+
+        /* 値は多倍長演算による有限和から計算した */
+        /* {nu, t, P(|T| >= t)} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 1, 0.5, 7.04832764699133474E-01 },
+                { 1, 2, 2.95167235300866526E-01 },
+                { 1, 10, 6.34510348611071334E-02 },
+                { 1, 100, 6.36598552981651033E-03 },
+                { 2, 0.5, 6.66666666666666667E-01 },
+                { 2, 2, 1.83503419072273966E-01 },
+                { 2, 10, 9.85245702332569057E-03 },
+                { 2, 100, 9.99850024995625812E-05 },
+                { 5, 0.5, 6.38298871640929022E-01 },
+                { 5, 2, 1.01939478829858363E-01 },
+                { 5, 10, 1.70947575742963601E-04 },
+                { 5, 100, 1.89600142246236261E-09 },
+                { 10, 0.5, 6.27893605742972927E-01 },
+                { 10, 2, 7.33880347707403652E-02 },
+                { 10, 10, 1.58955317559641185E-06 },
+                { 10, 100, 2.44968955541982995E-16 },
+                { 30, 0.5, 6.20723004885127327E-01 },
+                { 30, 2, 5.46250449629831006E-02 },
+                { 30, 10, 4.57525140822961288E-11 },
+                { 30, 100, 1.98461179672702490E-39 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            StudentTDistribution dist = StudentTFactory.instanceOf(dataPair[0]);
+            double t = dataPair[1];
+            double p = dataPair[2];
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(p, dist.twoSidedPValue(t));
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(p, dist.twoSidedPValue(-t));
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(p / 2, dist.ccdf(t));
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(p / 2, dist.cdf(-t));
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(1 - p / 2, dist.cdf(t));
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(1 - p / 2, dist.ccdf(-t));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 非整数および大きな自由度の両側確率のテスト {
+
+        private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+                new DoubleRelativeAssertion(1E-12);
+
+        /* 値は多倍長演算による級数和から計算した */
+        /* {nu, t, P(|T| >= t)} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 0.5, 0.5, 7.57318072929436631341E-1 },
+                { 0.5, 2, 4.45514890183131231187E-1 },
+                { 0.5, 10, 2.02677352771331144241E-1 },
+                { 0.5, 100, 6.41397140430733108E-2 },
+                { 7.5, 0.5, 6.31410964622454404591E-1 },
+                { 7.5, 2, 8.28969952981663126903E-2 },
+                { 7.5, 10, 1.33659781493874623762E-5 },
+                { 7.5, 100, 5.37479904081419118E-13 },
+                { 100.5, 0.5, 6.18168109276442522437E-1 },
+                { 100.5, 2, 4.81986276043879441158E-2 },
+                { 100.5, 10, 9.42476217229706534877E-17 },
+                { 100.5, 100, 1.96119516859750905E-102 },
+                { 1000, 0.5, 6.17185080833874814642E-1 },
+                { 1000, 2, 4.57703464932516400488E-2 },
+                { 1000, 10, 1.66707029586000663085E-22 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            StudentTDistribution dist = StudentTFactory.instanceOf(dataPair[0]);
+            double t = dataPair[1];
+            double p = dataPair[2];
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(p, dist.twoSidedPValue(t));
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(p / 2, dist.ccdf(t));
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(1 - p / 2, dist.cdf(t));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 境界値のテスト {
+
+        @DataPoints
+        public static double[] nus = { 1, 2, 5, 7.5, 100.5, 1000 };
+
+        @Theory
+        public void test_t_0(double nu) {
+            StudentTDistribution dist = StudentTFactory.instanceOf(nu);
+            assertThat(dist.cdf(0), is(0.5));
+            assertThat(dist.ccdf(0), is(0.5));
+            assertThat(dist.twoSidedPValue(0), is(1d));
+        }
+
+        @Theory
+        public void test_無限大(double nu) {
+            StudentTDistribution dist = StudentTFactory.instanceOf(nu);
+            assertThat(dist.cdf(Double.POSITIVE_INFINITY), is(1d));
+            assertThat(dist.cdf(Double.NEGATIVE_INFINITY), is(0d));
+            assertThat(dist.ccdf(Double.POSITIVE_INFINITY), is(0d));
+            assertThat(dist.ccdf(Double.NEGATIVE_INFINITY), is(1d));
+            assertThat(dist.twoSidedPValue(Double.POSITIVE_INFINITY), is(0d));
+            assertThat(dist.twoSidedPValue(Double.NEGATIVE_INFINITY), is(0d));
+        }
+
+        @Theory
+        public void test_NaN(double nu) {
+            StudentTDistribution dist = StudentTFactory.instanceOf(nu);
+            assertThat(dist.cdf(Double.NaN), is(Double.NaN));
+            assertThat(dist.ccdf(Double.NaN), is(Double.NaN));
+            assertThat(dist.twoSidedPValue(Double.NaN), is(Double.NaN));
+        }
+    }
+
+    public static class 配列版のテスト {
+
+        @Test
+        public void test_単一版と一致する() {
+            StudentTDistribution dist = StudentTFactory.instanceOf(7.5);
+            double[] ts = { -3, -0.5, 0, 0.5, 3, 50 };
+            double[] cdfs = new double[ts.length];
+            double[] ccdfs = new double[ts.length];
+            double[] ps = new double[ts.length];
+            dist.cdf(ts, cdfs);
+            dist.ccdf(ts, ccdfs);
+            dist.twoSidedPValue(ts, ps);
+            for (int i = 0; i < ts.length; i++) {
+                assertThat(cdfs[i], is(dist.cdf(ts[i])));
+                assertThat(ccdfs[i], is(dist.ccdf(ts[i])));
+                assertThat(ps[i], is(dist.twoSidedPValue(ts[i])));
+            }
+        }
+
+        @Test
+        public void test_引数と結果が同一配列でもよい() {
+            StudentTDistribution dist = StudentTFactory.instanceOf(5);
+            double[] ts = { -3, 0.5, 3 };
+            double[] expected = { dist.cdf(-3), dist.cdf(0.5), dist.cdf(3) };
+            dist.cdf(ts, ts);
+            assertThat(ts, is(expected));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_長さの不一致は例外() {
+            StudentTFactory.instanceOf(5).cdf(new double[3], new double[2]);
+        }
+    }
+
+    public static class インスタンスの生成のテスト {
+
+        @Test
+        public void test_自由度に応じた実装の選択() {
+            assertThat(StudentTFactory.instanceOf(1), is(instanceOf(ClosedFormStudentT.class)));
+            assertThat(StudentTFactory.instanceOf(2), is(instanceOf(ClosedFormStudentT.class)));
+            assertThat(StudentTFactory.instanceOf(3), is(instanceOf(FiniteSumStudentT.class)));
+            assertThat(StudentTFactory.instanceOf(30), is(instanceOf(FiniteSumStudentT.class)));
+            assertThat(StudentTFactory.instanceOf(2.5), is(instanceOf(ICBetaBasedStudentT.class)));
+            assertThat(StudentTFactory.instanceOf(31), is(instanceOf(ICBetaBasedStudentT.class)));
+            assertThat(
+                    StudentTFactory.instanceOf(LargeDofStudentT.NU_MIN),
+                    is(instanceOf(LargeDofStudentT.class)));
+        }
+
+        @Test
+        public void test_同一の自由度ではキャッシュが返る() {
+            assertThat(StudentTFactory.instanceOf(12.25), is(sameInstance(StudentTFactory.instanceOf(12.25))));
+        }
+
+        @Test
+        public void test_自由度の取得() {
+            assertThat(StudentTFactory.instanceOf(12.25).degreesOfFreedom(), is(12.25));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_小さすぎる自由度は例外() {
+            StudentTFactory.instanceOf(0.01);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_大きすぎる自由度は例外() {
+            StudentTFactory.instanceOf(1E15);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_NaNは例外() {
+            StudentTFactory.instanceOf(Double.NaN);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+package matsu.num.specialfunction.distribution;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.DoubleRelativeAssertion;
+import matsu.num.specialfunction.VonMisesFisherDistribution;
+
+/**
+ * {@link VonMisesFisherFactory} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class VonMisesFisherFactoryTest {
+
+    public static final Class<?> TEST_CLASS = VonMisesFisherFactory.class;
+
+    @RunWith(Theories.class)
+    public static class 正規化定数と平均合成ベクトル長のテスト {
+
+        private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+                new DoubleRelativeAssertion(2E-15);
+
+        /* 値は多倍長演算による級数から計算した */
+        /* {p, kappa, log C_p(kappa), A_p(kappa)} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 2, 0.0, -1.837877066409345561E+00, 0.000000000000000000E+00 },
+                { 2, 1E-8, -1.837877066409345561E+00, 5.000000000000000105E-09 },
+                { 2, 0.5, -1.899426785594826805E+00, 2.424996125808019376E-01 },
+                { 2, 2.5, -3.028715737605373715E+00, 7.649967475888098667E-01 },
+                { 2, 10.0, -9.780849149528041409E+00, 9.485998259548459322E-01 },
+                { 2, 100.0, -9.861760975635192494E+01, 9.949873730051688181E-01 },
+                { 2, 1000.0, -9.974651859562787877E+02, 9.994998748748042949E-01 },
+                { 2, 10000.0, -9.996313780847842281E+03, 9.999499987498750020E-01 },
+                { 3, 0.0, -2.531024246969290736E+00, 0.000000000000000000E+00 },
+                { 3, 1E-8, -2.531024246969290736E+00, 3.333333333333333403E-09 },
+                { 3, 0.5, -2.572349101582208863E+00, 1.639534137386528534E-01 },
+                { 3, 2.5, -3.414825585085701665E+00, 6.135673098126084302E-01 },
+                { 3, 10.0, -9.535291971354146412E+00, 9.000000041223072955E-01 },
+                { 3, 100.0, -9.723270688042124732E+01, 9.899999999999999911E-01 },
+                { 3, 1000.0, -9.949301217874271970E+02, 9.989999999999999991E-01 },
+                { 3, 10000.0, -9.992627536694433729E+03, 9.999000000000000110E-01 },
+                { 4, 0.0, -2.982606952258745725E+00, 0.000000000000000000E+00 },
+                { 4, 1E-8, -2.982606952258745725E+00, 2.500000000000000052E-09 },
+                { 4, 0.5, -3.013695866353301778E+00, 1.237179282783207324E-01 },
+                { 4, 2.5, -3.682418375458029303E+00, 5.071951000470209525E-01 },
+                { 4, 10.0, -9.263372873928856777E+00, 8.541853083236815580E-01 },
+                { 4, 100.0, -9.584529140442204209E+01, 9.850378800081568409E-01 },
+                { 4, 1000.0, -9.923948074934764918E+02, 9.985003753754930766E-01 },
+                { 4, 10000.0, -9.988941267539774344E+03, 9.998500037503750271E-01 },
+                { 5, 0.0, -3.270289024710526515E+00, 0.000000000000000000E+00 },
+                { 5, 1E-8, -3.270289024710526515E+00, 2.000000000000000125E-09 },
+                { 5, 0.5, -3.295200394470957583E+00, 9.929355660768976466E-02 },
+                { 5, 2.5, -3.847946613217511302E+00, 4.298130360064540967E-01 },
+                { 5, 10.0, -8.965223433691960508E+00, 8.111111060218428870E-01 },
+                { 5, 100.0, -9.445536342498900240E+01, 9.801010101010101394E-01 },
+                { 5, 1000.0, -9.898592430745208048E+02, 9.980010010010009758E-01 },
+                { 5, 10000.0, -9.985254973383865945E+03, 9.998000100010000502E-01 },
+                { 10, 0.0, -3.238742779459000687E+00, 0.000000000000000000E+00 },
+                { 10, 1E-8, -3.238742779459000687E+00, 1.000000000000000062E-09 },
+                { 10, 0.5, -3.251229789534112680E+00, 4.989620386178146572E-02 },
+                { 10, 2.5, -3.543555338715718595E+00, 2.380355818661276934E-01 },
+                { 10, 10.0, -7.090957108908095385E+00, 6.336683916233053493E-01 },
+                { 10, 100.0, -8.746804386386922658E+01, 9.557951728812473791E-01 },
+                { 10, 1000.0, -9.771776691123460523E+02, 9.955078828557041293E-01 },
+                { 10, 10000.0, -9.966823127585581460E+03, 9.995500787578730506E-01 },
+                { 51, 0.0, 2.650540837400029659E+01, 0.000000000000000000E+00 },
+                { 51, 1E-8, 2.650540837400029659E+01, 1.960784313725490313E-10 },
+                { 51, 0.5, 2.650295750694004937E+01, 9.803014967224611687E-03 },
+                { 51, 2.5, 2.644420449544655227E+01, 4.890676485287033526E-02 },
+                { 51, 10.0, 2.554234152766219523E+01, 1.893006035928563591E-01 },
+                { 51, 100.0, -2.781770158796970804E+01, 7.798500336221176887E-01 },
+                { 51, 1000.0, -8.729529095778638066E+02, 9.753002552838734296E-01 },
+                { 51, 10000.0, -9.815658415875683204E+03, 9.975030002955431740E-01 },
+                { 201, 0.0, 2.456970397593529469E+02, 0.000000000000000000E+00 },
+                { 201, 1E-8, 2.456970397593529469E+02, 4.975124378109452551E-11 },
+                { 201, 0.5, 2.456964178707108317E+02, 2.487546947944977490E-03 },
+                { 201, 2.5, 2.456814936861567560E+02, 1.243590636117217901E-02 },
+                { 201, 10.0, 2.454485873843995023E+02, 4.962990170734698364E-02 },
+                { 201, 100.0, 2.231774000271064438E+02, 4.131765905148211959E-01 },
+                { 201, 1000.0, -4.880637851435674293E+02, 9.049427177670268385E-01 },
+                { 201, 10000.0, -9.262258648775694382E+03, 9.900495037251880737E-01 },
+                { 202, 0.0, 2.474285099042141383E+02, 0.000000000000000000E+00 },
+                { 202, 1E-8, 2.474285099042141383E+02, 4.950495049504950669E-11 },
+                { 202, 0.5, 2.474278910942100254E+02, 2.475232508142938270E-03 },
+                { 202, 2.5, 2.474130407801362708E+02, 1.237436108867521339E-02 },
+                { 202, 10.0, 2.471812845294814167E+02, 4.938539015788581676E-02 },
+                { 202, 100.0, 2.250021028206736844E+02, 4.117202304442772465E-01 },
+                { 202, 1000.0, -4.854790286613604735E+02, 9.044923954471051353E-01 },
+                { 202, 10000.0, -9.258567429456241371E+03, 9.900000025002499981E-01 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            VonMisesFisherDistribution dist = VonMisesFisherFactory.instanceOf((int) dataPair[0]);
+            double kappa = dataPair[1];
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(dataPair[2], dist.logNormalizingConstant(kappa));
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(dataPair[3], dist.meanResultantLength(kappa));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 境界値のテスト {
+
+        @DataPoints
+        public static int[] ps = { 2, 3, 4, 51, 201, 202 };
+
+        @Theory
+        public void test_正の無限大(int p) {
+            VonMisesFisherDistribution dist = VonMisesFisherFactory.instanceOf(p);
+            assertThat(dist.meanResultantLength(Double.POSITIVE_INFINITY), is(1d));
+            assertThat(dist.logNormalizingConstant(Double.POSITIVE_INFINITY), is(Double.NEGATIVE_INFINITY));
+        }
+
+        @Theory
+        public void test_負やNaNは非数(int p) {
+            VonMisesFisherDistribution dist = VonMisesFisherFactory.instanceOf(p);
+            assertThat(dist.meanResultantLength(-1), is(Double.NaN));
+            assertThat(dist.logNormalizingConstant(-1E-300), is(Double.NaN));
+            assertThat(dist.meanResultantLength(Double.NaN), is(Double.NaN));
+            assertThat(dist.logNormalizingConstant(Double.NaN), is(Double.NaN));
+        }
+
+        @Theory
+        public void test_級数の切り替えの前後で連続(int p) {
+            VonMisesFisherDistribution dist = VonMisesFisherFactory.instanceOf(p);
+            double below = dist.logNormalizingConstant(Math.nextDown(1d));
+            double above = dist.logNormalizingConstant(1d);
+            assertThat(Math.abs(above / below - 1), is(lessThan(1E-15)));
+        }
+    }
+
+    public static class 配列版のテスト {
+
+        @Test
+        public void test_単一版と一致する() {
+            VonMisesFisherDistribution dist = VonMisesFisherFactory.instanceOf(3);
+            double[] kappas = { 0, 0.5, 3, 50, 1E5 };
+            double[] results = new double[kappas.length];
+            dist.meanResultantLength(kappas, results);
+            for (int i = 0; i < kappas.length; i++) {
+                assertThat(results[i], is(dist.meanResultantLength(kappas[i])));
+            }
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_長さの不一致は例外() {
+            VonMisesFisherFactory.instanceOf(3).meanResultantLength(new double[3], new double[2]);
+        }
+    }
+
+    public static class インスタンスの生成のテスト {
+
+        @Test
+        public void test_次元の偶奇に応じた実装の選択() {
+            assertThat(VonMisesFisherFactory.instanceOf(2), is(instanceOf(EvenDimensionVonMisesFisher.class)));
+            assertThat(VonMisesFisherFactory.instanceOf(202), is(instanceOf(EvenDimensionVonMisesFisher.class)));
+            assertThat(VonMisesFisherFactory.instanceOf(3), is(instanceOf(OddDimensionVonMisesFisher.class)));
+            assertThat(VonMisesFisherFactory.instanceOf(201), is(instanceOf(OddDimensionVonMisesFisher.class)));
+        }
+
+        @Test
+        public void test_次元の取得() {
+            assertThat(VonMisesFisherFactory.instanceOf(17).dimension(), is(17));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_小さすぎる次元は例外() {
+            VonMisesFisherFactory.instanceOf(1);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_大きすぎる次元は例外() {
+            VonMisesFisherFactory.instanceOf(203);
+        }
+    }
+}
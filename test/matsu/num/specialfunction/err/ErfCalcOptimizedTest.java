@@ -6,6 +6,11 @@
  */
 package matsu.num.specialfunction.err;
 
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Ignore;
+import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.experimental.theories.DataPoints;
 import org.junit.experimental.theories.Theories;
@@ -13,6 +18,7 @@ import org.junit.experimental.theories.Theory;
 import org.junit.runner.RunWith;
 
 import matsu.num.specialfunction.DoubleRelativeAssertion;
+import matsu.num.specialfunction.speedutil.SpeedTestExecutor;
 
 /**
  * {@link ErfCalcOptimized} クラスのテスト.
@@ -20,6 +26,8 @@ import matsu.num.specialfunction.DoubleRelativeAssertion;
 @RunWith(Enclosed.class)
 final class ErfCalcOptimizedTest {
 
+    public static final Class<?> TEST_CLASS = ErfCalcOptimized.class;
+
     private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
             new DoubleRelativeAssertion(1E-14);
 
@@ -174,4 +182,80 @@ final class ErfCalcOptimizedTest {
                     ERF.erfcx(dataPair[0]));
         }
     }
+
+    @Ignore
+    public static class 計算時間評価 {
+
+        /*
+         * 近似多項式の領域が入力ごとに入れ替わる場合と, 単一の領域に留まる場合を比較する.
+         * 前者では領域選択の分岐予測が外れやすい.
+         * 分岐予測器が周期を学習しないよう, 入力は 2^16 個の点を固定したシードでシャッフルする.
+         * 同じ入力を昇順に並べた場合 (領域の切り替えが稀で, 分岐予測が当たる) も比較する.
+         * 入力点は t = 1/x について等間隔に取る.
+         * 領域は (int)(t * 8) により選ばれる.
+         */
+
+        private static final int SIZE = 1 << 16;
+        private static final double[] MIXED_XS = shuffledXs(1d / 16, 1d, 1L);
+        private static final double[] SORTED_XS = sorted(MIXED_XS);
+        private static final double[] SINGLE_XS = shuffledXs(1d / 16, 1d / 8, 2L);
+
+        private double d = 0d;
+        private int index = 0;
+
+        private static double[] shuffledXs(double lower, double upper, long seed) {
+            double[] xs = new double[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                double t = lower + (upper - lower) * i / SIZE;
+                xs[i] = 1 / t;
+            }
+            Random random = new Random(seed);
+            for (int i = SIZE - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                double tmp = xs[i];
+                xs[i] = xs[j];
+                xs[j] = tmp;
+            }
+            return xs;
+        }
+
+        private static double[] sorted(double[] xs) {
+            double[] out = xs.clone();
+            Arrays.sort(out);
+            return out;
+        }
+
+        @Test
+        public void test_erfcxの実行_領域混在() {
+            var executor = new SpeedTestExecutor(
+                    TEST_CLASS, "erfcx: mixed regions, t = 1/x in [1/16 : 1]", 30_000_000,
+                    () -> {
+                        d += ERF.erfcx(MIXED_XS[index]);
+                        index = (index + 1) & (SIZE - 1);
+                    });
+            executor.execute();
+        }
+
+        @Test
+        public void test_erfcxの実行_領域混在_昇順() {
+            var executor = new SpeedTestExecutor(
+                    TEST_CLASS, "erfcx: mixed regions, sorted, t = 1/x in [1/16 : 1]", 30_000_000,
+                    () -> {
+                        d += ERF.erfcx(SORTED_XS[index]);
+                        index = (index + 1) & (SIZE - 1);
+                    });
+            executor.execute();
+        }
+
+        @Test
+        public void test_erfcxの実行_単一領域() {
+            var executor = new SpeedTestExecutor(
+                    TEST_CLASS, "erfcx: single region, t = 1/x in [1/16 : 1/8)", 30_000_000,
+                    () -> {
+                        d += ERF.erfcx(SINGLE_XS[index]);
+                        index = (index + 1) & (SIZE - 1);
+                    });
+            executor.execute();
+        }
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.err;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.fraction.DoubleDoubleReal;
+
+/**
+ * {@link ErfDoubleDoubleCalculation} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class ErfDoubleDoubleCalculationTest {
+
+    public static final Class<?> TEST_CLASS = ErfDoubleDoubleCalculation.class;
+
+    private static final ErfDoubleDoubleCalculation ERF = new ErfDoubleDoubleCalculation();
+
+    private static final MathContext MC = new MathContext(80);
+
+    private static final BigDecimal SQRT_PI =
+            new BigDecimal("3.14159265358979323846264338327950288419716939937510").sqrt(MC);
+
+    /**
+     * BigDecimal の Taylor 級数による erf.
+     */
+    private static BigDecimal erfRef(double x) {
+        BigDecimal bx = new BigDecimal(x);
+        BigDecimal x2 = bx.multiply(bx).negate();
+        BigDecimal power = bx;
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int n = 0; n < 400; n++) {
+            sum = sum.add(power.divide(new BigDecimal(2 * n + 1), MC), MC);
+            power = power.multiply(x2, MC).divide(new BigDecimal(n + 1), MC);
+        }
+        return sum.multiply(new BigDecimal(2)).divide(SQRT_PI, MC);
+    }
+
+    private static void assertRelative(BigDecimal expected, DoubleDoubleReal result) {
+        BigDecimal diff = result.toBigDecimal().subtract(expected).abs();
+        assertThat(
+                diff.compareTo(expected.abs().multiply(new BigDecimal("1E-28"))) <= 0,
+                is(true));
+    }
+
+    @RunWith(Theories.class)
+    public static class erfのテスト {
+
+        @DataPoints
+        public static double[] xs = {
+                -3, -1, -0.25, 1E-10, 0.25, 0.5, 1, 1.5, 1.99, 2, 2.5, 3, 4 };
+
+        @Theory
+        public void test_検証(double x) {
+            assertRelative(erfRef(x), ERF.erf(x));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class erfcのテスト {
+
+        @DataPoints
+        public static double[] xs = {
+                -2, -0.5, 0, 0.25, 0.5, 1, 1.5, 1.99, 2, 2.5, 3, 4, 5 };
+
+        @Theory
+        public void test_検証(double x) {
+            assertRelative(BigDecimal.ONE.subtract(erfRef(x)), ERF.erfc(x));
+        }
+    }
+
+    public static class 特殊値のテスト {
+
+        @Test
+        public void test_無限大() {
+            assertThat(ERF.erf(Double.POSITIVE_INFINITY).doubleValue(), is(1d));
+            assertThat(ERF.erfc(Double.POSITIVE_INFINITY).doubleValue(), is(0d));
+            assertThat(ERF.erfc(Double.NEGATIVE_INFINITY).doubleValue(), is(2d));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_NaNは例外() {
+            ERF.erf(Double.NaN);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.expint;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.ExponentialIntegral;
+
+/**
+ * {@link ExponentialIntegralCalculation} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class ExponentialIntegralCalculationTest {
+
+    public static final Class<?> TEST_CLASS = ExponentialIntegralCalculation.class;
+
+    private static final double RELATIVE_TOLERANCE = 2E-15;
+
+    private static void assertRelative(double expected, double actual, String message) {
+        assertThat(
+                message + ", expected = " + expected + ", actual = " + actual,
+                Math.abs(expected - actual) <= RELATIVE_TOLERANCE * Math.abs(expected),
+                is(true));
+    }
+
+    public static class Enに関するテスト {
+
+        private static final int[] ORDERS = { 1, 2, 5, 30 };
+
+        /**
+         * x, E_1(x), E_2(x), E_5(x), E_30(x) (多倍長計算による).
+         */
+        private static final double[][] EXPECTED = {
+                { 1E-5, 1.09357198000436959E+01, 9.99880642851999402E-01, 2.49996666691666508E-01,
+                        3.44824014796843575E-02 },
+                { 0.1, 1.82292395841939059E+00, 7.22545022194020503E-01, 2.19015952240280476E-01,
+                        3.10902682319767268E-02 },
+                { 0.5, 5.59773594776160843E-01, 3.26643862324553003E-01, 1.30977311695864851E-01,
+                        2.05481567514982956E-02 },
+                { 1, 2.19383934395520286E-01, 1.48495506775922048E-01, 7.04542374617204009E-02,
+                        1.22486036404418318E-02 },
+                { 1.25, 1.46413372525910190E-01, 1.03488081202802382E-01, 5.20127239793953741E-02,
+                        9.45791160060891617E-03 },
+                { 2, 4.89005107080611179E-02, 3.75342618204904527E-02, 2.13224002023230212E-02,
+                        4.35632841608534892E-03 },
+                { 5, 1.14829559127532571E-03, 9.96469042708838029E-04, 7.05760693424585268E-04,
+                        1.97303790195923822E-04 },
+                { 20, 9.83552529064988154E-11, 9.40485643085814844E-11, 8.30713059941769149E-11,
+                        4.17156561945700753E-11 },
+                { 100, 3.68359776168203206E-46, 3.64782143388037863E-46, 3.54450856889470127E-46,
+                        2.86662621167781924E-46 },
+                { 600, 4.40998979450983800E-264, 4.40267629840803352E-264, 4.38088039752945203E-264,
+                        4.20729571003625326E-264 },
+        };
+
+        @Test
+        public void test_真値との差が相対誤差の範囲内() {
+            for (double[] row : EXPECTED) {
+                double x = row[0];
+                for (int i = 0; i < ORDERS.length; i++) {
+                    assertRelative(row[i + 1], ExponentialIntegralCalculation.en(ORDERS[i], x),
+                            "n = " + ORDERS[i] + ", x = " + x);
+                }
+                assertThat(ExponentialIntegralCalculation.e1(x), is(ExponentialIntegralCalculation.en(1, x)));
+            }
+        }
+
+        @Test
+        public void test_E0は閉じた形() {
+            for (double x : new double[] { 1E-3, 0.5, 3, 40 }) {
+                assertRelative(Math.exp(-x) / x, ExponentialIntegralCalculation.en(0, x), "x = " + x);
+            }
+        }
+
+        @Test
+        public void test_特殊値() {
+            assertThat(ExponentialIntegralCalculation.en(0, 0), is(Double.POSITIVE_INFINITY));
+            assertThat(ExponentialIntegralCalculation.en(1, 0), is(Double.POSITIVE_INFINITY));
+            assertThat(ExponentialIntegralCalculation.en(3, 0), is(0.5));
+            assertThat(ExponentialIntegralCalculation.en(2, Double.POSITIVE_INFINITY), is(0d));
+            assertThat(Double.isNaN(ExponentialIntegralCalculation.en(2, -1)), is(true));
+            assertThat(Double.isNaN(ExponentialIntegralCalculation.en(2, Double.NaN)), is(true));
+        }
+    }
+
+    public static class Enの列に関するテスト {
+
+        @Test
+        public void test_各次数の計算との差が相対誤差の範囲内() {
+            int maxOrder = 60;
+            for (double x : new double[] { 1E-4, 0.3, 0.999, 1.5, 7.2, 33.3, 59.5, 250, 720 }) {
+                double[] seq = ExponentialIntegralCalculation.enSequence(maxOrder, x);
+                assertThat(seq.length, is(maxOrder + 1));
+                for (int n = 0; n <= maxOrder; n++) {
+                    assertRelative(ExponentialIntegralCalculation.en(n, x), seq[n], "n = " + n + ", x = " + x);
+                }
+            }
+        }
+
+        @Test
+        public void test_特殊値は各次数の計算と一致() {
+            for (double x : new double[] { 0, -1, Double.NaN, Double.POSITIVE_INFINITY }) {
+                double[] seq = ExponentialIntegralCalculation.enSequence(4, x);
+                for (int n = 0; n <= 4; n++) {
+                    assertThat(seq[n], is(ExponentialIntegralCalculation.en(n, x)));
+                }
+            }
+        }
+    }
+
+    public static class Eiに関するテスト {
+
+        /**
+         * x, Ei(x) (多倍長計算による).
+         */
+        private static final double[][] EXPECTED = {
+                { 1E-5, -1.09356998000436949E+01 },
+                { 0.2, -8.21760587902400252E-01 },
+                { 0.3725074107813666, -5.11969893655568465E-17 },
+                { 0.5, 4.54219904863173596E-01 },
+                { 1, 1.89511781635593679E+00 },
+                { 7.5, 2.89388398200144593E+02 },
+                { 49, 3.97544274790374523E+19 },
+                { 51, 2.81987525489551966E+20 },
+                { 300, 6.49648250808866537E+127 },
+                { 700, 1.45097873605256075E+301 },
+        };
+
+        @Test
+        public void test_真値との差が相対誤差の範囲内() {
+            for (double[] row : EXPECTED) {
+                assertRelative(row[1], ExponentialIntegralCalculation.ei(row[0]), "x = " + row[0]);
+            }
+        }
+
+        @Test
+        public void test_負の引数ではE1の符号反転() {
+            for (double x : new double[] { 1E-5, 0.5, 2, 100 }) {
+                assertThat(ExponentialIntegralCalculation.ei(-x), is(-ExponentialIntegralCalculation.e1(x)));
+            }
+        }
+
+        @Test
+        public void test_特殊値() {
+            assertThat(ExponentialIntegralCalculation.ei(0), is(Double.NEGATIVE_INFINITY));
+            assertThat(ExponentialIntegralCalculation.ei(Double.POSITIVE_INFINITY), is(Double.POSITIVE_INFINITY));
+            assertThat(ExponentialIntegralCalculation.ei(720), is(Double.POSITIVE_INFINITY));
+            assertThat(ExponentialIntegralCalculation.ei(Double.NEGATIVE_INFINITY), is(-0d));
+            assertThat(Double.isNaN(ExponentialIntegralCalculation.ei(Double.NaN)), is(true));
+        }
+    }
+
+    public static class 公開APIに関するテスト {
+
+        @Test
+        public void test_配列による計算は各点の計算と一致() {
+            double[] xs = { -2, 0, 0.3, 1, 4.5, 80 };
+            double[] e1 = new double[xs.length];
+            double[] ei = new double[xs.length];
+            ExponentialIntegral.e1(xs, e1);
+            ExponentialIntegral.ei(xs, ei);
+            for (int i = 0; i < xs.length; i++) {
+                assertThat(e1[i], is(ExponentialIntegral.e1(xs[i])));
+                assertThat(ei[i], is(ExponentialIntegral.ei(xs[i])));
+            }
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_配列の長さが異なる場合は例外() {
+            ExponentialIntegral.e1(new double[3], new double[2]);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_負の次数は例外() {
+            ExponentialIntegral.en(-1, 1d);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_負の最大次数は例外() {
+            ExponentialIntegral.enSequence(-1, 1d);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.fraction;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+/**
+ * {@link BigRationalAccumulator} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class BigRationalAccumulatorTest {
+
+    public static final Class<?> TEST_CLASS = BigRationalAccumulator.class;
+
+    @RunWith(Theories.class)
+    public static class 逐次演算との一致のテスト {
+
+        @DataPoints
+        public static int[] thresholds = {
+                1, 8, 64, BigRationalAccumulator.DEFAULT_REDUCTION_THRESHOLD };
+
+        @Theory
+        public void test_調和級数の部分和(int threshold) {
+            BigRational expected = BigRational.constantSupplier().zero();
+            BigRationalAccumulator acc =
+                    BigRationalAccumulator.of(BigRational.constantSupplier().zero(), threshold);
+            for (int k = 1; k <= 60; k++) {
+                BigRational term = BigRational.of(1, k);
+                expected = expected.plus(term);
+                acc.add(term);
+            }
+            assertThat(acc.toBigRational(), is(expected));
+        }
+
+        @Theory
+        public void test_四則演算の混合(int threshold) {
+            BigRational expected = BigRational.of(3, 7);
+            BigRationalAccumulator acc = BigRationalAccumulator.of(expected, threshold);
+            for (int k = 1; k <= 30; k++) {
+                BigRational a = BigRational.of(k, k + 2);
+                BigRational b = BigRational.of(-2 * k + 1, 3 * k);
+
+                expected = expected.times(a).plus(b);
+                acc.multiplyAdd(a, b);
+
+                expected = expected.minus(a.times(b));
+                acc.subtractProduct(a, b);
+
+                expected = expected.plus(b.times(b));
+                acc.addProduct(b, b);
+
+                expected = expected.dividedBy(b).minus(a);
+                acc.divide(b).subtract(a);
+            }
+            assertThat(acc.toBigRational(), is(expected));
+            assertThat(acc.doubleValue(), is(expected.doubleValue()));
+            assertThat(acc.compareTo(expected), is(0));
+        }
+    }
+
+    public static class toStringのテスト {
+
+        @Test
+        public void test_約分された値を表示し状態は変えない() {
+            BigRationalAccumulator acc = BigRationalAccumulator.of(BigRational.of(1, 6))
+                    .add(BigRational.of(1, 3));
+
+            assertThat(acc.toString(), is("BigRationalAccumulator(1 / 2)"));
+            assertThat(acc.toString(), is("BigRationalAccumulator(1 / 2)"));
+            assertThat(acc.toBigRational(), is(BigRational.of(1, 2)));
+        }
+    }
+
+    public static class 例外のテスト {
+
+        @Test(expected = ArithmeticException.class)
+        public void test_0割りで例外() {
+            BigRationalAccumulator.of(BigRational.of(1, 2))
+                    .divide(BigRational.constantSupplier().zero());
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_閾値が0で例外() {
+            BigRationalAccumulator.of(BigRational.of(1, 2), 0);
+        }
+    }
+}
@@ -196,4 +196,33 @@ final class ContinuedFractionFunctionTest {
             }
         }
     }
+
+    public static class 有理数の専用カーネルのテスト {
+
+        @Test
+        public void test_汎用の演算による係数と一致する() {
+            IntFunction<BigRational> supplier =
+                    k -> BigRational.of((2L * k + 1) * (2L * k + 1), k + 1);
+
+            // 定数サプライヤがBigRational.constantSupplier()でない場合は汎用の演算が用いられる
+            MathField.ConstantSupplier<BigRational> genericSupplier = new MathField.ConstantSupplier<>() {
+
+                @Override
+                public BigRational zero() {
+                    return BigRational.constantSupplier().zero();
+                }
+
+                @Override
+                public BigRational one() {
+                    return BigRational.constantSupplier().one();
+                }
+            };
+
+            assertThat(
+                    ContinuedFractionFunction.from(30, supplier, BigRational.constantSupplier())
+                            .coeffOfContinuedFraction(),
+                    is(ContinuedFractionFunction.from(30, supplier, genericSupplier)
+                            .coeffOfContinuedFraction()));
+        }
+    }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.fraction;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+/**
+ * {@link DoubleDoubleReal} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class DoubleDoubleRealTest {
+
+    public static final Class<?> TEST_CLASS = DoubleDoubleReal.class;
+
+    private static final MathContext MC = new MathContext(60);
+
+    private static final double RELATIVE_ERROR = 1E-31;
+
+    private static void assertRelative(BigDecimal expected, DoubleDoubleReal result) {
+        BigDecimal diff = result.toBigDecimal().subtract(expected).abs();
+        assertThat(
+                diff.compareTo(expected.abs().multiply(new BigDecimal(RELATIVE_ERROR))) <= 0,
+                is(true));
+    }
+
+    /**
+     * BigDecimal の Taylor 級数による exp.
+     */
+    private static BigDecimal expRef(BigDecimal x) {
+        BigDecimal sum = BigDecimal.ONE;
+        BigDecimal term = BigDecimal.ONE;
+        for (int n = 1; n < 500; n++) {
+            term = term.multiply(x, MC).divide(new BigDecimal(n), MC);
+            sum = sum.add(term, MC);
+        }
+        return sum;
+    }
+
+    public static class 四則演算のテスト {
+
+        @Test
+        public void test_3分の1の3倍() {
+            DoubleDoubleReal third = DoubleDoubleReal.constantSupplier().one()
+                    .dividedBy(DoubleDoubleReal.of(3d));
+            assertRelative(BigDecimal.ONE.divide(new BigDecimal(3), MC), third);
+            assertRelative(BigDecimal.ONE, third.times(DoubleDoubleReal.of(3d)));
+        }
+
+        @Test
+        public void test_和は1ulp未満を保持する() {
+            DoubleDoubleReal v = DoubleDoubleReal.of(1d).plus(DoubleDoubleReal.of(1E-20));
+            assertThat(v.high(), is(1d));
+            assertThat(v.low(), is(1E-20));
+            assertThat(v.minus(DoubleDoubleReal.of(1d)).doubleValue(), is(1E-20));
+        }
+
+        @Test
+        public void test_doubleとの演算() {
+            DoubleDoubleReal v = DoubleDoubleReal.of(1d).dividedBy(7d).times(7d);
+            assertRelative(BigDecimal.ONE, v);
+        }
+
+        @Test(expected = ArithmeticException.class)
+        public void test_0割りで例外() {
+            DoubleDoubleReal.of(1d).dividedBy(DoubleDoubleReal.constantSupplier().zero());
+        }
+
+        @Test(expected = ArithmeticException.class)
+        public void test_オーバーフローで例外() {
+            DoubleDoubleReal.of(Double.MAX_VALUE).times(2d);
+        }
+    }
+
+    public static class 比較のテスト {
+
+        @Test
+        public void test_下位の値による順序() {
+            DoubleDoubleReal a = DoubleDoubleReal.of(1d, 1E-20);
+            DoubleDoubleReal b = DoubleDoubleReal.of(1d, -1E-20);
+            assertThat(a.compareTo(b) > 0, is(true));
+            assertThat(a.equals(b), is(false));
+        }
+
+        @Test
+        public void test_負の0は正の0に修正() {
+            assertThat(DoubleDoubleReal.of(-0d), is(DoubleDoubleReal.constantSupplier().zero()));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 指数関数のテスト {
+
+        @DataPoints
+        public static double[] xs = { -20, -3.7, -0.5, 0.001, 0.1, 1, 2.5, 10, 100 };
+
+        @Theory
+        public void test_検証(double x) {
+            assertRelative(expRef(new BigDecimal(x)), DoubleDoubleReal.of(x).exp());
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 対数関数のテスト {
+
+        @DataPoints
+        public static double[] xs = { 0.1, 0.5, 2, 3, 7, 30.5, 1E5 };
+
+        @Theory
+        public void test_expとの往復(double x) {
+            BigDecimal back = expRef(DoubleDoubleReal.of(x).log().toBigDecimal());
+            assertRelative(back, DoubleDoubleReal.of(x));
+        }
+    }
+
+    public static class 定数のテスト {
+
+        @Test
+        public void test_円周率() {
+            assertRelative(
+                    new BigDecimal("3.14159265358979323846264338327950288419716939937510"),
+                    DoubleDoubleReal.pi());
+        }
+
+        @Test
+        public void test_平方根() {
+            assertRelative(
+                    new BigDecimal(2).sqrt(MC),
+                    DoubleDoubleReal.of(2d).sqrt());
+        }
+    }
+}
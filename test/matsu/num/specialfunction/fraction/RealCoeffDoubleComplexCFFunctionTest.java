@@ -6,6 +6,9 @@
  */
 package matsu.num.specialfunction.fraction;
 
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
 import java.math.BigInteger;
 import java.util.function.IntFunction;
 
@@ -63,4 +66,66 @@ final class RealCoeffDoubleComplexCFFunctionTest {
             }
         }
     }
+
+    public static class プリミティブ引数による計算のテスト {
+
+        private static int SIZE = 50;
+        private RealCoeffDoubleComplexCFFunction continuedFractionFunction;
+
+        @Before
+        public void before_関数の準備() {
+            IntFunction<BigRational> supplier =
+                    k -> BigRational.of(BigInteger.valueOf(-(k + 1)), BigInteger.valueOf(k + 2));
+
+            ContinuedFractionFunction<BigRational> function =
+                    ContinuedFractionFunction.from(
+                            SIZE, supplier,
+                            BigRational.constantSupplier());
+            continuedFractionFunction =
+                    new RealCoeffDoubleComplexCFFunction(
+                            DoubleContinuedFractionFunction.from(function));
+        }
+
+        @Test
+        public void test_複素数インスタンスによる計算と一致する() {
+            double[] out = new double[2];
+            for (double re = -0.5; re <= 3; re += 0.25) {
+                for (double im = -2; im <= 2; im += 0.5) {
+                    DoubleComplexNumber expected =
+                            continuedFractionFunction.value(DoubleComplexNumber.of(re, im));
+                    continuedFractionFunction.value(re, im, out);
+
+                    assertThat(out[0], is(expected.real()));
+                    assertThat(out[1], is(expected.imaginary()));
+                }
+            }
+        }
+
+        @Test
+        public void test_一括計算は個別計算と一致する() {
+            int size = 20;
+            double[] tRe = new double[size];
+            double[] tIm = new double[size];
+            for (int i = 0; i < size; i++) {
+                tRe[i] = 0.1 * i;
+                tIm[i] = 1 - 0.1 * i;
+            }
+            double[] outRe = new double[size];
+            double[] outIm = new double[size];
+            continuedFractionFunction.value(tRe, tIm, outRe, outIm);
+
+            double[] out = new double[2];
+            for (int i = 0; i < size; i++) {
+                continuedFractionFunction.value(tRe[i], tIm[i], out);
+                assertThat(outRe[i], is(out[0]));
+                assertThat(outIm[i], is(out[1]));
+            }
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_一括計算で配列長が異なる場合は例外() {
+            continuedFractionFunction.value(
+                    new double[2], new double[2], new double[2], new double[1]);
+        }
+    }
 }
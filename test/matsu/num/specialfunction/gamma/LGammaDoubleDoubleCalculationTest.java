@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.gamma;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.fraction.DoubleDoubleReal;
+
+/**
+ * {@link LGammaDoubleDoubleCalculation} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class LGammaDoubleDoubleCalculationTest {
+
+    public static final Class<?> TEST_CLASS = LGammaDoubleDoubleCalculation.class;
+
+    private static final LGammaDoubleDoubleCalculation L_GAMMA = new LGammaDoubleDoubleCalculation();
+
+    private static final MathContext MC = new MathContext(60);
+
+    private static final BigDecimal SQRT_PI =
+            new BigDecimal("3.14159265358979323846264338327950288419716939937510").sqrt(MC);
+
+    /**
+     * Gamma(n + 1/2) = sqrt(pi) (2n)! / (4^n n!) を返す.
+     */
+    private static BigDecimal gammaHalfInteger(int n) {
+        BigDecimal v = SQRT_PI;
+        for (int k = 1; k <= n; k++) {
+            v = v.multiply(new BigDecimal(2 * k - 1)).divide(new BigDecimal(2), MC);
+        }
+        return v;
+    }
+
+    /**
+     * Gamma(n) = (n-1)! を返す.
+     */
+    private static BigDecimal gammaInteger(int n) {
+        BigDecimal v = BigDecimal.ONE;
+        for (int k = 1; k < n; k++) {
+            v = v.multiply(new BigDecimal(k));
+        }
+        return v;
+    }
+
+    private static void assertExpRelative(BigDecimal expected, DoubleDoubleReal lgamma) {
+        BigDecimal result = lgamma.exp().toBigDecimal();
+        BigDecimal diff = result.subtract(expected).abs();
+        assertThat(
+                diff.compareTo(expected.multiply(new BigDecimal("1E-28"))) <= 0,
+                is(true));
+    }
+
+    @RunWith(Theories.class)
+    public static class 半整数でのテスト {
+
+        @DataPoints
+        public static int[] ns = { 0, 1, 2, 5, 14, 15, 40 };
+
+        @Theory
+        public void test_検証(int n) {
+            assertExpRelative(gammaHalfInteger(n), L_GAMMA.lgamma(n + 0.5));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 整数でのテスト {
+
+        @DataPoints
+        public static int[] ns = { 3, 4, 10, 29, 30, 31, 100 };
+
+        @Theory
+        public void test_検証(int n) {
+            assertExpRelative(gammaInteger(n), L_GAMMA.lgamma(n));
+        }
+    }
+
+    public static class 零点近傍のテスト {
+
+        @Test
+        public void test_x1とx2() {
+            assertThat(Math.abs(L_GAMMA.lgamma(1d).doubleValue()) < 1E-28, is(true));
+            assertThat(Math.abs(L_GAMMA.lgamma(2d).doubleValue()) < 1E-28, is(true));
+        }
+    }
+
+    public static class 例外のテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_0は例外() {
+            L_GAMMA.lgamma(0d);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_NaNは例外() {
+            L_GAMMA.lgamma(Double.NaN);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.gamma;
+
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.DoubleRelativeAssertion;
+
+/**
+ * {@link LGammaFastCalculation} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class LGammaFastCalculationTest {
+
+    public static final Class<?> TEST_CLASS = LGammaFastCalculation.class;
+
+    private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+            new DoubleRelativeAssertion(1E-7);
+
+    private static final LGammaFastCalculation L_GAMMA = new LGammaFastCalculation();
+
+    private static final LGammaCalculation L_GAMMA_REFERENCE = new LGammaCalculation();
+
+    @RunWith(Theories.class)
+    public static class メソッドlgammaに関する {
+
+        /* 値の生成コード(https://keisan.casio.jp/calculator) */
+        /* ------------------------------------ */
+        //        numeric xs[] = {0.25,0.5,0.75,1,1.25,1.5,1.75,2,2.25,2.5,2.75,3,
+        //                       4,7,11,15};
+        //
+        //        for(index = 0; index < kei_length(xs); index = index + 1){
+        //            x = xs[index];
+        //            println(x,lngamma(x));
+        //        }
+        /* ------------------------------------ */
+
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 0.25, 1.28802252469807746 },
+                { 0.5, 0.572364942924700087 },
+                { 0.75, 0.203280951431295371 },
+                { 1, 0 },
+                { 1.25, -0.0982718364218131615 },
+                { 1.5, -0.120782237635245222 },
+                { 1.75, -0.084401121020485556 },
+                { 2, 0 },
+                { 2.25, 0.124871714892396594 },
+                { 2.5, 0.28468287047291916 },
+                { 2.75, 0.47521466691493713 },
+                { 3, 0.693147180559945309 },
+                { 4, 1.791759469228055 },
+                { 7, 6.579251212010101 },
+                { 11, 15.1044125730755153 },
+                { 15, 25.1912211827386815 },
+
+                { 0d, Double.POSITIVE_INFINITY },
+                { -0d, Double.POSITIVE_INFINITY },
+                { -1d, Double.NaN },
+                { Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY },
+                { Double.NaN, Double.NaN }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(
+                    dataPair[1],
+                    L_GAMMA.lgamma(dataPair[0]));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 零点近傍での相対誤差に関する {
+
+        @DataPoints
+        public static double[] xs = {
+                1 - 1E-3, 1 - 1E-7, 1 - 1E-12, 1 + 1E-12, 1 + 1E-7, 1 + 1E-3,
+                2 - 1E-3, 2 - 1E-7, 2 - 1E-12, 2 + 1E-12, 2 + 1E-7, 2 + 1E-3
+        };
+
+        @Theory
+        public void test_検証(double x) {
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(
+                    L_GAMMA_REFERENCE.lgamma(x),
+                    L_GAMMA.lgamma(x));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.icbeta;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.IncompleteBetaFunction;
+
+/**
+ * {@link CompiledICBeta} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class CompiledICBetaTest {
+
+    public static final Class<?> TEST_CLASS = CompiledICBeta.class;
+
+    private static final double TOLERANCE = 1E-10;
+
+    public static class 区間内の値に関するテスト {
+
+        @Test
+        public void test_元のインスタンスとの差が許容誤差以内() {
+            double[][] abs = { { 0.5, 0.5 }, { 2.5, 3.5 }, { 30, 5 } };
+            for (double[] ab : abs) {
+                IncompleteBetaFunction original = ICBetaFactory.instanceOf(ab[0], ab[1]);
+                IncompleteBetaFunction compiled = original.compile(0, 1, TOLERANCE);
+
+                Random random = new Random(1L);
+                for (int i = 0; i < 10000; i++) {
+                    double x = random.nextDouble();
+                    assertThat(
+                            Math.abs(compiled.ribeta(x) - original.ribeta(x)) <= TOLERANCE,
+                            is(true));
+                    assertThat(
+                            Math.abs(compiled.ribetaR(x) - original.ribetaR(x)) <= TOLERANCE,
+                            is(true));
+                }
+            }
+        }
+    }
+
+    public static class 区間外の値に関するテスト {
+
+        @Test
+        public void test_区間外は元のインスタンスと一致() {
+            IncompleteBetaFunction original = ICBetaFactory.instanceOf(2.5, 3.5);
+            IncompleteBetaFunction compiled = original.compile(0.2, 0.7, TOLERANCE);
+
+            for (double x : new double[] { 0, 0.1, 0.8, 1, -1, 2, Double.NaN }) {
+                assertThat(compiled.ribeta(x), is(original.ribeta(x)));
+                assertThat(compiled.ribetaR(x), is(original.ribetaR(x)));
+            }
+            for (double oddsX : new double[] { 0, 0.5, 2, Double.POSITIVE_INFINITY }) {
+                assertThat(compiled.ribetaOdds(oddsX), is(original.ribetaOdds(oddsX)));
+            }
+        }
+    }
+
+    public static class 構築に関するテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_負の下端は例外() {
+            ICBetaFactory.instanceOf(2.5, 3.5).compile(-0.1, 1, TOLERANCE);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_1を超える上端は例外() {
+            ICBetaFactory.instanceOf(2.5, 3.5).compile(0, 1.5, TOLERANCE);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_正でない許容誤差は例外() {
+            ICBetaFactory.instanceOf(2.5, 3.5).compile(0, 1, -1E-10);
+        }
+    }
+
+    public static class toString表示 {
+
+        @Test
+        public void test_toString() {
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(ICBetaFactory.instanceOf(2.5, 3.5).compile(0, 1, TOLERANCE));
+            System.out.println();
+        }
+    }
+}
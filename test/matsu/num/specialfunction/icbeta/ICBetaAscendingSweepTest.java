@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.icbeta;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.IncompleteBetaFunction;
+
+/**
+ * {@link ICBetaAscendingSweep} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class ICBetaAscendingSweepTest {
+
+    public static final Class<?> TEST_CLASS = ICBetaAscendingSweep.class;
+
+    private static final double RELATIVE_TOLERANCE = 1E-11;
+
+    private static void assertCloseTo(double expected, double actual, double x) {
+        if (expected == actual || (Double.isNaN(expected) && Double.isNaN(actual))) {
+            return;
+        }
+        assertThat(
+                "x = " + x + ", expected = " + expected + ", actual = " + actual,
+                Math.abs(expected - actual) <= RELATIVE_TOLERANCE * expected + Double.MIN_NORMAL,
+                is(true));
+    }
+
+    private static double[] grid(double step) {
+        int n = (int) (1 / step);
+        double[] x = new double[n + 1];
+        for (int i = 0; i <= n; i++) {
+            x[i] = i * step;
+        }
+        return x;
+    }
+
+    public static class 昇順の列に関するテスト {
+
+        @Test
+        public void test_各点での計算との差が相対誤差の範囲内() {
+            double[][] params = { { 0.3, 0.7 }, { 0.5, 20 }, { 3.3, 1.7 }, { 25.5, 80.2 }, { 1200.5, 700.1 } };
+            for (double[] ab : params) {
+                IncompleteBetaFunction original = ICBetaFactory.instanceOf(ab[0], ab[1]);
+                for (double step : new double[] { 1E-4, 1E-3, 1E-2 }) {
+                    double[] x = grid(step);
+
+                    double[] v = original.ribetaAlongAscending(x);
+                    for (int i = 0; i < x.length; i++) {
+                        assertCloseTo(original.ribeta(x[i]), v[i], x[i]);
+                    }
+                }
+            }
+        }
+
+        @Test
+        public void test_ストリームは配列と一致() {
+            IncompleteBetaFunction original = ICBetaFactory.instanceOf(3.5, 6);
+            double[] x = grid(1E-3);
+
+            assertThat(
+                    Arrays.equals(
+                            original.ribetaAlongAscending(Arrays.stream(x)).toArray(),
+                            original.ribetaAlongAscending(x)),
+                    is(true));
+        }
+
+        @Test
+        public void test_後から並列化したストリームも配列と一致() {
+            IncompleteBetaFunction original = ICBetaFactory.instanceOf(3.5, 6);
+            double[] x = grid(1E-4);
+
+            assertThat(
+                    Arrays.equals(
+                            original.ribetaAlongAscending(Arrays.stream(x)).parallel().toArray(),
+                            original.ribetaAlongAscending(x)),
+                    is(true));
+            assertThat(
+                    Arrays.equals(
+                            original.ribetaAlongAscending(Arrays.stream(x).parallel()).parallel().toArray(),
+                            original.ribetaAlongAscending(x)),
+                    is(true));
+        }
+    }
+
+    public static class 昇順でない列に関するテスト {
+
+        @Test
+        public void test_昇順でない点と不正な点は各点での計算と一致() {
+            IncompleteBetaFunction original = ICBetaFactory.instanceOf(3, 4);
+            double[] x = { 0.5, 0.2, Double.NaN, 0.3, -1, 0.31, 1, 1.5, 0 };
+
+            double[] v = original.ribetaAlongAscending(x);
+            for (int i = 0; i < x.length; i++) {
+                assertThat(v[i], is(original.ribeta(x[i])));
+            }
+        }
+    }
+}
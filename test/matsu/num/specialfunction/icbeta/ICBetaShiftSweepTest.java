@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.icbeta;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.IncompleteBetaFunction;
+
+/**
+ * {@link ICBetaShiftSweep} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class ICBetaShiftSweepTest {
+
+    public static final Class<?> TEST_CLASS = ICBetaShiftSweep.class;
+
+    private static final double RELATIVE_TOLERANCE = 1E-11;
+
+    /**
+     * これより小さい値は, 参照値とする直接計算自体の精度が劣化するため比較しない.
+     */
+    private static final double COMPARISON_LOWER_BOUND = 1E-50;
+
+    private static final double[][] PARAMS = { { 0.3, 0.7 }, { 2.5, 4 }, { 15.5, 30 }, { 200, 120.5 } };
+
+    private static final double[] XS = { 0.001, 0.1, 0.35, 0.5, 0.62, 0.9, 0.999 };
+
+    private static void assertCloseTo(double expected, double actual, String message) {
+        if (expected == actual || expected < COMPARISON_LOWER_BOUND) {
+            return;
+        }
+        assertThat(
+                message + ", expected = " + expected + ", actual = " + actual,
+                Math.abs(expected - actual) <= RELATIVE_TOLERANCE * expected,
+                is(true));
+    }
+
+    public static class パラメータaのシフトに関するテスト {
+
+        @Test
+        public void test_各パラメータでの計算との差が相対誤差の範囲内() {
+            int maxShift = 80;
+            for (double[] ab : PARAMS) {
+                IncompleteBetaFunction original = ICBetaFactory.instanceOf(ab[0], ab[1]);
+                for (double x : XS) {
+                    double[] v = original.ribetaOverShiftedA(x, maxShift);
+                    assertThat(v.length, is(maxShift + 1));
+                    for (int j = 0; j <= maxShift; j++) {
+                        assertCloseTo(
+                                ICBetaFactory.instanceOf(ab[0] + j, ab[1]).ribeta(x), v[j],
+                                "a = " + ab[0] + ", b = " + ab[1] + ", j = " + j + ", x = " + x);
+                    }
+                }
+            }
+        }
+
+        @Test
+        public void test_閉じた形の値と一致() {
+            // I(a, 1, x) = x^a, I(1, b, x) = 1 - (1 - x)^b
+            int maxShift = 60;
+            for (double x : XS) {
+                double[] v = ICBetaFactory.instanceOf(1, 1).ribetaOverShiftedA(x, maxShift);
+                double[] w = ICBetaFactory.instanceOf(1, 1).ribetaOverShiftedB(x, maxShift);
+                for (int k = 0; k <= maxShift; k++) {
+                    double expectedV = Math.pow(x, 1 + k);
+                    double expectedW = -Math.expm1((1 + k) * Math.log1p(-x));
+                    assertThat(Math.abs(expectedV - v[k]) <= 1E-13 * expectedV, is(true));
+                    assertThat(Math.abs(expectedW - w[k]) <= 1E-13 * expectedW, is(true));
+                }
+            }
+        }
+    }
+
+    public static class パラメータbのシフトに関するテスト {
+
+        @Test
+        public void test_各パラメータでの計算との差が相対誤差の範囲内() {
+            int maxShift = 80;
+            for (double[] ab : PARAMS) {
+                IncompleteBetaFunction original = ICBetaFactory.instanceOf(ab[0], ab[1]);
+                for (double x : XS) {
+                    double[] v = original.ribetaOverShiftedB(x, maxShift);
+                    assertThat(v.length, is(maxShift + 1));
+                    for (int k = 0; k <= maxShift; k++) {
+                        assertCloseTo(
+                                ICBetaFactory.instanceOf(ab[0], ab[1] + k).ribeta(x), v[k],
+                                "a = " + ab[0] + ", b = " + ab[1] + ", k = " + k + ", x = " + x);
+                    }
+                }
+            }
+        }
+    }
+
+    public static class 特殊な値に関するテスト {
+
+        @Test
+        public void test_シフト量0では元の値と一致() {
+            IncompleteBetaFunction original = ICBetaFactory.instanceOf(2.5, 4);
+            assertThat(original.ribetaOverShiftedA(0.3, 0)[0], is(original.ribeta(0.3)));
+            assertThat(original.ribetaOverShiftedB(0.3, 0)[0], is(original.ribeta(0.3)));
+        }
+
+        @Test
+        public void test_特殊なxではパラメータによらない値() {
+            IncompleteBetaFunction original = ICBetaFactory.instanceOf(2.5, 4);
+            for (double x : new double[] { -1, 1.5, Double.NaN, 0, 1 }) {
+                double[] v = original.ribetaOverShiftedA(x, 5);
+                double[] w = original.ribetaOverShiftedB(x, 5);
+                for (int k = 0; k <= 5; k++) {
+                    assertThat(v[k], is(original.ribeta(x)));
+                    assertThat(w[k], is(original.ribeta(x)));
+                }
+            }
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_負のシフト量は例外() {
+            ICBetaFactory.instanceOf(2.5, 4).ribetaOverShiftedA(0.3, -1);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_パラメータの範囲を超えるシフト量は例外() {
+            ICBetaFactory.instanceOf(2.5, 1E14 - 10).ribetaOverShiftedB(0.3, 20);
+        }
+    }
+}
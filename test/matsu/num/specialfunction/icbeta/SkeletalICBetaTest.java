@@ -38,5 +38,10 @@ final class SkeletalICBetaTest {
         protected double oddsValue(double oddsX) {
             throw new UnsupportedOperationException();
         }
+
+        @Override
+        double coeffToICBeta(double x, double y) {
+            throw new UnsupportedOperationException();
+        }
     }
 }
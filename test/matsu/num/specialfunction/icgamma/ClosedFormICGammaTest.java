@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+package matsu.num.specialfunction.icgamma;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.function.DoubleFunction;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.DoubleRelativeAssertion;
+import matsu.num.specialfunction.IncompleteGammaFunction;
+
+/**
+ * {@link ClosedFormICGamma} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class ClosedFormICGammaTest {
+
+    public static final Class<?> TEST_CLASS = ClosedFormICGamma.class;
+
+    private static final DoubleFunction<IncompleteGammaFunction> IC_GAMMA_GETTER =
+            a -> new ClosedFormICGamma(a);
+
+    public static class A_1のオッズ値のテスト extends IcgammaAt1 {
+
+        @Override
+        DoubleFunction<IncompleteGammaFunction> icgammaGetter() {
+            return IC_GAMMA_GETTER;
+        }
+
+        @Override
+        double acceptableRelativeError() {
+            return 1E-14;
+        }
+    }
+
+    public static class A_5のオッズ値のテスト extends IcgammaAt5 {
+
+        @Override
+        DoubleFunction<IncompleteGammaFunction> icgammaGetter() {
+            return IC_GAMMA_GETTER;
+        }
+
+        @Override
+        double acceptableRelativeError() {
+            return 1E-14;
+        }
+    }
+
+    public static class A_10のオッズ値のテスト extends IcgammaAt10 {
+
+        @Override
+        DoubleFunction<IncompleteGammaFunction> icgammaGetter() {
+            return IC_GAMMA_GETTER;
+        }
+
+        @Override
+        double acceptableRelativeError() {
+            return 1E-14;
+        }
+    }
+
+    public static class A_20のオッズ値のテスト extends IcgammaAt20 {
+
+        @Override
+        DoubleFunction<IncompleteGammaFunction> icgammaGetter() {
+            return IC_GAMMA_GETTER;
+        }
+
+        @Override
+        double acceptableRelativeError() {
+            return 1E-14;
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 半整数パラメータのPとQのテスト {
+
+        private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+                new DoubleRelativeAssertion(1E-14);
+
+        /* 値は多倍長演算による級数和から計算した */
+        /* {a, x, P(a,x), Q(a,x)} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 0.5, 0.01, 1.12462916018284892203E-1, 8.87537083981715107797E-1 },
+                { 0.5, 1, 8.42700792949714869341E-1, 1.57299207050285130659E-1 },
+                { 0.5, 3, 9.85694121564570360474E-1, 1.43058784354296395258E-2 },
+                { 0.5, 200, 1d, 5.50724823721246739015E-89 },
+                { 2.5, 0.1, 8.86138788812442487256E-4, 9.99113861211187557513E-1 },
+                { 2.5, 2, 4.50584048647219767394E-1, 5.49415951352780232606E-1 },
+                { 2.5, 6, 9.65212219493758150082E-1, 3.47877805062418499180E-2 },
+                { 12.5, 1, 2.32170929890268632033E-10, 9.99999999767829070110E-1 },
+                { 12.5, 12, 4.80626428721512800154E-1, 5.19373571278487199846E-1 },
+                { 12.5, 20, 9.70835604376847701158E-1, 2.91643956231522988424E-2 },
+                { 49.5, 5, 6.92177850132298028313E-32, 1d },
+                { 49.5, 45, 2.70165589715348927696E-1, 7.29834410284651072304E-1 },
+                { 49.5, 60, 9.25756144194033210134E-1, 7.42438558059667898657E-2 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            IncompleteGammaFunction icgamma = new ClosedFormICGamma(dataPair[0]);
+            double x = dataPair[1];
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(dataPair[2], icgamma.rigammaP(x));
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(dataPair[3], icgamma.rigammaQ(x));
+        }
+    }
+
+    public static class パラメータの判定のテスト {
+
+        @Test
+        public void test_整数と半整数は受け入れ() {
+            assertThat(ClosedFormICGamma.accepts(0.5), is(true));
+            assertThat(ClosedFormICGamma.accepts(1d), is(true));
+            assertThat(ClosedFormICGamma.accepts(17.5), is(true));
+            assertThat(ClosedFormICGamma.accepts(ClosedFormICGamma.A_MAX), is(true));
+        }
+
+        @Test
+        public void test_それ以外は受け入れない() {
+            assertThat(ClosedFormICGamma.accepts(0.1), is(false));
+            assertThat(ClosedFormICGamma.accepts(1.25), is(false));
+            assertThat(ClosedFormICGamma.accepts(ClosedFormICGamma.A_MAX + 0.5), is(false));
+            assertThat(ClosedFormICGamma.accepts(0d), is(false));
+            assertThat(ClosedFormICGamma.accepts(Double.NaN), is(false));
+        }
+
+        @Test
+        public void test_ファクトリで選択される() {
+            assertThat(ICGammaFactory.instanceOf(3.5), is(instanceOf(ClosedFormICGamma.class)));
+            assertThat(ICGammaFactory.instanceOf(3.25), is(not(instanceOf(ClosedFormICGamma.class))));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 境界値テスト {
+
+        @DataPoints
+        public static final IncompleteGammaFunction[] icGammas = {
+                new ClosedFormICGamma(0.5d),
+                new ClosedFormICGamma(1d),
+                new ClosedFormICGamma(5d),
+                new ClosedFormICGamma(12.5d),
+                new ClosedFormICGamma(50d)
+        };
+
+        @Theory
+        public void test_0検証_P(IncompleteGammaFunction icgamma) {
+            assertThat(icgamma.rigammaP(0d), is(0d));
+        }
+
+        @Theory
+        public void test_正の無限大検証_P(IncompleteGammaFunction icgamma) {
+            assertThat(icgamma.rigammaP(Double.POSITIVE_INFINITY), is(1d));
+        }
+
+        @Theory
+        public void test_0検証_Q(IncompleteGammaFunction icgamma) {
+            assertThat(icgamma.rigammaQ(0d), is(1d));
+        }
+
+        @Theory
+        public void test_正の無限大検証_Q(IncompleteGammaFunction icgamma) {
+            assertThat(icgamma.rigammaQ(Double.POSITIVE_INFINITY), is(0d));
+        }
+    }
+}
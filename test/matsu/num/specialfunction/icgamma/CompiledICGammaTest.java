@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.icgamma;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.IncompleteGammaFunction;
+
+/**
+ * {@link CompiledICGamma} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class CompiledICGammaTest {
+
+    public static final Class<?> TEST_CLASS = CompiledICGamma.class;
+
+    private static final double TOLERANCE = 1E-10;
+
+    public static class 区間内の値に関するテスト {
+
+        @Test
+        public void test_元のインスタンスとの差が許容誤差以内() {
+            for (double a : new double[] { 0.3, 2.5, 40 }) {
+                IncompleteGammaFunction original = ICGammaFactory.instanceOf(a);
+                IncompleteGammaFunction compiled = original.compile(0, 100, TOLERANCE);
+
+                Random random = new Random(1L);
+                for (int i = 0; i < 10000; i++) {
+                    double x = 100 * random.nextDouble();
+                    assertThat(
+                            Math.abs(compiled.rigammaP(x) - original.rigammaP(x)) <= TOLERANCE,
+                            is(true));
+                    assertThat(
+                            Math.abs(compiled.rigammaQ(x) - original.rigammaQ(x)) <= TOLERANCE,
+                            is(true));
+                }
+            }
+        }
+    }
+
+    public static class 小さな値に関するテスト {
+
+        @Test
+        public void test_Qの裾とPの原点近傍で相対誤差が許容誤差以内() {
+            double tolerance = 1E-12;
+            IncompleteGammaFunction original = ICGammaFactory.instanceOf(2.5);
+            IncompleteGammaFunction compiled = original.compile(0, 30, tolerance);
+
+            for (int i = 0; i <= 10000; i++) {
+                double x = 25 + 5 * i / 10000d;
+                double q = original.rigammaQ(x);
+                assertThat(Math.abs(compiled.rigammaQ(x) - q) <= tolerance * q, is(true));
+            }
+            for (int i = 0; i <= 10000; i++) {
+                double x = 0.01 * i / 10000d;
+                double p = original.rigammaP(x);
+                assertThat(Math.abs(compiled.rigammaP(x) - p) <= tolerance * p, is(true));
+            }
+        }
+    }
+
+    public static class 区間外の値に関するテスト {
+
+        @Test
+        public void test_区間外は元のインスタンスと一致() {
+            IncompleteGammaFunction original = ICGammaFactory.instanceOf(2.5);
+            IncompleteGammaFunction compiled = original.compile(1, 10, TOLERANCE);
+
+            for (double x : new double[] { 0, 0.5, 10.5, 200, -1, Double.POSITIVE_INFINITY, Double.NaN }) {
+                assertThat(compiled.rigammaP(x), is(original.rigammaP(x)));
+                assertThat(compiled.rigammaQ(x), is(original.rigammaQ(x)));
+                assertThat(compiled.rigammaOdds(x), is(original.rigammaOdds(x)));
+            }
+        }
+    }
+
+    public static class 構築に関するテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_負の下端は例外() {
+            ICGammaFactory.instanceOf(2.5).compile(-1, 10, TOLERANCE);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_無限大の上端は例外() {
+            ICGammaFactory.instanceOf(2.5).compile(0, Double.POSITIVE_INFINITY, TOLERANCE);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_正でない許容誤差は例外() {
+            ICGammaFactory.instanceOf(2.5).compile(0, 10, 0);
+        }
+
+        @Test
+        public void test_パラメータが保たれる() {
+            assertThat(ICGammaFactory.instanceOf(2.5).compile(0, 10, TOLERANCE).a(), is(2.5));
+        }
+    }
+
+    public static class toString表示 {
+
+        @Test
+        public void test_toString() {
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(ICGammaFactory.instanceOf(2.5).compile(0, 10, TOLERANCE));
+            System.out.println();
+        }
+    }
+}
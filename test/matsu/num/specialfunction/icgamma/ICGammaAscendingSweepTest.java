@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.icgamma;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.IncompleteGammaFunction;
+
+/**
+ * {@link ICGammaAscendingSweep} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class ICGammaAscendingSweepTest {
+
+    public static final Class<?> TEST_CLASS = ICGammaAscendingSweep.class;
+
+    private static final double RELATIVE_TOLERANCE = 1E-11;
+
+    private static void assertCloseTo(double expected, double actual, double x) {
+        if (expected == actual || (Double.isNaN(expected) && Double.isNaN(actual))) {
+            return;
+        }
+        assertThat(
+                "x = " + x + ", expected = " + expected + ", actual = " + actual,
+                Math.abs(expected - actual) <= RELATIVE_TOLERANCE * expected + Double.MIN_NORMAL,
+                is(true));
+    }
+
+    private static double[] grid(double from, double to, double step) {
+        int n = (int) ((to - from) / step) + 1;
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = from + i * step;
+        }
+        return x;
+    }
+
+    public static class 昇順の列に関するテスト {
+
+        @Test
+        public void test_各点での計算との差が相対誤差の範囲内() {
+            for (double a : new double[] { 0.3, 2.5, 40, 2000 }) {
+                IncompleteGammaFunction original = ICGammaFactory.instanceOf(a);
+                double sd = Math.sqrt(a);
+                for (double step : new double[] { 0.001, 0.03, 0.4 }) {
+                    double[] x = grid(Math.max(0, a - 10 * sd), a + 10 * sd + 30, step * Math.max(1, sd));
+
+                    double[] p = original.rigammaPAlongAscending(x);
+                    double[] q = original.rigammaQAlongAscending(x);
+                    for (int i = 0; i < x.length; i++) {
+                        assertCloseTo(original.rigammaP(x[i]), p[i], x[i]);
+                        assertCloseTo(original.rigammaQ(x[i]), q[i], x[i]);
+                    }
+                }
+            }
+        }
+
+        @Test
+        public void test_ストリームは配列と一致() {
+            IncompleteGammaFunction original = ICGammaFactory.instanceOf(7.5);
+            double[] x = grid(0, 40, 0.01);
+
+            assertThat(
+                    Arrays.equals(
+                            original.rigammaPAlongAscending(Arrays.stream(x)).toArray(),
+                            original.rigammaPAlongAscending(x)),
+                    is(true));
+            assertThat(
+                    Arrays.equals(
+                            original.rigammaQAlongAscending(Arrays.stream(x).parallel()).toArray(),
+                            original.rigammaQAlongAscending(x)),
+                    is(true));
+        }
+
+        @Test
+        public void test_後から並列化したストリームも配列と一致() {
+            IncompleteGammaFunction original = ICGammaFactory.instanceOf(7.5);
+            double[] x = grid(0, 40, 0.001);
+
+            assertThat(
+                    Arrays.equals(
+                            original.rigammaPAlongAscending(Arrays.stream(x)).parallel().toArray(),
+                            original.rigammaPAlongAscending(x)),
+                    is(true));
+            assertThat(
+                    Arrays.equals(
+                            original.rigammaQAlongAscending(Arrays.stream(x)).parallel().map(v -> v).toArray(),
+                            original.rigammaQAlongAscending(x)),
+                    is(true));
+        }
+    }
+
+    public static class 昇順でない列に関するテスト {
+
+        @Test
+        public void test_昇順でない点と不正な点は各点での計算と一致() {
+            IncompleteGammaFunction original = ICGammaFactory.instanceOf(2.5);
+            double[] x = {
+                    3, 1, 1.01, Double.NaN, 1.02, -1, 0, 0.5, Double.POSITIVE_INFINITY, 2 };
+
+            double[] p = original.rigammaPAlongAscending(x);
+            double[] q = original.rigammaQAlongAscending(x);
+            for (int i : new int[] { 0, 1, 3, 5, 6, 8, 9 }) {
+                assertThat(p[i], is(original.rigammaP(x[i])));
+                assertThat(q[i], is(original.rigammaQ(x[i])));
+            }
+            for (int i = 0; i < x.length; i++) {
+                assertCloseTo(original.rigammaP(x[i]), p[i], x[i]);
+            }
+        }
+
+        @Test
+        public void test_空の配列() {
+            assertThat(ICGammaFactory.instanceOf(2.5).rigammaPAlongAscending(new double[0]).length, is(0));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.icgamma;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.IncompleteGammaFunction;
+
+/**
+ * {@link ICGammaShiftSweep} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class ICGammaShiftSweepTest {
+
+    public static final Class<?> TEST_CLASS = ICGammaShiftSweep.class;
+
+    private static final double RELATIVE_TOLERANCE = 1E-11;
+
+    /**
+     * これより小さい値は, 参照値とする直接計算自体の精度が劣化するため比較しない.
+     */
+    private static final double COMPARISON_LOWER_BOUND = 1E-50;
+
+    private static void assertCloseTo(double expected, double actual, String message) {
+        if (expected == actual || expected < COMPARISON_LOWER_BOUND) {
+            return;
+        }
+        assertThat(
+                message + ", expected = " + expected + ", actual = " + actual,
+                Math.abs(expected - actual) <= RELATIVE_TOLERANCE * expected + Double.MIN_NORMAL,
+                is(true));
+    }
+
+    public static class シフト列の値に関するテスト {
+
+        @Test
+        public void test_各パラメータでの計算との差が相対誤差の範囲内() {
+            int maxShift = 150;
+            for (double a : new double[] { 0.3, 2.5, 40, 1200.5 }) {
+                IncompleteGammaFunction original = ICGammaFactory.instanceOf(a);
+                for (double x : new double[] { 0.01, 1, 3.7, 30, 45, 100, 1250, 1400 }) {
+                    double[] p = original.rigammaPOverShiftedParameters(x, maxShift);
+                    double[] q = original.rigammaQOverShiftedParameters(x, maxShift);
+                    assertThat(p.length, is(maxShift + 1));
+                    assertThat(q.length, is(maxShift + 1));
+                    for (int k = 0; k <= maxShift; k++) {
+                        IncompleteGammaFunction shifted = ICGammaFactory.instanceOf(a + k);
+                        String message = "a = " + a + ", k = " + k + ", x = " + x;
+                        assertCloseTo(shifted.rigammaP(x), p[k], message);
+                        assertCloseTo(shifted.rigammaQ(x), q[k], message);
+                    }
+                }
+            }
+        }
+
+        @Test
+        public void test_裾の値が真値との差が相対誤差の範囲内() {
+            // P(38.3, 0.01) の真値 (多倍長計算による)
+            double expected = 1.5889087260328142730E-122;
+            double actual = ICGammaFactory.instanceOf(0.3).rigammaPOverShiftedParameters(0.01, 40)[38];
+            assertThat(Math.abs(expected - actual) <= 1E-13 * expected, is(true));
+        }
+
+        @Test
+        public void test_シフト量0では元の値と一致() {
+            IncompleteGammaFunction original = ICGammaFactory.instanceOf(2.5);
+            assertThat(original.rigammaPOverShiftedParameters(3d, 0)[0], is(original.rigammaP(3d)));
+            assertThat(original.rigammaQOverShiftedParameters(3d, 0)[0], is(original.rigammaQ(3d)));
+        }
+
+        @Test
+        public void test_特殊なxではパラメータによらない値() {
+            IncompleteGammaFunction original = ICGammaFactory.instanceOf(2.5);
+            for (double x : new double[] { -1, Double.NaN, 0, Double.POSITIVE_INFINITY }) {
+                double[] p = original.rigammaPOverShiftedParameters(x, 5);
+                double[] q = original.rigammaQOverShiftedParameters(x, 5);
+                for (int k = 0; k <= 5; k++) {
+                    assertThat(p[k], is(original.rigammaP(x)));
+                    assertThat(q[k], is(original.rigammaQ(x)));
+                }
+            }
+        }
+    }
+
+    public static class シフト量の検証に関するテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_負のシフト量は例外() {
+            ICGammaFactory.instanceOf(2.5).rigammaPOverShiftedParameters(1d, -1);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_パラメータの範囲を超えるシフト量は例外() {
+            ICGammaFactory.instanceOf(1E14 - 10).rigammaQOverShiftedParameters(1d, 20);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.legendre;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.DoubleRelativeAssertion;
+
+/**
+ * {@link AsymptoticLegendrePolynomial} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class AsymptoticLegendrePolynomialTest {
+
+    public static final Class<?> TEST_CLASS = AsymptoticLegendrePolynomial.class;
+
+    @RunWith(Theories.class)
+    public static class 適用下限の次数での値の検証 {
+
+        private static final int DEGREE = AsymptoticLegendrePolynomial.LOWER_LIMIT_OF_DEGREE;
+
+        /*
+         * theta = arccos x の丸め誤差が位相 (l + 1/2)theta に l に比例する誤差を生むため,
+         * 許容誤差を l * 2E-15 とする.
+         */
+        private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+                new DoubleRelativeAssertion(DEGREE * 2E-15);
+
+        /* 値は多倍長演算による漸化式から計算した */
+        /* {x, P_100(x)} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { -0.999, -3.217733884157668040170782E-01 },
+                { -0.6, -2.374702390513306888674374E-02 },
+                { 0, 7.958923738717876149812705E-02 },
+                { 0.0123, 2.613739726909094976265832E-02 },
+                { 0.3, 5.712739220280135044875729E-02 },
+                { 0.95, 1.364638520564512864635835E-01 },
+                { 0.99999, 9.501338728956292938056197E-01 },
+                { 1, 1.000000000000000000000000E+00 }
+        };
+
+        @Theory
+        public void test_検証(double[] dataPair) {
+            double x = dataPair[0];
+            double expected = dataPair[1];
+
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(
+                    expected, AsymptoticLegendrePolynomial.legendreP(DEGREE, x));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 原点での値の検証 {
+
+        private static final DoubleRelativeAssertion DOUBLE_RELATIVE_ASSERTION =
+                new DoubleRelativeAssertion(1E-15);
+
+        /* 値は P_2k(0) = (-1)^k C(2k,k) / 4^k を多倍長演算により計算した */
+        /* {l, P_l(0)} */
+        @DataPoints
+        public static double[][] dataPairs = {
+                { 102, -7.880895074612799533486651E-02 },
+                { 200, 5.634847900925642194547294E-02 },
+                { 1000, 2.522501817836080018064848E-02 },
+                { 10000, 7.978646139382154084396248E-03 }
+        };
+
+        @Theory
+        public void test_偶数次の値(double[] dataPair) {
+            int l = (int) dataPair[0];
+            DOUBLE_RELATIVE_ASSERTION.compareAndAssert(
+                    dataPair[1], AsymptoticLegendrePolynomial.legendreP(l, 0));
+        }
+
+        @Test
+        public void test_奇数次は厳密に0() {
+            for (int l : new int[] { 101, 103, 999, 1001, 9999 }) {
+                assertThat(AsymptoticLegendrePolynomial.legendreP(l, 0), is(0d));
+                assertThat(AsymptoticLegendrePolynomial.legendreP(l, -0d), is(0d));
+                assertThat(LegendreFunctionImpl.instanceOf(l, 0).normalizedLegendreP(0), is(0d));
+            }
+        }
+    }
+
+    public static class 偶奇性の検証 {
+
+        @Test
+        public void test_負の引数は偶奇性により計算される() {
+            for (int l = 1000; l <= 1001; l++) {
+                double sign = (l & 1) == 0 ? 1 : -1;
+                for (double x : new double[] { 0.1, 0.5, 0.999 }) {
+                    assertThat(AsymptoticLegendrePolynomial.legendreP(l, -x),
+                            is(sign * AsymptoticLegendrePolynomial.legendreP(l, x)));
+                }
+            }
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.util.List;
 
 import org.junit.BeforeClass;
 import org.junit.Ignore;
+import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.experimental.theories.DataPoints;
 import org.junit.experimental.theories.Theories;
@@ -189,6 +190,158 @@ final class LegendreFunctionImplTest {
         }
     }
 
+    public static class 生成に関する例外テスト {
+
+        @Test
+        public void test_次数10の4乗は生成可能() {
+            assertThat(LegendreFunctionImpl.instanceOf(10_000, 10_000).degreeL(), is(10_000));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_次数10の4乗超過はIAEx() {
+            LegendreFunctionImpl.instanceOf(10_001, 0);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_階数が次数超過はIAEx() {
+            LegendreFunctionImpl.instanceOf(5, 6);
+        }
+    }
+
+    /* 値の生成コード (Python, decimal モジュールで有効桁60桁) */
+    /* ------------------------------------ */
+    // def P(l, m, x):
+    //     x = D(x); s = ((1 - x) * (1 + x)).sqrt(); p = D(1)
+    //     for i in range(m, 0, -1): p *= -(2 * i - 1) * s
+    //     if l == m: return p
+    //     p0, p1 = p, (2 * m + 1) * x * p
+    //     for k in range(m + 2, l + 1):
+    //         p0, p1 = p1, ((2 * k - 1) * x * p1 - (k + m - 1) * p0) / (k - m)
+    //     return p1
+    // 正規化因子: sqrt((2l+1)/2 * (l-m)!/(l+m)!)
+    /* ------------------------------------ */
+
+    @RunWith(Theories.class)
+    public static class 大きな次数の正規化されたLegendre関数のテスト {
+
+        @DataPoints
+        public static List<DegreeLegendrePFixture> fixtures;
+
+        @BeforeClass
+        public static void before_大きな次数_正規化() {
+            double[][] data = new double[][] {
+                    { 101, 0, -0.6, -5.4492922988809355877298939E-1 },
+                    { 101, 0, 0.3, -3.839096965619315656993392E-1 },
+                    { 101, 0, 0.95, 1.4272495086039658524408681 },
+                    { 101, 0, 0.99999, 9.562415340708839631421058 },
+                    { 101, 0, 1, 1.0074720839804942208203257E1 },
+                    { 1000, 0, -0.999, 3.7723159801774571231380964 },
+                    { 1000, 0, 0.0123, 7.7111547493393309282751075E-1 },
+                    { 1000, 0, 0.7, -9.2751594413124664062549898E-1 },
+                    { 1000, 0, 1, 3.1630681307869421230867895E1 },
+                    { 10000, 0, -0.6, 1.9441581601471585758498831E-1 },
+                    { 10000, 0, 0.3, 7.8819287559378050877362996E-1 },
+                    { 10000, 0, 0.99999, 1.1917704567129286331957003E1 },
+                    { 10000, 0, 1, 1.0000249996875078122558679E2 },
+                    { 100, 50, -0.6, 4.3420743337316085834853378E-1 },
+                    { 100, 50, 0.0123, -4.0955522350872412808637958E-1 },
+                    { 100, 50, 0.95, 4.0850998463037896935159994E-7 },
+                    { 100, 50, 0.99999, 1.3452152501925175219134155E-97 },
+                    { 1000, 3, -0.999, -2.9236084368924585173327861E-1 },
+                    { 1000, 3, 0.3, 8.8980180328701292139748577E-2 },
+                    { 1000, 3, 0.99999, -1.3484327456778799243409928E1 },
+                    { 1000, 500, -0.6, 6.5759623380863901216309616E-2 },
+                    { 1000, 500, 0.3, 2.6585503976934278267072987E-1 },
+                    { 1000, 500, 0.95, 1.0469253148918964845690449E-63 },
+                    { 5000, 100, -0.999, 3.3856337449343171523406828 },
+                    { 5000, 100, 0.7, 8.9328559061253544210750977E-1 },
+                    { 5000, 100, 0.99999, 1.5333584885989682657347125E-52 },
+                    { 10000, 5000, 0, 8.5737561274275061478078877E-1 },
+                    { 10000, 5000, 0.7, -9.6273695950630991955773777E-1 },
+                    { 10000, 10000, 0, 7.5113962773149114962760923 },
+                    { 10000, 10000, 0.3, 1.2097128113978370677518165E-204 }
+            };
+            fixtures = Arrays.stream(data)
+                    .map(DegreeLegendrePFixture::new)
+                    .toList();
+        }
+
+        @Theory
+        public void test(DegreeLegendrePFixture fixture) {
+            LegendreFunction function = LegendreFunctionImpl.instanceOf(fixture.degreeL, fixture.orderM);
+            double expected = fixture.value;
+
+            double result = function.normalizedLegendreP(fixture.x);
+
+            assertThat(result, is(closeTo(expected, fixture.tolerance())));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 大きな次数のLegendre関数のテスト {
+
+        @DataPoints
+        public static List<DegreeLegendrePFixture> fixtures;
+
+        @BeforeClass
+        public static void before_大きな次数() {
+            double[][] data = new double[][] {
+                    { 101, 0, -0.6, -5.4088767178053540415492906E-2 },
+                    { 101, 0, 0.95, 1.4166640756584963490387293E-1 },
+                    { 1000, 0, 0.7, -2.9323299586989586730670368E-2 },
+                    { 10000, 0, 0.3, 7.8817317151079069769282567E-3 },
+                    { 10000, 0, 1, 1 },
+                    { 100, 50, 0.0123, -5.5993640893234197502292091E97 },
+                    { 100, 50, 0.99999, 1.8391536798889715555509595E1 },
+                    { 1000, 3, -0.999, -9.2567821000570769740999703E6 },
+                    { 1000, 3, 0.3, 2.8173066205885719636974511E6 }
+            };
+            fixtures = Arrays.stream(data)
+                    .map(DegreeLegendrePFixture::new)
+                    .toList();
+        }
+
+        @Theory
+        public void test(DegreeLegendrePFixture fixture) {
+            LegendreFunction function = LegendreFunctionImpl.instanceOf(fixture.degreeL, fixture.orderM);
+            double expected = fixture.value;
+
+            double result = function.legendreP(fixture.x);
+
+            assertThat(result, is(closeTo(expected, fixture.tolerance())));
+        }
+    }
+
+    public static class 大きな次数の特殊値のテスト {
+
+        @Test
+        public void test_オーバーフローは無限大() {
+            assertThat(LegendreFunctionImpl.instanceOf(1000, 500).legendreP(0.3), is(Double.POSITIVE_INFINITY));
+            assertThat(LegendreFunctionImpl.instanceOf(10000, 5000).legendreP(0.7), is(Double.NEGATIVE_INFINITY));
+        }
+
+        @Test
+        public void test_正規化された値のアンダーフローは0() {
+            assertThat(LegendreFunctionImpl.instanceOf(10000, 10000).normalizedLegendreP(0.7), is(0d));
+        }
+
+        @Test
+        public void test_端点で階数が正ならば0() {
+            LegendreFunction function = LegendreFunctionImpl.instanceOf(3000, 1);
+
+            assertThat(function.legendreP(1), is(0d));
+            assertThat(function.normalizedLegendreP(-1), is(0d));
+        }
+
+        @Test
+        public void test_範囲外はNaN() {
+            LegendreFunction function = LegendreFunctionImpl.instanceOf(3000, 0);
+
+            assertThat(function.legendreP(Math.nextUp(1d)), is(Double.NaN));
+            assertThat(function.normalizedLegendreP(Math.nextDown(-1d)), is(Double.NaN));
+        }
+    }
+
     static double error(int l, int m) {
         double log = 0.5 * (GammaFunction.lgamma(l + m + 1) - GammaFunction.lgamma(l - m + 1));
         return Math.exp(log);
@@ -205,4 +358,29 @@ final class LegendreFunctionImplTest {
             this.legendreP = legendreP;
         }
     }
+
+    /**
+     * 次数, 階数を含むフィクスチャ. <br>
+     * 次数 l が大きい場合, 引数の丸め誤差に対する条件数がおよそ l であるため,
+     * 許容誤差を l に比例させる.
+     */
+    @Ignore
+    public static class DegreeLegendrePFixture {
+        final int degreeL;
+        final int orderM;
+        final double x;
+        final double value;
+
+        DegreeLegendrePFixture(double[] row) {
+            super();
+            this.degreeL = (int) row[0];
+            this.orderM = (int) row[1];
+            this.x = row[2];
+            this.value = row[3];
+        }
+
+        double tolerance() {
+            return Math.max(1E-14, degreeL * 2E-15) * Math.abs(value);
+        }
+    }
 }
@@ -37,6 +37,11 @@ final class SkeletalLegendreFunctionTest {
             public double legendreP(double x) {
                 throw new UnsupportedOperationException();
             }
+
+            @Override
+            public double normalizedLegendreP(double x) {
+                throw new UnsupportedOperationException();
+            }
         }
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.zeta;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.fraction.DoubleDoubleReal;
+
+/**
+ * {@link EMTypeRiemannZetaDoubleDoubleCalculation} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class EMTypeRiemannZetaDoubleDoubleCalculationTest {
+
+    public static final Class<?> TEST_CLASS = EMTypeRiemannZetaDoubleDoubleCalculation.class;
+
+    private static final EMTypeRiemannZetaDoubleDoubleCalculation ZETA =
+            new EMTypeRiemannZetaDoubleDoubleCalculation();
+
+    private static final MathContext MC = new MathContext(60);
+
+    private static final BigDecimal PI =
+            new BigDecimal("3.14159265358979323846264338327950288419716939937510");
+
+    private static void assertRelative(BigDecimal expected, DoubleDoubleReal result) {
+        BigDecimal diff = result.toBigDecimal().subtract(expected).abs();
+        assertThat(
+                diff.compareTo(expected.abs().multiply(new BigDecimal("1E-29"))) <= 0,
+                is(true));
+    }
+
+    public static class 偶数での値のテスト {
+
+        @Test
+        public void test_zeta2() {
+            assertRelative(PI.pow(2).divide(new BigDecimal(6), MC), ZETA.zeta(2));
+        }
+
+        @Test
+        public void test_zeta4() {
+            assertRelative(PI.pow(4).divide(new BigDecimal(90), MC), ZETA.zeta(4));
+        }
+
+        @Test
+        public void test_zeta6() {
+            assertRelative(PI.pow(6).divide(new BigDecimal(945), MC), ZETA.zeta(6));
+        }
+
+        @Test
+        public void test_zetam1_20() {
+            // zeta(20) = 174611 pi^20 / 1531329465290625
+            BigDecimal zeta20 = PI.pow(20).multiply(new BigDecimal(174611))
+                    .divide(new BigDecimal("1531329465290625"), MC);
+            assertRelative(zeta20.subtract(BigDecimal.ONE), ZETA.zetam1(20));
+        }
+    }
+
+    public static class 奇数での値のテスト {
+
+        @Test
+        public void test_zeta3() {
+            assertRelative(
+                    new BigDecimal("1.2020569031595942853997381615114499907649862923405"),
+                    ZETA.zeta(3));
+        }
+    }
+
+    public static class 例外のテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_s1は例外() {
+            ZETA.zeta(1);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.7.28
+ */
+package matsu.num.specialfunction.vector;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import matsu.num.specialfunction.ErrorFuction;
+
+/**
+ * 誤差関数の配列一括計算を, ベクトルAPI (SIMD) を用いて実行する.
+ * 
+ * <p>
+ * |<i>x</i>| &le; 1 の領域の近似多項式をベクトルのレーン単位で評価する. <br>
+ * それ以外の領域のレーン (NaN を含む) はマスクで判別し,
+ * {@link ErrorFuction} のスカラー版で計算した値で置き換える. <br>
+ * 多項式の評価順序はスカラー版と同一であるため,
+ * 計算結果は {@link ErrorFuction#erf(double)} などと一致する.
+ * </p>
+ * 
+ * <p>
+ * 引数が |<i>x</i>| &le; 1 に集中している場合に効果が大きい. <br>
+ * 多くの要素が |<i>x</i>| &gt; 1 である場合は,
+ * スカラー版を繰り返し呼ぶ場合と同程度の速度になる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class VectorErrorFunction {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * 1/sqrt(pi)
+     */
+    // = 1d / Math.sqrt(Math.PI)
+    private static final double ONE_OVER_SQRT_PI = 0.5641895835477563;
+
+    private VectorErrorFunction() {
+        // インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 配列で与えた各 <i>x</i> について,
+     * 誤差関数
+     * erf(<i>x</i>)
+     * を計算し, 結果を格納する配列に書き込む.
+     * 
+     * <p>
+     * 各要素の値は {@link ErrorFuction#erf(double)} と同一である. <br>
+     * 引数の配列と結果を格納する配列に同一のインスタンスを与えてもよい.
+     * </p>
+     * 
+     * @param xs 引数 <i>x</i> の配列
+     * @param results 結果を格納する配列
+     * @throws IllegalArgumentException 配列の長さが等しくない場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static void erf(double[] xs, double[] results) {
+        final int length = xs.length;
+        if (results.length != length) {
+            throw new IllegalArgumentException("length mismatch");
+        }
+
+        final int upperBound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < upperBound; i += SPECIES.length()) {
+            final DoubleVector x = DoubleVector.fromArray(SPECIES, xs, i);
+            final VectorMask<Double> outside = outsideOfPolynomial(x);
+
+            erf_polynomial(x).intoArray(results, i);
+
+            if (outside.anyTrue()) {
+                for (int k = 0; k < SPECIES.length(); k++) {
+                    if (outside.laneIsSet(k)) {
+                        results[i + k] = ErrorFuction.erf(x.lane(k));
+                    }
+                }
+            }
+        }
+        for (; i < length; i++) {
+            results[i] = ErrorFuction.erf(xs[i]);
+        }
+    }
+
+    /**
+     * 配列で与えた各 <i>x</i> について,
+     * 相補誤差関数
+     * erfc(<i>x</i>) = 1 - erf(<i>x</i>)
+     * を計算し, 結果を格納する配列に書き込む.
+     * 
+     * <p>
+     * 各要素の値は {@link ErrorFuction#erfc(double)} と同一である. <br>
+     * 引数の配列と結果を格納する配列に同一のインスタンスを与えてもよい.
+     * </p>
+     * 
+     * @param xs 引数 <i>x</i> の配列
+     * @param results 結果を格納する配列
+     * @throws IllegalArgumentException 配列の長さが等しくない場合
+     * @throws NullPointerException 引数がnullの場合
+     */
+    public static void erfc(double[] xs, double[] results) {
+        final int length = xs.length;
+        if (results.length != length) {
+            throw new IllegalArgumentException("length mismatch");
+        }
+
+        final int upperBound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < upperBound; i += SPECIES.length()) {
+            final DoubleVector x = DoubleVector.fromArray(SPECIES, xs, i);
+            final VectorMask<Double> outside = outsideOfPolynomial(x);
+
+            erf_polynomial(x).neg().add(1d).intoArray(results, i);
+
+            if (outside.anyTrue()) {
+                for (int k = 0; k < SPECIES.length(); k++) {
+                    if (outside.laneIsSet(k)) {
+                        results[i + k] = ErrorFuction.erfc(x.lane(k));
+                    }
+                }
+            }
+        }
+        for (; i < length; i++) {
+            results[i] = ErrorFuction.erfc(xs[i]);
+        }
+    }
+
+    /**
+     * 近似多項式の領域 {@literal -1 <= x <= 1} の外にあるレーンを表すマスク. <br>
+     * NaN は比較が偽になるため, 領域外として扱われる.
+     */
+    private static VectorMask<Double> outsideOfPolynomial(DoubleVector x) {
+        return x.abs().compare(VectorOperators.LE, 1d).not();
+    }
+
+    /**
+     * {@literal -1 <= x <= 1} における erf(x) の近似多項式. <br>
+     * 係数と評価順序は, 本体モジュールのスカラー版と同一である.
+     */
+    private static DoubleVector erf_polynomial(DoubleVector x) {
+        final double C0 = 1;
+        final double C1 = -0.33333333333333211013305554790822;
+        final double C2 = 0.099999999999928688233243155648269;
+        final double C3 = -0.023809523808077918230534104983609;
+        final double C4 = 0.0046296296149990528350518839973084;
+        final double C5 = -0.00075757567146320414005774313508529;
+        final double C6 = 0.00010683728756562559474247127038328;
+        final double C7 = -0.000013226735562696964608084865454945;
+        final double C8 = 0.0000014576513588448841087011976041004;
+        final double C9 = -1.4366984692932032396369201147202E-7;
+        final double C10 = 1.2169603543560378638938495076569E-8;
+        final double C11 = -6.9274587756057320125002529260159E-10;
+
+        final DoubleVector u = x.mul(x);
+        final DoubleVector u2 = u.mul(u);
+
+        final DoubleVector v0 = u.mul(C1).add(C0).add(u2.mul(u.mul(C3).add(C2)));
+        final DoubleVector v4 = u.mul(C5).add(C4).add(u2.mul(u.mul(C7).add(C6)));
+        final DoubleVector v8 = u.mul(C9).add(C8).add(u2.mul(u.mul(C11).add(C10)));
+
+        final DoubleVector u4 = u2.mul(u2);
+        return x.mul(2 * ONE_OVER_SQRT_PI)
+                .mul(u4.mul(u4.mul(v8).add(v4)).add(v0));
+    }
+}
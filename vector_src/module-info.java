@@ -0,0 +1,30 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/**
+ * 特殊関数の配列一括計算を, ベクトルAPI (SIMD) を用いて実行するモジュール.
+ * 
+ * <p>
+ * このモジュールは {@code matsu.num.Specialfunction} の付属モジュールであり,
+ * インキュベータモジュール {@code jdk.incubator.vector} に依存する. <br>
+ * {@code matsu.num.Specialfunction} 本体はこのモジュールに依存しない.
+ * </p>
+ * 
+ * <p>
+ * <i>依存モジュール:</i> <br>
+ * {@code matsu.num.Specialfunction} <br>
+ * {@code jdk.incubator.vector}
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+module matsu.num.Specialfunction.vector {
+    requires transitive matsu.num.Specialfunction;
+    requires jdk.incubator.vector;
+
+    exports matsu.num.specialfunction.vector;
+}
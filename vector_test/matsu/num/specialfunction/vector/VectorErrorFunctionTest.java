@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.specialfunction.vector;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+import java.util.Random;
+import java.util.function.DoubleUnaryOperator;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.specialfunction.ErrorFuction;
+
+/**
+ * {@link VectorErrorFunction} クラスのテスト.
+ * 
+ * <p>
+ * 各要素の値がスカラー版 ({@link ErrorFuction}) とビット単位で一致することを検証する.
+ * </p>
+ */
+@RunWith(Enclosed.class)
+final class VectorErrorFunctionTest {
+
+    public static final Class<?> TEST_CLASS = VectorErrorFunction.class;
+
+    /**
+     * 特殊値と, 近似多項式の領域 |x| &le; 1 の境界の値.
+     */
+    private static final double[] SPECIAL_VALUES = {
+            0d, -0d, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+            1d, -1d, Math.nextDown(1d), -Math.nextDown(1d), Math.nextUp(1d), -Math.nextUp(1d),
+            Double.MIN_VALUE, -Double.MIN_VALUE, Double.MIN_NORMAL, Double.MAX_VALUE, -Double.MAX_VALUE,
+            0.5, -0.5, 2d, -2d, 6d, -6d, 30d, -30d
+    };
+
+    /**
+     * 特殊値を, ベクトルの全てのレーンの位置に現れるように並べた配列を返す. <br>
+     * 長さはベクトルのレーン数の倍数にならないようにして, 端数の処理も検証する.
+     */
+    private static double[] specialValuesInAllLanes() {
+        final int shifts = 9;
+        double[] xs = new double[SPECIAL_VALUES.length * shifts + 3];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = SPECIAL_VALUES[(i + i / SPECIAL_VALUES.length) % SPECIAL_VALUES.length];
+        }
+        return xs;
+    }
+
+    private static double[] randomValues(long seed, int length, double width) {
+        Random random = new Random(seed);
+        double[] xs = new double[length];
+        for (int i = 0; i < length; i++) {
+            xs[i] = (2 * random.nextDouble() - 1) * width;
+        }
+        return xs;
+    }
+
+    private static void assertBitwiseEqual(double[] xs, double[] results, DoubleUnaryOperator scalar) {
+        for (int i = 0; i < xs.length; i++) {
+            assertThat(
+                    "x = " + xs[i],
+                    Double.doubleToLongBits(results[i]),
+                    is(Double.doubleToLongBits(scalar.applyAsDouble(xs[i]))));
+        }
+    }
+
+    public static class erfのテスト {
+
+        @Test
+        public void test_特殊値と境界() {
+            double[] xs = specialValuesInAllLanes();
+            double[] results = new double[xs.length];
+            VectorErrorFunction.erf(xs, results);
+            assertBitwiseEqual(xs, results, ErrorFuction::erf);
+        }
+
+        @Test
+        public void test_多項式の領域内の乱数() {
+            double[] xs = randomValues(1L, 1001, 1d);
+            double[] results = new double[xs.length];
+            VectorErrorFunction.erf(xs, results);
+            assertBitwiseEqual(xs, results, ErrorFuction::erf);
+        }
+
+        @Test
+        public void test_領域をまたぐ乱数() {
+            double[] xs = randomValues(2L, 1001, 4d);
+            double[] results = new double[xs.length];
+            VectorErrorFunction.erf(xs, results);
+            assertBitwiseEqual(xs, results, ErrorFuction::erf);
+        }
+
+        @Test
+        public void test_同一配列への書き込み() {
+            double[] xs = randomValues(3L, 101, 2d);
+            double[] inPlace = xs.clone();
+            VectorErrorFunction.erf(inPlace, inPlace);
+            assertBitwiseEqual(xs, inPlace, ErrorFuction::erf);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_長さの不一致は例外() {
+            VectorErrorFunction.erf(new double[3], new double[4]);
+        }
+    }
+
+    public static class erfcのテスト {
+
+        @Test
+        public void test_特殊値と境界() {
+            double[] xs = specialValuesInAllLanes();
+            double[] results = new double[xs.length];
+            VectorErrorFunction.erfc(xs, results);
+            assertBitwiseEqual(xs, results, ErrorFuction::erfc);
+        }
+
+        @Test
+        public void test_多項式の領域内の乱数() {
+            double[] xs = randomValues(4L, 1001, 1d);
+            double[] results = new double[xs.length];
+            VectorErrorFunction.erfc(xs, results);
+            assertBitwiseEqual(xs, results, ErrorFuction::erfc);
+        }
+
+        @Test
+        public void test_領域をまたぐ乱数() {
+            double[] xs = randomValues(5L, 1001, 4d);
+            double[] results = new double[xs.length];
+            VectorErrorFunction.erfc(xs, results);
+            assertBitwiseEqual(xs, results, ErrorFuction::erfc);
+        }
+
+        @Test
+        public void test_同一配列への書き込み() {
+            double[] xs = randomValues(6L, 101, 2d);
+            double[] inPlace = xs.clone();
+            VectorErrorFunction.erfc(inPlace, inPlace);
+            assertBitwiseEqual(xs, inPlace, ErrorFuction::erfc);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_長さの不一致は例外() {
+            VectorErrorFunction.erfc(new double[3], new double[4]);
+        }
+    }
+}